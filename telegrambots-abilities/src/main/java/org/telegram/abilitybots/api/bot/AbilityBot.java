@@ -55,6 +55,14 @@ public abstract class AbilityBot extends BaseAbilityBot implements LongPollingBo
         super.onUpdateReceived(update);
     }
 
+    /**
+     * Commits the updates still pending when the bot session is closed, and stops the timed commits.
+     */
+    @Override
+    public void onClosing() {
+        closeCommitter();
+    }
+
     @Override
     public void clearWebhook() throws TelegramApiRequestException {
         WebhookUtils.clearWebhook(this);
@@ -0,0 +1,74 @@
+package org.telegram.abilitybots.api.bot;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Prefix tree of the ability names, built once the abilities are registered. Finding the longest name a text starts
+ * with walks the characters of the text and allocates nothing.
+ */
+final class AbilityTrie {
+  private final Node root = new Node();
+
+  AbilityTrie(Collection<String> names) {
+    for (String name : names) {
+      Node node = root;
+      for (int i = 0; i < name.length(); i++) {
+        node = node.getOrAddChild(name.charAt(i));
+      }
+      node.name = name;
+    }
+  }
+
+  /**
+   * @param text   the text of a message
+   * @param offset the index of the text where names start, right after the command prefix
+   * @return the longest ability name found at the offset of the text, null if there is none
+   */
+  String longestPrefix(String text, int offset) {
+    String longest = null;
+    Node node = root;
+    for (int i = offset; i < text.length(); i++) {
+      node = node.child(text.charAt(i));
+      if (node == null) {
+        break;
+      }
+      if (node.name != null) {
+        longest = node.name;
+      }
+    }
+    return longest;
+  }
+
+  private static final class Node {
+    // Sorted characters of the children, searched by binary search
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    private String name;
+
+    private Node child(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      return index < 0 ? null : children[index];
+    }
+
+    private Node getOrAddChild(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertion = -index - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertion);
+      System.arraycopy(children, 0, newChildren, 0, insertion);
+      System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+      System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+      Node child = new Node();
+      newKeys[insertion] = key;
+      newChildren[insertion] = child;
+      keys = newKeys;
+      children = newChildren;
+      return child;
+    }
+  }
+}
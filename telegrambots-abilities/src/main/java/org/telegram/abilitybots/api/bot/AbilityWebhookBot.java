@@ -17,6 +17,9 @@ import static org.telegram.abilitybots.api.db.MapDBContext.onlineInstance;
 /**
  * A {@link WebhookBot}-flavor AbilityBot. It delegates all updates to a {@link TelegramWebhookBot} instance.
  *
+ * When {@link DefaultBotOptions#setWebhookResponseReplies(boolean)} is enabled, the first reply of an update is
+ * answered in the webhook response.
+ *
  * @author Abbas Abou Daya
  */
 @SuppressWarnings("WeakerAccess")
@@ -59,8 +62,7 @@ public abstract class AbilityWebhookBot extends BaseAbilityBot implements Webhoo
 
     @Override
     public BotApiMethod<?> onWebhookUpdateReceived(Update update) {
-        super.onUpdateReceived(update);
-        return null;
+        return collectWebhookResponse(() -> super.onUpdateReceived(update));
     }
 
     @Override
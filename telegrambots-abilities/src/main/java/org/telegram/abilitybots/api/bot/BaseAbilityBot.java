@@ -24,9 +24,11 @@ import org.telegram.abilitybots.api.util.Trio;
 import org.telegram.telegrambots.bots.DefaultAbsSender;
 import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatAdministrators;
+import org.telegram.telegrambots.meta.api.objects.ChatMemberUpdated;
 import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMember;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberAdministrator;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberOwner;
 
@@ -35,23 +37,24 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.google.common.collect.Sets.difference;
 import static java.lang.String.format;
-import static java.time.ZonedDateTime.now;
 import static java.util.Arrays.stream;
-import static java.util.Comparator.comparingInt;
+import static java.util.Collections.emptySet;
 import static java.util.Objects.isNull;
-import static java.util.Optional.ofNullable;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 import static java.util.regex.Pattern.compile;
 import static java.util.stream.Collectors.toSet;
@@ -112,6 +115,7 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     private static final Logger log = LoggerFactory.getLogger(BaseAbilityBot.class);
 
     protected static final String DEFAULT = "default";
+    private static final String[] NO_TOKENS = new String[0];
     // DB objects
     public static final String ADMINS = "ADMINS";
     public static final String USERS = "USERS";
@@ -133,10 +137,23 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     // Ability registry
     private final List<AbilityExtension> extensions = new ArrayList<>();
     private Map<String, Ability> abilities;
+    private AbilityTrie abilityTrie;
     private Map<String, Stats> stats;
 
     // Reply registry
     private List<Reply> replies;
+    private ReplyIndex replyIndex;
+
+    // Update dispatch, stages are chained once the abilities are registered
+    private final ThreadLocal<Dispatch> dispatches = ThreadLocal.withInitial(Dispatch::new);
+    private final Pattern botUsernamePattern;
+    private Stage[] pipeline;
+
+    // Commits of the DB, grouped following the commit policy
+    private GroupCommitter committer;
+
+    // Administrators of the group chats, for the privacy checks
+    private ChatAdminCache groupAdmins;
 
     public abstract long creatorId();
 
@@ -144,6 +161,7 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
         super(botOptions, botToken);
 
         this.botUsername = botUsername;
+        this.botUsernamePattern = compile(format("@%s", botUsername), CASE_INSENSITIVE);
         this.db = db;
         this.toggle = toggle;
         this.sender = new DefaultSender(this);
@@ -153,6 +171,13 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     public void onRegister() {
         registerAbilities();
         initStats();
+        pipeline = compilePipeline(dispatchTimer());
+        if (committer != null) {
+            committer.close();
+        }
+        committer = new GroupCommitter(db, commitPolicy(), botUsername);
+        long groupAdminsTtl = groupAdminsTtlMillis();
+        groupAdmins = groupAdminsTtl > 0 ? new ChatAdminCache(this::loadGroupAdmins, groupAdminsTtl, exe) : null;
     }
 
     /**
@@ -234,38 +259,84 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
      * @param update the update received by Telegram's API
      */
     public void onUpdateReceived(Update update) {
-        log.info(format("[%s] New update [%s] received at %s", botUsername, update.getUpdateId(), now()));
-        log.info(update.toString());
-        long millisStarted = System.currentTimeMillis();
-
-        Stream.of(update)
-                .filter(this::checkGlobalFlags)
-                .filter(this::checkBlacklist)
-                .map(this::addUser)
-                .filter(this::filterReply)
-                .filter(this::hasUser)
-                .map(this::getAbility)
-                .filter(this::validateAbility)
-                .filter(this::checkPrivacy)
-                .filter(this::checkLocality)
-                .filter(this::checkInput)
-                .filter(this::checkMessageFlags)
-                .map(this::getContext)
-                .map(this::consumeUpdate)
-                .map(this::updateStats)
-                .forEach(this::postConsumption);
-
-        // Commit to DB now after all the actions have been dealt
-        db.commit();
-
-        long processingTime = System.currentTimeMillis() - millisStarted;
-        log.info(format("[%s] Processing of update [%s] ended at %s%n---> Processing time: [%d ms] <---%n", botUsername, update.getUpdateId(), now(), processingTime));
+        boolean debug = log.isDebugEnabled();
+        long nanosStarted = debug ? System.nanoTime() : 0;
+        log.debug("[{}] New update [{}] received: {}", botUsername, update.getUpdateId(), update);
+
+        invalidateGroupAdmins(update);
+
+        Dispatch dispatch = dispatches.get();
+        if (dispatch.update != null) {
+            // An update dispatched from an action, on the thread already dispatching another one
+            dispatch = new Dispatch();
+        }
+        dispatch.update = update;
+        // Timed commits wait for the update to end, they never hold half of its writes
+        GroupCommitter committer = this.committer;
+        committer.updateStarted();
+        try {
+            try {
+                for (Stage stage : pipeline) {
+                    if (!stage.process(dispatch)) {
+                        break;
+                    }
+                }
+            } finally {
+                dispatch.clear();
+            }
+
+            // Commit to DB after all the actions have been dealt, now or later depending on the commit policy
+            committer.updateDispatched();
+        } finally {
+            committer.updateEnded();
+        }
+
+        if (debug) {
+            log.debug("[{}] Processing of update [{}] ended in [{} ms]", botUsername, update.getUpdateId(),
+                    (System.nanoTime() - nanosStarted) / 1_000_000);
+        }
     }
 
     public String getBotUsername() {
         return botUsername;
     }
 
+    /**
+     * Commits the DB writes of the updates dispatched since the last commit, if any. Waits for the updates being
+     * dispatched on other threads to end, unless called while dispatching an update.
+     */
+    public void commitPendingUpdates() {
+        if (committer != null) {
+            committer.flush();
+        }
+    }
+
+    /**
+     * Commits the DB writes still pending and stops the timed commits, the updates dispatched afterwards are committed
+     * one by one.
+     */
+    void closeCommitter() {
+        if (committer != null) {
+            committer.close();
+        }
+    }
+
+    /**
+     * @return the number of updates dispatched since the last commit of the DB, always 0 with the default commit policy
+     */
+    public int uncommittedUpdates() {
+        return committer == null ? 0 : committer.pendingUpdates();
+    }
+
+    /**
+     * The durability lag of the bot: the DB writes of the updates dispatched meanwhile are lost if the process dies.
+     *
+     * @return the time in milliseconds since the oldest update not committed yet was dispatched, 0 if there is none
+     */
+    public long durabilityLagMillis() {
+        return committer == null ? 0 : committer.lagMillis();
+    }
+
     public Privacy getPrivacy(Update update, long id) {
         return isCreator(id) ?
             CREATOR : isAdmin(id) ?
@@ -278,19 +349,24 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     public boolean isGroupAdmin(long chatId, long id) {
-        GetChatAdministrators admins = GetChatAdministrators.builder().chatId(chatId).build();
-        return silent.execute(admins)
-                .orElse(new ArrayList<>())
-                .stream()
-                .map(member -> {
-                    final String status = member.getStatus();
-                    if (status.equals(ChatMemberOwner.STATUS)
-                            || status.equals(ChatMemberAdministrator.STATUS)) {
-                        return member.getUser().getId();
-                    }
-                    return 0L;
-                })
-                .anyMatch(member -> member == id);
+        if (groupAdmins != null) {
+            return groupAdmins.isAdmin(chatId, id);
+        }
+        return loadGroupAdmins(chatId).orElse(emptySet()).contains(id);
+    }
+
+    /**
+     * Forgets the cached administrators of the group chat, the next privacy check of the chat loads them again.
+     * <p>
+     * This is done automatically on the <code>chat_member</code> and <code>my_chat_member</code> updates changing
+     * an administrator, bots that don't receive them can call this method when they learn of a change.
+     *
+     * @param chatId the id of the group chat
+     */
+    public void invalidateGroupAdmins(long chatId) {
+        if (groupAdmins != null) {
+            groupAdmins.invalidate(chatId);
+        }
     }
 
     public boolean isCreator(long id) {
@@ -325,6 +401,41 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
         return false;
     }
 
+    /**
+     * Override to time each stage of the dispatch of the updates, e.g. to export the times to a metrics registry.
+     * Without a timer, which is the default, the stages are not timed at all.
+     *
+     * @return the timer receiving the time spent in each stage, read once when the bot is registered
+     */
+    protected DispatchTimer dispatchTimer() {
+        return null;
+    }
+
+    /**
+     * Override to commit the DB once for many updates, instead of after every update which is the default.
+     *
+     * @return the policy of the commits of the DB, read once when the bot is registered
+     * @see CommitPolicy
+     */
+    protected CommitPolicy commitPolicy() {
+        return CommitPolicy.perUpdate();
+    }
+
+    /**
+     * Override to cache the administrators of a group chat for the privacy checks, instead of loading them on every
+     * check which is the default. They are loaded again in the background before they expire, and the privacy checks
+     * never use expired ones.
+     * <p>
+     * A change of administrators is only seen before the cache expires if the bot receives the
+     * <code>chat_member</code> updates, which Telegram only sends when they are listed in <code>allowed_updates</code>.
+     *
+     * @return the time to live of the administrators of a group chat in milliseconds, 0 to load them on every check
+     * @see #invalidateGroupAdmins(long)
+     */
+    protected long groupAdminsTtlMillis() {
+        return 0;
+    }
+
     protected void addExtension(AbilityExtension extension) {
         this.extensions.add(extension);
     }
@@ -371,6 +482,7 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
                             (b, a) -> b.put(a.name(), a),
                             (b1, b2) -> b1.putAll(b2.build()))
                     .build();
+            abilityTrie = new AbilityTrie(abilities.keySet());
 
             // Extract all replies from every single extension instance
             Stream<Reply> extensionReplies = extensions.stream()
@@ -399,12 +511,69 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
                             Builder::add,
                             (b1, b2) -> b1.addAll(b2.build()))
                     .build();
+            replyIndex = new ReplyIndex(replies);
         } catch (IllegalStateException e) {
             log.error("Duplicate names found while registering abilities. Make sure that the abilities declared don't clash with the reserved ones.", e);
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Chains the stages every update goes through. A stage returning false stops the dispatch of the update.
+     */
+    private Stage[] compilePipeline(DispatchTimer timer) {
+        Map<String, Stage> stages = new LinkedHashMap<>();
+        stages.put("checkGlobalFlags", dispatch -> checkGlobalFlags(dispatch.update));
+        stages.put("checkBlacklist", dispatch -> checkBlacklist(dispatch.update));
+        stages.put("addUser", dispatch -> {
+            addUser(dispatch.update);
+            return true;
+        });
+        stages.put("filterReply", dispatch -> filterReply(dispatch.update));
+        stages.put("hasUser", dispatch -> hasUser(dispatch.update));
+        stages.put("getAbility", dispatch -> {
+            resolveAbility(dispatch);
+            return dispatch.ability != null;
+        });
+        stages.put("checkPrivacy", dispatch -> checkPrivacy(dispatch.update, dispatch.ability));
+        stages.put("checkLocality", dispatch -> checkLocality(dispatch.update, dispatch.ability));
+        stages.put("checkInput", dispatch -> checkInput(dispatch.update, dispatch.ability, dispatch.tokens));
+        stages.put("checkMessageFlags", dispatch -> checkMessageFlags(dispatch.update, dispatch.ability));
+        stages.put("consumeUpdate", dispatch -> {
+            dispatch.context = createContext(dispatch.update, dispatch.tokens);
+            dispatch.ability.action().accept(dispatch.context);
+            return true;
+        });
+        stages.put("updateStats", dispatch -> {
+            updateStats(dispatch.ability);
+            return true;
+        });
+        stages.put("postConsumption", dispatch -> {
+            Consumer<MessageContext> postAction = dispatch.ability.postAction();
+            if (postAction != null) {
+                postAction.accept(dispatch.context);
+            }
+            return true;
+        });
+
+        List<Stage> pipeline = new ArrayList<>();
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            pipeline.add(timer == null ? entry.getValue() : timed(entry.getKey(), entry.getValue(), timer));
+        }
+        return pipeline.toArray(new Stage[0]);
+    }
+
+    private static Stage timed(String name, Stage stage, DispatchTimer timer) {
+        return dispatch -> {
+            long started = System.nanoTime();
+            try {
+                return stage.process(dispatch);
+            } finally {
+                timer.onStage(name, dispatch.update, System.nanoTime() - started);
+            }
+        };
+    }
+
     private void initStats() {
         Set<String> enabledStats = Stream.concat(
             replies.stream().filter(Reply::statsEnabled).map(Reply::name),
@@ -494,24 +663,22 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
         };
     }
 
-    private void postConsumption(Pair<MessageContext, Ability> pair) {
-        ofNullable(pair.b().postAction())
-                .ifPresent(consumer -> consumer.accept(pair.a()));
-    }
-
     Pair<MessageContext, Ability> consumeUpdate(Pair<MessageContext, Ability> pair) {
         pair.b().action().accept(pair.a());
         return pair;
     }
 
     Pair<MessageContext, Ability> updateStats(Pair<MessageContext, Ability> pair) {
-        Ability ab = pair.b();
-        if (ab.statsEnabled()) {
-            updateStats(pair.b().name());
-        }
+        updateStats(pair.b());
         return pair;
     }
 
+    private void updateStats(Ability ability) {
+        if (ability.statsEnabled()) {
+            updateStats(ability.name());
+        }
+    }
+
     private void updateReplyStats(Reply reply) {
         if (reply.statsEnabled()) {
             updateStats(reply.name());
@@ -525,10 +692,12 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     Pair<MessageContext, Ability> getContext(Trio<Update, Ability, String[]> trio) {
-        Update update = trio.a();
-        User user = AbilityUtils.getUser(update);
+        return Pair.of(createContext(trio.a(), trio.c()), trio.b());
+    }
 
-        return Pair.of(newContext(update, user, getChatId(update), this, trio.c()), trio.b());
+    private MessageContext createContext(Update update, String[] tokens) {
+        User user = AbilityUtils.getUser(update);
+        return newContext(update, user, getChatId(update), this, tokens);
     }
 
     boolean checkBlacklist(Update update) {
@@ -542,8 +711,11 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     boolean checkInput(Trio<Update, Ability, String[]> trio) {
-        String[] tokens = trio.c();
-        int abilityTokens = trio.b().tokens();
+        return checkInput(trio.a(), trio.b(), trio.c());
+    }
+
+    private boolean checkInput(Update update, Ability ability, String[] tokens) {
+        int abilityTokens = ability.tokens();
 
         boolean isOk = abilityTokens == 0 || (tokens.length > 0 && tokens.length == abilityTokens);
 
@@ -551,16 +723,19 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
             silent.send(
                     getLocalizedMessage(
                             CHECK_INPUT_FAIL,
-                            AbilityUtils.getUser(trio.a()).getLanguageCode(),
+                            AbilityUtils.getUser(update).getLanguageCode(),
                             abilityTokens, abilityTokens == 1 ? "input" : "inputs"),
-                    getChatId(trio.a()));
+                    getChatId(update));
         return isOk;
     }
 
     boolean checkLocality(Trio<Update, Ability, String[]> trio) {
-        Update update = trio.a();
+        return checkLocality(trio.a(), trio.b());
+    }
+
+    private boolean checkLocality(Update update, Ability ability) {
         Locality locality = isUserMessage(update) ? USER : GROUP;
-        Locality abilityLocality = trio.b().locality();
+        Locality abilityLocality = ability.locality();
 
         boolean isOk = abilityLocality == ALL || locality == abilityLocality;
 
@@ -568,28 +743,56 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
             silent.send(
                     getLocalizedMessage(
                             CHECK_LOCALITY_FAIL,
-                            AbilityUtils.getUser(trio.a()).getLanguageCode(),
+                            AbilityUtils.getUser(update).getLanguageCode(),
                             abilityLocality.toString().toLowerCase()),
-                    getChatId(trio.a()));
+                    getChatId(update));
         return isOk;
     }
 
     boolean checkPrivacy(Trio<Update, Ability, String[]> trio) {
-        Update update = trio.a();
+        return checkPrivacy(trio.a(), trio.b());
+    }
+
+    private Optional<Set<Long>> loadGroupAdmins(long chatId) {
+        GetChatAdministrators admins = GetChatAdministrators.builder().chatId(chatId).build();
+        return silent.execute(admins)
+                .map(members -> members.stream()
+                        .filter(BaseAbilityBot::isAdministrator)
+                        .map(member -> member.getUser().getId())
+                        .collect(toSet()));
+    }
+
+    private void invalidateGroupAdmins(Update update) {
+        ChatMemberUpdated change = update.hasChatMember() ? update.getChatMember()
+                : update.hasMyChatMember() ? update.getMyChatMember() : null;
+        if (change != null && (isAdministrator(change.getOldChatMember()) || isAdministrator(change.getNewChatMember()))) {
+            invalidateGroupAdmins(change.getChat().getId());
+        }
+    }
+
+    private static boolean isAdministrator(ChatMember member) {
+        if (member == null) {
+            return false;
+        }
+        String status = member.getStatus();
+        return ChatMemberOwner.STATUS.equals(status) || ChatMemberAdministrator.STATUS.equals(status);
+    }
+
+    private boolean checkPrivacy(Update update, Ability ability) {
         User user = AbilityUtils.getUser(update);
         Privacy privacy;
         long id = user.getId();
 
         privacy = getPrivacy(update, id);
 
-        boolean isOk = privacy.compareTo(trio.b().privacy()) >= 0;
+        boolean isOk = privacy.compareTo(ability.privacy()) >= 0;
 
         if (!isOk)
             silent.send(
                     getLocalizedMessage(
                             CHECK_PRIVACY_FAIL,
-                            AbilityUtils.getUser(trio.a()).getLanguageCode()),
-                    getChatId(trio.a()));
+                            user.getLanguageCode()),
+                    getChatId(update));
         return isOk;
     }
 
@@ -598,22 +801,35 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     Trio<Update, Ability, String[]> getAbility(Update update) {
+        Dispatch dispatch = new Dispatch();
+        dispatch.update = update;
+        resolveAbility(dispatch);
+        return Trio.of(update, dispatch.ability, dispatch.tokens);
+    }
+
+    private void resolveAbility(Dispatch dispatch) {
         // Handle updates without messages
         // Passing through this function means that the global flags have passed
+        Update update = dispatch.update;
         Message msg = update.getMessage();
-        if (!update.hasMessage() || !msg.hasText())
-            return Trio.of(update, abilities.get(DEFAULT), new String[]{});
+        if (!update.hasMessage() || !msg.hasText()) {
+            dispatch.ability = abilities.get(DEFAULT);
+            dispatch.tokens = NO_TOKENS;
+            return;
+        }
 
         Ability ability;
         String[] tokens;
         if (allowContinuousText()) {
-            String abName = abilities.keySet().stream()
-                .filter(name -> msg.getText().startsWith(format("%s%s", getCommandPrefix(), name)))
-                .max(comparingInt(String::length))
-                .orElse(DEFAULT);
-            tokens = msg.getText()
-                .replaceFirst(getCommandPrefix() + abName, "")
-                .split(getCommandRegexSplit());
+            String text = msg.getText();
+            String prefix = getCommandPrefix();
+            String abName = text.startsWith(prefix) ? abilityTrie.longestPrefix(text, prefix.length()) : null;
+            if (abName == null) {
+                abName = DEFAULT;
+                tokens = text.split(getCommandRegexSplit());
+            } else {
+                tokens = text.substring(prefix.length() + abName.length()).split(getCommandRegexSplit());
+            }
             ability = abilities.get(abName);
         } else {
             tokens = msg.getText().split(getCommandRegexSplit());
@@ -625,13 +841,12 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
                 ability = abilities.get(DEFAULT);
             }
         }
-        return Trio.of(update, ability, tokens);
+        dispatch.ability = ability;
+        dispatch.tokens = tokens;
     }
 
     private String stripBotUsername(String token) {
-        return compile(format("@%s", botUsername), CASE_INSENSITIVE)
-                .matcher(token)
-                .replaceAll("");
+        return botUsernamePattern.matcher(token).replaceAll("");
     }
 
     Update addUser(Update update) {
@@ -677,14 +892,17 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     boolean filterReply(Update update) {
-        return replies.stream()
-                .filter(reply -> runSilently(() -> reply.isOkFor(update), reply.name()))
-                .map(reply -> runSilently(() -> {
-                    reply.actOn(this, update);
-                    updateReplyStats(reply);
-                    return false;
-                }, reply.name()))
-                .reduce(true, Boolean::logicalAnd);
+        return !replyIndex.offer(update, reply -> {
+            if (!runSilently(() -> reply.isOkFor(update), reply.name())) {
+                return false;
+            }
+            runSilently(() -> {
+                reply.actOn(this, update);
+                updateReplyStats(reply);
+                return false;
+            }, reply.name());
+            return true;
+        });
     }
 
     boolean runSilently(Callable<Boolean> callable, String name) {
@@ -703,12 +921,39 @@ public abstract class BaseAbilityBot extends DefaultAbsSender implements Ability
     }
 
     boolean checkMessageFlags(Trio<Update, Ability, String[]> trio) {
-        Ability ability = trio.b();
-        Update update = trio.a();
+        return checkMessageFlags(trio.a(), trio.b());
+    }
+
+    private boolean checkMessageFlags(Update update, Ability ability) {
+        for (Predicate<Update> flag : ability.flags()) {
+            if (!flag.test(update)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A stage of the dispatch of an update
+     */
+    private interface Stage {
+        boolean process(Dispatch dispatch);
+    }
 
-        // The following variable is required to avoid bug #JDK-8044546
-        BiFunction<Boolean, Predicate<Update>, Boolean> flagAnd = (flag, nextFlag) -> flag && nextFlag.test(update);
-        return ability.flags().stream()
-                .reduce(true, flagAnd, Boolean::logicalAnd);
+    /**
+     * State of the update being dispatched, reused by the updates of the same thread
+     */
+    private static final class Dispatch {
+        private Update update;
+        private Ability ability;
+        private String[] tokens;
+        private MessageContext context;
+
+        private void clear() {
+            update = null;
+            ability = null;
+            tokens = null;
+            context = null;
+        }
     }
 }
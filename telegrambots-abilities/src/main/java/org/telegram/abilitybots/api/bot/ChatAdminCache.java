@@ -0,0 +1,147 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Administrators of the group chats, so that privacy checks don't call <code>getChatAdministrators</code> for every
+ * update. The administrators of a chat are loaded once for all the lookups made meanwhile, then kept for a time to
+ * live. Once three quarters of it have passed, they are loaded again in the background. Expired administrators are
+ * never used: the lookup waits for them to be loaded again.
+ * <p>
+ * Failed loads are not cached: their lookups find no administrator, like without the cache, and the next lookup loads
+ * again.
+ */
+final class ChatAdminCache {
+  private static final Logger log = LoggerFactory.getLogger(ChatAdminCache.class);
+
+  private final LongFunction<Optional<Set<Long>>> loader;
+  private final long ttlNanos;
+  private final long refreshNanos;
+  private final Executor refresher;
+  private final LongSupplier nanoTime;
+  private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * @param loader    loads the ids of the administrators of a chat, empty if they could not be loaded
+   * @param ttlMillis the time the administrators of a chat are used before being loaded again
+   * @param refresher runs the loads of the chats about to expire
+   */
+  ChatAdminCache(LongFunction<Optional<Set<Long>>> loader, long ttlMillis, Executor refresher) {
+    this(loader, ttlMillis, refresher, System::nanoTime);
+  }
+
+  ChatAdminCache(LongFunction<Optional<Set<Long>>> loader, long ttlMillis, Executor refresher, LongSupplier nanoTime) {
+    this.loader = loader;
+    this.ttlNanos = MILLISECONDS.toNanos(ttlMillis);
+    this.refreshNanos = ttlNanos - ttlNanos / 4;
+    this.refresher = refresher;
+    this.nanoTime = nanoTime;
+  }
+
+  boolean isAdmin(long chatId, long userId) {
+    return admins(chatId).contains(userId);
+  }
+
+  /**
+   * @return the ids of the administrators of the chat, loaded by this call or a concurrent one if they are not cached
+   * or expired
+   */
+  Set<Long> admins(long chatId) {
+    while (true) {
+      Entry entry = entries.get(chatId);
+      if (entry == null) {
+        Entry created = new Entry();
+        if (entries.putIfAbsent(chatId, created) == null) {
+          return load(chatId, created);
+        }
+        continue;
+      }
+
+      Set<Long> admins = entry.loaded.join();
+      if (entry.failed) {
+        return admins;
+      }
+      long age = nanoTime.getAsLong() - entry.loadedNanos;
+      if (age < ttlNanos) {
+        if (age >= refreshNanos && entry.refreshing.compareAndSet(false, true)) {
+          refresh(chatId, entry);
+        }
+        return admins;
+      }
+
+      // Expired, wait for the administrators to be loaded again rather than trusting demoted ones
+      Entry created = new Entry();
+      if (entries.replace(chatId, entry, created)) {
+        return load(chatId, created);
+      }
+    }
+  }
+
+  /**
+   * Forgets the administrators of the chat, the next lookup loads them again.
+   */
+  void invalidate(long chatId) {
+    entries.remove(chatId);
+  }
+
+  private Set<Long> load(long chatId, Entry entry) {
+    Optional<Set<Long>> admins = tryLoad(chatId);
+    if (admins.isPresent()) {
+      entry.loadedNanos = nanoTime.getAsLong();
+      entry.loaded.complete(admins.get());
+    } else {
+      entry.failed = true;
+      entries.remove(chatId, entry);
+      entry.loaded.complete(Collections.emptySet());
+    }
+    return entry.loaded.join();
+  }
+
+  private void refresh(long chatId, Entry entry) {
+    try {
+      refresher.execute(() -> tryLoad(chatId).ifPresent(admins -> {
+        Entry refreshed = new Entry();
+        refreshed.loadedNanos = nanoTime.getAsLong();
+        refreshed.loaded.complete(admins);
+        // Unless invalidated meanwhile
+        entries.replace(chatId, entry, refreshed);
+      }));
+    } catch (RejectedExecutionException e) {
+      // The bot is shutting down, the next lookup tries again
+      entry.refreshing.set(false);
+    }
+  }
+
+  private Optional<Set<Long>> tryLoad(long chatId) {
+    try {
+      return loader.apply(chatId);
+    } catch (RuntimeException e) {
+      log.error("Could not load the administrators of chat [{}]", chatId, e);
+      return Optional.empty();
+    }
+  }
+
+  private static final class Entry {
+    // Completed by the load, awaited by the lookups made meanwhile
+    private final CompletableFuture<Set<Long>> loaded = new CompletableFuture<>();
+    // Set once a refresh was started, a failed one is not retried before the expiry
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile boolean failed;
+    private volatile long loadedNanos;
+  }
+}
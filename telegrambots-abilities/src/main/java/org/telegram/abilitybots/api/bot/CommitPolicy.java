@@ -0,0 +1,136 @@
+package org.telegram.abilitybots.api.bot;
+
+import static java.lang.String.format;
+
+/**
+ * When an ability bot commits its {@link org.telegram.abilitybots.api.db.DBContext} after dispatching updates.
+ * <p>
+ * Committing a transactional database syncs its write-ahead log to the disk, which bounds the updates handled per
+ * second by the sync rate of the disk. Committing once for many updates trades that for a durability lag: the updates
+ * handled since the last commit are lost if the process dies. A policy commits as soon as any of its thresholds is
+ * reached, e.g. every 100 updates or at the latest one second after the first update not committed yet:
+ * <pre>
+ * CommitPolicy.everyUpdates(100).orEveryMillis(1000)
+ * </pre>
+ * Pending updates are also committed when a long polling bot is closed, and when the JVM shuts down.
+ *
+ * @see BaseAbilityBot#commitPolicy()
+ */
+public final class CommitPolicy {
+  private static final CommitPolicy PER_UPDATE = new CommitPolicy(1, 0, 0);
+  // No threshold, only the base of the other policies
+  private static final CommitPolicy NONE = new CommitPolicy(0, 0, 0);
+
+  private final int maxUpdates;
+  private final long maxDelayMillis;
+  private final long idleMillis;
+
+  private CommitPolicy(int maxUpdates, long maxDelayMillis, long idleMillis) {
+    this.maxUpdates = maxUpdates;
+    this.maxDelayMillis = maxDelayMillis;
+    this.idleMillis = idleMillis;
+  }
+
+  /**
+   * @return the default policy, committing after every update
+   */
+  public static CommitPolicy perUpdate() {
+    return PER_UPDATE;
+  }
+
+  /**
+   * @param updates the number of updates committed together
+   * @return a policy committing once that many updates were dispatched
+   */
+  public static CommitPolicy everyUpdates(int updates) {
+    return NONE.orEveryUpdates(updates);
+  }
+
+  /**
+   * @param millis the maximum time an update stays uncommitted
+   * @return a policy committing at the latest that long after the first update not committed yet
+   */
+  public static CommitPolicy everyMillis(long millis) {
+    return NONE.orEveryMillis(millis);
+  }
+
+  /**
+   * @param millis the time without any update after which the bot is idle
+   * @return a policy committing once no update was dispatched for that long
+   */
+  public static CommitPolicy onIdle(long millis) {
+    return NONE.orOnIdle(millis);
+  }
+
+  /**
+   * @return this policy, also committing once that many updates were dispatched
+   */
+  public CommitPolicy orEveryUpdates(int updates) {
+    if (updates < 1) {
+      throw new IllegalArgumentException(format("Commits can't be made every [%d] updates", updates));
+    }
+    return new CommitPolicy(maxUpdates == 0 ? updates : Math.min(maxUpdates, updates), maxDelayMillis, idleMillis);
+  }
+
+  /**
+   * @return this policy, also committing at the latest that long after the first update not committed yet
+   */
+  public CommitPolicy orEveryMillis(long millis) {
+    checkMillis(millis);
+    return new CommitPolicy(maxUpdates, maxDelayMillis == 0 ? millis : Math.min(maxDelayMillis, millis), idleMillis);
+  }
+
+  /**
+   * @return this policy, also committing once no update was dispatched for that long
+   */
+  public CommitPolicy orOnIdle(long millis) {
+    checkMillis(millis);
+    return new CommitPolicy(maxUpdates, maxDelayMillis, idleMillis == 0 ? millis : Math.min(idleMillis, millis));
+  }
+
+  /**
+   * @return the number of updates committed together, 0 if commits are not made on a count of updates
+   */
+  public int maxUpdates() {
+    return maxUpdates;
+  }
+
+  /**
+   * @return the maximum time an update stays uncommitted, 0 if commits are not made on that delay
+   */
+  public long maxDelayMillis() {
+    return maxDelayMillis;
+  }
+
+  /**
+   * @return the time without updates after which the pending ones are committed, 0 if commits are not made on idle
+   */
+  public long idleMillis() {
+    return idleMillis;
+  }
+
+  /**
+   * @return true if every update is committed right after its dispatch
+   */
+  public boolean isPerUpdate() {
+    return maxUpdates == 1;
+  }
+
+  /**
+   * @return true if commits can be made on time, from another thread than the ones dispatching the updates
+   */
+  boolean isTimed() {
+    return maxDelayMillis > 0 || idleMillis > 0;
+  }
+
+  private static void checkMillis(long millis) {
+    if (millis < 1) {
+      throw new IllegalArgumentException(format("Commits can't be made every [%d] ms", millis));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return format("CommitPolicy{maxUpdates=%d, maxDelayMillis=%d, idleMillis=%d}", maxUpdates, maxDelayMillis, idleMillis);
+  }
+}
@@ -0,0 +1,20 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+/**
+ * Receives the time spent by each stage of the dispatch of the updates of an ability bot.
+ *
+ * @see BaseAbilityBot#dispatchTimer()
+ */
+@FunctionalInterface
+public interface DispatchTimer {
+  /**
+   * Called after each stage of the dispatch, on the thread dispatching the update.
+   *
+   * @param stage  the name of the stage, such as <code>filterReply</code> or <code>consumeUpdate</code>
+   * @param update the update being dispatched
+   * @param nanos  the time spent in the stage, in nanoseconds
+   */
+  void onStage(String stage, Update update, long nanos);
+}
@@ -0,0 +1,226 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.telegram.abilitybots.api.db.DBContext;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Commits the database of a bot following its {@link CommitPolicy}. Timed commits are made by a daemon thread of the
+ * committer, a JVM shutdown hook commits the updates still pending when the process exits.
+ * <p>
+ * Closing the committer, when the bot is closed or its database is, commits the pending updates and releases the
+ * thread and the hook. The updates dispatched afterwards are committed one by one.
+ * <p>
+ * The counters of the pending updates are reset when a commit starts, the writes of the updates counted so far are
+ * all part of it. Timed commits, flushes and closing wait for the updates being dispatched to end, so that a commit
+ * never holds the writes of an update halfway through. The updates dispatched concurrently do not wait for each other.
+ */
+final class GroupCommitter {
+  private static final Logger log = LoggerFactory.getLogger(GroupCommitter.class);
+
+  private final DBContext db;
+  private final CommitPolicy policy;
+  private final ScheduledExecutorService scheduler;
+  private final Thread shutdownHook;
+  // Read by the updates being dispatched, written by the commits made outside of them
+  private final ReentrantReadWriteLock dispatching = new ReentrantReadWriteLock();
+
+  // Guarded by this
+  private boolean closed;
+  private int pending;
+  private long oldestPendingNanos;
+  private long lastUpdateNanos;
+  private boolean checkScheduled;
+
+  GroupCommitter(DBContext db, CommitPolicy policy, String botUsername) {
+    this.db = db;
+    this.policy = policy;
+    if (policy.isPerUpdate() || !policy.isTimed()) {
+      scheduler = null;
+    } else {
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, botUsername + "-commits");
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      scheduler = executor;
+    }
+    if (policy.isPerUpdate()) {
+      shutdownHook = null;
+    } else {
+      shutdownHook = new Thread(this::flushOnShutdown, botUsername + "-commits-shutdown");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
+      db.beforeClose(this::close);
+    }
+  }
+
+  /**
+   * Called before each update is dispatched, must be followed by {@link #updateEnded()}.
+   */
+  void updateStarted() {
+    if (!policy.isPerUpdate()) {
+      dispatching.readLock().lock();
+    }
+  }
+
+  /**
+   * Called once each update started is over, whether it was dispatched or failed.
+   */
+  void updateEnded() {
+    if (!policy.isPerUpdate()) {
+      dispatching.readLock().unlock();
+    }
+  }
+
+  /**
+   * Called after each update is dispatched, commits if the policy says so.
+   */
+  void updateDispatched() {
+    if (policy.isPerUpdate()) {
+      db.commit();
+      return;
+    }
+
+    long now = System.nanoTime();
+    boolean commit = false;
+    synchronized (this) {
+      if (closed) {
+        commit = true;
+      } else {
+        if (pending++ == 0) {
+          oldestPendingNanos = now;
+        }
+        lastUpdateNanos = now;
+        if (policy.maxUpdates() > 0 && pending >= policy.maxUpdates()) {
+          reset();
+          commit = true;
+        } else if (scheduler != null && !checkScheduled) {
+          schedule(nanosToDeadline(now));
+        }
+      }
+    }
+    if (commit) {
+      db.commit();
+    }
+  }
+
+  /**
+   * Commits the pending updates, if any, once the updates being dispatched end. When flushed while dispatching an
+   * update, commits right away.
+   */
+  void flush() {
+    if (dispatching.getReadHoldCount() > 0) {
+      commitPending();
+      return;
+    }
+    dispatching.writeLock().lock();
+    try {
+      commitPending();
+    } finally {
+      dispatching.writeLock().unlock();
+    }
+  }
+
+  private void commitPending() {
+    synchronized (this) {
+      if (pending == 0) {
+        return;
+      }
+      reset();
+    }
+    db.commit();
+  }
+
+  /**
+   * Commits the pending updates, stops the timed commits and removes the shutdown hook. Closing twice does nothing.
+   */
+  void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    if (shutdownHook != null) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      } catch (IllegalStateException e) {
+        // Closed while the JVM shuts down, the hook is running or about to
+      }
+    }
+    flush();
+  }
+
+  /**
+   * @return the number of updates dispatched since the last commit
+   */
+  synchronized int pendingUpdates() {
+    return pending;
+  }
+
+  /**
+   * @return the time since the oldest update not committed yet was dispatched, 0 if all updates are committed
+   */
+  synchronized long lagMillis() {
+    return pending == 0 ? 0 : NANOSECONDS.toMillis(System.nanoTime() - oldestPendingNanos);
+  }
+
+  private void check() {
+    synchronized (this) {
+      checkScheduled = false;
+      if (pending == 0) {
+        return;
+      }
+      long delay = nanosToDeadline(System.nanoTime());
+      if (delay > 0) {
+        schedule(delay);
+        return;
+      }
+    }
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Timed commit of the database failed", e);
+    }
+  }
+
+  private void flushOnShutdown() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // The database may be closed by its own shutdown hook first
+      log.warn("Could not commit the pending updates on shutdown", e);
+    }
+  }
+
+  private long nanosToDeadline(long now) {
+    long delay = Long.MAX_VALUE;
+    if (policy.maxDelayMillis() > 0) {
+      delay = oldestPendingNanos + MILLISECONDS.toNanos(policy.maxDelayMillis()) - now;
+    }
+    if (policy.idleMillis() > 0) {
+      delay = Math.min(delay, lastUpdateNanos + MILLISECONDS.toNanos(policy.idleMillis()) - now);
+    }
+    return delay;
+  }
+
+  private void schedule(long delayNanos) {
+    checkScheduled = true;
+    scheduler.schedule(this::check, delayNanos, NANOSECONDS);
+  }
+
+  private void reset() {
+    pending = 0;
+  }
+}
@@ -0,0 +1,189 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.objects.Flag;
+import org.telegram.abilitybots.api.objects.Reply;
+import org.telegram.abilitybots.api.objects.ReplyFlow.StateCondition;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Replies grouped by their first condition, so that an update is only checked against the replies that can match it:
+ * <ul>
+ *   <li>replies starting with a {@link Flag} are candidates of the updates passing that flag</li>
+ *   <li>replies following a step of a flow are candidates of the updates of the chats at that step</li>
+ *   <li>the other replies are candidates of every update</li>
+ * </ul>
+ * Candidates are offered the update in the order the replies were registered, like before the index.
+ */
+final class ReplyIndex {
+  private static final Flag[] FLAGS = Flag.values();
+  private static final int[] NONE = new int[0];
+
+  private final Reply[] replies;
+  private final int[] unconditional;
+  private final int[][] byFlag = new int[FLAGS.length][];
+  private final List<StateGroup> stateGroups = new ArrayList<>();
+  // Candidates of the updates passing the same flags, merged once
+  private final ConcurrentMap<Integer, int[]> byFlags = new ConcurrentHashMap<>();
+
+  ReplyIndex(List<Reply> replies) {
+    this.replies = replies.toArray(new Reply[0]);
+    List<Integer> unconditional = new ArrayList<>();
+    List<List<Integer>> byFlag = new ArrayList<>();
+    for (int i = 0; i < FLAGS.length; i++) {
+      byFlag.add(new ArrayList<>());
+    }
+    Map<DBContext, Map<Integer, List<Integer>>> byState = new LinkedHashMap<>();
+    for (int i = 0; i < this.replies.length; i++) {
+      List<Predicate<Update>> conditions = this.replies[i].conditions();
+      Predicate<Update> first = conditions.isEmpty() ? null : conditions.get(0);
+      if (first instanceof Flag) {
+        byFlag.get(((Flag) first).ordinal()).add(i);
+      } else if (first instanceof StateCondition) {
+        StateCondition state = (StateCondition) first;
+        byState.computeIfAbsent(state.db(), db -> new HashMap<>())
+            .computeIfAbsent(state.id(), id -> new ArrayList<>())
+            .add(i);
+      } else {
+        unconditional.add(i);
+      }
+    }
+
+    this.unconditional = toArray(unconditional);
+    for (int i = 0; i < FLAGS.length; i++) {
+      this.byFlag[i] = toArray(byFlag.get(i));
+    }
+    for (Map<Integer, List<Integer>> states : byState.values()) {
+      StateGroup group = new StateGroup();
+      for (Map.Entry<Integer, List<Integer>> entry : states.entrySet()) {
+        group.byState.put(entry.getKey(), toArray(entry.getValue()));
+        if (group.condition == null) {
+          group.condition = (StateCondition) this.replies[entry.getValue().get(0)].conditions().get(0);
+        }
+      }
+      stateGroups.add(group);
+    }
+  }
+
+  /**
+   * Offers the update to the replies that can match it, in registration order. The step of the chat is read again
+   * after a reply matched, as the reply may have moved the chat to another step of its flow.
+   *
+   * @param update   the update received by the bot
+   * @param tryReply checks a reply and acts on the update, true if the reply matched
+   * @return true if a reply matched
+   */
+  boolean offer(Update update, Predicate<Reply> tryReply) {
+    int[][] candidates = new int[1 + stateGroups.size()][];
+    int[] positions = new int[candidates.length];
+    candidates[0] = flagged(update);
+    readStates(update, candidates);
+
+    boolean matched = false;
+    while (true) {
+      int list = -1;
+      int next = Integer.MAX_VALUE;
+      for (int i = 0; i < candidates.length; i++) {
+        if (positions[i] < candidates[i].length && candidates[i][positions[i]] < next) {
+          next = candidates[i][positions[i]];
+          list = i;
+        }
+      }
+      if (list == -1) {
+        return matched;
+      }
+      positions[list]++;
+
+      if (tryReply.test(replies[next])) {
+        matched = true;
+        readStates(update, candidates);
+        for (int i = 1; i < candidates.length; i++) {
+          positions[i] = firstAfter(candidates[i], next);
+        }
+      }
+    }
+  }
+
+  private int[] flagged(Update update) {
+    int flags = 0;
+    for (Flag flag : FLAGS) {
+      if (byFlag[flag.ordinal()].length > 0 && flag.test(update)) {
+        flags |= 1 << flag.ordinal();
+      }
+    }
+    return byFlags.computeIfAbsent(flags, this::merge);
+  }
+
+  private int[] merge(int flags) {
+    int[] merged = unconditional;
+    for (Flag flag : FLAGS) {
+      if ((flags & 1 << flag.ordinal()) != 0) {
+        merged = merge(merged, byFlag[flag.ordinal()]);
+      }
+    }
+    return merged;
+  }
+
+  private void readStates(Update update, int[][] candidates) {
+    for (int i = 0; i < stateGroups.size(); i++) {
+      StateGroup group = stateGroups.get(i);
+      int state;
+      try {
+        state = group.condition.currentState(update);
+      } catch (RuntimeException e) {
+        // The update has no chat, so no chat can be in a flow
+        candidates[i + 1] = NONE;
+        continue;
+      }
+      candidates[i + 1] = group.byState.getOrDefault(state, NONE);
+    }
+  }
+
+  private static int firstAfter(int[] sorted, int value) {
+    int index = Arrays.binarySearch(sorted, value);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private static int[] merge(int[] first, int[] second) {
+    int[] merged = new int[first.length + second.length];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < first.length && j < second.length) {
+      merged[k++] = first[i] < second[j] ? first[i++] : second[j++];
+    }
+    while (i < first.length) {
+      merged[k++] = first[i++];
+    }
+    while (j < second.length) {
+      merged[k++] = second[j++];
+    }
+    return merged;
+  }
+
+  private static int[] toArray(List<Integer> indexes) {
+    int[] array = new int[indexes.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = indexes.get(i);
+    }
+    return array;
+  }
+
+  /**
+   * Replies following flow steps stored in the same database
+   */
+  private static final class StateGroup {
+    private final Map<Integer, int[]> byState = new HashMap<>();
+    private StateCondition condition;
+  }
+}
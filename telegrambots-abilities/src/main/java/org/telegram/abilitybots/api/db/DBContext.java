@@ -89,4 +89,13 @@ public interface DBContext extends Closeable {
    * @return <tt>true</tt> if this database contains the specified structure name
    */
   boolean contains(String name);
+
+  /**
+   * Registers an action to run when the database is closed, before it is, e.g. to commit the writes still pending.
+   * Implementations are free to not implement this method if closing them needs no action.
+   *
+   * @param action the action to run once the database is closed
+   */
+  default void beforeClose(Runnable action) {
+  }
 }
\ No newline at end of file
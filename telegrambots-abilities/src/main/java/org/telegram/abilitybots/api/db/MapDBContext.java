@@ -13,6 +13,7 @@ import org.telegram.abilitybots.api.util.Pair;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
@@ -34,6 +35,7 @@ public class MapDBContext implements DBContext {
 
   private final DB db;
   private final ObjectMapper objectMapper;
+  private final List<Runnable> closeActions = new CopyOnWriteArrayList<>();
 
   public MapDBContext(DB db) {
     this.db = db;
@@ -166,8 +168,21 @@ public class MapDBContext implements DBContext {
     return db.exists(name);
   }
 
+  @Override
+  public void beforeClose(Runnable action) {
+    closeActions.add(action);
+  }
+
   @Override
   public void close() {
+    for (Runnable action : closeActions) {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        log.error("Action before closing the database failed", e);
+      }
+    }
+    closeActions.clear();
     db.close();
   }
 
@@ -2,6 +2,7 @@ package org.telegram.abilitybots.api.objects;
 
 import org.telegram.abilitybots.api.objects.Ability.AbilityBuilder;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.UpdateType;
 
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -18,20 +19,20 @@ import static java.util.Objects.nonNull;
 public enum Flag implements Predicate<Update> {
   // Update Flags
   NONE(update -> true),
-  MESSAGE(Update::hasMessage),
-  CALLBACK_QUERY(Update::hasCallbackQuery),
-  CHANNEL_POST(Update::hasChannelPost),
-  EDITED_CHANNEL_POST(Update::hasEditedChannelPost),
-  EDITED_MESSAGE(Update::hasEditedMessage),
-  INLINE_QUERY(Update::hasInlineQuery),
-  CHOSEN_INLINE_QUERY(Update::hasChosenInlineQuery),
-  SHIPPING_QUERY(Update::hasShippingQuery),
-  PRECHECKOUT_QUERY(Update::hasPreCheckoutQuery),
-  POLL(Update::hasPoll),
-  POLL_ANSWER(Update::hasPollAnswer),
-  MY_CHAT_MEMBER(Update::hasMyChatMember),
-  CHAT_MEMBER(Update::hasChatMember),
-  CHAT_JOIN_REQUEST(Update::hasChatJoinRequest),
+  MESSAGE(ofType(UpdateType.MESSAGE)),
+  CALLBACK_QUERY(ofType(UpdateType.CALLBACK_QUERY)),
+  CHANNEL_POST(ofType(UpdateType.CHANNEL_POST)),
+  EDITED_CHANNEL_POST(ofType(UpdateType.EDITED_CHANNEL_POST)),
+  EDITED_MESSAGE(ofType(UpdateType.EDITED_MESSAGE)),
+  INLINE_QUERY(ofType(UpdateType.INLINE_QUERY)),
+  CHOSEN_INLINE_QUERY(ofType(UpdateType.CHOSEN_INLINE_QUERY)),
+  SHIPPING_QUERY(ofType(UpdateType.SHIPPING_QUERY)),
+  PRECHECKOUT_QUERY(ofType(UpdateType.PRE_CHECKOUT_QUERY)),
+  POLL(ofType(UpdateType.POLL)),
+  POLL_ANSWER(ofType(UpdateType.POLL_ANSWER)),
+  MY_CHAT_MEMBER(ofType(UpdateType.MY_CHAT_MEMBER)),
+  CHAT_MEMBER(ofType(UpdateType.CHAT_MEMBER)),
+  CHAT_JOIN_REQUEST(ofType(UpdateType.CHAT_JOIN_REQUEST)),
 
 
   // Message Flags
@@ -51,4 +52,8 @@ public enum Flag implements Predicate<Update> {
   public boolean test(Update update) {
     return nonNull(update) && predicate.test(update);
   }
+
+  private static Predicate<Update> ofType(UpdateType type) {
+    return update -> UpdateType.of(update) == type;
+  }
 }
@@ -8,7 +8,6 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -52,9 +51,12 @@ public class Reply {
   }
 
   public boolean isOkFor(Update update) {
-    // The following variable is required to avoid bug #JDK-8044546
-    BiFunction<Boolean, Predicate<Update>, Boolean> stateAnd = (state, cond) -> state && cond.test(update);
-    return conditions.stream().reduce(true, stateAnd, Boolean::logicalAnd);
+    for (Predicate<Update> condition : conditions) {
+      if (!condition.test(update)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public void actOn(BaseAbilityBot bot, Update update) {
@@ -122,12 +122,44 @@ public class ReplyFlow extends Reply {
     @NotNull
     private List<Predicate<Update>> toStateful(List<Predicate<Update>> conditions) {
       List<Predicate<Update>> statefulConditions = newArrayList(conditions);
-      statefulConditions.add(0, upd -> {
-        Long chatId = AbilityUtils.getChatId(upd);
-        int stateId = db.<Long, Integer>getMap(STATES).getOrDefault(chatId, -1);
-        return id == stateId;
-      });
+      statefulConditions.add(0, new StateCondition(db, id));
       return statefulConditions;
     }
   }
+
+  /**
+   * First condition of the replies following a step of a flow, true when the chat of the update is at that step.
+   * The bot indexes its replies by this step.
+   */
+  public static final class StateCondition implements Predicate<Update> {
+    private final DBContext db;
+    private final int id;
+
+    private StateCondition(DBContext db, int id) {
+      this.db = db;
+      this.id = id;
+    }
+
+    public DBContext db() {
+      return db;
+    }
+
+    public int id() {
+      return id;
+    }
+
+    /**
+     * @param update a Telegram {@link Update}
+     * @return the id of the step the chat of the update is at, -1 if it's not in a flow
+     */
+    public int currentState(Update update) {
+      Long chatId = AbilityUtils.getChatId(update);
+      return db.<Long, Integer>getMap(ReplyFlowBuilder.STATES).getOrDefault(chatId, -1);
+    }
+
+    @Override
+    public boolean test(Update update) {
+      return id == currentState(update);
+    }
+  }
 }
@@ -3,7 +3,9 @@ package org.telegram.abilitybots.api.util;
 import com.google.common.base.Strings;
 import org.telegram.abilitybots.api.db.DBContext;
 import org.telegram.abilitybots.api.objects.MessageContext;
+import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.UpdateType;
 import org.telegram.telegrambots.meta.api.objects.User;
 
 import java.text.MessageFormat;
@@ -19,7 +21,6 @@ import static java.util.ResourceBundle.Control.getNoFallbackControl;
 import static java.util.ResourceBundle.getBundle;
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
-import static org.telegram.abilitybots.api.objects.Flag.*;
 
 /**
  * Helper and utility methods
@@ -62,36 +63,37 @@ public final class AbilityUtils {
   }
 
   private static User getUserElseThrow(Update update) {
-    if (MESSAGE.test(update)) {
-      return update.getMessage().getFrom();
-    } else if (CALLBACK_QUERY.test(update)) {
-      return update.getCallbackQuery().getFrom();
-    } else if (INLINE_QUERY.test(update)) {
-      return update.getInlineQuery().getFrom();
-    } else if (CHANNEL_POST.test(update)) {
-      return update.getChannelPost().getFrom();
-    } else if (EDITED_CHANNEL_POST.test(update)) {
-      return update.getEditedChannelPost().getFrom();
-    } else if (EDITED_MESSAGE.test(update)) {
-      return update.getEditedMessage().getFrom();
-    } else if (CHOSEN_INLINE_QUERY.test(update)) {
-      return update.getChosenInlineQuery().getFrom();
-    } else if (SHIPPING_QUERY.test(update)) {
-      return update.getShippingQuery().getFrom();
-    } else if (PRECHECKOUT_QUERY.test(update)) {
-      return update.getPreCheckoutQuery().getFrom();
-    } else if (POLL_ANSWER.test(update)) {
-      return update.getPollAnswer().getUser();
-    } else if (MY_CHAT_MEMBER.test(update)) {
-      return update.getMyChatMember().getFrom();
-    } else if (CHAT_MEMBER.test(update)) {
-      return update.getChatMember().getFrom();
-    } else if (CHAT_JOIN_REQUEST.test(update)) {
-      return update.getChatJoinRequest().getUser();
-    } else if (POLL.test(update)) {
-      return EMPTY_USER;
-    } else {
-      throw new IllegalStateException("Could not retrieve originating user from update");
+    switch (UpdateType.of(update)) {
+      case MESSAGE:
+        return update.getMessage().getFrom();
+      case CALLBACK_QUERY:
+        return update.getCallbackQuery().getFrom();
+      case INLINE_QUERY:
+        return update.getInlineQuery().getFrom();
+      case CHANNEL_POST:
+        return update.getChannelPost().getFrom();
+      case EDITED_CHANNEL_POST:
+        return update.getEditedChannelPost().getFrom();
+      case EDITED_MESSAGE:
+        return update.getEditedMessage().getFrom();
+      case CHOSEN_INLINE_QUERY:
+        return update.getChosenInlineQuery().getFrom();
+      case SHIPPING_QUERY:
+        return update.getShippingQuery().getFrom();
+      case PRE_CHECKOUT_QUERY:
+        return update.getPreCheckoutQuery().getFrom();
+      case POLL_ANSWER:
+        return update.getPollAnswer().getUser();
+      case MY_CHAT_MEMBER:
+        return update.getMyChatMember().getFrom();
+      case CHAT_MEMBER:
+        return update.getChatMember().getFrom();
+      case CHAT_JOIN_REQUEST:
+        return update.getChatJoinRequest().getUser();
+      case POLL:
+        return EMPTY_USER;
+      default:
+        throw new IllegalStateException("Could not retrieve originating user from update");
     }
   }
 
@@ -102,19 +104,8 @@ public final class AbilityUtils {
    * @return whether the update is linked to a group
    */
   public static boolean isGroupUpdate(Update update) {
-    if (MESSAGE.test(update)) {
-      return update.getMessage().isGroupMessage();
-    } else if (CALLBACK_QUERY.test(update)) {
-      return update.getCallbackQuery().getMessage().isGroupMessage();
-    } else if (CHANNEL_POST.test(update)) {
-      return update.getChannelPost().isGroupMessage();
-    } else if (EDITED_CHANNEL_POST.test(update)) {
-      return update.getEditedChannelPost().isGroupMessage();
-    } else if (EDITED_MESSAGE.test(update)) {
-      return update.getEditedMessage().isGroupMessage();
-    } else {
-      return false;
-    }
+    Message message = getMessage(update);
+    return message != null && message.isGroupMessage();
   }
 
   /**
@@ -124,19 +115,8 @@ public final class AbilityUtils {
    * @return whether the update is linked to a group
    */
   public static boolean isSuperGroupUpdate(Update update) {
-    if (MESSAGE.test(update)) {
-      return update.getMessage().isSuperGroupMessage();
-    } else if (CALLBACK_QUERY.test(update)) {
-      return update.getCallbackQuery().getMessage().isSuperGroupMessage();
-    } else if (CHANNEL_POST.test(update)) {
-      return update.getChannelPost().isSuperGroupMessage();
-    } else if (EDITED_CHANNEL_POST.test(update)) {
-      return update.getEditedChannelPost().isSuperGroupMessage();
-    } else if (EDITED_MESSAGE.test(update)) {
-      return update.getEditedMessage().isSuperGroupMessage();
-    } else {
-      return false;
-    }
+    Message message = getMessage(update);
+    return message != null && message.isSuperGroupMessage();
   }
 
   /**
@@ -147,36 +127,37 @@ public final class AbilityUtils {
    * @throws IllegalStateException if the chat ID could not be found
    */
   public static Long getChatId(Update update) {
-    if (MESSAGE.test(update)) {
-      return update.getMessage().getChatId();
-    } else if (CALLBACK_QUERY.test(update)) {
-      return update.getCallbackQuery().getMessage().getChatId();
-    } else if (INLINE_QUERY.test(update)) {
-      return update.getInlineQuery().getFrom().getId();
-    } else if (CHANNEL_POST.test(update)) {
-      return update.getChannelPost().getChatId();
-    } else if (EDITED_CHANNEL_POST.test(update)) {
-      return update.getEditedChannelPost().getChatId();
-    } else if (EDITED_MESSAGE.test(update)) {
-      return update.getEditedMessage().getChatId();
-    } else if (CHOSEN_INLINE_QUERY.test(update)) {
-      return update.getChosenInlineQuery().getFrom().getId();
-    } else if (SHIPPING_QUERY.test(update)) {
-      return update.getShippingQuery().getFrom().getId();
-    } else if (PRECHECKOUT_QUERY.test(update)) {
-      return update.getPreCheckoutQuery().getFrom().getId();
-    } else if (POLL_ANSWER.test(update)) {
-      return update.getPollAnswer().getUser().getId();
-    } else if (POLL.test(update)) {
-      return EMPTY_USER.getId();
-    } else if (MY_CHAT_MEMBER.test(update)) {
-      return update.getMyChatMember().getChat().getId();
-    } else if (CHAT_MEMBER.test(update)) {
-      return update.getChatMember().getChat().getId();
-    } else if (CHAT_JOIN_REQUEST.test(update)) {
-      return update.getChatJoinRequest().getChat().getId();
-    } else {
-      throw new IllegalStateException("Could not retrieve originating chat ID from update");
+    switch (UpdateType.of(update)) {
+      case MESSAGE:
+        return update.getMessage().getChatId();
+      case CALLBACK_QUERY:
+        return update.getCallbackQuery().getMessage().getChatId();
+      case INLINE_QUERY:
+        return update.getInlineQuery().getFrom().getId();
+      case CHANNEL_POST:
+        return update.getChannelPost().getChatId();
+      case EDITED_CHANNEL_POST:
+        return update.getEditedChannelPost().getChatId();
+      case EDITED_MESSAGE:
+        return update.getEditedMessage().getChatId();
+      case CHOSEN_INLINE_QUERY:
+        return update.getChosenInlineQuery().getFrom().getId();
+      case SHIPPING_QUERY:
+        return update.getShippingQuery().getFrom().getId();
+      case PRE_CHECKOUT_QUERY:
+        return update.getPreCheckoutQuery().getFrom().getId();
+      case POLL_ANSWER:
+        return update.getPollAnswer().getUser().getId();
+      case POLL:
+        return EMPTY_USER.getId();
+      case MY_CHAT_MEMBER:
+        return update.getMyChatMember().getChat().getId();
+      case CHAT_MEMBER:
+        return update.getChatMember().getChat().getId();
+      case CHAT_JOIN_REQUEST:
+        return update.getChatJoinRequest().getChat().getId();
+      default:
+        throw new IllegalStateException("Could not retrieve originating chat ID from update");
     }
   }
 
@@ -185,19 +166,8 @@ public final class AbilityUtils {
    * @return <tt>true</tt> if the update contains contains a private user message
    */
   public static boolean isUserMessage(Update update) {
-    if (MESSAGE.test(update)) {
-      return update.getMessage().isUserMessage();
-    } else if (CALLBACK_QUERY.test(update)) {
-      return update.getCallbackQuery().getMessage().isUserMessage();
-    } else if (CHANNEL_POST.test(update)) {
-      return update.getChannelPost().isUserMessage();
-    } else if (EDITED_CHANNEL_POST.test(update)) {
-      return update.getEditedChannelPost().isUserMessage();
-    } else if (EDITED_MESSAGE.test(update)) {
-      return update.getEditedMessage().isUserMessage();
-    } else {
-      return true;
-    }
+    Message message = getMessage(update);
+    return message == null || message.isUserMessage();
   }
 
   /**
@@ -306,4 +276,24 @@ public final class AbilityUtils {
     if (commandName == null || commandName.length() > 31) return false;
     return commandName.matches("[A-Za-z_0-9]+");
   }
+
+  /**
+   * @return Message of message, post and callback query updates, null for the rest of them
+   */
+  private static Message getMessage(Update update) {
+    switch (UpdateType.of(update)) {
+      case MESSAGE:
+        return update.getMessage();
+      case EDITED_MESSAGE:
+        return update.getEditedMessage();
+      case CHANNEL_POST:
+        return update.getChannelPost();
+      case EDITED_CHANNEL_POST:
+        return update.getEditedChannelPost();
+      case CALLBACK_QUERY:
+        return update.getCallbackQuery().getMessage();
+      default:
+        return null;
+    }
+  }
 }
@@ -21,6 +21,8 @@ import org.telegram.abilitybots.api.util.AbilityUtils;
 import org.telegram.abilitybots.api.util.Pair;
 import org.telegram.abilitybots.api.util.Trio;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatAdministrators;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.ChatMemberUpdated;
 import org.telegram.telegrambots.meta.api.objects.Document;
 import org.telegram.telegrambots.meta.api.objects.File;
 import org.telegram.telegrambots.meta.api.objects.Message;
@@ -36,6 +38,7 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -480,6 +483,51 @@ public class AbilityBotTest {
     assertFalse(bot.checkPrivacy(groupAdminTrio), "Unexpected result when checking for privacy");
   }
 
+  @Test
+  void loadsGroupAdminsOnEveryCheckByDefault() {
+    long chatId = -100L;
+    ChatMember member = mock(ChatMember.class);
+    when(member.getStatus()).thenReturn(ChatMemberAdministrator.STATUS);
+    when(member.getUser()).thenReturn(USER);
+    when(silent.execute(any(GetChatAdministrators.class))).thenReturn(Optional.of(newArrayList(member)));
+
+    assertTrue(bot.isGroupAdmin(chatId, USER.getId()));
+    assertTrue(bot.isGroupAdmin(chatId, USER.getId()));
+    verify(silent, times(2)).execute(any(GetChatAdministrators.class));
+  }
+
+  @Test
+  void cachesGroupAdminsUntilTheyChange() {
+    DefaultBot bot = new DefaultBot(EMPTY, EMPTY, db) {
+      @Override
+      protected long groupAdminsTtlMillis() {
+        return TimeUnit.MINUTES.toMillis(5);
+      }
+    };
+    bot.onRegister();
+    bot.sender = sender;
+    bot.silent = silent;
+    long chatId = -100L;
+    ChatMember member = mock(ChatMember.class);
+    when(member.getStatus()).thenReturn(ChatMemberAdministrator.STATUS);
+    when(member.getUser()).thenReturn(USER);
+    when(silent.execute(any(GetChatAdministrators.class))).thenReturn(Optional.of(newArrayList(member)));
+
+    assertTrue(bot.isGroupAdmin(chatId, USER.getId()));
+    assertTrue(bot.isGroupAdmin(chatId, USER.getId()));
+    verify(silent, times(1)).execute(any(GetChatAdministrators.class));
+
+    ChatMember demoted = mock(ChatMember.class);
+    when(demoted.getStatus()).thenReturn("member");
+    Update update = new Update();
+    update.setUpdateId(1);
+    update.setChatMember(new ChatMemberUpdated(new Chat(chatId, "supergroup"), CREATOR, 0, member, demoted, null, null));
+    bot.onUpdateReceived(update);
+
+    assertTrue(bot.isGroupAdmin(chatId, USER.getId()));
+    verify(silent, times(2)).execute(any(GetChatAdministrators.class));
+  }
+
   @Test
   void canBlockAdminsFromCreatorAbilities() {
     Update update = mock(Update.class);
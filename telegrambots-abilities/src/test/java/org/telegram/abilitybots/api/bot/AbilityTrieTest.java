@@ -0,0 +1,28 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AbilityTrieTest {
+  private final AbilityTrie trie = new AbilityTrie(Arrays.asList("do", "do1", "do12", "ban", "b"));
+
+  @Test
+  void findsLongestName() {
+    assertEquals("do12", trie.longestPrefix("/do123 now", 1));
+    assertEquals("do1", trie.longestPrefix("/do1", 1));
+    assertEquals("do", trie.longestPrefix("/do2", 1));
+    assertEquals("b", trie.longestPrefix("/bat", 1));
+    assertEquals("ban", trie.longestPrefix("/ban user", 1));
+  }
+
+  @Test
+  void returnsNullWithoutMatch() {
+    assertNull(trie.longestPrefix("/d", 1));
+    assertNull(trie.longestPrefix("/", 1));
+    assertNull(trie.longestPrefix("/unknown", 1));
+  }
+}
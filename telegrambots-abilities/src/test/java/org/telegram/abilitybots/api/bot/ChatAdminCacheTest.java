@@ -0,0 +1,162 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChatAdminCacheTest {
+  private static final long CHAT_ID = -100L;
+  private static final long ADMIN_ID = 7L;
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void loadsTheAdminsOfAChatOnce() {
+    ChatAdminCache cache = new ChatAdminCache(loader(singleton(ADMIN_ID)), 60_000, Runnable::run);
+
+    assertTrue(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    assertFalse(cache.isAdmin(CHAT_ID, 8L));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void reloadsTheAdminsOfInvalidatedChats() {
+    ChatAdminCache cache = new ChatAdminCache(loader(singleton(ADMIN_ID)), 60_000, Runnable::run);
+
+    cache.isAdmin(CHAT_ID, ADMIN_ID);
+    cache.invalidate(CHAT_ID);
+    cache.isAdmin(CHAT_ID, ADMIN_ID);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void refreshesAdminsInTheBackgroundBeforeTheyExpire() {
+    List<Runnable> refreshes = new ArrayList<>();
+    ChatAdminCache cache = new ChatAdminCache(chatId -> Optional.of(singleton((long) loads.incrementAndGet())), 1_000,
+        refreshes::add, clock::get);
+
+    assertTrue(cache.isAdmin(CHAT_ID, 1L));
+    clock.addAndGet(MILLISECONDS.toNanos(800));
+
+    // The admins are used until the refresh is done, and it is only started once
+    assertTrue(cache.isAdmin(CHAT_ID, 1L));
+    assertTrue(cache.isAdmin(CHAT_ID, 1L));
+    assertEquals(1, refreshes.size());
+
+    refreshes.get(0).run();
+    assertTrue(cache.isAdmin(CHAT_ID, 2L));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void refusesDemotedAdminsOnceExpired() {
+    List<Runnable> refreshes = new ArrayList<>();
+    AtomicReference<Set<Long>> admins = new AtomicReference<>(singleton(ADMIN_ID));
+    ChatAdminCache cache = new ChatAdminCache(chatId -> {
+      loads.incrementAndGet();
+      return Optional.of(admins.get());
+    }, 1_000, refreshes::add, clock::get);
+
+    assertTrue(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    admins.set(emptySet());
+    clock.addAndGet(MILLISECONDS.toNanos(1_000));
+
+    // Never refreshed in the background, the lookup loads the admins again itself
+    assertFalse(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    assertEquals(2, loads.get());
+    assertTrue(refreshes.isEmpty());
+  }
+
+  @Test
+  void refusesExpiredAdminsThatCannotBeLoadedAgain() {
+    AtomicReference<Set<Long>> admins = new AtomicReference<>(singleton(ADMIN_ID));
+    ChatAdminCache cache = new ChatAdminCache(chatId -> {
+      loads.incrementAndGet();
+      return Optional.ofNullable(admins.get());
+    }, 1_000, Runnable::run, clock::get);
+
+    assertTrue(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    admins.set(null);
+    clock.addAndGet(MILLISECONDS.toNanos(1_000));
+
+    assertFalse(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    admins.set(singleton(ADMIN_ID));
+    assertTrue(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void doesNotCacheFailedLoads() {
+    ChatAdminCache cache = new ChatAdminCache(loader(null), 60_000, Runnable::run);
+
+    assertFalse(cache.isAdmin(CHAT_ID, ADMIN_ID));
+    assertFalse(cache.isAdmin(CHAT_ID, ADMIN_ID));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void concurrentLookupsShareTheirLoad() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ChatAdminCache cache = new ChatAdminCache(chatId -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      await(release);
+      return Optional.of(singleton(ADMIN_ID));
+    }, 60_000, Runnable::run);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> lookups = new ArrayList<>();
+      lookups.add(executor.submit(() -> cache.isAdmin(CHAT_ID, ADMIN_ID)));
+      assertTrue(loading.await(5, SECONDS));
+      for (int i = 0; i < 3; i++) {
+        lookups.add(executor.submit(() -> cache.isAdmin(CHAT_ID, ADMIN_ID)));
+      }
+      release.countDown();
+
+      for (Future<Boolean> lookup : lookups) {
+        assertTrue(lookup.get(5, SECONDS));
+      }
+      assertEquals(1, loads.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private LongFunction<Optional<Set<Long>>> loader(Set<Long> admins) {
+    return chatId -> {
+      loads.incrementAndGet();
+      return Optional.ofNullable(admins);
+    };
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
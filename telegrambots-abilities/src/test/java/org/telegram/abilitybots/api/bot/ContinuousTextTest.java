@@ -12,7 +12,10 @@ import org.telegram.telegrambots.meta.api.objects.User;
 import java.io.IOException;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 import static org.telegram.abilitybots.api.bot.TestUtils.mockFullUpdate;
@@ -64,6 +67,15 @@ public class ContinuousTextTest {
         .send("longer ability name", USER.getId());
   }
 
+  @Test
+  void ignoresTextWithoutCommandPrefix() {
+    Update update = mockFullUpdate(bot, USER, "do1 is not a command");
+
+    bot.onUpdateReceived(update);
+
+    verify(silent, never()).send(anyString(), anyLong());
+  }
+
   public static class ContinuousTextBot extends AbilityBot {
 
     public ContinuousTextBot(String token, String username, DBContext db) {
@@ -0,0 +1,97 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.objects.Ability;
+import org.telegram.abilitybots.api.sender.SilentSender;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.telegram.abilitybots.api.bot.TestUtils.USER;
+import static org.telegram.abilitybots.api.bot.TestUtils.mockFullUpdate;
+import static org.telegram.abilitybots.api.db.MapDBContext.offlineInstance;
+import static org.telegram.abilitybots.api.objects.Ability.builder;
+import static org.telegram.abilitybots.api.objects.Locality.ALL;
+import static org.telegram.abilitybots.api.objects.Privacy.PUBLIC;
+
+public class DispatchTimerTest {
+  private DBContext db;
+  private TimedBot bot;
+
+  @BeforeEach
+  void setUp() {
+    db = offlineInstance("db");
+    bot = new TimedBot(EMPTY, EMPTY, db);
+    bot.onRegister();
+    bot.silent = mock(SilentSender.class);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    db.clear();
+    db.close();
+  }
+
+  @Test
+  void timesEveryStageOfAnAbility() {
+    bot.onUpdateReceived(mockFullUpdate(bot, USER, "/do"));
+
+    verify(bot.silent).send("done", USER.getId());
+    assertEquals(asList("checkGlobalFlags", "checkBlacklist", "addUser", "filterReply", "hasUser", "getAbility",
+        "checkPrivacy", "checkLocality", "checkInput", "checkMessageFlags", "consumeUpdate", "updateStats",
+        "postConsumption"), bot.stages);
+    assertTrue(bot.nanos >= 0);
+  }
+
+  @Test
+  void stopsAtTheFirstFailingStage() {
+    Update update = mockFullUpdate(bot, USER, "/unknown");
+
+    bot.onUpdateReceived(update);
+
+    assertEquals("getAbility", bot.stages.get(bot.stages.size() - 1));
+  }
+
+  public static class TimedBot extends AbilityBot {
+    private final List<String> stages = new ArrayList<>();
+    private long nanos;
+
+    public TimedBot(String token, String username, DBContext db) {
+      super(token, username, db);
+    }
+
+    @Override
+    public long creatorId() {
+      return 1337;
+    }
+
+    @Override
+    protected DispatchTimer dispatchTimer() {
+      return (stage, update, nanos) -> {
+        stages.add(stage);
+        this.nanos += nanos;
+      };
+    }
+
+    public Ability doAbility() {
+      return builder()
+          .name("do")
+          .privacy(PUBLIC)
+          .locality(ALL)
+          .input(0)
+          .action(ctx -> silent.send("done", ctx.chatId()))
+          .build();
+    }
+  }
+}
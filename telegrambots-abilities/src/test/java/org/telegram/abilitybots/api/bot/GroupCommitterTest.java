@@ -0,0 +1,217 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.abilitybots.api.db.DBContext;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.telegram.abilitybots.api.bot.TestUtils.USER;
+import static org.telegram.abilitybots.api.bot.TestUtils.mockFullUpdate;
+import static org.telegram.abilitybots.api.db.MapDBContext.offlineInstance;
+
+public class GroupCommitterTest {
+  private DBContext db;
+
+  @BeforeEach
+  void setUp() {
+    db = mock(DBContext.class);
+  }
+
+  @Test
+  void commitsEveryUpdateByDefault() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.perUpdate(), "bot");
+
+    committer.updateDispatched();
+    committer.updateDispatched();
+
+    verify(db, times(2)).commit();
+    assertEquals(0, committer.pendingUpdates());
+  }
+
+  @Test
+  void commitsOnceForManyUpdates() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(3), "bot");
+
+    committer.updateDispatched();
+    committer.updateDispatched();
+    verify(db, never()).commit();
+    assertEquals(2, committer.pendingUpdates());
+
+    committer.updateDispatched();
+    verify(db).commit();
+    assertEquals(0, committer.pendingUpdates());
+    assertEquals(0, committer.lagMillis());
+  }
+
+  @Test
+  void commitsPendingUpdatesInTime() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100).orEveryMillis(50), "bot");
+
+    committer.updateDispatched();
+    committer.updateDispatched();
+
+    verify(db, timeout(5000)).commit();
+    assertEquals(0, committer.pendingUpdates());
+  }
+
+  @Test
+  void timedCommitsWaitForTheUpdatesBeingDispatched() throws InterruptedException {
+    AtomicBoolean writing = new AtomicBoolean();
+    AtomicBoolean committedWhileWriting = new AtomicBoolean();
+    doAnswer(invocation -> {
+      committedWhileWriting.compareAndSet(false, writing.get());
+      return null;
+    }).when(db).commit();
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100).orEveryMillis(50), "bot");
+
+    committer.updateStarted();
+    committer.updateDispatched();
+    committer.updateEnded();
+
+    // The action of the next update is still writing when the timer fires
+    committer.updateStarted();
+    writing.set(true);
+    Thread.sleep(200);
+    verify(db, never()).commit();
+    writing.set(false);
+    committer.updateEnded();
+
+    verify(db, timeout(5000)).commit();
+    assertFalse(committedWhileWriting.get());
+  }
+
+  @Test
+  void flushingWhileDispatchingCommitsRightAway() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100), "bot");
+    committer.updateDispatched();
+
+    committer.updateStarted();
+    committer.flush();
+    committer.updateEnded();
+
+    verify(db).commit();
+  }
+
+  @Test
+  void commitsWhenIdle() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.onIdle(50), "bot");
+
+    committer.updateDispatched();
+
+    verify(db, timeout(5000)).commit();
+  }
+
+  @Test
+  void reportsTheDurabilityLag() throws InterruptedException {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100), "bot");
+
+    committer.updateDispatched();
+    Thread.sleep(20);
+
+    assertEquals(1, committer.pendingUpdates());
+    assertTrue(committer.lagMillis() >= 20);
+  }
+
+  @Test
+  void flushesOnlyWhenUpdatesArePending() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100), "bot");
+
+    committer.flush();
+    verify(db, never()).commit();
+
+    committer.updateDispatched();
+    committer.flush();
+    verify(db).commit();
+  }
+
+  @Test
+  void closingTheBotCommitsPendingUpdates() throws IOException {
+    DBContext botDb = spy(offlineInstance("db"));
+    try {
+      GroupCommitBot bot = new GroupCommitBot(botDb);
+      bot.onRegister();
+
+      bot.onUpdateReceived(mockFullUpdate(bot, USER, "hello"));
+      assertEquals(1, bot.uncommittedUpdates());
+      verify(botDb, never()).commit();
+
+      bot.onClosing();
+      verify(botDb).commit();
+      assertEquals(0, bot.uncommittedUpdates());
+    } finally {
+      botDb.clear();
+      botDb.close();
+    }
+  }
+
+  @Test
+  void closingCommitsPendingUpdatesAndStopsTheTimedCommits() {
+    GroupCommitter committer = new GroupCommitter(db, CommitPolicy.everyUpdates(100).orEveryMillis(50), "bot");
+
+    committer.updateDispatched();
+    committer.close();
+    verify(db).commit();
+
+    // Committed right away once closed, never by the stopped timer
+    committer.updateDispatched();
+    verify(db, times(2)).commit();
+    assertEquals(0, committer.pendingUpdates());
+
+    committer.close();
+    verify(db, times(2)).commit();
+  }
+
+  @Test
+  void closingTheDatabaseCommitsPendingUpdates() throws IOException {
+    DBContext botDb = spy(offlineInstance("db"));
+    try {
+      GroupCommitter committer = new GroupCommitter(botDb, CommitPolicy.everyUpdates(100), "bot");
+
+      committer.updateDispatched();
+      verify(botDb, never()).commit();
+      botDb.close();
+
+      verify(botDb).commit();
+      assertEquals(0, committer.pendingUpdates());
+    } finally {
+      botDb.close();
+    }
+  }
+
+  @Test
+  void policiesNeedPositiveThresholds() {
+    assertThrows(IllegalArgumentException.class, () -> CommitPolicy.everyUpdates(0));
+    assertThrows(IllegalArgumentException.class, () -> CommitPolicy.everyMillis(0));
+    assertThrows(IllegalArgumentException.class, () -> CommitPolicy.perUpdate().orOnIdle(-1));
+  }
+
+  public static class GroupCommitBot extends AbilityBot {
+    public GroupCommitBot(DBContext db) {
+      super(EMPTY, EMPTY, db);
+    }
+
+    @Override
+    public long creatorId() {
+      return 0;
+    }
+
+    @Override
+    protected CommitPolicy commitPolicy() {
+      return CommitPolicy.everyUpdates(10);
+    }
+  }
+}
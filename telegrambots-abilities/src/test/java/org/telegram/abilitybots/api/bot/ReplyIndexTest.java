@@ -0,0 +1,121 @@
+package org.telegram.abilitybots.api.bot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.objects.Reply;
+import org.telegram.abilitybots.api.objects.ReplyFlow;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.UpdateType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.telegram.abilitybots.api.db.MapDBContext.offlineInstance;
+import static org.telegram.abilitybots.api.objects.Flag.CALLBACK_QUERY;
+import static org.telegram.abilitybots.api.objects.Flag.TEXT;
+import static org.telegram.abilitybots.api.objects.ReplyFlow.ReplyFlowBuilder.STATES;
+
+class ReplyIndexTest {
+  private static final long CHAT_ID = 42;
+
+  private DBContext db;
+
+  @BeforeEach
+  void setUp() {
+    db = offlineInstance("db");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    db.clear();
+    db.close();
+  }
+
+  @Test
+  void offersCandidatesInRegistrationOrder() {
+    Reply text = Reply.of((bot, upd) -> {}, TEXT);
+    Reply any = Reply.of((bot, upd) -> {}, upd -> true);
+    Reply callback = Reply.of((bot, upd) -> {}, CALLBACK_QUERY);
+    Reply otherText = Reply.of((bot, upd) -> {}, TEXT, upd -> false);
+    ReplyIndex index = new ReplyIndex(asList(text, any, callback, otherText));
+    List<Reply> offered = new ArrayList<>();
+
+    assertFalse(index.offer(textUpdate("hi"), record(offered)));
+
+    assertEquals(asList(text, any, otherText), offered);
+  }
+
+  @Test
+  void offersRepliesOfTheStepOfTheChat() {
+    ReplyFlow flow = ReplyFlow.builder(db, 7)
+        .onlyIf(upd -> false)
+        .next(Reply.of((bot, upd) -> {}, TEXT))
+        .build();
+    List<Reply> replies = flow.stream().collect(toList());
+    ReplyIndex index = new ReplyIndex(replies);
+    List<Reply> offered = new ArrayList<>();
+
+    index.offer(textUpdate("hi"), record(offered));
+    assertEquals(asList(flow), offered);
+
+    offered.clear();
+    db.<Long, Integer>getMap(STATES).put(CHAT_ID, 7);
+    index.offer(textUpdate("hi"), record(offered));
+    assertEquals(replies, offered);
+  }
+
+  @Test
+  void readsTheStepAgainAfterAMatch() {
+    ReplyFlow flow = ReplyFlow.builder(db, 8)
+        .onlyIf(TEXT)
+        .next(Reply.of((bot, upd) -> {}, TEXT))
+        .build();
+    List<Reply> replies = flow.stream().collect(toList());
+    ReplyIndex index = new ReplyIndex(replies);
+    Update update = textUpdate("hi");
+    List<Reply> offered = new ArrayList<>();
+
+    // The first step moves the chat to the next one, which matches the same update like before the index
+    assertTrue(index.offer(update, reply -> {
+      offered.add(reply);
+      if (reply.isOkFor(update)) {
+        reply.actOn(null, update);
+        return true;
+      }
+      return false;
+    }));
+
+    assertEquals(replies, offered);
+  }
+
+  private static Predicate<Reply> record(List<Reply> offered) {
+    return reply -> {
+      offered.add(reply);
+      return false;
+    };
+  }
+
+  private static Update textUpdate(String text) {
+    Update update = mock(Update.class);
+    Message message = mock(Message.class);
+    when(update.hasMessage()).thenReturn(true);
+    when(update.getType()).thenReturn(UpdateType.MESSAGE);
+    when(update.getMessage()).thenReturn(message);
+    when(message.hasText()).thenReturn(true);
+    when(message.getText()).thenReturn(text);
+    when(message.getChatId()).thenReturn(CHAT_ID);
+    return update;
+  }
+}
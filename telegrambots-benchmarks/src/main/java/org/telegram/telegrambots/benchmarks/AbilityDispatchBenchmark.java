@@ -0,0 +1,165 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.abilitybots.api.bot.AbilityBot;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.db.MapDBContext;
+import org.telegram.abilitybots.api.objects.Ability;
+import org.telegram.abilitybots.api.objects.Reply;
+import org.telegram.abilitybots.api.objects.ReplyCollection;
+import org.telegram.abilitybots.api.util.AbilityExtension;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.telegram.abilitybots.api.objects.Locality.ALL;
+import static org.telegram.abilitybots.api.objects.Privacy.PUBLIC;
+
+/**
+ * {@link AbilityBot#onUpdateReceived(Update)} of a bot with as many abilities as replies, storing its users in a
+ * {@link MapDBContext} like a real one, including the commit that follows every update. Abilities and replies only
+ * count the updates they receive.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AbilityDispatchBenchmark {
+    @Param({"10", "100"})
+    public int abilities;
+    /**
+     * Whether commands can be followed by their arguments without a space, see {@link AbilityBot#allowContinuousText()}
+     */
+    @Param({"false", "true"})
+    public boolean continuousText;
+
+    private Path dbDirectory;
+    private DBContext db;
+    private BenchmarkBot bot;
+    private Update command;
+    private Update reply;
+    private Update unhandled;
+
+    @Setup
+    public void setUp() throws IOException {
+        dbDirectory = Files.createTempDirectory("ability-benchmark");
+        db = MapDBContext.offlineInstance(dbDirectory.resolve("db").toString());
+        bot = new BenchmarkBot(db, abilities, continuousText);
+        bot.onRegister();
+        command = Fixtures.textUpdate(1, 1000, "/command" + (abilities / 2) + " tomorrow 9:00");
+        // The last reply registered, every other reply is tested first
+        reply = Fixtures.textUpdate(2, 1001, "keyword" + (abilities - 1));
+        unhandled = Fixtures.textUpdate(3, 1002, "hello everyone, the meeting is moved to tomorrow");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bot.close();
+        db.close();
+        Fixtures.delete(dbDirectory);
+    }
+
+    @Benchmark
+    public int command() {
+        bot.onUpdateReceived(command);
+        return bot.handled;
+    }
+
+    @Benchmark
+    public int reply() {
+        bot.onUpdateReceived(reply);
+        return bot.handled;
+    }
+
+    @Benchmark
+    public int unhandled() {
+        bot.onUpdateReceived(unhandled);
+        return bot.handled;
+    }
+
+    public static final class BenchmarkBot extends AbilityBot {
+        private final boolean continuousText;
+        private int handled;
+
+        private BenchmarkBot(DBContext db, int abilities, boolean continuousText) {
+            super("123456:BENCHMARK", Fixtures.BOT_USERNAME, db);
+            this.continuousText = continuousText;
+            List<Reply> replies = new ArrayList<>();
+            for (int i = 0; i < abilities; i++) {
+                addExtension(new CommandExtension(this, "command" + i));
+                String keyword = "keyword" + i;
+                replies.add(Reply.of((bot, update) -> handled++,
+                        update -> update.hasMessage() && update.getMessage().hasText(),
+                        update -> keyword.equals(update.getMessage().getText())));
+            }
+            addExtension(new ReplyExtension(new ReplyCollection(replies)));
+        }
+
+        @Override
+        public long creatorId() {
+            return Fixtures.CREATOR_ID;
+        }
+
+        @Override
+        protected boolean allowContinuousText() {
+            return continuousText;
+        }
+
+        private void close() {
+            exe.shutdownNow();
+        }
+    }
+
+    /**
+     * Registered through reflection, so it has to be public
+     */
+    public static final class CommandExtension implements AbilityExtension {
+        private final BenchmarkBot bot;
+        private final String name;
+
+        private CommandExtension(BenchmarkBot bot, String name) {
+            this.bot = bot;
+            this.name = name;
+        }
+
+        public Ability command() {
+            return Ability.builder()
+                    .name(name)
+                    .info("benchmark command")
+                    .locality(ALL)
+                    .privacy(PUBLIC)
+                    .action(ctx -> bot.handled++)
+                    .build();
+        }
+    }
+
+    public static final class ReplyExtension implements AbilityExtension {
+        private final ReplyCollection replies;
+
+        private ReplyExtension(ReplyCollection replies) {
+            this.replies = replies;
+        }
+
+        public ReplyCollection replies() {
+            return replies;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.telegram.telegrambots.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.bots.DefaultAbsSender;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.methods.MessageTemplate;
+import org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sending methods with {@link DefaultAbsSender}: the JSON body of {@link SendMessage} alone, serialized or spliced from
+ * a {@link MessageTemplate}, then whole requests, including the multipart body of {@link SendMediaGroup}, against a
+ * {@link LocalBotApiServer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Without it, the JDK server writes headers and body separately and waits for delayed acknowledgements
+@Fork(value = 2, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class ApiMethodSerializationBenchmark {
+    /**
+     * Size of the photo uploaded with the album
+     */
+    @Param({"65536"})
+    public int photoSize;
+
+    private final SendMessage sendMessage = Fixtures.sendMessage();
+    private final ObjectWriter sendMessageWriter = ObjectMapperRegistry.getDefault().getWriter(SendMessage.class);
+    private final String chatId = Long.toString(Fixtures.GROUP_CHAT_ID);
+    private MessageTemplate<Message> sendMessageTemplate;
+    private byte[] photo;
+    private LocalBotApiServer server;
+    private BenchmarkSender sender;
+
+    @Setup
+    public void setUp() throws IOException, TelegramApiValidationException {
+        sendMessageTemplate = MessageTemplate.of(sendMessage);
+        photo = Fixtures.photo(photoSize);
+        server = new LocalBotApiServer()
+                .respond("sendMessage", Fixtures.messageResponse())
+                .respond("sendMediaGroup", Fixtures.mediaGroupResponse());
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl(server.getBaseUrl());
+        sender = new BenchmarkSender(options);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String serializeSendMessage() throws JsonProcessingException {
+        return sendMessageWriter.writeValueAsString(sendMessage);
+    }
+
+    @Benchmark
+    public byte[] templateSendMessage() {
+        return sendMessageTemplate.body(chatId);
+    }
+
+    @Benchmark
+    public Message executeSendMessage() throws TelegramApiException {
+        return sender.execute(sendMessage);
+    }
+
+    @Benchmark
+    public Message executeSendMessageTemplate() throws TelegramApiException {
+        return sender.execute(sendMessageTemplate, chatId);
+    }
+
+    /**
+     * Includes building the album, its upload stream can only be read once
+     */
+    @Benchmark
+    public List<Message> executeSendMediaGroup() throws TelegramApiException {
+        return sender.execute(Fixtures.sendMediaGroup(photo));
+    }
+
+    private static final class BenchmarkSender extends DefaultAbsSender {
+        private BenchmarkSender(DefaultBotOptions options) {
+            super(options, "123456:BENCHMARK");
+        }
+
+        private void close() {
+            exe.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.extensions.bots.commandbot.commands.CommandRegistry;
+import org.telegram.telegrambots.extensions.bots.commandbot.commands.IBotCommand;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CommandRegistry#executeCommand(AbsSender, Message)} with commands addressed to the bot by username, as
+ * sent in groups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CommandRegistryBenchmark {
+    @Param({"10", "100"})
+    public int commands;
+
+    private CommandRegistry registry;
+    private Message command;
+    private Message unknownCommand;
+    private int executed;
+
+    @Setup
+    public void setUp() {
+        registry = new CommandRegistry(true, () -> Fixtures.BOT_USERNAME);
+        for (int i = 0; i < commands; i++) {
+            registry.register(new CountingCommand("command" + i));
+        }
+        registry.registerDefaultAction((sender, message) -> executed++);
+        command = Fixtures.textUpdate(1, 1000, "/command" + (commands / 2) + "@" + Fixtures.BOT_USERNAME + " tomorrow 9:00")
+                .getMessage();
+        unknownCommand = Fixtures.textUpdate(2, 1000, "/unknown@" + Fixtures.BOT_USERNAME).getMessage();
+    }
+
+    @Benchmark
+    public int executeCommand() {
+        registry.executeCommand(null, command);
+        return executed;
+    }
+
+    @Benchmark
+    public int executeDefaultAction() {
+        registry.executeCommand(null, unknownCommand);
+        return executed;
+    }
+
+    private final class CountingCommand implements IBotCommand {
+        private final String identifier;
+
+        private CountingCommand(String identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public String getCommandIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public String getDescription() {
+            return "benchmark command";
+        }
+
+        @Override
+        public void processMessage(AbsSender absSender, Message message, String[] arguments) {
+            executed++;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.EntityType;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.media.InputMedia;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaPhoto;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Payloads shaped like the ones sent by the Bot API, generated from a fixed seed so every run measures the same data.
+ */
+public final class Fixtures {
+    public static final String BOT_USERNAME = "benchmark_bot";
+    public static final long CREATOR_ID = 1L;
+    public static final long GROUP_CHAT_ID = -1001556359722L;
+
+    private static final long SEED = 42L;
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carla", "Dmitri", "Eunji", "Farid", "Günther", "Héloïse"};
+    private static final String[] WORDS = {"hello", "the", "meeting", "is", "moved", "to", "tomorrow", "please", "check",
+            "this", "link", "thanks", "👍", "sounds", "good", "who", "can", "join", "photo", "later"};
+    private static final String[] COMMANDS = {"start", "help", "settings", "stats", "remind"};
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param count Number of updates
+     * @return Response of getUpdates: mostly group messages with entities, then private messages, callback queries,
+     * captioned photos and edited messages
+     */
+    public static String getUpdatesResponse(int count) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"ok\":true,\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(randomUpdate(random, 100_000 + i));
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * @return Updates of the {@link #getUpdatesResponse(int)} with the same count
+     */
+    public static List<Update> getUpdates(int count) {
+        try {
+            return ObjectMapperRegistry.getDefault().getObjectMapper().readerForListOf(Update.class)
+                    .readValue(ObjectMapperRegistry.getDefault().getObjectMapper()
+                            .readTree(getUpdatesResponse(count)).get("result"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Group message update with the given text, sent by the given user
+     */
+    public static Update textUpdate(int updateId, long userId, String text) {
+        return readUpdate(messageUpdate(updateId, userId, GROUP_CHAT_ID, "supergroup", text, entities(text)));
+    }
+
+    /**
+     * @return Response of getChatAdministrators with an owner and administrators
+     */
+    public static String getChatAdministratorsResponse(int count) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"ok\":true,\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"user\":").append(user(random, 5000 + i));
+            if (i == 0) {
+                json.append(",\"status\":\"creator\",\"is_anonymous\":false}");
+            } else {
+                json.append(",\"status\":\"administrator\",\"can_be_edited\":false,\"is_anonymous\":false,")
+                        .append("\"can_manage_chat\":true,\"can_delete_messages\":true,\"can_manage_video_chats\":true,")
+                        .append("\"can_restrict_members\":").append(random.nextBoolean())
+                        .append(",\"can_promote_members\":false,\"can_change_info\":").append(random.nextBoolean())
+                        .append(",\"can_invite_users\":true,\"can_pin_messages\":true,\"can_manage_topics\":false,")
+                        .append("\"custom_title\":\"mod ").append(i).append("\"}");
+            }
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * @return Update of a member promoted in the group
+     */
+    public static String chatMemberUpdate() {
+        Random random = new Random(SEED);
+        return "{\"update_id\":200000,\"chat_member\":{\"chat\":" + groupChat() + ",\"from\":" + user(random, 5000)
+                + ",\"date\":1687000000,\"old_chat_member\":{\"user\":" + user(random, 5001) + ",\"status\":\"member\"},"
+                + "\"new_chat_member\":{\"user\":" + user(random, 5001) + ",\"status\":\"administrator\","
+                + "\"can_be_edited\":true,\"is_anonymous\":false,\"can_manage_chat\":true,\"can_delete_messages\":true,"
+                + "\"can_manage_video_chats\":false,\"can_restrict_members\":false,\"can_promote_members\":false,"
+                + "\"can_change_info\":false,\"can_invite_users\":true,\"can_pin_messages\":true}}}";
+    }
+
+    /**
+     * @return Formatted message with an inline keyboard, as sent in answer to a command
+     */
+    public static SendMessage sendMessage() {
+        List<List<InlineKeyboardButton>> rows = new ArrayList<>();
+        for (int row = 0; row < 2; row++) {
+            List<InlineKeyboardButton> buttons = new ArrayList<>();
+            for (int column = 0; column < 3; column++) {
+                buttons.add(InlineKeyboardButton.builder()
+                        .text("Option " + (row * 3 + column))
+                        .callbackData("settings:" + row + ":" + column)
+                        .build());
+            }
+            rows.add(buttons);
+        }
+        return SendMessage.builder()
+                .chatId(GROUP_CHAT_ID)
+                .text("Settings of *Benchmark group*\nPick the reminders you want to receive, they are sent at 9:00 ⏰")
+                .parseMode("MarkdownV2")
+                .replyToMessageId(1234)
+                .allowSendingWithoutReply(true)
+                .replyMarkup(InlineKeyboardMarkup.builder().keyboard(rows).build())
+                .build();
+    }
+
+    /**
+     * @param upload Content of the photo uploaded with the album, the others are sent by file id
+     * @return Album of four photos
+     */
+    public static SendMediaGroup sendMediaGroup(byte[] upload) {
+        List<InputMedia> medias = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            medias.add(InputMediaPhoto.builder()
+                    .media("AgACAgIAAxkBAAIBZ2SZ" + i + "kLmN0pQrStUvWxYz1234567890abcdefAAQ")
+                    .caption(i == 0 ? "Photos of the meeting" : null)
+                    .build());
+        }
+        InputMediaPhoto uploaded = new InputMediaPhoto();
+        uploaded.setMedia(new ByteArrayInputStream(upload), "whiteboard.jpg");
+        medias.add(uploaded);
+        return SendMediaGroup.builder()
+                .chatId(GROUP_CHAT_ID)
+                .medias(medias)
+                .build();
+    }
+
+    /**
+     * @return Content of a photo of the given size, the same on every run
+     */
+    public static byte[] photo(int size) {
+        byte[] photo = new byte[size];
+        new Random(SEED).nextBytes(photo);
+        return photo;
+    }
+
+    /**
+     * @return Result of sendMessage
+     */
+    public static String messageResponse() {
+        return "{\"ok\":true,\"result\":" + message(new Random(SEED), 1235, 5000, GROUP_CHAT_ID, "supergroup", "Done", "[]") + "}";
+    }
+
+    /**
+     * @return Result of sendMediaGroup for an album of four photos
+     */
+    public static String mediaGroupResponse() {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"ok\":true,\"result\":[");
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"message_id\":").append(1236 + i).append(",\"from\":").append(user(random, 5000))
+                    .append(",\"chat\":").append(groupChat()).append(",\"date\":1687000000,")
+                    .append("\"media_group_id\":\"13475866190000000\",\"photo\":").append(photoSizes(random)).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String randomUpdate(Random random, int updateId) {
+        int kind = random.nextInt(100);
+        long userId = 1000 + random.nextInt(FIRST_NAMES.length * 4);
+        if (kind < 60) {
+            String text = randomText(random);
+            return messageUpdate(updateId, userId, GROUP_CHAT_ID, "supergroup", text, entities(text), random);
+        } else if (kind < 75) {
+            String text = randomText(random);
+            return messageUpdate(updateId, userId, userId, "private", text, entities(text), random);
+        } else if (kind < 85) {
+            return "{\"update_id\":" + updateId + ",\"callback_query\":{\"id\":\"" + (4_000_000_000_000L + updateId)
+                    + "\",\"from\":" + user(random, userId) + ",\"message\":"
+                    + message(random, updateId, 5000, GROUP_CHAT_ID, "supergroup", "Pick an option", "[]")
+                    + ",\"chat_instance\":\"-7290153480153298\",\"data\":\"settings:" + random.nextInt(2) + ":"
+                    + random.nextInt(3) + "\"}}";
+        } else if (kind < 95) {
+            return "{\"update_id\":" + updateId + ",\"message\":{\"message_id\":" + updateId + ",\"from\":"
+                    + user(random, userId) + ",\"chat\":" + groupChat() + ",\"date\":" + (1687000000 + updateId)
+                    + ",\"photo\":" + photoSizes(random) + ",\"caption\":\"" + randomText(random) + "\"}}";
+        } else {
+            String text = randomText(random);
+            return "{\"update_id\":" + updateId + ",\"edited_message\":"
+                    + message(random, updateId - 10, userId, GROUP_CHAT_ID, "supergroup", text, entities(text))
+                    .replace("\"date\":", "\"edit_date\":" + (1687000100 + updateId) + ",\"date\":") + "}";
+        }
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        if (random.nextInt(4) == 0) {
+            text.append('/').append(COMMANDS[random.nextInt(COMMANDS.length)]);
+            if (random.nextBoolean()) {
+                text.append('@').append(BOT_USERNAME);
+            }
+        }
+        int words = 2 + random.nextInt(12);
+        for (int i = 0; i < words; i++) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            if (random.nextInt(15) == 0) {
+                text.append('@').append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)].toLowerCase());
+            } else {
+                text.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return JSON array of the bot command and mention entities of the text
+     */
+    private static String entities(String text) {
+        StringBuilder json = new StringBuilder("[");
+        int offset = 0;
+        for (String word : text.split(" ")) {
+            String type = word.startsWith("/") ? EntityType.BOTCOMMAND : word.startsWith("@") ? EntityType.MENTION : null;
+            if (type != null) {
+                if (json.length() > 1) {
+                    json.append(',');
+                }
+                json.append("{\"offset\":").append(offset).append(",\"length\":").append(word.length())
+                        .append(",\"type\":\"").append(type).append("\"}");
+            }
+            offset += word.length() + 1;
+        }
+        return json.append(']').toString();
+    }
+
+    private static String messageUpdate(int updateId, long userId, long chatId, String chatType, String text,
+                                        String entities) {
+        return messageUpdate(updateId, userId, chatId, chatType, text, entities, new Random(SEED));
+    }
+
+    private static String messageUpdate(int updateId, long userId, long chatId, String chatType, String text,
+                                        String entities, Random random) {
+        return "{\"update_id\":" + updateId + ",\"message\":"
+                + message(random, updateId, userId, chatId, chatType, text, entities) + "}";
+    }
+
+    private static String message(Random random, int messageId, long userId, long chatId, String chatType,
+                                  String text, String entities) {
+        String chat = "private".equals(chatType) ? "{\"id\":" + chatId + ",\"first_name\":\"" + firstName(userId)
+                + "\",\"username\":\"" + username(userId) + "\",\"type\":\"private\"}" : groupChat();
+        return "{\"message_id\":" + messageId + ",\"from\":" + user(random, userId) + ",\"chat\":" + chat
+                + ",\"date\":" + (1687000000 + messageId) + ",\"text\":\"" + text + "\""
+                + ("[]".equals(entities) ? "" : ",\"entities\":" + entities) + "}";
+    }
+
+    private static String user(Random random, long userId) {
+        return "{\"id\":" + userId + ",\"is_bot\":" + (userId == 5000) + ",\"first_name\":\"" + firstName(userId)
+                + "\",\"username\":\"" + username(userId) + "\",\"language_code\":\""
+                + (random.nextInt(3) == 0 ? "de" : "en") + "\"}";
+    }
+
+    private static String groupChat() {
+        return "{\"id\":" + GROUP_CHAT_ID + ",\"title\":\"Benchmark group\",\"username\":\"benchmark_group\","
+                + "\"type\":\"supergroup\"}";
+    }
+
+    private static String photoSizes(Random random) {
+        List<String> sizes = new ArrayList<>();
+        for (int[] size : Arrays.asList(new int[]{90, 67}, new int[]{320, 240}, new int[]{800, 600}, new int[]{1280, 960})) {
+            sizes.add("{\"file_id\":\"AgACAgIAAxkBAAIBZ2SZ" + random.nextInt(1_000_000) + "\",\"file_unique_id\":\"AQAD"
+                    + random.nextInt(1_000_000) + "\",\"file_size\":" + (size[0] * size[1] / 8) + ",\"width\":" + size[0]
+                    + ",\"height\":" + size[1] + "}");
+        }
+        return "[" + String.join(",", sizes) + "]";
+    }
+
+    private static String firstName(long userId) {
+        return userId == 5000 ? "Benchmark" : FIRST_NAMES[(int) (userId % FIRST_NAMES.length)];
+    }
+
+    private static String username(long userId) {
+        return userId == 5000 ? BOT_USERNAME : firstName(userId).toLowerCase() + userId;
+    }
+
+    /**
+     * Deletes a temporary directory of a benchmark and its content
+     */
+    public static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static Update readUpdate(String json) {
+        try {
+            return ObjectMapperRegistry.getDefault().getUpdateReader().readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.abilitybots.api.bot.AbilityBot;
+import org.telegram.abilitybots.api.bot.CommitPolicy;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.db.MapDBContext;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AbilityBot#onUpdateReceived(Update)} of a bot storing its users in a transactional {@link MapDBContext} on
+ * the disk, committed once per update or once for many updates. The updates come from many users, so each one writes
+ * to the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+    private static final int USERS = 1024;
+
+    /**
+     * Number of updates committed together, see {@link CommitPolicy#everyUpdates(int)}
+     */
+    @Param({"1", "10", "100"})
+    public int commitEvery;
+
+    private Path dbDirectory;
+    private DBContext db;
+    private CommitBot bot;
+    private Update[] updates;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        dbDirectory = Files.createTempDirectory("commit-benchmark");
+        db = MapDBContext.offlineInstance(dbDirectory.resolve("db").toString());
+        bot = new CommitBot(db, commitEvery);
+        bot.onRegister();
+        updates = new Update[USERS];
+        for (int i = 0; i < USERS; i++) {
+            updates[i] = Fixtures.textUpdate(i, 1000 + i, "hello everyone, the meeting is moved to tomorrow");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bot.onClosing();
+        bot.close();
+        db.close();
+        Fixtures.delete(dbDirectory);
+    }
+
+    @Benchmark
+    public int unhandledText() {
+        Update update = updates[next++ & USERS - 1];
+        // A user whose name changed, so the bot stores it again
+        update.getMessage().getFrom().setFirstName(Integer.toString(next));
+        bot.onUpdateReceived(update);
+        return bot.uncommittedUpdates();
+    }
+
+    public static final class CommitBot extends AbilityBot {
+        private final int commitEvery;
+
+        private CommitBot(DBContext db, int commitEvery) {
+            super("123456:BENCHMARK", Fixtures.BOT_USERNAME, db);
+            this.commitEvery = commitEvery;
+        }
+
+        @Override
+        public long creatorId() {
+            return Fixtures.CREATOR_ID;
+        }
+
+        @Override
+        protected CommitPolicy commitPolicy() {
+            return CommitPolicy.everyUpdates(commitEvery);
+        }
+
+        private void close() {
+            exe.shutdownNow();
+        }
+    }
+}
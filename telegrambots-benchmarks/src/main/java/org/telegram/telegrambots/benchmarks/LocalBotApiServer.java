@@ -0,0 +1,72 @@
+package org.telegram.telegrambots.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Bot API stand-in on the loopback interface answering every method with a fixed response, so requests go through
+ * the real HTTP client without depending on the network.
+ */
+final class LocalBotApiServer implements AutoCloseable {
+    private static final byte[] NOT_FOUND = "{\"ok\":false,\"error_code\":404,\"description\":\"Not Found\"}".getBytes(UTF_8);
+
+    private final Map<String, byte[]> responses = new HashMap<>();
+    private final HttpServer server;
+
+    LocalBotApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * @param method Name of the method, e.g. sendMessage, the case is ignored like the Bot API does
+     * @param response JSON body answered to the method
+     */
+    LocalBotApiServer respond(String method, String response) {
+        responses.put(method.toLowerCase(Locale.ROOT), response.getBytes(UTF_8));
+        return this;
+    }
+
+    /**
+     * @return Base url to set in the bot options
+     */
+    String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/bot";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream body = exchange.getRequestBody()) {
+            while (body.read(buffer) != -1) {
+                // The request is only read
+            }
+        }
+        String path = exchange.getRequestURI().getPath();
+        byte[] response = responses.get(path.substring(path.lastIndexOf('/') + 1).toLowerCase(Locale.ROOT));
+        if (response == null) {
+            response = NOT_FOUND;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response == NOT_FOUND ? 404 : 200, response.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(response);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.db.MapDBContext;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link MapDBContext} operations done by an ability bot for each update: looking up and storing its user,
+ * checking the blacklist, then committing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapDBContextBenchmark {
+    private static final String USERS = "USERS";
+    private static final String BLACKLIST = "BLACKLIST";
+
+    /**
+     * Number of users already stored
+     */
+    @Param({"1000"})
+    public int users;
+
+    private Path dbDirectory;
+    private DBContext db;
+    private User user;
+    private long nextId;
+
+    @Setup
+    public void setUp() throws IOException {
+        dbDirectory = Files.createTempDirectory("mapdb-benchmark");
+        db = MapDBContext.offlineInstance(dbDirectory.resolve("db").toString());
+        Map<Long, User> userMap = db.getMap(USERS);
+        for (long id = 0; id < users; id++) {
+            userMap.put(id, new User(id, "User " + id, false));
+        }
+        db.<Long>getSet(BLACKLIST).add(-1L);
+        db.commit();
+        user = new User(users / 2L, "User " + users / 2, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        db.close();
+        Fixtures.delete(dbDirectory);
+    }
+
+    @Benchmark
+    public User getUser() {
+        return db.<Long, User>getMap(USERS).get(user.getId());
+    }
+
+    @Benchmark
+    public boolean checkBlacklist() {
+        Set<Long> blacklist = db.getSet(BLACKLIST);
+        return blacklist.contains(user.getId());
+    }
+
+    /**
+     * Storing a known user again, then committing, as done for every update
+     */
+    @Benchmark
+    public User putUserAndCommit() {
+        User previous = db.<Long, User>getMap(USERS).put(user.getId(), user);
+        db.commit();
+        return previous;
+    }
+
+    /**
+     * Storing a new user, so the map grows over the run
+     */
+    @Benchmark
+    public User putNewUser() {
+        long id = users + nextId++;
+        return db.<Long, User>getMap(USERS).put(id, new User(id, "User " + id, false));
+    }
+}
@@ -0,0 +1,60 @@
+package org.telegram.telegrambots.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatAdministrators;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMember;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Objects whose type is picked from their fields by a custom deserializer, here {@link ChatMember}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PolymorphicDeserializationBenchmark {
+    @Param({"5", "50"})
+    public int administrators;
+
+    private final GetChatAdministrators getChatAdministrators = GetChatAdministrators.builder()
+            .chatId(Fixtures.GROUP_CHAT_ID)
+            .build();
+    private final ObjectReader updateReader = ObjectMapperRegistry.getDefault().getUpdateReader();
+    private String administratorsResponse;
+    private String chatMemberUpdate;
+
+    @Setup
+    public void setUp() {
+        administratorsResponse = Fixtures.getChatAdministratorsResponse(administrators);
+        chatMemberUpdate = Fixtures.chatMemberUpdate();
+    }
+
+    @Benchmark
+    public List<ChatMember> getChatAdministrators() throws TelegramApiRequestException {
+        return getChatAdministrators.deserializeResponse(administratorsResponse);
+    }
+
+    @Benchmark
+    public Update chatMemberUpdate() throws IOException {
+        return updateReader.readValue(chatMemberUpdate);
+    }
+}
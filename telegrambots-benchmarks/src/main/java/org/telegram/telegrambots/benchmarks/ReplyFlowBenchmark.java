@@ -0,0 +1,134 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.mapdb.DBMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.abilitybots.api.bot.AbilityBot;
+import org.telegram.abilitybots.api.db.DBContext;
+import org.telegram.abilitybots.api.db.MapDBContext;
+import org.telegram.abilitybots.api.objects.Reply;
+import org.telegram.abilitybots.api.objects.ReplyCollection;
+import org.telegram.abilitybots.api.objects.ReplyFlow;
+import org.telegram.abilitybots.api.util.AbilityExtension;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.telegram.abilitybots.api.objects.Flag.CALLBACK_QUERY;
+import static org.telegram.abilitybots.api.objects.Flag.TEXT;
+import static org.telegram.abilitybots.api.objects.ReplyFlow.ReplyFlowBuilder.STATES;
+import static org.telegram.abilitybots.api.util.AbilityUtils.getChatId;
+
+/**
+ * {@link AbilityBot#onUpdateReceived(Update)} of a bot with many two step {@link ReplyFlow}s, started by a button
+ * and answered by a text message. The database is in memory, so that its commits don't hide the reply matching.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ReplyFlowBenchmark {
+    @Param({"10", "100", "1000"})
+    public int flows;
+
+    private DBContext db;
+    private FlowBot bot;
+    private Map<Long, Integer> states;
+    private Update answer;
+    private long chatId;
+
+    @Setup
+    public void setUp() {
+        db = new MapDBContext(DBMaker.memoryDB().make());
+        bot = new FlowBot(db, flows);
+        bot.onRegister();
+        states = db.getMap(STATES);
+        answer = Fixtures.textUpdate(1, 1000, "my answer to the question");
+        chatId = getChatId(answer);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bot.close();
+        db.close();
+    }
+
+    /**
+     * A text message in a chat waiting for the answer of the flow in the middle
+     */
+    @Benchmark
+    public int answerInFlow() {
+        // Answering the flow ends it
+        states.put(chatId, flows / 2);
+        bot.onUpdateReceived(answer);
+        return bot.answers;
+    }
+
+    /**
+     * The same text message in a chat in no flow
+     */
+    @Benchmark
+    public int textOutOfFlow() {
+        bot.onUpdateReceived(answer);
+        return bot.answers;
+    }
+
+    public static final class FlowBot extends AbilityBot {
+        private int answers;
+
+        private FlowBot(DBContext db, int flows) {
+            super("123456:BENCHMARK", Fixtures.BOT_USERNAME, db);
+            List<Reply> replies = new ArrayList<>();
+            for (int i = 0; i < flows; i++) {
+                String button = "question" + i;
+                ReplyFlow flow = ReplyFlow.builder(db, i)
+                        .onlyIf(CALLBACK_QUERY)
+                        .onlyIf(update -> button.equals(update.getCallbackQuery().getData()))
+                        .next(Reply.of((bot, update) -> answers++, TEXT))
+                        .build();
+                flow.stream().forEach(replies::add);
+            }
+            addExtension(new FlowExtension(new ReplyCollection(replies)));
+        }
+
+        @Override
+        public long creatorId() {
+            return Fixtures.CREATOR_ID;
+        }
+
+        private void close() {
+            exe.shutdownNow();
+        }
+    }
+
+    /**
+     * Registered through reflection, so it has to be public
+     */
+    public static final class FlowExtension implements AbilityExtension {
+        private final ReplyCollection replies;
+
+        private FlowExtension(ReplyCollection replies) {
+            this.replies = replies;
+        }
+
+        public ReplyCollection replies() {
+            return replies;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.bots.TelegramWebhookBot;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.updatesreceivers.ServerlessWebhook;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * What a function pays on cold start: {@link ServerlessWebhook#prewarm()}, the registration of a bot and its first
+ * update, measured once in each of many fresh forks. Nothing of the library is loaded before the measured call.
+ * <p>
+ * A fork fails when its cold start exceeds the target budget, 1500 ms unless set with the
+ * {@value #BUDGET_PROPERTY} system property, i.e. {@code -jvmArgsAppend -Dtelegrambots.coldStartBudgetMillis=800}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ServerlessColdStartBenchmark {
+    static final String BUDGET_PROPERTY = "telegrambots.coldStartBudgetMillis";
+    private static final long BUDGET_MILLIS = Long.getLong(BUDGET_PROPERTY, 1500);
+    private static final byte[] UPDATE = ("{\"update_id\":10,\"message\":{\"message_id\":1,\"date\":1,"
+            + "\"chat\":{\"id\":42,\"type\":\"private\"},\"from\":{\"id\":42,\"is_bot\":false,\"first_name\":\"Test\"},"
+            + "\"text\":\"/start\"}}").getBytes(UTF_8);
+
+    private long coldStartNanos;
+
+    @Benchmark
+    public byte[] firstUpdate() throws Exception {
+        long started = System.nanoTime();
+        ServerlessWebhook.prewarm();
+        ServerlessWebhook webhook = new ServerlessWebhook();
+        webhook.registerWebhook(new EchoBot(), "secret");
+        byte[] response = webhook.writeResponseBody(webhook.updateReceived("echo", "secret", UPDATE));
+        coldStartNanos = System.nanoTime() - started;
+        return response;
+    }
+
+    @TearDown
+    public void checkBudget() {
+        long coldStartMillis = TimeUnit.NANOSECONDS.toMillis(coldStartNanos);
+        if (coldStartMillis > BUDGET_MILLIS) {
+            throw new IllegalStateException(String.format("Cold start took %d ms, over the budget of %d ms",
+                    coldStartMillis, BUDGET_MILLIS));
+        }
+    }
+
+    private static class EchoBot extends TelegramWebhookBot {
+        private EchoBot() {
+            super("TOKEN");
+        }
+
+        @Override
+        public BotApiMethod<?> onWebhookUpdateReceived(Update update) {
+            return SendMessage.builder()
+                    .chatId(update.getMessage().getChatId().toString())
+                    .text(update.getMessage().getText())
+                    .build();
+        }
+
+        @Override
+        public String getBotUsername() {
+            return Fixtures.BOT_USERNAME;
+        }
+
+        @Override
+        public String getBotPath() {
+            return "echo";
+        }
+    }
+}
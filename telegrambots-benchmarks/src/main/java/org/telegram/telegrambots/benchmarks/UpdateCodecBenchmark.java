@@ -0,0 +1,115 @@
+package org.telegram.telegrambots.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.api.objects.serialization.UpdateCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of message updates encoded, then encoded and decoded back, by {@link UpdateCodec}, JSON and Java
+ * serialization. Add <code>-prof gc</code> to compare the allocations. The size of the batch in each format is
+ * printed once per fork, before the warmup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UpdateCodecBenchmark {
+    private static final String UPDATE = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"date\":1604154223,"
+            + "\"from\":{\"id\":%d,\"is_bot\":false,\"first_name\":\"User %d\",\"username\":\"user%d\",\"language_code\":\"en\"},"
+            + "\"chat\":{\"id\":%d,\"title\":\"Benchmark group\",\"type\":\"supergroup\"},"
+            + "\"text\":\"/start@%s some arguments\",\"entities\":[{\"offset\":0,\"length\":20,\"type\":\"bot_command\"}]}}";
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private List<Update> updates;
+    private UpdateCodec codec;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapperRegistry registry = ObjectMapperRegistry.getDefault();
+        reader = registry.getObjectMapper().readerForListOf(Update.class);
+        writer = registry.getWriter();
+        updates = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            // A handful of users talking in the same group
+            int user = i % 5;
+            updates.add(registry.getUpdateReader().readValue(String.format(UPDATE, i, i, 1000 + user, user, user,
+                    Fixtures.GROUP_CHAT_ID, Fixtures.BOT_USERNAME)));
+        }
+        codec = new UpdateCodec();
+        System.out.printf("%nEncoded sizes of %d updates: codec %d bytes, JSON %d bytes, Java serialization %d bytes%n",
+                batchSize, codec.encodeAll(updates).length, writer.writeValueAsBytes(updates).length,
+                serialize(updates).length);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() throws IOException {
+        return codec.encodeAll(updates);
+    }
+
+    @Benchmark
+    public List<Update> codecRoundTrip() throws IOException {
+        return codec.decodeAll(codec.encodeAll(updates));
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return writer.writeValueAsBytes(updates);
+    }
+
+    @Benchmark
+    public List<Update> jsonRoundTrip() throws IOException {
+        return reader.readValue(writer.writeValueAsBytes(updates));
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        return serialize(updates);
+    }
+
+    @Benchmark
+    public Object javaSerializationRoundTrip() throws IOException, ClassNotFoundException {
+        return deserialize(serialize(updates));
+    }
+
+    private static byte[] serialize(List<Update> updates) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(new ArrayList<>(updates));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        }
+    }
+}
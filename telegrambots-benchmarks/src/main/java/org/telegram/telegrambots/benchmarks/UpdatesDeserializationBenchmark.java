@@ -0,0 +1,59 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+import org.telegram.telegrambots.meta.api.objects.LazyUpdate;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reading a getUpdates response, as done by the long polling session for every batch of updates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UpdatesDeserializationBenchmark {
+    @Param({"1", "100"})
+    public int updates;
+
+    private final GetUpdates getUpdates = new GetUpdates();
+    private String response;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() {
+        response = Fixtures.getUpdatesResponse(updates);
+        responseBytes = response.getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public List<Update> getUpdates() throws TelegramApiRequestException {
+        return getUpdates.deserializeResponse(response);
+    }
+
+    /**
+     * Only indexes the updates, the way {@link org.telegram.telegrambots.bots.DefaultBotOptions#setLazyUpdates} does
+     */
+    @Benchmark
+    public List<LazyUpdate> lazyUpdates() throws TelegramApiRequestException {
+        return LazyUpdate.parseList(responseBytes);
+    }
+}
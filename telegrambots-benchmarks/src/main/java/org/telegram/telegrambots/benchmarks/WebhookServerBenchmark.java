@@ -0,0 +1,135 @@
+package org.telegram.telegrambots.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.Webhook;
+import org.telegram.telegrambots.meta.generics.WebhookBot;
+import org.telegram.telegrambots.updatesreceivers.DefaultWebhook;
+import org.telegram.telegrambots.updatesreceivers.LightweightWebhook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An update posted to {@link DefaultWebhook} and {@link LightweightWebhook} by eight clients over keep-alive
+ * connections, answered with a method in the response. The sample time mode reports the percentiles of the latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+@State(Scope.Benchmark)
+public class WebhookServerBenchmark {
+    private static final byte[] UPDATE = ("{\"update_id\":10,\"message\":{\"message_id\":1,\"date\":1,"
+            + "\"chat\":{\"id\":42,\"type\":\"private\"},\"from\":{\"id\":42,\"is_bot\":false,\"first_name\":\"Test\"},"
+            + "\"text\":\"/start\"}}").getBytes(UTF_8);
+
+    @Param({"default", "lightweight"})
+    public String server;
+
+    private Webhook webhook;
+    private URL url;
+
+    @Setup
+    public void setUp() throws Exception {
+        int port = freePort();
+        webhook = "default".equals(server) ? new DefaultWebhook() : new LightweightWebhook();
+        webhook.setInternalUrl("http://127.0.0.1:" + port);
+        EchoBot bot = new EchoBot();
+        webhook.registerWebhook(bot);
+        webhook.startServer();
+        url = new URL("http://127.0.0.1:" + port + "/callback/" + bot.getBotPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        // DefaultWebhook can't be stopped, its server ends with the fork
+        if (webhook instanceof LightweightWebhook) {
+            ((LightweightWebhook) webhook).stopServer();
+        }
+    }
+
+    @Benchmark
+    public int postUpdate() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setDoOutput(true);
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(UPDATE);
+        }
+        // Fully reading the response returns the connection to the keep-alive cache
+        int length = 0;
+        try (InputStream input = connection.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                length += read;
+            }
+        }
+        if (connection.getResponseCode() != 200) {
+            throw new IOException("Unexpected status " + connection.getResponseCode());
+        }
+        return length;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class EchoBot implements WebhookBot {
+        @Override
+        public BotApiMethod<?> onWebhookUpdateReceived(Update update) {
+            return SendMessage.builder()
+                    .chatId(update.getMessage().getChatId())
+                    .text(update.getMessage().getText())
+                    .build();
+        }
+
+        @Override
+        public String getBotUsername() {
+            return Fixtures.BOT_USERNAME;
+        }
+
+        @Override
+        public String getBotToken() {
+            return "123456:BENCHMARK";
+        }
+
+        @Override
+        public void setWebhook(SetWebhook setWebhook) throws TelegramApiException {
+        }
+
+        @Override
+        public String getBotPath() {
+            return "benchmark";
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.UpdateType;
 
 import java.util.Optional;
 
@@ -73,14 +74,17 @@ public abstract class TelegramLongPollingSessionBot extends TelegramLongPollingB
     public void onUpdateReceived(Update update) {
         Optional<Session> chatSession;
         Message message;
-        if (update.hasMessage()) {
-            message = update.getMessage();
-        } else if (update.hasCallbackQuery()) {
-            message = update.getCallbackQuery().getMessage();
-        } else {
-            chatSession = Optional.empty();
-            onUpdateReceived(update, chatSession);
-            return;
+        switch (UpdateType.of(update)) {
+            case MESSAGE:
+                message = update.getMessage();
+                break;
+            case CALLBACK_QUERY:
+                message = update.getCallbackQuery().getMessage();
+                break;
+            default:
+                chatSession = Optional.empty();
+                onUpdateReceived(update, chatSession);
+                return;
         }
         chatIdConverter.setSessionId(message.getChatId());
         chatSession = this.getSession(message);
@@ -95,7 +95,7 @@ public class TelegramBotsApi {
                 throw new TelegramApiException("Bot token and username can't be empty");
             }
             bot.onRegister();
-            webhook.registerWebhook(bot);
+            webhook.registerWebhook(bot, setWebhook.getSecretToken());
             bot.setWebhook(setWebhook);
         }
     }
@@ -0,0 +1,276 @@
+package org.telegram.telegrambots.meta.api.methods;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A method serialized once, to be sent to many chats. The request body of each recipient is spliced from the bytes
+ * of the template and the escaped chat id, instead of serializing the whole method again with its keyboard.
+ * <p>
+ * The text of the method can contain placeholders such as {@code {name}}, replaced by a value per recipient:
+ * <pre>
+ * MessageTemplate&lt;Message&gt; template = MessageTemplate.of(sendMessage, "name");
+ * byte[] body = template.body("1234", Collections.singletonMap("name", "Alice"));
+ * </pre>
+ * Values are escaped for the parse mode of the method (HTML, Markdown or MarkdownV2), so they are shown as they are.
+ * The offsets of entities would change with the values, so a text with entities can't have placeholders.
+ * <p>
+ * The method is validated when the template is created, later changes to it are not seen by the template.
+ * @param <T> Type of the result of the method
+ */
+public final class MessageTemplate<T extends Serializable> {
+    private static final String CHAT_ID_FIELD = "chat_id";
+    private static final String TEXT_FIELD = "text";
+    private static final String PARSE_MODE_FIELD = "parse_mode";
+    private static final String ENTITIES_FIELD = "entities";
+    /**
+     * Characters escaped with a backslash in the values of the placeholders
+     */
+    private static final String MARKDOWN_SPECIAL_CHARACTERS = "_*`[";
+    private static final String MARKDOWNV2_SPECIAL_CHARACTERS = "_*[]()~`>#+-=|{}.!\\";
+    /**
+     * Slots are written in the template as their index between these private use characters, which Jackson doesn't
+     * escape. Their UTF-8 encodings are EE 80 80 and EE 80 81.
+     */
+    private static final char SLOT_START = '\uE000';
+    private static final char SLOT_END = '\uE001';
+    private static final byte[] SLOT_START_BYTES = {(byte) 0xEE, (byte) 0x80, (byte) 0x80};
+    private static final byte[] SLOT_END_BYTES = {(byte) 0xEE, (byte) 0x80, (byte) 0x81};
+    private static final int CHAT_ID_SLOT = 0;
+
+    private final BotApiMethod<T> method;
+    private final List<String> placeholders;
+    private final String parseMode;
+    /**
+     * Bytes between slots, there is one segment more than slots
+     */
+    private final byte[][] segments;
+    private final int[] slots;
+    private final int segmentsLength;
+
+    private MessageTemplate(BotApiMethod<T> method, List<String> placeholders, String parseMode, byte[][] segments,
+                            int[] slots) {
+        this.method = method;
+        this.placeholders = placeholders;
+        this.parseMode = parseMode;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.segmentsLength = length;
+    }
+
+    /**
+     * Creates a template with the default {@link ObjectMapperRegistry}
+     * @see #of(ObjectMapperRegistry, BotApiMethod, String...)
+     */
+    public static <T extends Serializable> MessageTemplate<T> of(BotApiMethod<T> method, String... placeholders) throws TelegramApiValidationException {
+        return of(ObjectMapperRegistry.getDefault(), method, placeholders);
+    }
+
+    /**
+     * @param registry Registry serializing the method, the one of the bot sending it
+     * @param method Valid method with a chat id, its own chat id is replaced by the one of each recipient
+     * @param placeholders Names of the placeholders of the text, each written {@code {name}} at least once in it
+     * @throws TelegramApiValidationException If the method is not valid
+     * @throws IllegalArgumentException If the method has no chat id, or its text lacks a placeholder or has entities
+     */
+    public static <T extends Serializable> MessageTemplate<T> of(ObjectMapperRegistry registry, BotApiMethod<T> method,
+                                                                String... placeholders) throws TelegramApiValidationException {
+        method.validate();
+        try {
+            byte[] json = registry.getWriter(method.getClass()).writeValueAsBytes(method);
+            if (indexOf(json, SLOT_START_BYTES, 0) != -1) {
+                throw new IllegalArgumentException("Methods containing the U+E000 character can't be templates");
+            }
+            JsonNode tree = registry.getObjectMapper().readTree(json);
+            if (!tree.has(CHAT_ID_FIELD)) {
+                throw new IllegalArgumentException("Method " + method.getMethod() + " has no chat id");
+            }
+            ObjectNode node = (ObjectNode) tree;
+            node.put(CHAT_ID_FIELD, slot(CHAT_ID_SLOT));
+            if (placeholders.length > 0) {
+                if (node.path(ENTITIES_FIELD).size() > 0) {
+                    throw new IllegalArgumentException("Texts with entities can't have placeholders, the values would move them");
+                }
+                String text = node.path(TEXT_FIELD).asText();
+                for (int i = 0; i < placeholders.length; i++) {
+                    String placeholder = "{" + placeholders[i] + "}";
+                    if (!text.contains(placeholder)) {
+                        throw new IllegalArgumentException("Text has no " + placeholder + " placeholder");
+                    }
+                    text = text.replace(placeholder, slot(i + 1));
+                }
+                node.put(TEXT_FIELD, text);
+            }
+            return split(method, Collections.unmodifiableList(new ArrayList<>(Arrays.asList(placeholders))),
+                    node.path(PARSE_MODE_FIELD).asText(null), registry.getObjectMapper().writeValueAsBytes(node));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize " + method.getMethod() + " method", e);
+        }
+    }
+
+    /**
+     * @return Method of the template, used to send the request and read its response
+     */
+    public BotApiMethod<T> getMethod() {
+        return method;
+    }
+
+    public List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * @param chatId Chat id of the recipient
+     * @return Json body of the request for this chat
+     * @throws IllegalArgumentException If the chat id is empty or the template has placeholders
+     */
+    public byte[] body(String chatId) {
+        return body(chatId, Collections.emptyMap());
+    }
+
+    /**
+     * @param chatId Chat id of the recipient
+     * @param values Value of each placeholder for this recipient
+     * @return Json body of the request for this chat
+     * @throws IllegalArgumentException If the chat id is empty or a placeholder has no value
+     */
+    public byte[] body(String chatId, Map<String, String> values) {
+        if (chatId == null || chatId.isEmpty()) {
+            throw new IllegalArgumentException("ChatId parameter can't be empty");
+        }
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        byte[][] slotValues = new byte[placeholders.size() + 1][];
+        slotValues[CHAT_ID_SLOT] = encoder.quoteAsUTF8(chatId);
+        for (int i = 0; i < placeholders.size(); i++) {
+            String value = values.get(placeholders.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value of placeholder " + placeholders.get(i));
+            }
+            slotValues[i + 1] = encoder.quoteAsUTF8(escape(parseMode, value));
+        }
+
+        int length = segmentsLength;
+        for (int slot : slots) {
+            length += slotValues[slot].length;
+        }
+        byte[] body = new byte[length];
+        int position = 0;
+        for (int i = 0; i < slots.length; i++) {
+            System.arraycopy(segments[i], 0, body, position, segments[i].length);
+            position += segments[i].length;
+            byte[] value = slotValues[slots[i]];
+            System.arraycopy(value, 0, body, position, value.length);
+            position += value.length;
+        }
+        byte[] last = segments[slots.length];
+        System.arraycopy(last, 0, body, position, last.length);
+        return body;
+    }
+
+    /**
+     * @return Value shown as is with the parse mode
+     */
+    private static String escape(String parseMode, String value) {
+        if (ParseMode.HTML.equalsIgnoreCase(parseMode)) {
+            return escapeHtml(value);
+        } else if (ParseMode.MARKDOWNV2.equalsIgnoreCase(parseMode)) {
+            return escapeMarkdown(value, MARKDOWNV2_SPECIAL_CHARACTERS);
+        } else if (ParseMode.MARKDOWN.equalsIgnoreCase(parseMode)) {
+            return escapeMarkdown(value, MARKDOWN_SPECIAL_CHARACTERS);
+        }
+        return value;
+    }
+
+    private static String escapeHtml(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String escapeMarkdown(String value, String specialCharacters) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (specialCharacters.indexOf(c) != -1) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String slot(int index) {
+        return SLOT_START + Integer.toString(index) + SLOT_END;
+    }
+
+    private static <T extends Serializable> MessageTemplate<T> split(BotApiMethod<T> method, List<String> placeholders,
+                                                                    String parseMode, byte[] json) {
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int from = 0;
+        for (int start = indexOf(json, SLOT_START_BYTES, 0); start != -1; start = indexOf(json, SLOT_START_BYTES, from)) {
+            int end = indexOf(json, SLOT_END_BYTES, start);
+            segments.add(Arrays.copyOfRange(json, from, start));
+            int slot = 0;
+            for (int i = start + SLOT_START_BYTES.length; i < end; i++) {
+                slot = slot * 10 + (json[i] - '0');
+            }
+            slots.add(slot);
+            from = end + SLOT_END_BYTES.length;
+        }
+        segments.add(Arrays.copyOfRange(json, from, json.length));
+
+        int[] slotIndexes = new int[slots.size()];
+        for (int i = 0; i < slotIndexes.length; i++) {
+            slotIndexes[i] = slots.get(i);
+        }
+        return new MessageTemplate<>(method, placeholders, parseMode, segments.toArray(new byte[0][]), slotIndexes);
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+        for (int i = from; i <= bytes.length - pattern.length; i++) {
+            int j = 0;
+            while (j < pattern.length && bytes[i + j] == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import org.telegram.telegrambots.meta.api.interfaces.Validable;
 import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
 import java.io.IOException;
@@ -20,7 +21,9 @@ import java.util.ArrayList;
  */
 public abstract class PartialBotApiMethod<T extends Serializable> implements Validable {
     @JsonIgnore
-    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    protected static final ObjectMapper OBJECT_MAPPER = ObjectMapperRegistry.getDefault().getObjectMapper();
+    // Registry of the response being deserialized by the current thread, the default one when not set
+    private static final ThreadLocal<ObjectMapperRegistry> RESPONSE_REGISTRY = new ThreadLocal<>();
 
     /**
      * Deserialize a json answer to the response type to a method
@@ -29,25 +32,53 @@ public abstract class PartialBotApiMethod<T extends Serializable> implements Val
      */
     public abstract T deserializeResponse(String answer) throws TelegramApiRequestException;
 
+    /**
+     * Deserialize a json answer to the response type to a method with the mapper of the given registry,
+     * e.g. the one of the bot options
+     * @param answer Json answer received
+     * @param registry Registry whose mapper reads the answer
+     * @return Answer for the method
+     */
+    public T deserializeResponse(String answer, ObjectMapperRegistry registry) throws TelegramApiRequestException {
+        ObjectMapperRegistry previous = RESPONSE_REGISTRY.get();
+        RESPONSE_REGISTRY.set(registry);
+        try {
+            return deserializeResponse(answer);
+        } finally {
+            if (previous == null) {
+                RESPONSE_REGISTRY.remove();
+            } else {
+                RESPONSE_REGISTRY.set(previous);
+            }
+        }
+    }
+
     public T deserializeResponse(String answer, Class<T> returnClass) throws TelegramApiRequestException {
-        JavaType type = OBJECT_MAPPER.getTypeFactory().constructType(returnClass);
+        JavaType type = getResponseRegistry().getObjectMapper().getTypeFactory().constructType(returnClass);
         return deserializeResponseInternal(answer, type);
     }
 
     public <K extends Serializable> T deserializeResponseArray(String answer, Class<K> returnClass) throws TelegramApiRequestException {
-        CollectionType collectionType = OBJECT_MAPPER.getTypeFactory().constructCollectionType(ArrayList.class, returnClass);
+        CollectionType collectionType = getResponseRegistry().getObjectMapper().getTypeFactory().constructCollectionType(ArrayList.class, returnClass);
         return deserializeResponseInternal(answer, collectionType);
     }
 
     protected <K extends Serializable> T deserializeResponseSerializable(String answer, Class<K> returnClass) throws TelegramApiRequestException {
-        JavaType type = OBJECT_MAPPER.getTypeFactory().constructType(returnClass);
+        JavaType type = getResponseRegistry().getObjectMapper().getTypeFactory().constructType(returnClass);
         return deserializeResponseInternal(answer, type);
     }
 
+    /**
+     * @return Registry reading the response being deserialized
+     */
+    protected static ObjectMapperRegistry getResponseRegistry() {
+        ObjectMapperRegistry registry = RESPONSE_REGISTRY.get();
+        return registry == null ? ObjectMapperRegistry.getDefault() : registry;
+    }
+
     private T deserializeResponseInternal(String answer, JavaType type) throws TelegramApiRequestException {
         try {
-            JavaType responseType = OBJECT_MAPPER.getTypeFactory().constructParametricType(ApiResponse.class, type);
-            ApiResponse<T> result = OBJECT_MAPPER.readValue(answer, responseType);
+            ApiResponse<T> result = getResponseRegistry().getResponseReader(type).readValue(answer);
             if (result.getOk()) {
                 return result.getResult();
             } else {
@@ -74,7 +74,7 @@ public class StopMessageLiveLocation extends BotApiMethodSerializable {
     @Override
     public Serializable deserializeResponse(String answer) throws TelegramApiRequestException {
         try {
-            ApiResponse<Message> result = OBJECT_MAPPER.readValue(answer,
+            ApiResponse<Message> result = getResponseRegistry().getObjectMapper().readValue(answer,
                     new TypeReference<ApiResponse<Message>>(){});
             if (result.getOk()) {
                 return result.getResult();
@@ -83,7 +83,7 @@ public class StopMessageLiveLocation extends BotApiMethodSerializable {
             }
         } catch (IOException e) {
             try {
-                ApiResponse<Boolean> result = OBJECT_MAPPER.readValue(answer,
+                ApiResponse<Boolean> result = getResponseRegistry().getObjectMapper().readValue(answer,
                         new TypeReference<ApiResponse<Boolean>>() {
                         });
                 if (result.getOk()) {
@@ -89,7 +89,7 @@ public class EditMessageMedia extends PartialBotApiMethod<Serializable> {
     @Override
     public Serializable deserializeResponse(String answer) throws TelegramApiRequestException {
         try {
-            ApiResponse<Message> result = OBJECT_MAPPER.readValue(answer,
+            ApiResponse<Message> result = getResponseRegistry().getObjectMapper().readValue(answer,
                     new TypeReference<ApiResponse<Message>>(){});
             if (result.getOk()) {
                 return result.getResult();
@@ -98,7 +98,7 @@ public class EditMessageMedia extends PartialBotApiMethod<Serializable> {
             }
         } catch (IOException e) {
             try {
-                ApiResponse<Boolean> result = OBJECT_MAPPER.readValue(answer,
+                ApiResponse<Boolean> result = getResponseRegistry().getObjectMapper().readValue(answer,
                         new TypeReference<ApiResponse<Boolean>>() {
                         });
                 if (result.getOk()) {
@@ -16,6 +16,10 @@ import java.util.List;
 
 /**
  * This object represents a Telegram chat with an user or a group
+ *
+ * When read by a registry with the {@link org.telegram.telegrambots.meta.api.objects.serialization.InterningModule},
+ * the same instance is shared by all the updates it appears in: its setters change it in every one of them, so copy
+ * it before changing it.
  * @author Ruben Bermudez
  * @version 6.1
  */
@@ -0,0 +1,567 @@
+package org.telegram.telegrambots.meta.api.objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.ChosenInlineQuery;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.payments.PreCheckoutQuery;
+import org.telegram.telegrambots.meta.api.objects.payments.ShippingQuery;
+import org.telegram.telegrambots.meta.api.objects.polls.Poll;
+import org.telegram.telegrambots.meta.api.objects.polls.PollAnswer;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Update} that keeps the raw JSON and binds it only when a payload is accessed.
+ *
+ * Parsing only indexes the update id, the type of the payload and, when present, its chat id,
+ * sender id and text, so updates dropped by filters that only need those skip
+ * most of the deserialization. The rest of the getters and setters bind the whole update on first use.
+ */
+public class LazyUpdate extends Update {
+    private static final long serialVersionUID = 1L;
+    private static final String UPDATEID_FIELD = "update_id";
+    private static final String CALLBACKQUERY_FIELD = "callback_query";
+    private static final String POLLANSWER_FIELD = "poll_answer";
+    private static final String CHATJOINREQUEST_FIELD = "chat_join_request";
+
+    private final byte[] json;
+    private final String payloadField;
+    private final UpdateType type;
+    private final boolean singlePayload;
+    private final Long chatId;
+    private final Long fromId;
+    private final String text;
+    private transient ObjectReader reader;
+    private volatile boolean materialized;
+
+    private LazyUpdate(byte[] json, ObjectReader reader, Index index) {
+        this.json = json;
+        this.reader = reader;
+        this.payloadField = index.payloadField;
+        this.type = UpdateType.fromFieldName(index.payloadField);
+        this.singlePayload = index.payloads <= 1;
+        this.chatId = index.chatId;
+        this.fromId = index.fromId;
+        this.text = index.text;
+        super.setUpdateId(index.updateId);
+    }
+
+    /**
+     * Indexes an update using the default {@link ObjectMapperRegistry}
+     * @param json Raw JSON of the update, must not be modified afterwards
+     */
+    public static LazyUpdate parse(byte[] json) throws IOException {
+        return parse(json, ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * Indexes an update, the registry is used to bind it later
+     * @param json Raw JSON of the update, must not be modified afterwards
+     */
+    public static LazyUpdate parse(byte[] json, ObjectMapperRegistry registry) throws IOException {
+        try (JsonParser parser = registry.getObjectMapper().getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Update must be a JSON object");
+            }
+            return new LazyUpdate(json, registry.getUpdateReader(), index(parser));
+        }
+    }
+
+    /**
+     * Indexes the updates of a getUpdates response using the default {@link ObjectMapperRegistry}
+     * @param response Raw JSON of the response
+     */
+    public static List<LazyUpdate> parseList(byte[] response) throws TelegramApiRequestException {
+        return parseList(response, ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * Indexes the updates of a getUpdates response, each of them keeps only its own part of the JSON
+     * @param response Raw JSON of the response
+     * @throws TelegramApiRequestException If the response is an error or can't be parsed
+     */
+    public static List<LazyUpdate> parseList(byte[] response, ObjectMapperRegistry registry) throws TelegramApiRequestException {
+        List<LazyUpdate> updates = new ArrayList<>();
+        boolean ok = false;
+        try (JsonParser parser = registry.getObjectMapper().getFactory().createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Response must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("ok".equals(field)) {
+                    ok = token == JsonToken.VALUE_TRUE;
+                } else if ("result".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        int start = (int) parser.getTokenLocation().getByteOffset();
+                        Index index = index(parser);
+                        int end = (int) parser.getCurrentLocation().getByteOffset();
+                        updates.add(new LazyUpdate(Arrays.copyOfRange(response, start, end), registry.getUpdateReader(), index));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!ok) {
+                ApiResponse<Object> error = registry.getResponseReader(Object.class).readValue(response);
+                throw new TelegramApiRequestException(String.format("Error executing %s query", GetUpdates.class.getName()), error);
+            }
+        } catch (IOException e) {
+            throw new TelegramApiRequestException("Unable to deserialize response", e);
+        }
+        return updates;
+    }
+
+    /**
+     * @return Name of the field holding the payload, e.g. "message", or null if there is none
+     */
+    @JsonIgnore
+    public String getPayloadField() {
+        return payloadField;
+    }
+
+    @Override
+    public UpdateType getType() {
+        return isIndexed() ? type : super.getType();
+    }
+
+    @Override
+    public Long getChatId() {
+        return isIndexed() ? chatId : super.getChatId();
+    }
+
+    @Override
+    public Long getFromId() {
+        return isIndexed() ? fromId : super.getFromId();
+    }
+
+    /**
+     * @return Text of the message of the payload, null if it has none
+     */
+    @JsonIgnore
+    public String getIndexedText() {
+        return text;
+    }
+
+    /**
+     * @return True if the whole update has been bound
+     */
+    @JsonIgnore
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * @return Raw JSON of the update
+     */
+    @JsonIgnore
+    public byte[] getJson() {
+        return json.clone();
+    }
+
+    @Override
+    public void setUpdateId(Integer updateId) {
+        materialize();
+        super.setUpdateId(updateId);
+    }
+
+    @Override
+    public boolean hasMessage() {
+        return isIndexed() ? type == UpdateType.MESSAGE : super.hasMessage();
+    }
+
+    @Override
+    public Message getMessage() {
+        materialize();
+        return super.getMessage();
+    }
+
+    @Override
+    public void setMessage(Message message) {
+        materialize();
+        super.setMessage(message);
+    }
+
+    @Override
+    public boolean hasInlineQuery() {
+        return isIndexed() ? type == UpdateType.INLINE_QUERY : super.hasInlineQuery();
+    }
+
+    @Override
+    public InlineQuery getInlineQuery() {
+        materialize();
+        return super.getInlineQuery();
+    }
+
+    @Override
+    public void setInlineQuery(InlineQuery inlineQuery) {
+        materialize();
+        super.setInlineQuery(inlineQuery);
+    }
+
+    @Override
+    public boolean hasChosenInlineQuery() {
+        return isIndexed() ? type == UpdateType.CHOSEN_INLINE_QUERY : super.hasChosenInlineQuery();
+    }
+
+    @Override
+    public ChosenInlineQuery getChosenInlineQuery() {
+        materialize();
+        return super.getChosenInlineQuery();
+    }
+
+    @Override
+    public void setChosenInlineQuery(ChosenInlineQuery chosenInlineQuery) {
+        materialize();
+        super.setChosenInlineQuery(chosenInlineQuery);
+    }
+
+    @Override
+    public boolean hasCallbackQuery() {
+        return isIndexed() ? type == UpdateType.CALLBACK_QUERY : super.hasCallbackQuery();
+    }
+
+    @Override
+    public CallbackQuery getCallbackQuery() {
+        materialize();
+        return super.getCallbackQuery();
+    }
+
+    @Override
+    public void setCallbackQuery(CallbackQuery callbackQuery) {
+        materialize();
+        super.setCallbackQuery(callbackQuery);
+    }
+
+    @Override
+    public boolean hasEditedMessage() {
+        return isIndexed() ? type == UpdateType.EDITED_MESSAGE : super.hasEditedMessage();
+    }
+
+    @Override
+    public Message getEditedMessage() {
+        materialize();
+        return super.getEditedMessage();
+    }
+
+    @Override
+    public void setEditedMessage(Message editedMessage) {
+        materialize();
+        super.setEditedMessage(editedMessage);
+    }
+
+    @Override
+    public boolean hasChannelPost() {
+        return isIndexed() ? type == UpdateType.CHANNEL_POST : super.hasChannelPost();
+    }
+
+    @Override
+    public Message getChannelPost() {
+        materialize();
+        return super.getChannelPost();
+    }
+
+    @Override
+    public void setChannelPost(Message channelPost) {
+        materialize();
+        super.setChannelPost(channelPost);
+    }
+
+    @Override
+    public boolean hasEditedChannelPost() {
+        return isIndexed() ? type == UpdateType.EDITED_CHANNEL_POST : super.hasEditedChannelPost();
+    }
+
+    @Override
+    public Message getEditedChannelPost() {
+        materialize();
+        return super.getEditedChannelPost();
+    }
+
+    @Override
+    public void setEditedChannelPost(Message editedChannelPost) {
+        materialize();
+        super.setEditedChannelPost(editedChannelPost);
+    }
+
+    @Override
+    public boolean hasShippingQuery() {
+        return isIndexed() ? type == UpdateType.SHIPPING_QUERY : super.hasShippingQuery();
+    }
+
+    @Override
+    public ShippingQuery getShippingQuery() {
+        materialize();
+        return super.getShippingQuery();
+    }
+
+    @Override
+    public void setShippingQuery(ShippingQuery shippingQuery) {
+        materialize();
+        super.setShippingQuery(shippingQuery);
+    }
+
+    @Override
+    public boolean hasPreCheckoutQuery() {
+        return isIndexed() ? type == UpdateType.PRE_CHECKOUT_QUERY : super.hasPreCheckoutQuery();
+    }
+
+    @Override
+    public PreCheckoutQuery getPreCheckoutQuery() {
+        materialize();
+        return super.getPreCheckoutQuery();
+    }
+
+    @Override
+    public void setPreCheckoutQuery(PreCheckoutQuery preCheckoutQuery) {
+        materialize();
+        super.setPreCheckoutQuery(preCheckoutQuery);
+    }
+
+    @Override
+    public boolean hasPoll() {
+        return isIndexed() ? type == UpdateType.POLL : super.hasPoll();
+    }
+
+    @Override
+    public Poll getPoll() {
+        materialize();
+        return super.getPoll();
+    }
+
+    @Override
+    public void setPoll(Poll poll) {
+        materialize();
+        super.setPoll(poll);
+    }
+
+    @Override
+    public boolean hasPollAnswer() {
+        return isIndexed() ? type == UpdateType.POLL_ANSWER : super.hasPollAnswer();
+    }
+
+    @Override
+    public PollAnswer getPollAnswer() {
+        materialize();
+        return super.getPollAnswer();
+    }
+
+    @Override
+    public void setPollAnswer(PollAnswer pollAnswer) {
+        materialize();
+        super.setPollAnswer(pollAnswer);
+    }
+
+    @Override
+    public boolean hasMyChatMember() {
+        return isIndexed() ? type == UpdateType.MY_CHAT_MEMBER : super.hasMyChatMember();
+    }
+
+    @Override
+    public ChatMemberUpdated getMyChatMember() {
+        materialize();
+        return super.getMyChatMember();
+    }
+
+    @Override
+    public void setMyChatMember(ChatMemberUpdated myChatMember) {
+        materialize();
+        super.setMyChatMember(myChatMember);
+    }
+
+    @Override
+    public boolean hasChatMember() {
+        return isIndexed() ? type == UpdateType.CHAT_MEMBER : super.hasChatMember();
+    }
+
+    @Override
+    public ChatMemberUpdated getChatMember() {
+        materialize();
+        return super.getChatMember();
+    }
+
+    @Override
+    public void setChatMember(ChatMemberUpdated chatMember) {
+        materialize();
+        super.setChatMember(chatMember);
+    }
+
+    @Override
+    public boolean hasChatJoinRequest() {
+        return isIndexed() ? type == UpdateType.CHAT_JOIN_REQUEST : super.hasChatJoinRequest();
+    }
+
+    @Override
+    public ChatJoinRequest getChatJoinRequest() {
+        materialize();
+        return super.getChatJoinRequest();
+    }
+
+    @Override
+    public void setChatJoinRequest(ChatJoinRequest chatJoinRequest) {
+        materialize();
+        super.setChatJoinRequest(chatJoinRequest);
+    }
+
+    /**
+     * Binds the whole update, once
+     */
+    private void materialize() {
+        if (materialized) {
+            return;
+        }
+        synchronized (this) {
+            if (materialized) {
+                return;
+            }
+            if (reader == null) {
+                // Lost when serialized with java serialization
+                reader = ObjectMapperRegistry.getDefault().getUpdateReader();
+            }
+            try {
+                Update update = reader.readValue(json);
+                super.setMessage(update.getMessage());
+                super.setInlineQuery(update.getInlineQuery());
+                super.setChosenInlineQuery(update.getChosenInlineQuery());
+                super.setCallbackQuery(update.getCallbackQuery());
+                super.setEditedMessage(update.getEditedMessage());
+                super.setChannelPost(update.getChannelPost());
+                super.setEditedChannelPost(update.getEditedChannelPost());
+                super.setShippingQuery(update.getShippingQuery());
+                super.setPreCheckoutQuery(update.getPreCheckoutQuery());
+                super.setPoll(update.getPoll());
+                super.setPollAnswer(update.getPollAnswer());
+                super.setMyChatMember(update.getMyChatMember());
+                super.setChatMember(update.getChatMember());
+                super.setChatJoinRequest(update.getChatJoinRequest());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to bind update " + getUpdateId(), e);
+            }
+            materialized = true;
+        }
+    }
+
+    private boolean isIndexed() {
+        return singlePayload && !materialized;
+    }
+
+    /**
+     * Reads the index of the update starting at the current token, the parser is left at its end
+     */
+    private static Index index(JsonParser parser) throws IOException {
+        Index index = new Index();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (UPDATEID_FIELD.equals(field)) {
+                index.updateId = parser.getIntValue();
+            } else if (token == JsonToken.START_OBJECT) {
+                index.payloads++;
+                if (index.payloadField == null) {
+                    index.payloadField = field;
+                    indexPayload(parser, index);
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reads the ids and text of a payload, the parser is left at its end
+     */
+    private static void indexPayload(JsonParser parser, Index index) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                switch (field) {
+                    case "chat":
+                        index.chatId = readId(parser);
+                        break;
+                    case "from":
+                        index.fromId = readId(parser);
+                        break;
+                    case "user":
+                        // Sender of poll answers and chat join requests
+                        if (POLLANSWER_FIELD.equals(index.payloadField) || CHATJOINREQUEST_FIELD.equals(index.payloadField)) {
+                            index.fromId = readId(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    case "message":
+                        if (CALLBACKQUERY_FIELD.equals(index.payloadField)) {
+                            index.chatId = readChatId(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            } else if (token == JsonToken.VALUE_STRING && "text".equals(field)) {
+                index.text = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * @return Value of the "id" field of the current object, the parser is left at its end
+     */
+    private static Long readId(JsonParser parser) throws IOException {
+        Long id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NUMBER_INT && "id".equals(field)) {
+                id = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @return Id of the chat of the current message object, the parser is left at its end
+     */
+    private static Long readChatId(JsonParser parser) throws IOException {
+        Long id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && "chat".equals(field)) {
+                id = readId(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return id;
+    }
+
+    private static final class Index {
+        private Integer updateId;
+        private String payloadField;
+        private int payloads;
+        private Long chatId;
+        private Long fromId;
+        private String text;
+    }
+}
@@ -578,6 +578,24 @@ public class Message implements BotApiObject {
         return captionEntities;
     }
 
+    /**
+     * @param type Type of the entities, one of {@link EntityType}
+     * @return Views of the text of the entities of the given type, without copying the message text
+     */
+    @JsonIgnore
+    public List<CharSequence> getEntitySlices(String type) {
+        return getSlices(getEntities(), type);
+    }
+
+    /**
+     * @param type Type of the entities, one of {@link EntityType}
+     * @return Views of the caption of the entities of the given type, without copying the caption
+     */
+    @JsonIgnore
+    public List<CharSequence> getCaptionEntitySlices(String type) {
+        return getSlices(getCaptionEntities(), type);
+    }
+
     @JsonIgnore
     public List<User> getNewChatMembers() {
         return newChatMembers == null ? new ArrayList<>() : newChatMembers;
@@ -790,4 +808,16 @@ public class Message implements BotApiObject {
     private boolean hasStory() {
         return story != null;
     }
+
+    private static List<CharSequence> getSlices(List<MessageEntity> entities, String type) {
+        List<CharSequence> slices = new ArrayList<>();
+        if (entities != null) {
+            for (MessageEntity entity : entities) {
+                if (entity != null && type.equals(entity.getType())) {
+                    slices.add(entity.getTextSlice());
+                }
+            }
+        }
+        return slices;
+    }
 }
@@ -2,7 +2,7 @@ package org.telegram.telegrambots.meta.api.objects;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -13,6 +13,10 @@ import lombok.Setter;
 import lombok.ToString;
 import org.telegram.telegrambots.meta.api.interfaces.BotApiObject;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.CharBuffer;
+
 /**
  * This object represents one special entity in a text message. For example, hashtags,
  * usernames, URL.
@@ -26,8 +30,6 @@ import org.telegram.telegrambots.meta.api.interfaces.BotApiObject;
 @ToString
 @RequiredArgsConstructor
 @NoArgsConstructor(force = true)
-@AllArgsConstructor
-@Builder
 public class MessageEntity implements BotApiObject {
     private static final String TYPE_FIELD = "type";
     private static final String OFFSET_FIELD = "offset";
@@ -98,14 +100,74 @@ public class MessageEntity implements BotApiObject {
     @JsonProperty(CUSTOMEMOJI_FIELD)
     private String customEmojiId;
     /**
-     * Text present in the entity. Computed from offset and length
+     * Text present in the entity. Computed from offset and length on first access
      */
     @JsonIgnore
     private String text;
+    /**
+     * Text of the message containing the entity, shared by all its entities
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient String source;
+
+    @Builder
+    public MessageEntity(@NonNull String type, @NonNull Integer offset, @NonNull Integer length, String url, User user,
+                         String language, String customEmojiId, String text) {
+        this.type = type;
+        this.offset = offset;
+        this.length = length;
+        this.url = url;
+        this.user = user;
+        this.language = language;
+        this.customEmojiId = customEmojiId;
+        this.text = text;
+    }
+
+    public String getText() {
+        if (text == null && source != null) {
+            text = source.substring(getStart(), getEnd());
+        }
+        return text;
+    }
+
+    /**
+     * @return Text present in the entity as a view of the message text, without copying it.
+     * Null if the entity doesn't belong to a message
+     */
+    @JsonIgnore
+    public CharSequence getTextSlice() {
+        if (source == null) {
+            return text;
+        }
+        return CharBuffer.wrap(source, getStart(), getEnd());
+    }
 
     protected void computeText(String message) {
-        if (message != null) {
-            text = message.substring(offset, offset + length);
+        // Only keep a reference, the text is resolved when accessed
+        if (message != null && message != source) {
+            source = message;
+            text = null;
         }
     }
+
+    private void writeObject(ObjectOutputStream output) throws IOException {
+        // The message text isn't serialized with the entity, so its own text is resolved first
+        getText();
+        output.defaultWriteObject();
+    }
+
+    /**
+     * Offset and length are in UTF-16 code units like Java strings, clamped in case they exceed the text
+     */
+    private int getStart() {
+        return Math.max(0, Math.min(offset, source.length()));
+    }
+
+    private int getEnd() {
+        return Math.max(getStart(), Math.min(offset + length, source.length()));
+    }
 }
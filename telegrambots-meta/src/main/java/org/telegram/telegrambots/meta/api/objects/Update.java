@@ -1,7 +1,8 @@
 package org.telegram.telegrambots.meta.api.objects;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,7 +27,6 @@ import org.telegram.telegrambots.meta.api.objects.polls.PollAnswer;
 @Setter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 public class Update implements BotApiObject {
     private static final String UPDATEID_FIELD = "update_id";
     private static final String MESSAGE_FIELD = "message";
@@ -131,6 +131,128 @@ public class Update implements BotApiObject {
     @JsonProperty(CHATJOINREQUEST_FIELD)
     private ChatJoinRequest chatJoinRequest;
 
+    /**
+     * Type of the payload, set with it so that it is known once deserialized. Null when the payload was removed, it is
+     * then looked for again
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient UpdateType type;
+
+    public Update(Integer updateId,
+                  Message message,
+                  InlineQuery inlineQuery,
+                  ChosenInlineQuery chosenInlineQuery,
+                  CallbackQuery callbackQuery,
+                  Message editedMessage,
+                  Message channelPost,
+                  Message editedChannelPost,
+                  ShippingQuery shippingQuery,
+                  PreCheckoutQuery preCheckoutQuery,
+                  Poll poll,
+                  PollAnswer pollAnswer,
+                  ChatMemberUpdated myChatMember,
+                  ChatMemberUpdated chatMember,
+                  ChatJoinRequest chatJoinRequest) {
+        this.updateId = updateId;
+        this.message = message;
+        this.inlineQuery = inlineQuery;
+        this.chosenInlineQuery = chosenInlineQuery;
+        this.callbackQuery = callbackQuery;
+        this.editedMessage = editedMessage;
+        this.channelPost = channelPost;
+        this.editedChannelPost = editedChannelPost;
+        this.shippingQuery = shippingQuery;
+        this.preCheckoutQuery = preCheckoutQuery;
+        this.poll = poll;
+        this.pollAnswer = pollAnswer;
+        this.myChatMember = myChatMember;
+        this.chatMember = chatMember;
+        this.chatJoinRequest = chatJoinRequest;
+        this.type = UpdateType.fromPayload(this);
+    }
+
+    public void setMessage(Message message) {
+        this.message = message;
+        setPayloadType(UpdateType.MESSAGE, message);
+    }
+
+    public void setInlineQuery(InlineQuery inlineQuery) {
+        this.inlineQuery = inlineQuery;
+        setPayloadType(UpdateType.INLINE_QUERY, inlineQuery);
+    }
+
+    public void setChosenInlineQuery(ChosenInlineQuery chosenInlineQuery) {
+        this.chosenInlineQuery = chosenInlineQuery;
+        setPayloadType(UpdateType.CHOSEN_INLINE_QUERY, chosenInlineQuery);
+    }
+
+    public void setCallbackQuery(CallbackQuery callbackQuery) {
+        this.callbackQuery = callbackQuery;
+        setPayloadType(UpdateType.CALLBACK_QUERY, callbackQuery);
+    }
+
+    public void setEditedMessage(Message editedMessage) {
+        this.editedMessage = editedMessage;
+        setPayloadType(UpdateType.EDITED_MESSAGE, editedMessage);
+    }
+
+    public void setChannelPost(Message channelPost) {
+        this.channelPost = channelPost;
+        setPayloadType(UpdateType.CHANNEL_POST, channelPost);
+    }
+
+    public void setEditedChannelPost(Message editedChannelPost) {
+        this.editedChannelPost = editedChannelPost;
+        setPayloadType(UpdateType.EDITED_CHANNEL_POST, editedChannelPost);
+    }
+
+    public void setShippingQuery(ShippingQuery shippingQuery) {
+        this.shippingQuery = shippingQuery;
+        setPayloadType(UpdateType.SHIPPING_QUERY, shippingQuery);
+    }
+
+    public void setPreCheckoutQuery(PreCheckoutQuery preCheckoutQuery) {
+        this.preCheckoutQuery = preCheckoutQuery;
+        setPayloadType(UpdateType.PRE_CHECKOUT_QUERY, preCheckoutQuery);
+    }
+
+    public void setPoll(Poll poll) {
+        this.poll = poll;
+        setPayloadType(UpdateType.POLL, poll);
+    }
+
+    public void setPollAnswer(PollAnswer pollAnswer) {
+        this.pollAnswer = pollAnswer;
+        setPayloadType(UpdateType.POLL_ANSWER, pollAnswer);
+    }
+
+    public void setMyChatMember(ChatMemberUpdated myChatMember) {
+        this.myChatMember = myChatMember;
+        setPayloadType(UpdateType.MY_CHAT_MEMBER, myChatMember);
+    }
+
+    public void setChatMember(ChatMemberUpdated chatMember) {
+        this.chatMember = chatMember;
+        setPayloadType(UpdateType.CHAT_MEMBER, chatMember);
+    }
+
+    public void setChatJoinRequest(ChatJoinRequest chatJoinRequest) {
+        this.chatJoinRequest = chatJoinRequest;
+        setPayloadType(UpdateType.CHAT_JOIN_REQUEST, chatJoinRequest);
+    }
+
+    private void setPayloadType(UpdateType payloadType, Object payload) {
+        if (payload != null) {
+            type = payloadType;
+        } else if (type == payloadType) {
+            type = null;
+        }
+    }
+
     public boolean hasMessage() {
         return message != null;
     }
@@ -186,4 +308,88 @@ public class Update implements BotApiObject {
     public boolean hasChatJoinRequest() {
         return chatJoinRequest != null;
     }
+
+    /**
+     * @return Type of the payload of this update, to switch on instead of chaining the has methods
+     */
+    @JsonIgnore
+    public UpdateType getType() {
+        UpdateType payloadType = type;
+        return payloadType == null ? UpdateType.fromPayload(this) : payloadType;
+    }
+
+    /**
+     * @return Id of the chat the payload belongs to, null if it has none (e.g. inline queries or
+     * callback queries of inline messages)
+     */
+    @JsonIgnore
+    public Long getChatId() {
+        switch (getType()) {
+            case MESSAGE:
+                return getMessage().getChatId();
+            case EDITED_MESSAGE:
+                return getEditedMessage().getChatId();
+            case CHANNEL_POST:
+                return getChannelPost().getChatId();
+            case EDITED_CHANNEL_POST:
+                return getEditedChannelPost().getChatId();
+            case CALLBACK_QUERY:
+                Message callbackMessage = getCallbackQuery().getMessage();
+                return callbackMessage == null ? null : callbackMessage.getChatId();
+            case MY_CHAT_MEMBER:
+                return getMyChatMember().getChat().getId();
+            case CHAT_MEMBER:
+                return getChatMember().getChat().getId();
+            case CHAT_JOIN_REQUEST:
+                return getChatJoinRequest().getChat().getId();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return User that originated the payload, null if it has none (e.g. polls or anonymous channel posts)
+     */
+    @JsonIgnore
+    public User getFrom() {
+        switch (getType()) {
+            case MESSAGE:
+                return getMessage().getFrom();
+            case EDITED_MESSAGE:
+                return getEditedMessage().getFrom();
+            case CHANNEL_POST:
+                return getChannelPost().getFrom();
+            case EDITED_CHANNEL_POST:
+                return getEditedChannelPost().getFrom();
+            case INLINE_QUERY:
+                return getInlineQuery().getFrom();
+            case CHOSEN_INLINE_QUERY:
+                return getChosenInlineQuery().getFrom();
+            case CALLBACK_QUERY:
+                return getCallbackQuery().getFrom();
+            case SHIPPING_QUERY:
+                return getShippingQuery().getFrom();
+            case PRE_CHECKOUT_QUERY:
+                return getPreCheckoutQuery().getFrom();
+            case POLL_ANSWER:
+                return getPollAnswer().getUser();
+            case MY_CHAT_MEMBER:
+                return getMyChatMember().getFrom();
+            case CHAT_MEMBER:
+                return getChatMember().getFrom();
+            case CHAT_JOIN_REQUEST:
+                return getChatJoinRequest().getUser();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return Id of the user that originated the payload, null if it has none
+     */
+    @JsonIgnore
+    public Long getFromId() {
+        User from = getFrom();
+        return from == null ? null : from.getId();
+    }
 }
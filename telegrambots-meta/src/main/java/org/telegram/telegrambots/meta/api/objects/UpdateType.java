@@ -0,0 +1,102 @@
+package org.telegram.telegrambots.meta.api.objects;
+
+/**
+ * Kinds of payload an {@link Update} can carry, named after its JSON field
+ */
+public enum UpdateType {
+    MESSAGE("message"),
+    EDITED_MESSAGE("edited_message"),
+    CHANNEL_POST("channel_post"),
+    EDITED_CHANNEL_POST("edited_channel_post"),
+    INLINE_QUERY("inline_query"),
+    CHOSEN_INLINE_QUERY("chosen_inline_result"),
+    CALLBACK_QUERY("callback_query"),
+    SHIPPING_QUERY("shipping_query"),
+    PRE_CHECKOUT_QUERY("pre_checkout_query"),
+    POLL("poll"),
+    POLL_ANSWER("poll_answer"),
+    MY_CHAT_MEMBER("my_chat_member"),
+    CHAT_MEMBER("chat_member"),
+    CHAT_JOIN_REQUEST("chat_join_request"),
+    /**
+     * No payload or one unknown to this version of the library
+     */
+    UNKNOWN(null);
+
+    private static final UpdateType[] VALUES = values();
+
+    private final String fieldName;
+
+    UpdateType(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @return Name of the JSON field of the payload, also used in allowed_updates. Null for {@link #UNKNOWN}
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @param update Update to classify
+     * @return Type of the payload of the update, found with its has methods if {@link Update#getType()} doesn't know it
+     * (e.g. for mocked updates)
+     */
+    public static UpdateType of(Update update) {
+        UpdateType type = update.getType();
+        return type == null ? fromPayload(update) : type;
+    }
+
+    /**
+     * @param update Update to classify
+     * @return Type of the payload of the update, found with its has methods, most common payloads first
+     */
+    static UpdateType fromPayload(Update update) {
+        if (update.hasMessage()) {
+            return MESSAGE;
+        } else if (update.hasCallbackQuery()) {
+            return CALLBACK_QUERY;
+        } else if (update.hasEditedMessage()) {
+            return EDITED_MESSAGE;
+        } else if (update.hasInlineQuery()) {
+            return INLINE_QUERY;
+        } else if (update.hasChannelPost()) {
+            return CHANNEL_POST;
+        } else if (update.hasEditedChannelPost()) {
+            return EDITED_CHANNEL_POST;
+        } else if (update.hasChosenInlineQuery()) {
+            return CHOSEN_INLINE_QUERY;
+        } else if (update.hasMyChatMember()) {
+            return MY_CHAT_MEMBER;
+        } else if (update.hasChatMember()) {
+            return CHAT_MEMBER;
+        } else if (update.hasChatJoinRequest()) {
+            return CHAT_JOIN_REQUEST;
+        } else if (update.hasShippingQuery()) {
+            return SHIPPING_QUERY;
+        } else if (update.hasPreCheckoutQuery()) {
+            return PRE_CHECKOUT_QUERY;
+        } else if (update.hasPoll()) {
+            return POLL;
+        } else if (update.hasPollAnswer()) {
+            return POLL_ANSWER;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @param fieldName Name of the JSON field of the payload
+     * @return Type of the payload, {@link #UNKNOWN} if not known
+     */
+    public static UpdateType fromFieldName(String fieldName) {
+        if (fieldName != null) {
+            for (UpdateType type : VALUES) {
+                if (fieldName.equals(type.fieldName)) {
+                    return type;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+}
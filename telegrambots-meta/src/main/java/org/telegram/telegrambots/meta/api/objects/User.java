@@ -13,6 +13,10 @@ import org.telegram.telegrambots.meta.api.interfaces.BotApiObject;
 
 /**
  * This object represents a Telegram user or bot.
+ *
+ * When read by a registry with the {@link org.telegram.telegrambots.meta.api.objects.serialization.InterningModule},
+ * the same instance is shared by all the updates it appears in: its setters change it in every one of them, so copy
+ * it before changing it.
  * @author Ruben Bermudez
  * @version 6.1
  */
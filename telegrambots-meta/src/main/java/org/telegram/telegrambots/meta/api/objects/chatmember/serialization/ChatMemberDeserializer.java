@@ -1,10 +1,7 @@
 package org.telegram.telegrambots.meta.api.objects.chatmember.serialization;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMember;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberAdministrator;
@@ -13,6 +10,7 @@ import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberLeft;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberMember;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberOwner;
 import org.telegram.telegrambots.meta.api.objects.chatmember.ChatMemberRestricted;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -21,42 +19,33 @@ import java.io.IOException;
  * @version 5.3
  */
 public class ChatMemberDeserializer extends StdDeserializer<ChatMember> {
-    private final ObjectMapper objectMapper;
-
     public ChatMemberDeserializer() {
         this(null);
     }
 
     private ChatMemberDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public ChatMember deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
 
-        String type = node.has("status") ? node.get("status").asText() : "";
+        String type = node.getText("status");
         switch (type) {
             case "administrator":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberAdministrator>(){});
+                return node.readAs(ChatMemberAdministrator.class, deserializationContext);
             case "kicked":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberBanned>(){});
+                return node.readAs(ChatMemberBanned.class, deserializationContext);
             case "left":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberLeft>(){});
+                return node.readAs(ChatMemberLeft.class, deserializationContext);
             case "member":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberMember>(){});
+                return node.readAs(ChatMemberMember.class, deserializationContext);
             case "creator":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberOwner>(){});
+                return node.readAs(ChatMemberOwner.class, deserializationContext);
             case "restricted":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<ChatMemberRestricted>(){});
+                return node.readAs(ChatMemberRestricted.class, deserializationContext);
             default:
                 return null;
         }
@@ -1,10 +1,7 @@
 package org.telegram.telegrambots.meta.api.objects.commands.scope.serialization;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScope;
 import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScopeAllChatAdministrators;
@@ -14,6 +11,7 @@ import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScope
 import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScopeChatAdministrators;
 import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScopeChatMember;
 import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScopeDefault;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -22,45 +20,35 @@ import java.io.IOException;
  * @version 5.3
  */
 public class BotCommandScopeDeserializer extends StdDeserializer<BotCommandScope> {
-    private final ObjectMapper objectMapper;
-
     public BotCommandScopeDeserializer() {
         this(null);
     }
 
     private BotCommandScopeDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public BotCommandScope deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
 
-        String type = node.has("Type") ? node.get("type").asText() : "";
+        String type = node.getText("type");
         switch (type) {
             case "default":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeDefault>(){});
+                return node.readAs(BotCommandScopeDefault.class, deserializationContext);
             case "all_private_chats":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeAllPrivateChats>(){});
+                return node.readAs(BotCommandScopeAllPrivateChats.class, deserializationContext);
             case "all_group_chats":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeAllGroupChats>(){});
+                return node.readAs(BotCommandScopeAllGroupChats.class, deserializationContext);
             case "all_chat_administrators":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeAllChatAdministrators>(){});
+                return node.readAs(BotCommandScopeAllChatAdministrators.class, deserializationContext);
             case "chat":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeChat>(){});
+                return node.readAs(BotCommandScopeChat.class, deserializationContext);
             case "chat_administrators":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeChatAdministrators>(){});
+                return node.readAs(BotCommandScopeChatAdministrators.class, deserializationContext);
             case "chat_member":
-                return objectMapper.readValue(node.toString(),
-                        new TypeReference<BotCommandScopeChatMember>(){});
+                return node.readAs(BotCommandScopeChatMember.class, deserializationContext);
             default:
                 return null;
         }
@@ -2,10 +2,9 @@ package org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessageconte
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.*;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -14,47 +13,39 @@ import java.io.IOException;
  * @version 1.0
  */
 public class InputMessageContentDeserializer extends StdDeserializer<InputMessageContent> {
-    private final ObjectMapper objectMapper;
-
     public InputMessageContentDeserializer() {
         this(null);
     }
 
     private InputMessageContentDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public InputMessageContent deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
 
         if (node.has("message_text")) {
-            return objectMapper.readValue(node.toString(),
-                    new com.fasterxml.jackson.core.type.TypeReference<InputTextMessageContent>(){});
+            return node.readAs(InputTextMessageContent.class, deserializationContext);
         }
 
         // Order here is important since Venue and Location has both latitude
         if (node.has("address")) {
-            return objectMapper.readValue(node.toString(),
-                    new com.fasterxml.jackson.core.type.TypeReference<InputVenueMessageContent>(){});
+            return node.readAs(InputVenueMessageContent.class, deserializationContext);
         }
 
 
         if (node.has("latitude")) {
-            return objectMapper.readValue(node.toString(),
-                    new com.fasterxml.jackson.core.type.TypeReference<InputLocationMessageContent>(){});
+            return node.readAs(InputLocationMessageContent.class, deserializationContext);
         }
 
         if (node.has("phone_number")) {
-            return objectMapper.readValue(node.toString(),
-                    new com.fasterxml.jackson.core.type.TypeReference<InputContactMessageContent>(){});
+            return node.readAs(InputContactMessageContent.class, deserializationContext);
         }
 
         if (node.has("provider_token")) {
-            return objectMapper.readValue(node.toString(),
-                    new com.fasterxml.jackson.core.type.TypeReference<InputInvoiceMessageContent>(){});
+            return node.readAs(InputInvoiceMessageContent.class, deserializationContext);
         }
 
         return null;
@@ -2,11 +2,10 @@ package org.telegram.telegrambots.meta.api.objects.inlinequery.result.serializat
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.inlinequery.result.*;
 import org.telegram.telegrambots.meta.api.objects.inlinequery.result.cached.*;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -15,97 +14,74 @@ import java.io.IOException;
  * @version 1.0
  */
 public class InlineQueryResultDeserializer extends StdDeserializer<InlineQueryResult> {
-    private final ObjectMapper objectMapper;
-
     public InlineQueryResultDeserializer() {
         this(null);
     }
 
     private InlineQueryResultDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public InlineQueryResult deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
 
-        switch (node.get("type").asText()) {
+        switch (node.getText("type")) {
             case "article":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultArticle>(){});
+                return node.readAs(InlineQueryResultArticle.class, deserializationContext);
             case "audio":
                 if (node.has("audio_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultAudio>(){});
+                    return node.readAs(InlineQueryResultAudio.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedAudio>(){});
+                    return node.readAs(InlineQueryResultCachedAudio.class, deserializationContext);
                 }
             case "contact":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultContact>(){});
+                return node.readAs(InlineQueryResultContact.class, deserializationContext);
             case "document":
                 if (node.has("document_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultDocument>(){});
+                    return node.readAs(InlineQueryResultDocument.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedDocument>(){});
+                    return node.readAs(InlineQueryResultCachedDocument.class, deserializationContext);
                 }
             case "game":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultGame>(){});
+                return node.readAs(InlineQueryResultGame.class, deserializationContext);
             case "gif":
                 if (node.has("gif_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultGif>(){});
+                    return node.readAs(InlineQueryResultGif.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedGif>(){});
+                    return node.readAs(InlineQueryResultCachedGif.class, deserializationContext);
                 }
             case "location":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultLocation>(){});
+                return node.readAs(InlineQueryResultLocation.class, deserializationContext);
             case "mpeg4_gif":
                 if (node.has("mpeg4_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultMpeg4Gif>(){});
+                    return node.readAs(InlineQueryResultMpeg4Gif.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedMpeg4Gif>(){});
+                    return node.readAs(InlineQueryResultCachedMpeg4Gif.class, deserializationContext);
                 }
             case "photo":
                 if (node.has("photo_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultPhoto>(){});
+                    return node.readAs(InlineQueryResultPhoto.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedPhoto>(){});
+                    return node.readAs(InlineQueryResultCachedPhoto.class, deserializationContext);
                 }
             case "venue":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultVenue>(){});
+                return node.readAs(InlineQueryResultVenue.class, deserializationContext);
             case "video":
                 if (node.has("video_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultVideo>(){});
+                    return node.readAs(InlineQueryResultVideo.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedVideo>(){});
+                    return node.readAs(InlineQueryResultCachedVideo.class, deserializationContext);
                 }
             case "voice":
                 if (node.has("voice_url")) {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultVoice>(){});
+                    return node.readAs(InlineQueryResultVoice.class, deserializationContext);
                 } else {
-                    return objectMapper.readValue(node.toString(),
-                            new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedVoice>(){});
+                    return node.readAs(InlineQueryResultCachedVoice.class, deserializationContext);
                 }
             case "sticker":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InlineQueryResultCachedSticker>(){});
+                return node.readAs(InlineQueryResultCachedSticker.class, deserializationContext);
         }
 
         return null;
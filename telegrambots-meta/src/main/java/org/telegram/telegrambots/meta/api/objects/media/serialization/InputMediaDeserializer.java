@@ -3,10 +3,9 @@ package org.telegram.telegrambots.meta.api.objects.media.serialization;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.media.*;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -15,38 +14,30 @@ import java.io.IOException;
  * @version 1.0
  */
 public class InputMediaDeserializer extends StdDeserializer<InputMedia> {
-    private final ObjectMapper objectMapper;
-
     public InputMediaDeserializer() {
         this(null);
     }
 
     public InputMediaDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public InputMedia deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
 
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-        switch (node.get("type").asText()) {
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
+        switch (node.getText("type")) {
             case "photo":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InputMediaPhoto>(){});
+                return node.readAs(InputMediaPhoto.class, deserializationContext);
             case "video":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InputMediaVideo>(){});
+                return node.readAs(InputMediaVideo.class, deserializationContext);
             case "animation":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InputMediaAnimation>(){});
+                return node.readAs(InputMediaAnimation.class, deserializationContext);
             case "audio":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InputMediaAudio>(){});
+                return node.readAs(InputMediaAudio.class, deserializationContext);
             case "document":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<InputMediaDocument>(){});
+                return node.readAs(InputMediaDocument.class, deserializationContext);
         }
 
         return null;
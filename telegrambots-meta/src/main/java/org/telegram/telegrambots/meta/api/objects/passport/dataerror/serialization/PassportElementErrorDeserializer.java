@@ -2,10 +2,9 @@ package org.telegram.telegrambots.meta.api.objects.passport.dataerror.serializat
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.telegram.telegrambots.meta.api.objects.passport.dataerror.*;
+import org.telegram.telegrambots.meta.api.objects.serialization.BufferedJsonObject;
 
 import java.io.IOException;
 
@@ -14,50 +13,38 @@ import java.io.IOException;
  * @version 1.0
  */
 public class PassportElementErrorDeserializer extends StdDeserializer<PassportElementError> {
-    private final ObjectMapper objectMapper;
-
     public PassportElementErrorDeserializer() {
         this(null);
     }
 
     private PassportElementErrorDeserializer(Class<?> vc) {
         super(vc);
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
     public PassportElementError deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        BufferedJsonObject node = BufferedJsonObject.read(jsonParser, deserializationContext);
 
-        switch (node.get("source").asText()) {
+        switch (node.getText("source")) {
             case "data":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorDataField>(){});
+                return node.readAs(PassportElementErrorDataField.class, deserializationContext);
             case "front_side":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorFrontSide>(){});
+                return node.readAs(PassportElementErrorFrontSide.class, deserializationContext);
             case "reverse_side":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorReverseSide>(){});
+                return node.readAs(PassportElementErrorReverseSide.class, deserializationContext);
             case "selfie":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorSelfie>(){});
+                return node.readAs(PassportElementErrorSelfie.class, deserializationContext);
             case "file":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorFile>(){});
+                return node.readAs(PassportElementErrorFile.class, deserializationContext);
             case "files":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorFiles>(){});
+                return node.readAs(PassportElementErrorFiles.class, deserializationContext);
             case "translation_file":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorTranslationFile>(){});
+                return node.readAs(PassportElementErrorTranslationFile.class, deserializationContext);
             case "translation_files":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorTranslationFiles>(){});
+                return node.readAs(PassportElementErrorTranslationFiles.class, deserializationContext);
             case "unspecified":
-                return objectMapper.readValue(node.toString(),
-                        new com.fasterxml.jackson.core.type.TypeReference<PassportElementErrorUnspecified>(){});
+                return node.readAs(PassportElementErrorUnspecified.class, deserializationContext);
         }
 
 
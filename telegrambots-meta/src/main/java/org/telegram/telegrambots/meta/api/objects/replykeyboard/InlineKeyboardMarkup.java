@@ -1,8 +1,10 @@
 package org.telegram.telegrambots.meta.api.objects.replykeyboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -12,8 +14,11 @@ import lombok.Setter;
 import lombok.Singular;
 import lombok.ToString;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,22 +33,64 @@ import java.util.List;
 @Setter
 @ToString
 @NoArgsConstructor(force = true)
-@AllArgsConstructor
-@Builder
 public class InlineKeyboardMarkup implements ReplyKeyboard {
 
     private static final String KEYBOARD_FIELD = "inline_keyboard";
+    private static final TypeReference<List<List<InlineKeyboardButton>>> KEYBOARD_TYPE =
+            new TypeReference<List<List<InlineKeyboardButton>>>() {};
 
     @JsonProperty(KEYBOARD_FIELD)
     @NonNull
-    @Singular(value = "keyboardRow")
     private List<List<InlineKeyboardButton>> keyboard; ///< Array of button rows, each represented by an Array of Strings
+    /**
+     * Keyboard validated by {@link #freeze()}, replaced keyboards are validated again
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient List<List<InlineKeyboardButton>> frozenKeyboard;
+
+    @Builder
+    public InlineKeyboardMarkup(@NonNull @Singular(value = "keyboardRow") List<List<InlineKeyboardButton>> keyboard) {
+        this.keyboard = keyboard;
+    }
+
+    /**
+     * Validates this keyboard once and replaces it by an unmodifiable copy, so that the messages sharing it don't
+     * validate every button again. The buttons are copied with their login urls and web apps: the ones this keyboard
+     * was built with can still be changed or reused without affecting it. The copies returned by
+     * {@link #getKeyboard()} must not be changed.
+     * @return This keyboard
+     * @throws TelegramApiValidationException If the keyboard is not valid
+     */
+    public InlineKeyboardMarkup freeze() throws TelegramApiValidationException {
+        validate();
+        List<List<InlineKeyboardButton>> buttons = ObjectMapperRegistry.getDefault().getObjectMapper()
+                .convertValue(keyboard, KEYBOARD_TYPE);
+        List<List<InlineKeyboardButton>> rows = new ArrayList<>(buttons.size());
+        for (List<InlineKeyboardButton> row : buttons) {
+            rows.add(Collections.unmodifiableList(row));
+        }
+        keyboard = Collections.unmodifiableList(rows);
+        frozenKeyboard = keyboard;
+        return this;
+    }
+
+    @JsonIgnore
+    public boolean isFrozen() {
+        return frozenKeyboard != null && frozenKeyboard == keyboard;
+    }
 
     @Override
     public void validate() throws TelegramApiValidationException {
         if (keyboard == null) {
             throw new TelegramApiValidationException("Keyboard parameter can't be null", this);
         }
+        if (isFrozen()) {
+            return;
+        }
         for (List<InlineKeyboardButton> inlineKeyboardButtons : keyboard) {
             for (InlineKeyboardButton inlineKeyboardButton : inlineKeyboardButtons) {
                 inlineKeyboardButton.validate();
@@ -0,0 +1,3579 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.telegram.telegrambots.meta.api.methods.AnswerCallbackQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerPreCheckoutQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerShippingQuery;
+import org.telegram.telegrambots.meta.api.methods.CopyMessage;
+import org.telegram.telegrambots.meta.api.methods.ForwardMessage;
+import org.telegram.telegrambots.meta.api.methods.GetFile;
+import org.telegram.telegrambots.meta.api.methods.GetMe;
+import org.telegram.telegrambots.meta.api.methods.GetUserProfilePhotos;
+import org.telegram.telegrambots.meta.api.methods.SetPassportDataErrors;
+import org.telegram.telegrambots.meta.api.methods.StopMessageLiveLocation;
+import org.telegram.telegrambots.meta.api.methods.adminrights.GetMyDefaultAdministratorRights;
+import org.telegram.telegrambots.meta.api.methods.adminrights.SetMyDefaultAdministratorRights;
+import org.telegram.telegrambots.meta.api.methods.commands.DeleteMyCommands;
+import org.telegram.telegrambots.meta.api.methods.commands.GetMyCommands;
+import org.telegram.telegrambots.meta.api.methods.commands.SetMyCommands;
+import org.telegram.telegrambots.meta.api.methods.description.GetMyDescription;
+import org.telegram.telegrambots.meta.api.methods.description.GetMyShortDescription;
+import org.telegram.telegrambots.meta.api.methods.description.SetMyDescription;
+import org.telegram.telegrambots.meta.api.methods.description.SetMyShortDescription;
+import org.telegram.telegrambots.meta.api.methods.forum.CloseForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.CloseGeneralForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.CreateForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.DeleteForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.EditForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.EditGeneralForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.GetForumTopicIconStickers;
+import org.telegram.telegrambots.meta.api.methods.forum.HideGeneralForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.ReopenForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.ReopenGeneralForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.UnhideGeneralForumTopic;
+import org.telegram.telegrambots.meta.api.methods.forum.UnpinAllForumTopicMessages;
+import org.telegram.telegrambots.meta.api.methods.forum.UnpinAllGeneralForumTopicMessages;
+import org.telegram.telegrambots.meta.api.methods.games.GetGameHighScores;
+import org.telegram.telegrambots.meta.api.methods.games.SetGameScore;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.ApproveChatJoinRequest;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.BanChatMember;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.BanChatSenderChat;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.CreateChatInviteLink;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.DeclineChatJoinRequest;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.DeleteChatPhoto;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.DeleteChatStickerSet;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.EditChatInviteLink;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.ExportChatInviteLink;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChat;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatAdministrators;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatMember;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatMemberCount;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.LeaveChat;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.PromoteChatMember;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.RestrictChatMember;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.RevokeChatInviteLink;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatAdministratorCustomTitle;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatDescription;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPermissions;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatStickerSet;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatTitle;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.UnbanChatMember;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.UnbanChatSenderChat;
+import org.telegram.telegrambots.meta.api.methods.invoices.CreateInvoiceLink;
+import org.telegram.telegrambots.meta.api.methods.menubutton.GetChatMenuButton;
+import org.telegram.telegrambots.meta.api.methods.menubutton.SetChatMenuButton;
+import org.telegram.telegrambots.meta.api.methods.name.GetMyName;
+import org.telegram.telegrambots.meta.api.methods.name.SetMyName;
+import org.telegram.telegrambots.meta.api.methods.pinnedmessages.PinChatMessage;
+import org.telegram.telegrambots.meta.api.methods.pinnedmessages.UnpinAllChatMessages;
+import org.telegram.telegrambots.meta.api.methods.pinnedmessages.UnpinChatMessage;
+import org.telegram.telegrambots.meta.api.methods.polls.SendPoll;
+import org.telegram.telegrambots.meta.api.methods.polls.StopPoll;
+import org.telegram.telegrambots.meta.api.methods.send.SendChatAction;
+import org.telegram.telegrambots.meta.api.methods.send.SendContact;
+import org.telegram.telegrambots.meta.api.methods.send.SendDice;
+import org.telegram.telegrambots.meta.api.methods.send.SendGame;
+import org.telegram.telegrambots.meta.api.methods.send.SendLocation;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.send.SendVenue;
+import org.telegram.telegrambots.meta.api.methods.stickers.DeleteStickerFromSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.GetCustomEmojiStickers;
+import org.telegram.telegrambots.meta.api.methods.stickers.GetStickerSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.SetCustomEmojiStickerSetThumbnail;
+import org.telegram.telegrambots.meta.api.methods.stickers.SetStickerPositionInSet;
+import org.telegram.telegrambots.meta.api.methods.stickers.SetStickerSetThumb;
+import org.telegram.telegrambots.meta.api.methods.updates.Close;
+import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
+import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+import org.telegram.telegrambots.meta.api.methods.updates.GetWebhookInfo;
+import org.telegram.telegrambots.meta.api.methods.updates.LogOut;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageCaption;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageLiveLocation;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageReplyMarkup;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.api.methods.webapp.AnswerWebAppQuery;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streaming serializers of the api methods, calling their getters directly instead of through reflection.
+ *
+ * Generated by ApiMethodSerializersGenerator from the properties Jackson resolves for each method, do not edit.
+ * Methods whose properties need anything else than their getters are left to Jackson.
+ */
+@SuppressWarnings("deprecation")
+final class ApiMethodSerializers {
+    private ApiMethodSerializers() {
+    }
+
+    static void register(Map<Class<?>, JsonSerializer<?>> serializers) {
+        serializers.put(AnswerCallbackQuery.class, new AnswerCallbackQuerySerializer());
+        serializers.put(AnswerInlineQuery.class, new AnswerInlineQuerySerializer());
+        serializers.put(AnswerPreCheckoutQuery.class, new AnswerPreCheckoutQuerySerializer());
+        serializers.put(AnswerShippingQuery.class, new AnswerShippingQuerySerializer());
+        serializers.put(CopyMessage.class, new CopyMessageSerializer());
+        serializers.put(ForwardMessage.class, new ForwardMessageSerializer());
+        serializers.put(GetFile.class, new GetFileSerializer());
+        serializers.put(GetMe.class, new GetMeSerializer());
+        serializers.put(GetUserProfilePhotos.class, new GetUserProfilePhotosSerializer());
+        serializers.put(SetPassportDataErrors.class, new SetPassportDataErrorsSerializer());
+        serializers.put(StopMessageLiveLocation.class, new StopMessageLiveLocationSerializer());
+        serializers.put(GetMyDefaultAdministratorRights.class, new GetMyDefaultAdministratorRightsSerializer());
+        serializers.put(SetMyDefaultAdministratorRights.class, new SetMyDefaultAdministratorRightsSerializer());
+        serializers.put(DeleteMyCommands.class, new DeleteMyCommandsSerializer());
+        serializers.put(GetMyCommands.class, new GetMyCommandsSerializer());
+        serializers.put(SetMyCommands.class, new SetMyCommandsSerializer());
+        serializers.put(GetMyDescription.class, new GetMyDescriptionSerializer());
+        serializers.put(GetMyShortDescription.class, new GetMyShortDescriptionSerializer());
+        serializers.put(SetMyDescription.class, new SetMyDescriptionSerializer());
+        serializers.put(SetMyShortDescription.class, new SetMyShortDescriptionSerializer());
+        serializers.put(CloseForumTopic.class, new CloseForumTopicSerializer());
+        serializers.put(CloseGeneralForumTopic.class, new CloseGeneralForumTopicSerializer());
+        serializers.put(CreateForumTopic.class, new CreateForumTopicSerializer());
+        serializers.put(DeleteForumTopic.class, new DeleteForumTopicSerializer());
+        serializers.put(EditForumTopic.class, new EditForumTopicSerializer());
+        serializers.put(EditGeneralForumTopic.class, new EditGeneralForumTopicSerializer());
+        serializers.put(GetForumTopicIconStickers.class, new GetForumTopicIconStickersSerializer());
+        serializers.put(HideGeneralForumTopic.class, new HideGeneralForumTopicSerializer());
+        serializers.put(ReopenForumTopic.class, new ReopenForumTopicSerializer());
+        serializers.put(ReopenGeneralForumTopic.class, new ReopenGeneralForumTopicSerializer());
+        serializers.put(UnhideGeneralForumTopic.class, new UnhideGeneralForumTopicSerializer());
+        serializers.put(UnpinAllForumTopicMessages.class, new UnpinAllForumTopicMessagesSerializer());
+        serializers.put(UnpinAllGeneralForumTopicMessages.class, new UnpinAllGeneralForumTopicMessagesSerializer());
+        serializers.put(GetGameHighScores.class, new GetGameHighScoresSerializer());
+        serializers.put(SetGameScore.class, new SetGameScoreSerializer());
+        serializers.put(ApproveChatJoinRequest.class, new ApproveChatJoinRequestSerializer());
+        serializers.put(BanChatMember.class, new BanChatMemberSerializer());
+        serializers.put(BanChatSenderChat.class, new BanChatSenderChatSerializer());
+        serializers.put(CreateChatInviteLink.class, new CreateChatInviteLinkSerializer());
+        serializers.put(DeclineChatJoinRequest.class, new DeclineChatJoinRequestSerializer());
+        serializers.put(DeleteChatPhoto.class, new DeleteChatPhotoSerializer());
+        serializers.put(DeleteChatStickerSet.class, new DeleteChatStickerSetSerializer());
+        serializers.put(EditChatInviteLink.class, new EditChatInviteLinkSerializer());
+        serializers.put(ExportChatInviteLink.class, new ExportChatInviteLinkSerializer());
+        serializers.put(GetChat.class, new GetChatSerializer());
+        serializers.put(GetChatAdministrators.class, new GetChatAdministratorsSerializer());
+        serializers.put(GetChatMember.class, new GetChatMemberSerializer());
+        serializers.put(GetChatMemberCount.class, new GetChatMemberCountSerializer());
+        serializers.put(LeaveChat.class, new LeaveChatSerializer());
+        serializers.put(PromoteChatMember.class, new PromoteChatMemberSerializer());
+        serializers.put(RestrictChatMember.class, new RestrictChatMemberSerializer());
+        serializers.put(RevokeChatInviteLink.class, new RevokeChatInviteLinkSerializer());
+        serializers.put(SetChatAdministratorCustomTitle.class, new SetChatAdministratorCustomTitleSerializer());
+        serializers.put(SetChatDescription.class, new SetChatDescriptionSerializer());
+        serializers.put(SetChatPermissions.class, new SetChatPermissionsSerializer());
+        serializers.put(SetChatStickerSet.class, new SetChatStickerSetSerializer());
+        serializers.put(SetChatTitle.class, new SetChatTitleSerializer());
+        serializers.put(UnbanChatMember.class, new UnbanChatMemberSerializer());
+        serializers.put(UnbanChatSenderChat.class, new UnbanChatSenderChatSerializer());
+        serializers.put(CreateInvoiceLink.class, new CreateInvoiceLinkSerializer());
+        serializers.put(org.telegram.telegrambots.meta.api.methods.invoices.SendInvoice.class, new InvoicesSendInvoiceSerializer());
+        serializers.put(GetChatMenuButton.class, new GetChatMenuButtonSerializer());
+        serializers.put(SetChatMenuButton.class, new SetChatMenuButtonSerializer());
+        serializers.put(GetMyName.class, new GetMyNameSerializer());
+        serializers.put(SetMyName.class, new SetMyNameSerializer());
+        serializers.put(PinChatMessage.class, new PinChatMessageSerializer());
+        serializers.put(UnpinAllChatMessages.class, new UnpinAllChatMessagesSerializer());
+        serializers.put(UnpinChatMessage.class, new UnpinChatMessageSerializer());
+        serializers.put(SendPoll.class, new SendPollSerializer());
+        serializers.put(StopPoll.class, new StopPollSerializer());
+        serializers.put(SendChatAction.class, new SendChatActionSerializer());
+        serializers.put(SendContact.class, new SendContactSerializer());
+        serializers.put(SendDice.class, new SendDiceSerializer());
+        serializers.put(SendGame.class, new SendGameSerializer());
+        serializers.put(org.telegram.telegrambots.meta.api.methods.send.SendInvoice.class, new SendSendInvoiceSerializer());
+        serializers.put(SendLocation.class, new SendLocationSerializer());
+        serializers.put(SendMessage.class, new SendMessageSerializer());
+        serializers.put(SendVenue.class, new SendVenueSerializer());
+        serializers.put(DeleteStickerFromSet.class, new DeleteStickerFromSetSerializer());
+        serializers.put(GetCustomEmojiStickers.class, new GetCustomEmojiStickersSerializer());
+        serializers.put(GetStickerSet.class, new GetStickerSetSerializer());
+        serializers.put(SetCustomEmojiStickerSetThumbnail.class, new SetCustomEmojiStickerSetThumbnailSerializer());
+        serializers.put(SetStickerPositionInSet.class, new SetStickerPositionInSetSerializer());
+        serializers.put(SetStickerSetThumb.class, new SetStickerSetThumbSerializer());
+        serializers.put(Close.class, new CloseSerializer());
+        serializers.put(DeleteWebhook.class, new DeleteWebhookSerializer());
+        serializers.put(GetUpdates.class, new GetUpdatesSerializer());
+        serializers.put(GetWebhookInfo.class, new GetWebhookInfoSerializer());
+        serializers.put(LogOut.class, new LogOutSerializer());
+        serializers.put(SetWebhook.class, new SetWebhookSerializer());
+        serializers.put(DeleteMessage.class, new DeleteMessageSerializer());
+        serializers.put(EditMessageCaption.class, new EditMessageCaptionSerializer());
+        serializers.put(EditMessageLiveLocation.class, new EditMessageLiveLocationSerializer());
+        serializers.put(EditMessageReplyMarkup.class, new EditMessageReplyMarkupSerializer());
+        serializers.put(EditMessageText.class, new EditMessageTextSerializer());
+        serializers.put(AnswerWebAppQuery.class, new AnswerWebAppQuerySerializer());
+    }
+
+    private static final class AnswerCallbackQuerySerializer extends StdSerializer<AnswerCallbackQuery> {
+        private static final long serialVersionUID = 1L;
+
+        private AnswerCallbackQuerySerializer() {
+            super(AnswerCallbackQuery.class);
+        }
+
+        @Override
+        public void serialize(AnswerCallbackQuery value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueCallbackQueryId = value.getCallbackQueryId();
+            if (valueCallbackQueryId != null) {
+                gen.writeStringField("callback_query_id", valueCallbackQueryId);
+            }
+            String valueText = value.getText();
+            if (valueText != null) {
+                gen.writeStringField("text", valueText);
+            }
+            Boolean valueShowAlert = value.getShowAlert();
+            if (valueShowAlert != null) {
+                gen.writeBooleanField("show_alert", valueShowAlert);
+            }
+            String valueUrl = value.getUrl();
+            if (valueUrl != null) {
+                gen.writeStringField("url", valueUrl);
+            }
+            Integer valueCacheTime = value.getCacheTime();
+            if (valueCacheTime != null) {
+                gen.writeNumberField("cache_time", valueCacheTime);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class AnswerInlineQuerySerializer extends StdSerializer<AnswerInlineQuery> {
+        private static final long serialVersionUID = 1L;
+
+        private AnswerInlineQuerySerializer() {
+            super(AnswerInlineQuery.class);
+        }
+
+        @Override
+        public void serialize(AnswerInlineQuery value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueInlineQueryId = value.getInlineQueryId();
+            if (valueInlineQueryId != null) {
+                gen.writeStringField("inline_query_id", valueInlineQueryId);
+            }
+            Object valueResults = value.getResults();
+            if (valueResults != null) {
+                gen.writeFieldName("results");
+                provider.defaultSerializeValue(valueResults, gen);
+            }
+            Integer valueCacheTime = value.getCacheTime();
+            if (valueCacheTime != null) {
+                gen.writeNumberField("cache_time", valueCacheTime);
+            }
+            Boolean valueIsPersonal = value.getIsPersonal();
+            if (valueIsPersonal != null) {
+                gen.writeBooleanField("is_personal", valueIsPersonal);
+            }
+            String valueNextOffset = value.getNextOffset();
+            if (valueNextOffset != null) {
+                gen.writeStringField("next_offset", valueNextOffset);
+            }
+            String valueSwitchPmText = value.getSwitchPmText();
+            if (valueSwitchPmText != null) {
+                gen.writeStringField("switch_pm_text", valueSwitchPmText);
+            }
+            String valueSwitchPmParameter = value.getSwitchPmParameter();
+            if (valueSwitchPmParameter != null) {
+                gen.writeStringField("switch_pm_parameter", valueSwitchPmParameter);
+            }
+            Object valueButton = value.getButton();
+            if (valueButton != null) {
+                gen.writeFieldName("button");
+                provider.defaultSerializeValue(valueButton, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class AnswerPreCheckoutQuerySerializer extends StdSerializer<AnswerPreCheckoutQuery> {
+        private static final long serialVersionUID = 1L;
+
+        private AnswerPreCheckoutQuerySerializer() {
+            super(AnswerPreCheckoutQuery.class);
+        }
+
+        @Override
+        public void serialize(AnswerPreCheckoutQuery value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valuePreCheckoutQueryId = value.getPreCheckoutQueryId();
+            if (valuePreCheckoutQueryId != null) {
+                gen.writeStringField("pre_checkout_query_id", valuePreCheckoutQueryId);
+            }
+            Boolean valueOk = value.getOk();
+            if (valueOk != null) {
+                gen.writeBooleanField("ok", valueOk);
+            }
+            String valueErrorMessage = value.getErrorMessage();
+            if (valueErrorMessage != null) {
+                gen.writeStringField("error_message", valueErrorMessage);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class AnswerShippingQuerySerializer extends StdSerializer<AnswerShippingQuery> {
+        private static final long serialVersionUID = 1L;
+
+        private AnswerShippingQuerySerializer() {
+            super(AnswerShippingQuery.class);
+        }
+
+        @Override
+        public void serialize(AnswerShippingQuery value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueShippingQueryId = value.getShippingQueryId();
+            if (valueShippingQueryId != null) {
+                gen.writeStringField("shipping_query_id", valueShippingQueryId);
+            }
+            Boolean valueOk = value.getOk();
+            if (valueOk != null) {
+                gen.writeBooleanField("ok", valueOk);
+            }
+            Object valueShippingOptions = value.getShippingOptions();
+            if (valueShippingOptions != null) {
+                gen.writeFieldName("shipping_options");
+                provider.defaultSerializeValue(valueShippingOptions, gen);
+            }
+            String valueErrorMessage = value.getErrorMessage();
+            if (valueErrorMessage != null) {
+                gen.writeStringField("error_message", valueErrorMessage);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CopyMessageSerializer extends StdSerializer<CopyMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private CopyMessageSerializer() {
+            super(CopyMessage.class);
+        }
+
+        @Override
+        public void serialize(CopyMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueFromChatId = value.getFromChatId();
+            if (valueFromChatId != null) {
+                gen.writeStringField("from_chat_id", valueFromChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueCaption = value.getCaption();
+            if (valueCaption != null) {
+                gen.writeStringField("caption", valueCaption);
+            }
+            String valueParseMode = value.getParseMode();
+            if (valueParseMode != null) {
+                gen.writeStringField("parse_mode", valueParseMode);
+            }
+            Object valueCaptionEntities = value.getCaptionEntities();
+            if (valueCaptionEntities != null) {
+                gen.writeFieldName("caption_entities");
+                provider.defaultSerializeValue(valueCaptionEntities, gen);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ForwardMessageSerializer extends StdSerializer<ForwardMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private ForwardMessageSerializer() {
+            super(ForwardMessage.class);
+        }
+
+        @Override
+        public void serialize(ForwardMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueFromChatId = value.getFromChatId();
+            if (valueFromChatId != null) {
+                gen.writeStringField("from_chat_id", valueFromChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetFileSerializer extends StdSerializer<GetFile> {
+        private static final long serialVersionUID = 1L;
+
+        private GetFileSerializer() {
+            super(GetFile.class);
+        }
+
+        @Override
+        public void serialize(GetFile value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueFileId = value.getFileId();
+            if (valueFileId != null) {
+                gen.writeStringField("file_id", valueFileId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMeSerializer extends StdSerializer<GetMe> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMeSerializer() {
+            super(GetMe.class);
+        }
+
+        @Override
+        public void serialize(GetMe value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetUserProfilePhotosSerializer extends StdSerializer<GetUserProfilePhotos> {
+        private static final long serialVersionUID = 1L;
+
+        private GetUserProfilePhotosSerializer() {
+            super(GetUserProfilePhotos.class);
+        }
+
+        @Override
+        public void serialize(GetUserProfilePhotos value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Integer valueOffset = value.getOffset();
+            if (valueOffset != null) {
+                gen.writeNumberField("offset", valueOffset);
+            }
+            Integer valueLimit = value.getLimit();
+            if (valueLimit != null) {
+                gen.writeNumberField("limit", valueLimit);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetPassportDataErrorsSerializer extends StdSerializer<SetPassportDataErrors> {
+        private static final long serialVersionUID = 1L;
+
+        private SetPassportDataErrorsSerializer() {
+            super(SetPassportDataErrors.class);
+        }
+
+        @Override
+        public void serialize(SetPassportDataErrors value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Object valueErrors = value.getErrors();
+            if (valueErrors != null) {
+                gen.writeFieldName("errors");
+                provider.defaultSerializeValue(valueErrors, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class StopMessageLiveLocationSerializer extends StdSerializer<StopMessageLiveLocation> {
+        private static final long serialVersionUID = 1L;
+
+        private StopMessageLiveLocationSerializer() {
+            super(StopMessageLiveLocation.class);
+        }
+
+        @Override
+        public void serialize(StopMessageLiveLocation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMyDefaultAdministratorRightsSerializer extends StdSerializer<GetMyDefaultAdministratorRights> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMyDefaultAdministratorRightsSerializer() {
+            super(GetMyDefaultAdministratorRights.class);
+        }
+
+        @Override
+        public void serialize(GetMyDefaultAdministratorRights value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Boolean valueForChannels = value.getForChannels();
+            if (valueForChannels != null) {
+                gen.writeBooleanField("for_channels", valueForChannels);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetMyDefaultAdministratorRightsSerializer extends StdSerializer<SetMyDefaultAdministratorRights> {
+        private static final long serialVersionUID = 1L;
+
+        private SetMyDefaultAdministratorRightsSerializer() {
+            super(SetMyDefaultAdministratorRights.class);
+        }
+
+        @Override
+        public void serialize(SetMyDefaultAdministratorRights value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Object valueRights = value.getRights();
+            if (valueRights != null) {
+                gen.writeFieldName("rights");
+                provider.defaultSerializeValue(valueRights, gen);
+            }
+            Boolean valueForChannels = value.getForChannels();
+            if (valueForChannels != null) {
+                gen.writeBooleanField("for_channels", valueForChannels);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteMyCommandsSerializer extends StdSerializer<DeleteMyCommands> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteMyCommandsSerializer() {
+            super(DeleteMyCommands.class);
+        }
+
+        @Override
+        public void serialize(DeleteMyCommands value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Object valueScope = value.getScope();
+            if (valueScope != null) {
+                gen.writeFieldName("scope");
+                provider.defaultSerializeValue(valueScope, gen);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMyCommandsSerializer extends StdSerializer<GetMyCommands> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMyCommandsSerializer() {
+            super(GetMyCommands.class);
+        }
+
+        @Override
+        public void serialize(GetMyCommands value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Object valueScope = value.getScope();
+            if (valueScope != null) {
+                gen.writeFieldName("scope");
+                provider.defaultSerializeValue(valueScope, gen);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetMyCommandsSerializer extends StdSerializer<SetMyCommands> {
+        private static final long serialVersionUID = 1L;
+
+        private SetMyCommandsSerializer() {
+            super(SetMyCommands.class);
+        }
+
+        @Override
+        public void serialize(SetMyCommands value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Object valueCommands = value.getCommands();
+            if (valueCommands != null) {
+                gen.writeFieldName("commands");
+                provider.defaultSerializeValue(valueCommands, gen);
+            }
+            Object valueScope = value.getScope();
+            if (valueScope != null) {
+                gen.writeFieldName("scope");
+                provider.defaultSerializeValue(valueScope, gen);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMyDescriptionSerializer extends StdSerializer<GetMyDescription> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMyDescriptionSerializer() {
+            super(GetMyDescription.class);
+        }
+
+        @Override
+        public void serialize(GetMyDescription value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMyShortDescriptionSerializer extends StdSerializer<GetMyShortDescription> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMyShortDescriptionSerializer() {
+            super(GetMyShortDescription.class);
+        }
+
+        @Override
+        public void serialize(GetMyShortDescription value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetMyDescriptionSerializer extends StdSerializer<SetMyDescription> {
+        private static final long serialVersionUID = 1L;
+
+        private SetMyDescriptionSerializer() {
+            super(SetMyDescription.class);
+        }
+
+        @Override
+        public void serialize(SetMyDescription value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueDescription = value.getDescription();
+            if (valueDescription != null) {
+                gen.writeStringField("description", valueDescription);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetMyShortDescriptionSerializer extends StdSerializer<SetMyShortDescription> {
+        private static final long serialVersionUID = 1L;
+
+        private SetMyShortDescriptionSerializer() {
+            super(SetMyShortDescription.class);
+        }
+
+        @Override
+        public void serialize(SetMyShortDescription value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueShortDescription = value.getShortDescription();
+            if (valueShortDescription != null) {
+                gen.writeStringField("short_description", valueShortDescription);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CloseForumTopicSerializer extends StdSerializer<CloseForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private CloseForumTopicSerializer() {
+            super(CloseForumTopic.class);
+        }
+
+        @Override
+        public void serialize(CloseForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CloseGeneralForumTopicSerializer extends StdSerializer<CloseGeneralForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private CloseGeneralForumTopicSerializer() {
+            super(CloseGeneralForumTopic.class);
+        }
+
+        @Override
+        public void serialize(CloseGeneralForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CreateForumTopicSerializer extends StdSerializer<CreateForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private CreateForumTopicSerializer() {
+            super(CreateForumTopic.class);
+        }
+
+        @Override
+        public void serialize(CreateForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            Integer valueIconColor = value.getIconColor();
+            if (valueIconColor != null) {
+                gen.writeNumberField("icon_color", valueIconColor);
+            }
+            String valueIconCustomEmojiId = value.getIconCustomEmojiId();
+            if (valueIconCustomEmojiId != null) {
+                gen.writeStringField("icon_custom_emoji_id", valueIconCustomEmojiId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteForumTopicSerializer extends StdSerializer<DeleteForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteForumTopicSerializer() {
+            super(DeleteForumTopic.class);
+        }
+
+        @Override
+        public void serialize(DeleteForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditForumTopicSerializer extends StdSerializer<EditForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private EditForumTopicSerializer() {
+            super(EditForumTopic.class);
+        }
+
+        @Override
+        public void serialize(EditForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            String valueIconCustomEmojiId = value.getIconCustomEmojiId();
+            if (valueIconCustomEmojiId != null) {
+                gen.writeStringField("icon_custom_emoji_id", valueIconCustomEmojiId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditGeneralForumTopicSerializer extends StdSerializer<EditGeneralForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private EditGeneralForumTopicSerializer() {
+            super(EditGeneralForumTopic.class);
+        }
+
+        @Override
+        public void serialize(EditGeneralForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetForumTopicIconStickersSerializer extends StdSerializer<GetForumTopicIconStickers> {
+        private static final long serialVersionUID = 1L;
+
+        private GetForumTopicIconStickersSerializer() {
+            super(GetForumTopicIconStickers.class);
+        }
+
+        @Override
+        public void serialize(GetForumTopicIconStickers value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class HideGeneralForumTopicSerializer extends StdSerializer<HideGeneralForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private HideGeneralForumTopicSerializer() {
+            super(HideGeneralForumTopic.class);
+        }
+
+        @Override
+        public void serialize(HideGeneralForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ReopenForumTopicSerializer extends StdSerializer<ReopenForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private ReopenForumTopicSerializer() {
+            super(ReopenForumTopic.class);
+        }
+
+        @Override
+        public void serialize(ReopenForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ReopenGeneralForumTopicSerializer extends StdSerializer<ReopenGeneralForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private ReopenGeneralForumTopicSerializer() {
+            super(ReopenGeneralForumTopic.class);
+        }
+
+        @Override
+        public void serialize(ReopenGeneralForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnhideGeneralForumTopicSerializer extends StdSerializer<UnhideGeneralForumTopic> {
+        private static final long serialVersionUID = 1L;
+
+        private UnhideGeneralForumTopicSerializer() {
+            super(UnhideGeneralForumTopic.class);
+        }
+
+        @Override
+        public void serialize(UnhideGeneralForumTopic value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnpinAllForumTopicMessagesSerializer extends StdSerializer<UnpinAllForumTopicMessages> {
+        private static final long serialVersionUID = 1L;
+
+        private UnpinAllForumTopicMessagesSerializer() {
+            super(UnpinAllForumTopicMessages.class);
+        }
+
+        @Override
+        public void serialize(UnpinAllForumTopicMessages value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnpinAllGeneralForumTopicMessagesSerializer extends StdSerializer<UnpinAllGeneralForumTopicMessages> {
+        private static final long serialVersionUID = 1L;
+
+        private UnpinAllGeneralForumTopicMessagesSerializer() {
+            super(UnpinAllGeneralForumTopicMessages.class);
+        }
+
+        @Override
+        public void serialize(UnpinAllGeneralForumTopicMessages value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetGameHighScoresSerializer extends StdSerializer<GetGameHighScores> {
+        private static final long serialVersionUID = 1L;
+
+        private GetGameHighScoresSerializer() {
+            super(GetGameHighScores.class);
+        }
+
+        @Override
+        public void serialize(GetGameHighScores value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetGameScoreSerializer extends StdSerializer<SetGameScore> {
+        private static final long serialVersionUID = 1L;
+
+        private SetGameScoreSerializer() {
+            super(SetGameScore.class);
+        }
+
+        @Override
+        public void serialize(SetGameScore value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            Boolean valueDisableEditMessage = value.getDisableEditMessage();
+            if (valueDisableEditMessage != null) {
+                gen.writeBooleanField("disable_edit_message", valueDisableEditMessage);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Integer valueScore = value.getScore();
+            if (valueScore != null) {
+                gen.writeNumberField("score", valueScore);
+            }
+            Boolean valueForce = value.getForce();
+            if (valueForce != null) {
+                gen.writeBooleanField("force", valueForce);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ApproveChatJoinRequestSerializer extends StdSerializer<ApproveChatJoinRequest> {
+        private static final long serialVersionUID = 1L;
+
+        private ApproveChatJoinRequestSerializer() {
+            super(ApproveChatJoinRequest.class);
+        }
+
+        @Override
+        public void serialize(ApproveChatJoinRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class BanChatMemberSerializer extends StdSerializer<BanChatMember> {
+        private static final long serialVersionUID = 1L;
+
+        private BanChatMemberSerializer() {
+            super(BanChatMember.class);
+        }
+
+        @Override
+        public void serialize(BanChatMember value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Integer valueUntilDate = value.getUntilDate();
+            if (valueUntilDate != null) {
+                gen.writeNumberField("until_date", valueUntilDate);
+            }
+            Boolean valueRevokeMessages = value.getRevokeMessages();
+            if (valueRevokeMessages != null) {
+                gen.writeBooleanField("revoke_messages", valueRevokeMessages);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class BanChatSenderChatSerializer extends StdSerializer<BanChatSenderChat> {
+        private static final long serialVersionUID = 1L;
+
+        private BanChatSenderChatSerializer() {
+            super(BanChatSenderChat.class);
+        }
+
+        @Override
+        public void serialize(BanChatSenderChat value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueSenderChatId = value.getSenderChatId();
+            if (valueSenderChatId != null) {
+                gen.writeNumberField("sender_chat_id", valueSenderChatId);
+            }
+            Integer valueUntilDate = value.getUntilDate();
+            if (valueUntilDate != null) {
+                gen.writeNumberField("until_date", valueUntilDate);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CreateChatInviteLinkSerializer extends StdSerializer<CreateChatInviteLink> {
+        private static final long serialVersionUID = 1L;
+
+        private CreateChatInviteLinkSerializer() {
+            super(CreateChatInviteLink.class);
+        }
+
+        @Override
+        public void serialize(CreateChatInviteLink value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueExpireDate = value.getExpireDate();
+            if (valueExpireDate != null) {
+                gen.writeNumberField("expire_date", valueExpireDate);
+            }
+            Integer valueMemberLimit = value.getMemberLimit();
+            if (valueMemberLimit != null) {
+                gen.writeNumberField("member_limit", valueMemberLimit);
+            }
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            Boolean valueCreatesJoinRequest = value.getCreatesJoinRequest();
+            if (valueCreatesJoinRequest != null) {
+                gen.writeBooleanField("creates_join_request", valueCreatesJoinRequest);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeclineChatJoinRequestSerializer extends StdSerializer<DeclineChatJoinRequest> {
+        private static final long serialVersionUID = 1L;
+
+        private DeclineChatJoinRequestSerializer() {
+            super(DeclineChatJoinRequest.class);
+        }
+
+        @Override
+        public void serialize(DeclineChatJoinRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteChatPhotoSerializer extends StdSerializer<DeleteChatPhoto> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteChatPhotoSerializer() {
+            super(DeleteChatPhoto.class);
+        }
+
+        @Override
+        public void serialize(DeleteChatPhoto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteChatStickerSetSerializer extends StdSerializer<DeleteChatStickerSet> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteChatStickerSetSerializer() {
+            super(DeleteChatStickerSet.class);
+        }
+
+        @Override
+        public void serialize(DeleteChatStickerSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditChatInviteLinkSerializer extends StdSerializer<EditChatInviteLink> {
+        private static final long serialVersionUID = 1L;
+
+        private EditChatInviteLinkSerializer() {
+            super(EditChatInviteLink.class);
+        }
+
+        @Override
+        public void serialize(EditChatInviteLink value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueInviteLink = value.getInviteLink();
+            if (valueInviteLink != null) {
+                gen.writeStringField("invite_link", valueInviteLink);
+            }
+            Integer valueExpireDate = value.getExpireDate();
+            if (valueExpireDate != null) {
+                gen.writeNumberField("expire_date", valueExpireDate);
+            }
+            Integer valueMemberLimit = value.getMemberLimit();
+            if (valueMemberLimit != null) {
+                gen.writeNumberField("member_limit", valueMemberLimit);
+            }
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            Boolean valueCreatesJoinRequest = value.getCreatesJoinRequest();
+            if (valueCreatesJoinRequest != null) {
+                gen.writeBooleanField("creates_join_request", valueCreatesJoinRequest);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ExportChatInviteLinkSerializer extends StdSerializer<ExportChatInviteLink> {
+        private static final long serialVersionUID = 1L;
+
+        private ExportChatInviteLinkSerializer() {
+            super(ExportChatInviteLink.class);
+        }
+
+        @Override
+        public void serialize(ExportChatInviteLink value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetChatSerializer extends StdSerializer<GetChat> {
+        private static final long serialVersionUID = 1L;
+
+        private GetChatSerializer() {
+            super(GetChat.class);
+        }
+
+        @Override
+        public void serialize(GetChat value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetChatAdministratorsSerializer extends StdSerializer<GetChatAdministrators> {
+        private static final long serialVersionUID = 1L;
+
+        private GetChatAdministratorsSerializer() {
+            super(GetChatAdministrators.class);
+        }
+
+        @Override
+        public void serialize(GetChatAdministrators value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetChatMemberSerializer extends StdSerializer<GetChatMember> {
+        private static final long serialVersionUID = 1L;
+
+        private GetChatMemberSerializer() {
+            super(GetChatMember.class);
+        }
+
+        @Override
+        public void serialize(GetChatMember value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetChatMemberCountSerializer extends StdSerializer<GetChatMemberCount> {
+        private static final long serialVersionUID = 1L;
+
+        private GetChatMemberCountSerializer() {
+            super(GetChatMemberCount.class);
+        }
+
+        @Override
+        public void serialize(GetChatMemberCount value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class LeaveChatSerializer extends StdSerializer<LeaveChat> {
+        private static final long serialVersionUID = 1L;
+
+        private LeaveChatSerializer() {
+            super(LeaveChat.class);
+        }
+
+        @Override
+        public void serialize(LeaveChat value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PromoteChatMemberSerializer extends StdSerializer<PromoteChatMember> {
+        private static final long serialVersionUID = 1L;
+
+        private PromoteChatMemberSerializer() {
+            super(PromoteChatMember.class);
+        }
+
+        @Override
+        public void serialize(PromoteChatMember value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Boolean valueCanChangeInfo = value.getCanChangeInformation();
+            if (valueCanChangeInfo != null) {
+                gen.writeBooleanField("can_change_info", valueCanChangeInfo);
+            }
+            Boolean valueCanPostMessages = value.getCanPostMessages();
+            if (valueCanPostMessages != null) {
+                gen.writeBooleanField("can_post_messages", valueCanPostMessages);
+            }
+            Boolean valueCanEditMessages = value.getCanEditMessages();
+            if (valueCanEditMessages != null) {
+                gen.writeBooleanField("can_edit_messages", valueCanEditMessages);
+            }
+            Boolean valueCanDeleteMessages = value.getCanDeleteMessages();
+            if (valueCanDeleteMessages != null) {
+                gen.writeBooleanField("can_delete_messages", valueCanDeleteMessages);
+            }
+            Boolean valueCanInviteUsers = value.getCanInviteUsers();
+            if (valueCanInviteUsers != null) {
+                gen.writeBooleanField("can_invite_users", valueCanInviteUsers);
+            }
+            Boolean valueCanRestrictMembers = value.getCanRestrictMembers();
+            if (valueCanRestrictMembers != null) {
+                gen.writeBooleanField("can_restrict_members", valueCanRestrictMembers);
+            }
+            Boolean valueCanPinMessages = value.getCanPinMessages();
+            if (valueCanPinMessages != null) {
+                gen.writeBooleanField("can_pin_messages", valueCanPinMessages);
+            }
+            Boolean valueCanPromoteMembers = value.getCanPromoteMembers();
+            if (valueCanPromoteMembers != null) {
+                gen.writeBooleanField("can_promote_members", valueCanPromoteMembers);
+            }
+            Boolean valueIsAnonymous = value.getIsAnonymous();
+            if (valueIsAnonymous != null) {
+                gen.writeBooleanField("is_anonymous", valueIsAnonymous);
+            }
+            Boolean valueCanManageChat = value.getCanManageChat();
+            if (valueCanManageChat != null) {
+                gen.writeBooleanField("can_manage_chat", valueCanManageChat);
+            }
+            Boolean valueCanManageVideoChats = value.getCanManageVideoChats();
+            if (valueCanManageVideoChats != null) {
+                gen.writeBooleanField("can_manage_video_chats", valueCanManageVideoChats);
+            }
+            Boolean valueCanManageTopics = value.getCanManageTopics();
+            if (valueCanManageTopics != null) {
+                gen.writeBooleanField("can_manage_topics", valueCanManageTopics);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class RestrictChatMemberSerializer extends StdSerializer<RestrictChatMember> {
+        private static final long serialVersionUID = 1L;
+
+        private RestrictChatMemberSerializer() {
+            super(RestrictChatMember.class);
+        }
+
+        @Override
+        public void serialize(RestrictChatMember value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Object valuePermissions = value.getPermissions();
+            if (valuePermissions != null) {
+                gen.writeFieldName("permissions");
+                provider.defaultSerializeValue(valuePermissions, gen);
+            }
+            Integer valueUntilDate = value.getUntilDate();
+            if (valueUntilDate != null) {
+                gen.writeNumberField("until_date", valueUntilDate);
+            }
+            Boolean valueUseIndependentChatPermissions = value.getUseIndependentChatPermissions();
+            if (valueUseIndependentChatPermissions != null) {
+                gen.writeBooleanField("use_independent_chat_permissions", valueUseIndependentChatPermissions);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class RevokeChatInviteLinkSerializer extends StdSerializer<RevokeChatInviteLink> {
+        private static final long serialVersionUID = 1L;
+
+        private RevokeChatInviteLinkSerializer() {
+            super(RevokeChatInviteLink.class);
+        }
+
+        @Override
+        public void serialize(RevokeChatInviteLink value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueInviteLink = value.getInviteLink();
+            if (valueInviteLink != null) {
+                gen.writeStringField("invite_link", valueInviteLink);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatAdministratorCustomTitleSerializer extends StdSerializer<SetChatAdministratorCustomTitle> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatAdministratorCustomTitleSerializer() {
+            super(SetChatAdministratorCustomTitle.class);
+        }
+
+        @Override
+        public void serialize(SetChatAdministratorCustomTitle value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            String valueCustomTitle = value.getCustomTitle();
+            if (valueCustomTitle != null) {
+                gen.writeStringField("custom_title", valueCustomTitle);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatDescriptionSerializer extends StdSerializer<SetChatDescription> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatDescriptionSerializer() {
+            super(SetChatDescription.class);
+        }
+
+        @Override
+        public void serialize(SetChatDescription value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueDescription = value.getDescription();
+            if (valueDescription != null) {
+                gen.writeStringField("description", valueDescription);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatPermissionsSerializer extends StdSerializer<SetChatPermissions> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatPermissionsSerializer() {
+            super(SetChatPermissions.class);
+        }
+
+        @Override
+        public void serialize(SetChatPermissions value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Object valuePermissions = value.getPermissions();
+            if (valuePermissions != null) {
+                gen.writeFieldName("permissions");
+                provider.defaultSerializeValue(valuePermissions, gen);
+            }
+            Boolean valueUseIndependentChatPermissions = value.getUseIndependentChatPermissions();
+            if (valueUseIndependentChatPermissions != null) {
+                gen.writeBooleanField("use_independent_chat_permissions", valueUseIndependentChatPermissions);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatStickerSetSerializer extends StdSerializer<SetChatStickerSet> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatStickerSetSerializer() {
+            super(SetChatStickerSet.class);
+        }
+
+        @Override
+        public void serialize(SetChatStickerSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueStickerSetName = value.getStickerSetName();
+            if (valueStickerSetName != null) {
+                gen.writeStringField("sticker_set_name", valueStickerSetName);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatTitleSerializer extends StdSerializer<SetChatTitle> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatTitleSerializer() {
+            super(SetChatTitle.class);
+        }
+
+        @Override
+        public void serialize(SetChatTitle value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueTitle = value.getTitle();
+            if (valueTitle != null) {
+                gen.writeStringField("title", valueTitle);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnbanChatMemberSerializer extends StdSerializer<UnbanChatMember> {
+        private static final long serialVersionUID = 1L;
+
+        private UnbanChatMemberSerializer() {
+            super(UnbanChatMember.class);
+        }
+
+        @Override
+        public void serialize(UnbanChatMember value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("user_id", valueUserId);
+            }
+            Boolean valueOnlyIfBanned = value.getOnlyIfBanned();
+            if (valueOnlyIfBanned != null) {
+                gen.writeBooleanField("only_if_banned", valueOnlyIfBanned);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnbanChatSenderChatSerializer extends StdSerializer<UnbanChatSenderChat> {
+        private static final long serialVersionUID = 1L;
+
+        private UnbanChatSenderChatSerializer() {
+            super(UnbanChatSenderChat.class);
+        }
+
+        @Override
+        public void serialize(UnbanChatSenderChat value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Long valueSenderChatId = value.getSenderChatId();
+            if (valueSenderChatId != null) {
+                gen.writeNumberField("sender_chat_id", valueSenderChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CreateInvoiceLinkSerializer extends StdSerializer<CreateInvoiceLink> {
+        private static final long serialVersionUID = 1L;
+
+        private CreateInvoiceLinkSerializer() {
+            super(CreateInvoiceLink.class);
+        }
+
+        @Override
+        public void serialize(CreateInvoiceLink value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueTitle = value.getTitle();
+            if (valueTitle != null) {
+                gen.writeStringField("title", valueTitle);
+            }
+            String valueDescription = value.getDescription();
+            if (valueDescription != null) {
+                gen.writeStringField("description", valueDescription);
+            }
+            String valuePayload = value.getPayload();
+            if (valuePayload != null) {
+                gen.writeStringField("payload", valuePayload);
+            }
+            String valueProviderToken = value.getProviderToken();
+            if (valueProviderToken != null) {
+                gen.writeStringField("provider_token", valueProviderToken);
+            }
+            String valueCurrency = value.getCurrency();
+            if (valueCurrency != null) {
+                gen.writeStringField("currency", valueCurrency);
+            }
+            Object valuePrices = value.getPrices();
+            if (valuePrices != null) {
+                gen.writeFieldName("prices");
+                provider.defaultSerializeValue(valuePrices, gen);
+            }
+            String valuePhotoUrl = value.getPhotoUrl();
+            if (valuePhotoUrl != null) {
+                gen.writeStringField("photo_url", valuePhotoUrl);
+            }
+            Integer valuePhotoSize = value.getPhotoSize();
+            if (valuePhotoSize != null) {
+                gen.writeNumberField("photo_size", valuePhotoSize);
+            }
+            Integer valuePhotoWidth = value.getPhotoWidth();
+            if (valuePhotoWidth != null) {
+                gen.writeNumberField("photo_width", valuePhotoWidth);
+            }
+            Integer valuePhotoHeight = value.getPhotoHeight();
+            if (valuePhotoHeight != null) {
+                gen.writeNumberField("photo_height", valuePhotoHeight);
+            }
+            Boolean valueNeedName = value.getNeedName();
+            if (valueNeedName != null) {
+                gen.writeBooleanField("need_name", valueNeedName);
+            }
+            Boolean valueNeedPhoneNumber = value.getNeedPhoneNumber();
+            if (valueNeedPhoneNumber != null) {
+                gen.writeBooleanField("need_phone_number", valueNeedPhoneNumber);
+            }
+            Boolean valueNeedEmail = value.getNeedEmail();
+            if (valueNeedEmail != null) {
+                gen.writeBooleanField("need_email", valueNeedEmail);
+            }
+            Boolean valueNeedShippingAddress = value.getNeedShippingAddress();
+            if (valueNeedShippingAddress != null) {
+                gen.writeBooleanField("need_shipping_address", valueNeedShippingAddress);
+            }
+            Boolean valueIsFlexible = value.getIsFlexible();
+            if (valueIsFlexible != null) {
+                gen.writeBooleanField("is_flexible", valueIsFlexible);
+            }
+            Boolean valueSendPhoneNumberToProvider = value.getSendPhoneNumberToProvider();
+            if (valueSendPhoneNumberToProvider != null) {
+                gen.writeBooleanField("send_phone_number_to_provider", valueSendPhoneNumberToProvider);
+            }
+            Boolean valueSendEmailToProvider = value.getSendEmailToProvider();
+            if (valueSendEmailToProvider != null) {
+                gen.writeBooleanField("send_email_to_provider", valueSendEmailToProvider);
+            }
+            String valueProviderData = value.getProviderData();
+            if (valueProviderData != null) {
+                gen.writeStringField("provider_data", valueProviderData);
+            }
+            Integer valueMaxTipAmount = value.getMaxTipAmount();
+            if (valueMaxTipAmount != null) {
+                gen.writeNumberField("max_tip_amount", valueMaxTipAmount);
+            }
+            Object valueSuggestedTipAmounts = value.getSuggestedTipAmounts();
+            if (valueSuggestedTipAmounts != null) {
+                gen.writeFieldName("suggested_tip_amounts");
+                provider.defaultSerializeValue(valueSuggestedTipAmounts, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class InvoicesSendInvoiceSerializer extends StdSerializer<org.telegram.telegrambots.meta.api.methods.invoices.SendInvoice> {
+        private static final long serialVersionUID = 1L;
+
+        private InvoicesSendInvoiceSerializer() {
+            super(org.telegram.telegrambots.meta.api.methods.invoices.SendInvoice.class);
+        }
+
+        @Override
+        public void serialize(org.telegram.telegrambots.meta.api.methods.invoices.SendInvoice value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueTitle = value.getTitle();
+            if (valueTitle != null) {
+                gen.writeStringField("title", valueTitle);
+            }
+            String valueDescription = value.getDescription();
+            if (valueDescription != null) {
+                gen.writeStringField("description", valueDescription);
+            }
+            String valuePayload = value.getPayload();
+            if (valuePayload != null) {
+                gen.writeStringField("payload", valuePayload);
+            }
+            String valueProviderToken = value.getProviderToken();
+            if (valueProviderToken != null) {
+                gen.writeStringField("provider_token", valueProviderToken);
+            }
+            String valueStartParameter = value.getStartParameter();
+            if (valueStartParameter != null) {
+                gen.writeStringField("start_parameter", valueStartParameter);
+            }
+            String valueCurrency = value.getCurrency();
+            if (valueCurrency != null) {
+                gen.writeStringField("currency", valueCurrency);
+            }
+            Object valuePrices = value.getPrices();
+            if (valuePrices != null) {
+                gen.writeFieldName("prices");
+                provider.defaultSerializeValue(valuePrices, gen);
+            }
+            String valuePhotoUrl = value.getPhotoUrl();
+            if (valuePhotoUrl != null) {
+                gen.writeStringField("photo_url", valuePhotoUrl);
+            }
+            Integer valuePhotoSize = value.getPhotoSize();
+            if (valuePhotoSize != null) {
+                gen.writeNumberField("photo_size", valuePhotoSize);
+            }
+            Integer valuePhotoWidth = value.getPhotoWidth();
+            if (valuePhotoWidth != null) {
+                gen.writeNumberField("photo_width", valuePhotoWidth);
+            }
+            Integer valuePhotoHeight = value.getPhotoHeight();
+            if (valuePhotoHeight != null) {
+                gen.writeNumberField("photo_height", valuePhotoHeight);
+            }
+            Boolean valueNeedName = value.getNeedName();
+            if (valueNeedName != null) {
+                gen.writeBooleanField("need_name", valueNeedName);
+            }
+            Boolean valueNeedPhoneNumber = value.getNeedPhoneNumber();
+            if (valueNeedPhoneNumber != null) {
+                gen.writeBooleanField("need_phone_number", valueNeedPhoneNumber);
+            }
+            Boolean valueNeedEmail = value.getNeedEmail();
+            if (valueNeedEmail != null) {
+                gen.writeBooleanField("need_email", valueNeedEmail);
+            }
+            Boolean valueNeedShippingAddress = value.getNeedShippingAddress();
+            if (valueNeedShippingAddress != null) {
+                gen.writeBooleanField("need_shipping_address", valueNeedShippingAddress);
+            }
+            Boolean valueIsFlexible = value.getIsFlexible();
+            if (valueIsFlexible != null) {
+                gen.writeBooleanField("is_flexible", valueIsFlexible);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Boolean valueSendPhoneNumberToProvider = value.getSendPhoneNumberToProvider();
+            if (valueSendPhoneNumberToProvider != null) {
+                gen.writeBooleanField("send_phone_number_to_provider", valueSendPhoneNumberToProvider);
+            }
+            Boolean valueSendEmailToProvider = value.getSendEmailToProvider();
+            if (valueSendEmailToProvider != null) {
+                gen.writeBooleanField("send_email_to_provider", valueSendEmailToProvider);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueProviderData = value.getProviderData();
+            if (valueProviderData != null) {
+                gen.writeStringField("provider_data", valueProviderData);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Integer valueMaxTipAmount = value.getMaxTipAmount();
+            if (valueMaxTipAmount != null) {
+                gen.writeNumberField("max_tip_amount", valueMaxTipAmount);
+            }
+            Object valueSuggestedTipAmounts = value.getSuggestedTipAmounts();
+            if (valueSuggestedTipAmounts != null) {
+                gen.writeFieldName("suggested_tip_amounts");
+                provider.defaultSerializeValue(valueSuggestedTipAmounts, gen);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetChatMenuButtonSerializer extends StdSerializer<GetChatMenuButton> {
+        private static final long serialVersionUID = 1L;
+
+        private GetChatMenuButtonSerializer() {
+            super(GetChatMenuButton.class);
+        }
+
+        @Override
+        public void serialize(GetChatMenuButton value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetChatMenuButtonSerializer extends StdSerializer<SetChatMenuButton> {
+        private static final long serialVersionUID = 1L;
+
+        private SetChatMenuButtonSerializer() {
+            super(SetChatMenuButton.class);
+        }
+
+        @Override
+        public void serialize(SetChatMenuButton value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Object valueMenuButton = value.getMenuButton();
+            if (valueMenuButton != null) {
+                gen.writeFieldName("menu_button");
+                provider.defaultSerializeValue(valueMenuButton, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetMyNameSerializer extends StdSerializer<GetMyName> {
+        private static final long serialVersionUID = 1L;
+
+        private GetMyNameSerializer() {
+            super(GetMyName.class);
+        }
+
+        @Override
+        public void serialize(GetMyName value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetMyNameSerializer extends StdSerializer<SetMyName> {
+        private static final long serialVersionUID = 1L;
+
+        private SetMyNameSerializer() {
+            super(SetMyName.class);
+        }
+
+        @Override
+        public void serialize(SetMyName value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            String valueLanguageCode = value.getLanguageCode();
+            if (valueLanguageCode != null) {
+                gen.writeStringField("language_code", valueLanguageCode);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PinChatMessageSerializer extends StdSerializer<PinChatMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private PinChatMessageSerializer() {
+            super(PinChatMessage.class);
+        }
+
+        @Override
+        public void serialize(PinChatMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnpinAllChatMessagesSerializer extends StdSerializer<UnpinAllChatMessages> {
+        private static final long serialVersionUID = 1L;
+
+        private UnpinAllChatMessagesSerializer() {
+            super(UnpinAllChatMessages.class);
+        }
+
+        @Override
+        public void serialize(UnpinAllChatMessages value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UnpinChatMessageSerializer extends StdSerializer<UnpinChatMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private UnpinChatMessageSerializer() {
+            super(UnpinChatMessage.class);
+        }
+
+        @Override
+        public void serialize(UnpinChatMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendPollSerializer extends StdSerializer<SendPoll> {
+        private static final long serialVersionUID = 1L;
+
+        private SendPollSerializer() {
+            super(SendPoll.class);
+        }
+
+        @Override
+        public void serialize(SendPoll value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueQuestion = value.getQuestion();
+            if (valueQuestion != null) {
+                gen.writeStringField("question", valueQuestion);
+            }
+            Object valueOptions = value.getOptions();
+            if (valueOptions != null) {
+                gen.writeFieldName("options");
+                provider.defaultSerializeValue(valueOptions, gen);
+            }
+            Boolean valueIsAnonymous = value.getIsAnonymous();
+            if (valueIsAnonymous != null) {
+                gen.writeBooleanField("is_anonymous", valueIsAnonymous);
+            }
+            String valueType = value.getType();
+            if (valueType != null) {
+                gen.writeStringField("type", valueType);
+            }
+            Boolean valueAllowsMultipleAnswers = value.getAllowMultipleAnswers();
+            if (valueAllowsMultipleAnswers != null) {
+                gen.writeBooleanField("allows_multiple_answers", valueAllowsMultipleAnswers);
+            }
+            Integer valueCorrectOptionId = value.getCorrectOptionId();
+            if (valueCorrectOptionId != null) {
+                gen.writeNumberField("correct_option_id", valueCorrectOptionId);
+            }
+            Boolean valueIsClosed = value.getIsClosed();
+            if (valueIsClosed != null) {
+                gen.writeBooleanField("is_closed", valueIsClosed);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Integer valueOpenPeriod = value.getOpenPeriod();
+            if (valueOpenPeriod != null) {
+                gen.writeNumberField("open_period", valueOpenPeriod);
+            }
+            Integer valueCloseDate = value.getCloseDate();
+            if (valueCloseDate != null) {
+                gen.writeNumberField("close_date", valueCloseDate);
+            }
+            String valueExplanation = value.getExplanation();
+            if (valueExplanation != null) {
+                gen.writeStringField("explanation", valueExplanation);
+            }
+            String valueExplanationParseMode = value.getExplanationParseMode();
+            if (valueExplanationParseMode != null) {
+                gen.writeStringField("explanation_parse_mode", valueExplanationParseMode);
+            }
+            Object valueExplanationEntities = value.getExplanationEntities();
+            if (valueExplanationEntities != null) {
+                gen.writeFieldName("explanation_entities");
+                provider.defaultSerializeValue(valueExplanationEntities, gen);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class StopPollSerializer extends StdSerializer<StopPoll> {
+        private static final long serialVersionUID = 1L;
+
+        private StopPollSerializer() {
+            super(StopPoll.class);
+        }
+
+        @Override
+        public void serialize(StopPoll value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendChatActionSerializer extends StdSerializer<SendChatAction> {
+        private static final long serialVersionUID = 1L;
+
+        private SendChatActionSerializer() {
+            super(SendChatAction.class);
+        }
+
+        @Override
+        public void serialize(SendChatAction value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueAction = value.getAction();
+            if (valueAction != null) {
+                gen.writeStringField("action", valueAction);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendContactSerializer extends StdSerializer<SendContact> {
+        private static final long serialVersionUID = 1L;
+
+        private SendContactSerializer() {
+            super(SendContact.class);
+        }
+
+        @Override
+        public void serialize(SendContact value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valuePhoneNumber = value.getPhoneNumber();
+            if (valuePhoneNumber != null) {
+                gen.writeStringField("phone_number", valuePhoneNumber);
+            }
+            String valueFirstName = value.getFirstName();
+            if (valueFirstName != null) {
+                gen.writeStringField("first_name", valueFirstName);
+            }
+            String valueLastName = value.getLastName();
+            if (valueLastName != null) {
+                gen.writeStringField("last_name", valueLastName);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueVcard = value.getVCard();
+            if (valueVcard != null) {
+                gen.writeStringField("vcard", valueVcard);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendDiceSerializer extends StdSerializer<SendDice> {
+        private static final long serialVersionUID = 1L;
+
+        private SendDiceSerializer() {
+            super(SendDice.class);
+        }
+
+        @Override
+        public void serialize(SendDice value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueEmoji = value.getEmoji();
+            if (valueEmoji != null) {
+                gen.writeStringField("emoji", valueEmoji);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendGameSerializer extends StdSerializer<SendGame> {
+        private static final long serialVersionUID = 1L;
+
+        private SendGameSerializer() {
+            super(SendGame.class);
+        }
+
+        @Override
+        public void serialize(SendGame value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueGameShortName = value.getGameShortName();
+            if (valueGameShortName != null) {
+                gen.writeStringField("game_short_name", valueGameShortName);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendSendInvoiceSerializer extends StdSerializer<org.telegram.telegrambots.meta.api.methods.send.SendInvoice> {
+        private static final long serialVersionUID = 1L;
+
+        private SendSendInvoiceSerializer() {
+            super(org.telegram.telegrambots.meta.api.methods.send.SendInvoice.class);
+        }
+
+        @Override
+        public void serialize(org.telegram.telegrambots.meta.api.methods.send.SendInvoice value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            String valueTitle = value.getTitle();
+            if (valueTitle != null) {
+                gen.writeStringField("title", valueTitle);
+            }
+            String valueDescription = value.getDescription();
+            if (valueDescription != null) {
+                gen.writeStringField("description", valueDescription);
+            }
+            String valuePayload = value.getPayload();
+            if (valuePayload != null) {
+                gen.writeStringField("payload", valuePayload);
+            }
+            String valueProviderToken = value.getProviderToken();
+            if (valueProviderToken != null) {
+                gen.writeStringField("provider_token", valueProviderToken);
+            }
+            String valueStartParameter = value.getStartParameter();
+            if (valueStartParameter != null) {
+                gen.writeStringField("start_parameter", valueStartParameter);
+            }
+            String valueCurrency = value.getCurrency();
+            if (valueCurrency != null) {
+                gen.writeStringField("currency", valueCurrency);
+            }
+            Object valuePrices = value.getPrices();
+            if (valuePrices != null) {
+                gen.writeFieldName("prices");
+                provider.defaultSerializeValue(valuePrices, gen);
+            }
+            String valuePhotoUrl = value.getPhotoUrl();
+            if (valuePhotoUrl != null) {
+                gen.writeStringField("photo_url", valuePhotoUrl);
+            }
+            Integer valuePhotoSize = value.getPhotoSize();
+            if (valuePhotoSize != null) {
+                gen.writeNumberField("photo_size", valuePhotoSize);
+            }
+            Integer valuePhotoWidth = value.getPhotoWidth();
+            if (valuePhotoWidth != null) {
+                gen.writeNumberField("photo_width", valuePhotoWidth);
+            }
+            Integer valuePhotoHeight = value.getPhotoHeight();
+            if (valuePhotoHeight != null) {
+                gen.writeNumberField("photo_height", valuePhotoHeight);
+            }
+            Boolean valueNeedName = value.getNeedName();
+            if (valueNeedName != null) {
+                gen.writeBooleanField("need_name", valueNeedName);
+            }
+            Boolean valueNeedPhoneNumber = value.getNeedPhoneNumber();
+            if (valueNeedPhoneNumber != null) {
+                gen.writeBooleanField("need_phone_number", valueNeedPhoneNumber);
+            }
+            Boolean valueNeedEmail = value.getNeedEmail();
+            if (valueNeedEmail != null) {
+                gen.writeBooleanField("need_email", valueNeedEmail);
+            }
+            Boolean valueNeedShippingAddress = value.getNeedShippingAddress();
+            if (valueNeedShippingAddress != null) {
+                gen.writeBooleanField("need_shipping_address", valueNeedShippingAddress);
+            }
+            Boolean valueIsFlexible = value.getIsFlexible();
+            if (valueIsFlexible != null) {
+                gen.writeBooleanField("is_flexible", valueIsFlexible);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Boolean valueSendPhoneNumberToProvider = value.getSendPhoneNumberToProvider();
+            if (valueSendPhoneNumberToProvider != null) {
+                gen.writeBooleanField("send_phone_number_to_provider", valueSendPhoneNumberToProvider);
+            }
+            Boolean valueSendEmailToProvider = value.getSendEmailToProvider();
+            if (valueSendEmailToProvider != null) {
+                gen.writeBooleanField("send_email_to_provider", valueSendEmailToProvider);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueProviderData = value.getProviderData();
+            if (valueProviderData != null) {
+                gen.writeStringField("provider_data", valueProviderData);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Integer valueMaxTipAmount = value.getMaxTipAmount();
+            if (valueMaxTipAmount != null) {
+                gen.writeNumberField("max_tip_amount", valueMaxTipAmount);
+            }
+            Object valueSuggestedTipAmounts = value.getSuggestedTipAmounts();
+            if (valueSuggestedTipAmounts != null) {
+                gen.writeFieldName("suggested_tip_amounts");
+                provider.defaultSerializeValue(valueSuggestedTipAmounts, gen);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendLocationSerializer extends StdSerializer<SendLocation> {
+        private static final long serialVersionUID = 1L;
+
+        private SendLocationSerializer() {
+            super(SendLocation.class);
+        }
+
+        @Override
+        public void serialize(SendLocation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            Double valueLatitude = value.getLatitude();
+            if (valueLatitude != null) {
+                gen.writeNumberField("latitude", valueLatitude);
+            }
+            Double valueLongitude = value.getLongitude();
+            if (valueLongitude != null) {
+                gen.writeNumberField("longitude", valueLongitude);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Integer valueLivePeriod = value.getLivePeriod();
+            if (valueLivePeriod != null) {
+                gen.writeNumberField("live_period", valueLivePeriod);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Double valueHorizontalAccuracy = value.getHorizontalAccuracy();
+            if (valueHorizontalAccuracy != null) {
+                gen.writeNumberField("horizontal_accuracy", valueHorizontalAccuracy);
+            }
+            Integer valueHeading = value.getHeading();
+            if (valueHeading != null) {
+                gen.writeNumberField("heading", valueHeading);
+            }
+            Integer valueProximityAlertRadius = value.getProximityAlertRadius();
+            if (valueProximityAlertRadius != null) {
+                gen.writeNumberField("proximity_alert_radius", valueProximityAlertRadius);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendMessageSerializer extends StdSerializer<SendMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private SendMessageSerializer() {
+            super(SendMessage.class);
+        }
+
+        @Override
+        public void serialize(SendMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            String valueText = value.getText();
+            if (valueText != null) {
+                gen.writeStringField("text", valueText);
+            }
+            String valueParseMode = value.getParseMode();
+            if (valueParseMode != null) {
+                gen.writeStringField("parse_mode", valueParseMode);
+            }
+            Boolean valueDisableWebPagePreview = value.getDisableWebPagePreview();
+            if (valueDisableWebPagePreview != null) {
+                gen.writeBooleanField("disable_web_page_preview", valueDisableWebPagePreview);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Object valueEntities = value.getEntities();
+            if (valueEntities != null) {
+                gen.writeFieldName("entities");
+                provider.defaultSerializeValue(valueEntities, gen);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SendVenueSerializer extends StdSerializer<SendVenue> {
+        private static final long serialVersionUID = 1L;
+
+        private SendVenueSerializer() {
+            super(SendVenue.class);
+        }
+
+        @Override
+        public void serialize(SendVenue value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageThreadId = value.getMessageThreadId();
+            if (valueMessageThreadId != null) {
+                gen.writeNumberField("message_thread_id", valueMessageThreadId);
+            }
+            Double valueLatitude = value.getLatitude();
+            if (valueLatitude != null) {
+                gen.writeNumberField("latitude", valueLatitude);
+            }
+            Double valueLongitude = value.getLongitude();
+            if (valueLongitude != null) {
+                gen.writeNumberField("longitude", valueLongitude);
+            }
+            String valueTitle = value.getTitle();
+            if (valueTitle != null) {
+                gen.writeStringField("title", valueTitle);
+            }
+            String valueAddress = value.getAddress();
+            if (valueAddress != null) {
+                gen.writeStringField("address", valueAddress);
+            }
+            Boolean valueDisableNotification = value.getDisableNotification();
+            if (valueDisableNotification != null) {
+                gen.writeBooleanField("disable_notification", valueDisableNotification);
+            }
+            String valueFoursquareId = value.getFoursquareId();
+            if (valueFoursquareId != null) {
+                gen.writeStringField("foursquare_id", valueFoursquareId);
+            }
+            Integer valueReplyToMessageId = value.getReplyToMessageId();
+            if (valueReplyToMessageId != null) {
+                gen.writeNumberField("reply_to_message_id", valueReplyToMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueFoursquareType = value.getFoursquareType();
+            if (valueFoursquareType != null) {
+                gen.writeStringField("foursquare_type", valueFoursquareType);
+            }
+            Boolean valueAllowSendingWithoutReply = value.getAllowSendingWithoutReply();
+            if (valueAllowSendingWithoutReply != null) {
+                gen.writeBooleanField("allow_sending_without_reply", valueAllowSendingWithoutReply);
+            }
+            String valueGooglePlaceId = value.getGooglePlaceId();
+            if (valueGooglePlaceId != null) {
+                gen.writeStringField("google_place_id", valueGooglePlaceId);
+            }
+            String valueGooglePlaceType = value.getGooglePlaceType();
+            if (valueGooglePlaceType != null) {
+                gen.writeStringField("google_place_type", valueGooglePlaceType);
+            }
+            Boolean valueProtectContent = value.getProtectContent();
+            if (valueProtectContent != null) {
+                gen.writeBooleanField("protect_content", valueProtectContent);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteStickerFromSetSerializer extends StdSerializer<DeleteStickerFromSet> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteStickerFromSetSerializer() {
+            super(DeleteStickerFromSet.class);
+        }
+
+        @Override
+        public void serialize(DeleteStickerFromSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueSticker = value.getSticker();
+            if (valueSticker != null) {
+                gen.writeStringField("sticker", valueSticker);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetCustomEmojiStickersSerializer extends StdSerializer<GetCustomEmojiStickers> {
+        private static final long serialVersionUID = 1L;
+
+        private GetCustomEmojiStickersSerializer() {
+            super(GetCustomEmojiStickers.class);
+        }
+
+        @Override
+        public void serialize(GetCustomEmojiStickers value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Object valueCustomEmojiIds = value.getCustomEmojiIds();
+            if (valueCustomEmojiIds != null) {
+                gen.writeFieldName("custom_emoji_ids");
+                provider.defaultSerializeValue(valueCustomEmojiIds, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetStickerSetSerializer extends StdSerializer<GetStickerSet> {
+        private static final long serialVersionUID = 1L;
+
+        private GetStickerSetSerializer() {
+            super(GetStickerSet.class);
+        }
+
+        @Override
+        public void serialize(GetStickerSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetCustomEmojiStickerSetThumbnailSerializer extends StdSerializer<SetCustomEmojiStickerSetThumbnail> {
+        private static final long serialVersionUID = 1L;
+
+        private SetCustomEmojiStickerSetThumbnailSerializer() {
+            super(SetCustomEmojiStickerSetThumbnail.class);
+        }
+
+        @Override
+        public void serialize(SetCustomEmojiStickerSetThumbnail value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            String valueCustomEmojiId = value.getCustomEmojiId();
+            if (valueCustomEmojiId != null) {
+                gen.writeStringField("custom_emoji_id", valueCustomEmojiId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetStickerPositionInSetSerializer extends StdSerializer<SetStickerPositionInSet> {
+        private static final long serialVersionUID = 1L;
+
+        private SetStickerPositionInSetSerializer() {
+            super(SetStickerPositionInSet.class);
+        }
+
+        @Override
+        public void serialize(SetStickerPositionInSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueSticker = value.getSticker();
+            if (valueSticker != null) {
+                gen.writeStringField("sticker", valueSticker);
+            }
+            Integer valuePosition = value.getPosition();
+            if (valuePosition != null) {
+                gen.writeNumberField("position", valuePosition);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetStickerSetThumbSerializer extends StdSerializer<SetStickerSetThumb> {
+        private static final long serialVersionUID = 1L;
+
+        private SetStickerSetThumbSerializer() {
+            super(SetStickerSetThumb.class);
+        }
+
+        @Override
+        public void serialize(SetStickerSetThumb value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueName = value.getName();
+            if (valueName != null) {
+                gen.writeStringField("name", valueName);
+            }
+            Long valueUserId = value.getUserId();
+            if (valueUserId != null) {
+                gen.writeNumberField("userId", valueUserId);
+            }
+            Object valueThumb = value.getThumb();
+            if (valueThumb != null) {
+                gen.writeFieldName("thumb");
+                provider.defaultSerializeValue(valueThumb, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class CloseSerializer extends StdSerializer<Close> {
+        private static final long serialVersionUID = 1L;
+
+        private CloseSerializer() {
+            super(Close.class);
+        }
+
+        @Override
+        public void serialize(Close value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteWebhookSerializer extends StdSerializer<DeleteWebhook> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteWebhookSerializer() {
+            super(DeleteWebhook.class);
+        }
+
+        @Override
+        public void serialize(DeleteWebhook value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Boolean valueDropPendingUpdates = value.getDropPendingUpdates();
+            if (valueDropPendingUpdates != null) {
+                gen.writeBooleanField("drop_pending_updates", valueDropPendingUpdates);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetUpdatesSerializer extends StdSerializer<GetUpdates> {
+        private static final long serialVersionUID = 1L;
+
+        private GetUpdatesSerializer() {
+            super(GetUpdates.class);
+        }
+
+        @Override
+        public void serialize(GetUpdates value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            Integer valueOffset = value.getOffset();
+            if (valueOffset != null) {
+                gen.writeNumberField("offset", valueOffset);
+            }
+            Integer valueLimit = value.getLimit();
+            if (valueLimit != null) {
+                gen.writeNumberField("limit", valueLimit);
+            }
+            Integer valueTimeout = value.getTimeout();
+            if (valueTimeout != null) {
+                gen.writeNumberField("timeout", valueTimeout);
+            }
+            Object valueAllowedUpdates = value.getAllowedUpdates();
+            if (valueAllowedUpdates != null) {
+                gen.writeFieldName("allowed_updates");
+                provider.defaultSerializeValue(valueAllowedUpdates, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class GetWebhookInfoSerializer extends StdSerializer<GetWebhookInfo> {
+        private static final long serialVersionUID = 1L;
+
+        private GetWebhookInfoSerializer() {
+            super(GetWebhookInfo.class);
+        }
+
+        @Override
+        public void serialize(GetWebhookInfo value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class LogOutSerializer extends StdSerializer<LogOut> {
+        private static final long serialVersionUID = 1L;
+
+        private LogOutSerializer() {
+            super(LogOut.class);
+        }
+
+        @Override
+        public void serialize(LogOut value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class SetWebhookSerializer extends StdSerializer<SetWebhook> {
+        private static final long serialVersionUID = 1L;
+
+        private SetWebhookSerializer() {
+            super(SetWebhook.class);
+        }
+
+        @Override
+        public void serialize(SetWebhook value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueUrl = value.getUrl();
+            if (valueUrl != null) {
+                gen.writeStringField("url", valueUrl);
+            }
+            Object valueCertificate = value.getCertificate();
+            if (valueCertificate != null) {
+                gen.writeFieldName("certificate");
+                provider.defaultSerializeValue(valueCertificate, gen);
+            }
+            Integer valueMaxConnections = value.getMaxConnections();
+            if (valueMaxConnections != null) {
+                gen.writeNumberField("max_connections", valueMaxConnections);
+            }
+            Object valueAllowedUpdates = value.getAllowedUpdates();
+            if (valueAllowedUpdates != null) {
+                gen.writeFieldName("allowed_updates");
+                provider.defaultSerializeValue(valueAllowedUpdates, gen);
+            }
+            String valueIpAddress = value.getIpAddress();
+            if (valueIpAddress != null) {
+                gen.writeStringField("ip_address", valueIpAddress);
+            }
+            Boolean valueDropPendingUpdates = value.getDropPendingUpdates();
+            if (valueDropPendingUpdates != null) {
+                gen.writeBooleanField("drop_pending_updates", valueDropPendingUpdates);
+            }
+            String valueSecretToken = value.getSecretToken();
+            if (valueSecretToken != null) {
+                gen.writeStringField("secret_token", valueSecretToken);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class DeleteMessageSerializer extends StdSerializer<DeleteMessage> {
+        private static final long serialVersionUID = 1L;
+
+        private DeleteMessageSerializer() {
+            super(DeleteMessage.class);
+        }
+
+        @Override
+        public void serialize(DeleteMessage value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditMessageCaptionSerializer extends StdSerializer<EditMessageCaption> {
+        private static final long serialVersionUID = 1L;
+
+        private EditMessageCaptionSerializer() {
+            super(EditMessageCaption.class);
+        }
+
+        @Override
+        public void serialize(EditMessageCaption value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            String valueCaption = value.getCaption();
+            if (valueCaption != null) {
+                gen.writeStringField("caption", valueCaption);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueParseMode = value.getParseMode();
+            if (valueParseMode != null) {
+                gen.writeStringField("parse_mode", valueParseMode);
+            }
+            Object valueCaptionEntities = value.getCaptionEntities();
+            if (valueCaptionEntities != null) {
+                gen.writeFieldName("caption_entities");
+                provider.defaultSerializeValue(valueCaptionEntities, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditMessageLiveLocationSerializer extends StdSerializer<EditMessageLiveLocation> {
+        private static final long serialVersionUID = 1L;
+
+        private EditMessageLiveLocationSerializer() {
+            super(EditMessageLiveLocation.class);
+        }
+
+        @Override
+        public void serialize(EditMessageLiveLocation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            Double valueLatitude = value.getLatitude();
+            if (valueLatitude != null) {
+                gen.writeNumberField("latitude", valueLatitude);
+            }
+            Double valueLongitude = value.getLongitude();
+            if (valueLongitude != null) {
+                gen.writeNumberField("longitude", valueLongitude);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Double valueHorizontalAccuracy = value.getHorizontalAccuracy();
+            if (valueHorizontalAccuracy != null) {
+                gen.writeNumberField("horizontal_accuracy", valueHorizontalAccuracy);
+            }
+            Integer valueHeading = value.getHeading();
+            if (valueHeading != null) {
+                gen.writeNumberField("heading", valueHeading);
+            }
+            Integer valueProximityAlertRadius = value.getProximityAlertRadius();
+            if (valueProximityAlertRadius != null) {
+                gen.writeNumberField("proximity_alert_radius", valueProximityAlertRadius);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditMessageReplyMarkupSerializer extends StdSerializer<EditMessageReplyMarkup> {
+        private static final long serialVersionUID = 1L;
+
+        private EditMessageReplyMarkupSerializer() {
+            super(EditMessageReplyMarkup.class);
+        }
+
+        @Override
+        public void serialize(EditMessageReplyMarkup value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class EditMessageTextSerializer extends StdSerializer<EditMessageText> {
+        private static final long serialVersionUID = 1L;
+
+        private EditMessageTextSerializer() {
+            super(EditMessageText.class);
+        }
+
+        @Override
+        public void serialize(EditMessageText value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueChatId = value.getChatId();
+            if (valueChatId != null) {
+                gen.writeStringField("chat_id", valueChatId);
+            }
+            Integer valueMessageId = value.getMessageId();
+            if (valueMessageId != null) {
+                gen.writeNumberField("message_id", valueMessageId);
+            }
+            String valueInlineMessageId = value.getInlineMessageId();
+            if (valueInlineMessageId != null) {
+                gen.writeStringField("inline_message_id", valueInlineMessageId);
+            }
+            String valueText = value.getText();
+            if (valueText != null) {
+                gen.writeStringField("text", valueText);
+            }
+            String valueParseMode = value.getParseMode();
+            if (valueParseMode != null) {
+                gen.writeStringField("parse_mode", valueParseMode);
+            }
+            Boolean valueDisableWebPagePreview = value.getDisableWebPagePreview();
+            if (valueDisableWebPagePreview != null) {
+                gen.writeBooleanField("disable_web_page_preview", valueDisableWebPagePreview);
+            }
+            Object valueReplyMarkup = value.getReplyMarkup();
+            if (valueReplyMarkup != null) {
+                gen.writeFieldName("reply_markup");
+                provider.defaultSerializeValue(valueReplyMarkup, gen);
+            }
+            Object valueEntities = value.getEntities();
+            if (valueEntities != null) {
+                gen.writeFieldName("entities");
+                provider.defaultSerializeValue(valueEntities, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class AnswerWebAppQuerySerializer extends StdSerializer<AnswerWebAppQuery> {
+        private static final long serialVersionUID = 1L;
+
+        private AnswerWebAppQuerySerializer() {
+            super(AnswerWebAppQuery.class);
+        }
+
+        @Override
+        public void serialize(AnswerWebAppQuery value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            String valueWebAppQueryId = value.getWebAppQueryId();
+            if (valueWebAppQueryId != null) {
+                gen.writeStringField("web_app_query_id", valueWebAppQueryId);
+            }
+            Object valueResult = value.getQueryResult();
+            if (valueResult != null) {
+                gen.writeFieldName("result");
+                provider.defaultSerializeValue(valueResult, gen);
+            }
+            String valueMethod = value.getMethod();
+            if (valueMethod != null) {
+                gen.writeStringField("method", valueMethod);
+            }
+            gen.writeEndObject();
+        }
+    }
+}
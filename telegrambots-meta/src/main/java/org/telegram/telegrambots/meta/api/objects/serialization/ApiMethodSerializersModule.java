@@ -0,0 +1,73 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Module serializing the api methods with generated streaming serializers instead of Jackson bean serializers.
+ *
+ * Serializers are only used for the exact class they were generated for, subclasses and methods not covered
+ * by them keep using Jackson. Registered in the mappers created by {@link ObjectMapperRegistry}.
+ *
+ * The generated serializers hold the property names and null handling Jackson resolves with its default settings.
+ * Mappers with a property naming strategy, a default property inclusion, an active view, alphabetically sorted
+ * properties or a mix-in of the method keep the Jackson serializers, so these settings still apply. Serializers of
+ * the methods registered by later modules take precedence. Other customizations of scalar properties, e.g. a
+ * {@link com.fasterxml.jackson.databind.ser.BeanSerializerModifier} or a serializer of {@link String}, are bypassed.
+ */
+public class ApiMethodSerializersModule extends Module {
+    private static final Map<Class<?>, JsonSerializer<?>> SERIALIZERS;
+
+    static {
+        Map<Class<?>, JsonSerializer<?>> serializers = new HashMap<>();
+        ApiMethodSerializers.register(serializers);
+        SERIALIZERS = Collections.unmodifiableMap(serializers);
+    }
+
+    /**
+     * @return True if the class is serialized by a generated serializer
+     */
+    public static boolean hasSerializer(Class<?> type) {
+        return SERIALIZERS.containsKey(type);
+    }
+
+    @Override
+    public String getModuleName() {
+        return ApiMethodSerializersModule.class.getSimpleName();
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                JsonSerializer<?> serializer = SERIALIZERS.get(type.getRawClass());
+                return serializer != null && hasDefaultSettings(config, type.getRawClass()) ? serializer : null;
+            }
+        });
+    }
+
+    private static boolean hasDefaultSettings(SerializationConfig config, Class<?> type) {
+        return config.getPropertyNamingStrategy() == null
+                && config.getActiveView() == null
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && config.findMixInClassFor(type) == null
+                && JsonInclude.Value.empty().equals(config.getDefaultPropertyInclusion(type));
+    }
+}
@@ -0,0 +1,75 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON object buffered as tokens, so polymorphic deserializers can look at its fields to choose the
+ * concrete type and then bind it without building a tree or parsing the text again.
+ *
+ * Binding uses the context of the caller, so it shares its configuration and deserializers cache.
+ */
+public final class BufferedJsonObject {
+    private final TokenBuffer buffer;
+    /**
+     * Text of the scalar fields at the top level, null for objects and arrays
+     */
+    private final Map<String, String> fields;
+
+    private BufferedJsonObject(TokenBuffer buffer, Map<String, String> fields) {
+        this.buffer = buffer;
+        this.fields = fields;
+    }
+
+    /**
+     * Reads the current object from the parser, leaving it at the END_OBJECT token
+     */
+    public static BufferedJsonObject read(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            context.reportWrongTokenException(Object.class, JsonToken.START_OBJECT, "Expected a JSON object");
+        }
+
+        TokenBuffer buffer = context.bufferForInputBuffering(parser);
+        Map<String, String> fields = new HashMap<>();
+        buffer.writeStartObject();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            fields.put(name, value.isScalarValue() ? parser.getText() : null);
+            buffer.writeFieldName(name);
+            buffer.copyCurrentStructure(parser);
+        }
+        buffer.writeEndObject();
+        return new BufferedJsonObject(buffer, fields);
+    }
+
+    public boolean has(String field) {
+        return fields.containsKey(field);
+    }
+
+    /**
+     * @return Text of a scalar field, empty if it is missing or not a scalar
+     */
+    public String getText(String field) {
+        String text = fields.get(field);
+        return text == null ? "" : text;
+    }
+
+    /**
+     * Binds the buffered object to the given type
+     */
+    public <T> T readAs(Class<T> type, DeserializationContext context) throws IOException {
+        try (JsonParser parser = buffer.asParserOnFirstToken()) {
+            return context.readValue(parser, type);
+        }
+    }
+}
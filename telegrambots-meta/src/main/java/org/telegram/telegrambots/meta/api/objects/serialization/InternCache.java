@@ -0,0 +1,53 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache returning a single shared instance for equal values.
+ *
+ * Values are stored in a fixed number of slots selected by their hash code, a new value replaces the one
+ * in its slot, so the cache never grows and needs no locking. Lookups compare the cached value with
+ * {@link Object#equals(Object)}, a collision only costs a missed sharing.
+ *
+ * @param <T> Type of the values, must have content based equals and hashCode
+ */
+public final class InternCache<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public InternCache(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return Cached instance equal to the value, or the value itself after caching it
+     */
+    public T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        T cached = slots.get(index);
+        if (cached != null && cached.equals(value)) {
+            return cached;
+        }
+        slots.set(index, value);
+        return value;
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+}
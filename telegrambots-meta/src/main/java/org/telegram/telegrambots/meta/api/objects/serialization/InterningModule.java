@@ -0,0 +1,91 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+import java.io.IOException;
+
+/**
+ * Module sharing the {@link User} and {@link Chat} instances of consecutive updates.
+ *
+ * Updates of a busy chat carry the same few users and chats over and over. With this module registered,
+ * deserialized users and chats equal to a recently seen one are replaced by that instance, so buffered
+ * updates, sessions and caches keep a single copy of each of them.
+ *
+ * Interned instances are shared between updates and must be treated as immutable: the setters of {@link User} and
+ * {@link Chat} change them in every update holding them.
+ *
+ * Only the objects read by the registry the module is registered in are interned. Pass that registry to
+ * {@code DefaultBotOptions#setObjectMapperRegistry} for long polling and API responses, and to the constructor of the
+ * webhook receiving the updates.
+ *
+ * <pre>
+ * ObjectMapperRegistry registry = ObjectMapperRegistry.withModules(new InterningModule(4096));
+ * </pre>
+ */
+public class InterningModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    private final transient InternCache<User> users;
+    private final transient InternCache<Chat> chats;
+
+    /**
+     * @param capacity Number of users and of chats kept
+     */
+    public InterningModule(int capacity) {
+        super(InterningModule.class.getSimpleName());
+        this.users = new InternCache<>(capacity);
+        this.chats = new InternCache<>(capacity);
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (beanDesc.getBeanClass() == User.class) {
+                    return new InterningDeserializer<>(deserializer, users);
+                }
+                if (beanDesc.getBeanClass() == Chat.class) {
+                    return new InterningDeserializer<>(deserializer, chats);
+                }
+                return deserializer;
+            }
+        });
+    }
+
+    public InternCache<User> getUsers() {
+        return users;
+    }
+
+    public InternCache<Chat> getChats() {
+        return chats;
+    }
+
+    private static final class InterningDeserializer<T> extends DelegatingDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private final transient InternCache<T> cache;
+
+        private InterningDeserializer(JsonDeserializer<?> delegatee, InternCache<T> cache) {
+            super(delegatee);
+            this.cache = cache;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new InterningDeserializer<>(newDelegatee, cache);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return cache.intern((T) _delegatee.deserialize(p, ctxt));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared {@link ObjectMapper} with readers and writers resolved once per type.
+ *
+ * Jackson caches (de)serializers per mapper, so sharing a single one avoids warming up the same caches
+ * several times. The default registry is used by the api methods and the library classes unless the
+ * {@link org.telegram.telegrambots.meta.generics.BotOptions} provide another one.
+ *
+ * Mappers created by the registry serialize the api methods with the generated {@link ApiMethodSerializersModule}.
+ * Modules, e.g. the bytecode generating Afterburner or Blackbird ones, must be registered with
+ * {@link #registerModules(Module...)} before the registry is used for the first time. Responses of the api
+ * methods are read with the default registry unless another one is given to
+ * {@link org.telegram.telegrambots.meta.api.methods.PartialBotApiMethod#deserializeResponse(String, ObjectMapperRegistry)}.
+ */
+public final class ObjectMapperRegistry {
+    private static final ObjectMapperRegistry DEFAULT = new ObjectMapperRegistry(createObjectMapper());
+
+    private final ObjectMapper objectMapper;
+    private volatile ObjectReader updateReader;
+    private volatile ObjectWriter writer;
+    private final ConcurrentMap<JavaType, ObjectReader> responseReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper Configured mapper, only modify it afterwards with {@link #registerModules(Module...)}
+     */
+    public ObjectMapperRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.updateReader = objectMapper.readerFor(Update.class);
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * @return Registry used when none is configured
+     */
+    public static ObjectMapperRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a registry whose mapper has the given modules registered
+     */
+    public static ObjectMapperRegistry withModules(Module... modules) {
+        return new ObjectMapperRegistry(createObjectMapper().registerModules(modules));
+    }
+
+    /**
+     * Registers modules in the mapper of this registry, dropping the readers and writers already resolved
+     * @return This registry
+     */
+    public synchronized ObjectMapperRegistry registerModules(Module... modules) {
+        objectMapper.registerModules(modules);
+        responseReaders.clear();
+        writers.clear();
+        updateReader = objectMapper.readerFor(Update.class);
+        writer = objectMapper.writer();
+        return this;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader getUpdateReader() {
+        return updateReader;
+    }
+
+    /**
+     * @return Writer for any value, resolving the serializer from the runtime type
+     */
+    public ObjectWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * @return Writer with the serializer of the given type resolved in advance
+     */
+    public ObjectWriter getWriter(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * @param resultType Type of the result of the response
+     * @return Reader for {@link ApiResponse} with the given result type
+     */
+    public ObjectReader getResponseReader(JavaType resultType) {
+        return responseReaders.computeIfAbsent(resultType, type ->
+                objectMapper.readerFor(objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, type)));
+    }
+
+    /**
+     * @param resultClass Class of the result of the response
+     * @return Reader for {@link ApiResponse} with the given result class
+     */
+    public ObjectReader getResponseReader(Class<?> resultClass) {
+        return getResponseReader(objectMapper.getTypeFactory().constructType(resultClass));
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return new ObjectMapper().registerModule(new ApiMethodSerializersModule());
+    }
+}
@@ -0,0 +1,771 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.MessageEntity;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compact binary format of {@link Update}, to persist or queue updates without the size and parsing cost of JSON.
+ *
+ * The fields of {@link Update}, {@link Message}, {@link User}, {@link Chat} and {@link MessageEntity} read by most
+ * bots are written as numbered fields: numbers as zigzag varints and strings through a table shared by all the
+ * updates of a batch, so repeated names, usernames and chat types are only written once. Every other field is kept
+ * as JSON next to them, so decoding an update always gives back an update equal to the encoded one.
+ *
+ * The format starts with its {@link #FORMAT_VERSION}. Fields unknown to the decoder are skipped, so fields can be
+ * added to the schema without a new version, but never renumbered.
+ */
+public class UpdateCodec {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0xB7;
+    /**
+     * Strings up to this number of bytes are added to the string table, longer ones are rarely repeated
+     */
+    private static final int MAX_TABLE_STRING_LENGTH = 64;
+
+    private static final int VARINT = 0;
+    private static final int STRING = 1;
+    private static final int BYTES = 2;
+    private static final int OBJECT = 3;
+    private static final int LIST = 4;
+    private static final int WIRE_TYPE_BITS = 3;
+    private static final int WIRE_TYPE_MASK = (1 << WIRE_TYPE_BITS) - 1;
+
+    private static final int END = 0;
+    private static final int EXTRAS = 127 << WIRE_TYPE_BITS | BYTES;
+
+    private static final int UPDATE_ID = 1 << WIRE_TYPE_BITS | VARINT;
+    private static final int UPDATE_MESSAGE = 2 << WIRE_TYPE_BITS | OBJECT;
+    private static final int UPDATE_EDITED_MESSAGE = 3 << WIRE_TYPE_BITS | OBJECT;
+    private static final int UPDATE_CHANNEL_POST = 4 << WIRE_TYPE_BITS | OBJECT;
+    private static final int UPDATE_EDITED_CHANNEL_POST = 5 << WIRE_TYPE_BITS | OBJECT;
+
+    private static final int MESSAGE_ID = 1 << WIRE_TYPE_BITS | VARINT;
+    private static final int MESSAGE_THREAD_ID = 2 << WIRE_TYPE_BITS | VARINT;
+    private static final int MESSAGE_FROM = 3 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_SENDER_CHAT = 4 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_DATE = 5 << WIRE_TYPE_BITS | VARINT;
+    private static final int MESSAGE_CHAT = 6 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_FORWARD_FROM = 7 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_FORWARD_FROM_CHAT = 8 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_FORWARD_DATE = 9 << WIRE_TYPE_BITS | VARINT;
+    private static final int MESSAGE_REPLY_TO_MESSAGE = 10 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_EDIT_DATE = 11 << WIRE_TYPE_BITS | VARINT;
+    private static final int MESSAGE_MEDIA_GROUP_ID = 12 << WIRE_TYPE_BITS | STRING;
+    private static final int MESSAGE_TEXT = 13 << WIRE_TYPE_BITS | STRING;
+    private static final int MESSAGE_ENTITIES = 14 << WIRE_TYPE_BITS | LIST;
+    private static final int MESSAGE_CAPTION = 15 << WIRE_TYPE_BITS | STRING;
+    private static final int MESSAGE_CAPTION_ENTITIES = 16 << WIRE_TYPE_BITS | LIST;
+    private static final int MESSAGE_PINNED_MESSAGE = 17 << WIRE_TYPE_BITS | OBJECT;
+    private static final int MESSAGE_IS_TOPIC_MESSAGE = 18 << WIRE_TYPE_BITS | VARINT;
+
+    private static final int USER_ID = 1 << WIRE_TYPE_BITS | VARINT;
+    private static final int USER_FIRST_NAME = 2 << WIRE_TYPE_BITS | STRING;
+    private static final int USER_IS_BOT = 3 << WIRE_TYPE_BITS | VARINT;
+    private static final int USER_LAST_NAME = 4 << WIRE_TYPE_BITS | STRING;
+    private static final int USER_USERNAME = 5 << WIRE_TYPE_BITS | STRING;
+    private static final int USER_LANGUAGE_CODE = 6 << WIRE_TYPE_BITS | STRING;
+    private static final int USER_IS_PREMIUM = 7 << WIRE_TYPE_BITS | VARINT;
+
+    private static final int CHAT_ID = 1 << WIRE_TYPE_BITS | VARINT;
+    private static final int CHAT_TYPE = 2 << WIRE_TYPE_BITS | STRING;
+    private static final int CHAT_TITLE = 3 << WIRE_TYPE_BITS | STRING;
+    private static final int CHAT_USERNAME = 4 << WIRE_TYPE_BITS | STRING;
+    private static final int CHAT_FIRST_NAME = 5 << WIRE_TYPE_BITS | STRING;
+    private static final int CHAT_LAST_NAME = 6 << WIRE_TYPE_BITS | STRING;
+    private static final int CHAT_IS_FORUM = 7 << WIRE_TYPE_BITS | VARINT;
+
+    private static final int ENTITY_TYPE = 1 << WIRE_TYPE_BITS | STRING;
+    private static final int ENTITY_OFFSET = 2 << WIRE_TYPE_BITS | VARINT;
+    private static final int ENTITY_LENGTH = 3 << WIRE_TYPE_BITS | VARINT;
+    private static final int ENTITY_URL = 4 << WIRE_TYPE_BITS | STRING;
+    private static final int ENTITY_USER = 5 << WIRE_TYPE_BITS | OBJECT;
+    private static final int ENTITY_LANGUAGE = 6 << WIRE_TYPE_BITS | STRING;
+    private static final int ENTITY_CUSTOM_EMOJI_ID = 7 << WIRE_TYPE_BITS | STRING;
+
+    /**
+     * Json names of the fields written with a field number, left out of the extras
+     */
+    private static final Map<Class<?>, Set<String>> SCHEMA_FIELDS = new HashMap<>();
+
+    static {
+        SCHEMA_FIELDS.put(Update.class, fields("update_id", "message", "edited_message", "channel_post",
+                "edited_channel_post"));
+        SCHEMA_FIELDS.put(Message.class, fields("message_id", "message_thread_id", "from", "sender_chat", "date",
+                "chat", "forward_from", "forward_from_chat", "forward_date", "reply_to_message", "edit_date",
+                "media_group_id", "text", "entities", "caption", "caption_entities", "pinned_message",
+                "is_topic_message"));
+        SCHEMA_FIELDS.put(User.class, fields("id", "first_name", "is_bot", "last_name", "username", "language_code",
+                "is_premium"));
+        SCHEMA_FIELDS.put(Chat.class, fields("id", "type", "title", "username", "first_name", "last_name",
+                "is_forum"));
+        SCHEMA_FIELDS.put(MessageEntity.class, fields("type", "offset", "length", "url", "user", "language",
+                "custom_emoji_id"));
+    }
+
+    private static final String EXTRAS_FILTER = "updateCodecExtras";
+
+    /**
+     * Marks types whose properties can't be checked without writing them
+     */
+    private static final BeanPropertyWriter[] UNKNOWN_PROPERTIES = new BeanPropertyWriter[0];
+
+    private final ObjectMapper extrasMapper;
+    private final ObjectWriter extrasWriter;
+    private final ConcurrentMap<Class<?>, BeanPropertyWriter[]> extraProperties = new ConcurrentHashMap<>();
+
+    public UpdateCodec() {
+        this(ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * @param registry Registry whose mapper reads and writes the fields outside of the schema
+     */
+    public UpdateCodec(ObjectMapperRegistry registry) {
+        extrasMapper = registry.getObjectMapper().copy();
+        for (Class<?> type : SCHEMA_FIELDS.keySet()) {
+            extrasMapper.addMixIn(type, ExtrasMixIn.class);
+        }
+        extrasMapper.setFilterProvider(new SimpleFilterProvider().addFilter(EXTRAS_FILTER, new ExtrasFilter()));
+        extrasWriter = extrasMapper.writer();
+    }
+
+    public byte[] encode(Update update) throws IOException {
+        return encodeAll(Collections.singletonList(update));
+    }
+
+    /**
+     * Encodes several updates sharing a single string table
+     */
+    public byte[] encodeAll(List<? extends Update> updates) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writeByte(MAGIC);
+        encoder.writeByte(FORMAT_VERSION);
+        encoder.writeVarLong(updates.size());
+        for (Update update : updates) {
+            writeUpdate(encoder, update);
+        }
+        return encoder.toByteArray();
+    }
+
+    /**
+     * @return First update of the encoded ones
+     */
+    public Update decode(byte[] bytes) throws IOException {
+        Decoder decoder = readHeader(bytes);
+        if (decoder.readVarLong() < 1) {
+            throw new IOException("No update encoded");
+        }
+        return readUpdate(decoder);
+    }
+
+    public List<Update> decodeAll(byte[] bytes) throws IOException {
+        Decoder decoder = readHeader(bytes);
+        long count = decoder.readVarLong();
+        List<Update> updates = new ArrayList<>((int) Math.min(count, bytes.length));
+        for (long i = 0; i < count; i++) {
+            updates.add(readUpdate(decoder));
+        }
+        return updates;
+    }
+
+    private static Decoder readHeader(byte[] bytes) throws IOException {
+        Decoder decoder = new Decoder(bytes);
+        if (decoder.readByte() != MAGIC) {
+            throw new IOException("Not an encoded update");
+        }
+        int version = decoder.readByte();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version + ", latest supported is " + FORMAT_VERSION);
+        }
+        return decoder;
+    }
+
+    private void writeUpdate(Encoder encoder, Update update) throws IOException {
+        encoder.writeInt(UPDATE_ID, update.getUpdateId());
+        writeMessage(encoder, UPDATE_MESSAGE, update.getMessage());
+        writeMessage(encoder, UPDATE_EDITED_MESSAGE, update.getEditedMessage());
+        writeMessage(encoder, UPDATE_CHANNEL_POST, update.getChannelPost());
+        writeMessage(encoder, UPDATE_EDITED_CHANNEL_POST, update.getEditedChannelPost());
+        writeExtras(encoder, update);
+    }
+
+    private Update readUpdate(Decoder decoder) throws IOException {
+        Update update = new Update();
+        for (int key = decoder.readKey(); key != END; key = decoder.readKey()) {
+            switch (key) {
+                case UPDATE_ID:
+                    update.setUpdateId(decoder.readInt());
+                    break;
+                case UPDATE_MESSAGE:
+                    update.setMessage(readMessage(decoder));
+                    break;
+                case UPDATE_EDITED_MESSAGE:
+                    update.setEditedMessage(readMessage(decoder));
+                    break;
+                case UPDATE_CHANNEL_POST:
+                    update.setChannelPost(readMessage(decoder));
+                    break;
+                case UPDATE_EDITED_CHANNEL_POST:
+                    update.setEditedChannelPost(readMessage(decoder));
+                    break;
+                default:
+                    readExtrasOrSkip(decoder, key, update);
+            }
+        }
+        return update;
+    }
+
+    private void writeMessage(Encoder encoder, int key, Message message) throws IOException {
+        if (message == null) {
+            return;
+        }
+        encoder.writeVarLong(key);
+        encoder.writeInt(MESSAGE_ID, message.getMessageId());
+        encoder.writeInt(MESSAGE_THREAD_ID, message.getMessageThreadId());
+        writeUser(encoder, MESSAGE_FROM, message.getFrom());
+        writeChat(encoder, MESSAGE_SENDER_CHAT, message.getSenderChat());
+        encoder.writeInt(MESSAGE_DATE, message.getDate());
+        writeChat(encoder, MESSAGE_CHAT, message.getChat());
+        writeUser(encoder, MESSAGE_FORWARD_FROM, message.getForwardFrom());
+        writeChat(encoder, MESSAGE_FORWARD_FROM_CHAT, message.getForwardFromChat());
+        encoder.writeInt(MESSAGE_FORWARD_DATE, message.getForwardDate());
+        writeMessage(encoder, MESSAGE_REPLY_TO_MESSAGE, message.getReplyToMessage());
+        encoder.writeInt(MESSAGE_EDIT_DATE, message.getEditDate());
+        encoder.writeString(MESSAGE_MEDIA_GROUP_ID, message.getMediaGroupId());
+        encoder.writeString(MESSAGE_TEXT, message.getText());
+        writeEntities(encoder, MESSAGE_ENTITIES, message.getEntities());
+        encoder.writeString(MESSAGE_CAPTION, message.getCaption());
+        writeEntities(encoder, MESSAGE_CAPTION_ENTITIES, message.getCaptionEntities());
+        writeMessage(encoder, MESSAGE_PINNED_MESSAGE, message.getPinnedMessage());
+        encoder.writeBoolean(MESSAGE_IS_TOPIC_MESSAGE, message.getIsTopicMessage());
+        writeExtras(encoder, message);
+    }
+
+    private Message readMessage(Decoder decoder) throws IOException {
+        Message message = new Message();
+        for (int key = decoder.readKey(); key != END; key = decoder.readKey()) {
+            switch (key) {
+                case MESSAGE_ID:
+                    message.setMessageId(decoder.readInt());
+                    break;
+                case MESSAGE_THREAD_ID:
+                    message.setMessageThreadId(decoder.readInt());
+                    break;
+                case MESSAGE_FROM:
+                    message.setFrom(readUser(decoder));
+                    break;
+                case MESSAGE_SENDER_CHAT:
+                    message.setSenderChat(readChat(decoder));
+                    break;
+                case MESSAGE_DATE:
+                    message.setDate(decoder.readInt());
+                    break;
+                case MESSAGE_CHAT:
+                    message.setChat(readChat(decoder));
+                    break;
+                case MESSAGE_FORWARD_FROM:
+                    message.setForwardFrom(readUser(decoder));
+                    break;
+                case MESSAGE_FORWARD_FROM_CHAT:
+                    message.setForwardFromChat(readChat(decoder));
+                    break;
+                case MESSAGE_FORWARD_DATE:
+                    message.setForwardDate(decoder.readInt());
+                    break;
+                case MESSAGE_REPLY_TO_MESSAGE:
+                    message.setReplyToMessage(readMessage(decoder));
+                    break;
+                case MESSAGE_EDIT_DATE:
+                    message.setEditDate(decoder.readInt());
+                    break;
+                case MESSAGE_MEDIA_GROUP_ID:
+                    message.setMediaGroupId(decoder.readString());
+                    break;
+                case MESSAGE_TEXT:
+                    message.setText(decoder.readString());
+                    break;
+                case MESSAGE_ENTITIES:
+                    message.setEntities(readEntities(decoder));
+                    break;
+                case MESSAGE_CAPTION:
+                    message.setCaption(decoder.readString());
+                    break;
+                case MESSAGE_CAPTION_ENTITIES:
+                    message.setCaptionEntities(readEntities(decoder));
+                    break;
+                case MESSAGE_PINNED_MESSAGE:
+                    message.setPinnedMessage(readMessage(decoder));
+                    break;
+                case MESSAGE_IS_TOPIC_MESSAGE:
+                    message.setIsTopicMessage(decoder.readBoolean());
+                    break;
+                default:
+                    readExtrasOrSkip(decoder, key, message);
+            }
+        }
+        return message;
+    }
+
+    private void writeUser(Encoder encoder, int key, User user) throws IOException {
+        if (user == null) {
+            return;
+        }
+        encoder.writeVarLong(key);
+        encoder.writeLong(USER_ID, user.getId());
+        encoder.writeString(USER_FIRST_NAME, user.getFirstName());
+        encoder.writeBoolean(USER_IS_BOT, user.getIsBot());
+        encoder.writeString(USER_LAST_NAME, user.getLastName());
+        encoder.writeString(USER_USERNAME, user.getUserName());
+        encoder.writeString(USER_LANGUAGE_CODE, user.getLanguageCode());
+        encoder.writeBoolean(USER_IS_PREMIUM, user.getIsPremium());
+        writeExtras(encoder, user);
+    }
+
+    private User readUser(Decoder decoder) throws IOException {
+        User user = new User();
+        for (int key = decoder.readKey(); key != END; key = decoder.readKey()) {
+            switch (key) {
+                case USER_ID:
+                    user.setId(decoder.readLong());
+                    break;
+                case USER_FIRST_NAME:
+                    user.setFirstName(decoder.readString());
+                    break;
+                case USER_IS_BOT:
+                    user.setIsBot(decoder.readBoolean());
+                    break;
+                case USER_LAST_NAME:
+                    user.setLastName(decoder.readString());
+                    break;
+                case USER_USERNAME:
+                    user.setUserName(decoder.readString());
+                    break;
+                case USER_LANGUAGE_CODE:
+                    user.setLanguageCode(decoder.readString());
+                    break;
+                case USER_IS_PREMIUM:
+                    user.setIsPremium(decoder.readBoolean());
+                    break;
+                default:
+                    readExtrasOrSkip(decoder, key, user);
+            }
+        }
+        return user;
+    }
+
+    private void writeChat(Encoder encoder, int key, Chat chat) throws IOException {
+        if (chat == null) {
+            return;
+        }
+        encoder.writeVarLong(key);
+        encoder.writeLong(CHAT_ID, chat.getId());
+        encoder.writeString(CHAT_TYPE, chat.getType());
+        encoder.writeString(CHAT_TITLE, chat.getTitle());
+        encoder.writeString(CHAT_USERNAME, chat.getUserName());
+        encoder.writeString(CHAT_FIRST_NAME, chat.getFirstName());
+        encoder.writeString(CHAT_LAST_NAME, chat.getLastName());
+        encoder.writeBoolean(CHAT_IS_FORUM, chat.getIsForum());
+        writeExtras(encoder, chat);
+    }
+
+    private Chat readChat(Decoder decoder) throws IOException {
+        Chat chat = new Chat();
+        for (int key = decoder.readKey(); key != END; key = decoder.readKey()) {
+            switch (key) {
+                case CHAT_ID:
+                    chat.setId(decoder.readLong());
+                    break;
+                case CHAT_TYPE:
+                    chat.setType(decoder.readString());
+                    break;
+                case CHAT_TITLE:
+                    chat.setTitle(decoder.readString());
+                    break;
+                case CHAT_USERNAME:
+                    chat.setUserName(decoder.readString());
+                    break;
+                case CHAT_FIRST_NAME:
+                    chat.setFirstName(decoder.readString());
+                    break;
+                case CHAT_LAST_NAME:
+                    chat.setLastName(decoder.readString());
+                    break;
+                case CHAT_IS_FORUM:
+                    chat.setIsForum(decoder.readBoolean());
+                    break;
+                default:
+                    readExtrasOrSkip(decoder, key, chat);
+            }
+        }
+        return chat;
+    }
+
+    private void writeEntities(Encoder encoder, int key, List<MessageEntity> entities) throws IOException {
+        if (entities == null) {
+            return;
+        }
+        encoder.writeVarLong(key);
+        encoder.writeVarLong(entities.size());
+        for (MessageEntity entity : entities) {
+            encoder.writeString(ENTITY_TYPE, entity.getType());
+            encoder.writeInt(ENTITY_OFFSET, entity.getOffset());
+            encoder.writeInt(ENTITY_LENGTH, entity.getLength());
+            encoder.writeString(ENTITY_URL, entity.getUrl());
+            writeUser(encoder, ENTITY_USER, entity.getUser());
+            encoder.writeString(ENTITY_LANGUAGE, entity.getLanguage());
+            encoder.writeString(ENTITY_CUSTOM_EMOJI_ID, entity.getCustomEmojiId());
+            writeExtras(encoder, entity);
+        }
+    }
+
+    private List<MessageEntity> readEntities(Decoder decoder) throws IOException {
+        int size = decoder.readSize();
+        List<MessageEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MessageEntity entity = new MessageEntity();
+            for (int key = decoder.readKey(); key != END; key = decoder.readKey()) {
+                switch (key) {
+                    case ENTITY_TYPE:
+                        entity.setType(decoder.readString());
+                        break;
+                    case ENTITY_OFFSET:
+                        entity.setOffset(decoder.readInt());
+                        break;
+                    case ENTITY_LENGTH:
+                        entity.setLength(decoder.readInt());
+                        break;
+                    case ENTITY_URL:
+                        entity.setUrl(decoder.readString());
+                        break;
+                    case ENTITY_USER:
+                        entity.setUser(readUser(decoder));
+                        break;
+                    case ENTITY_LANGUAGE:
+                        entity.setLanguage(decoder.readString());
+                        break;
+                    case ENTITY_CUSTOM_EMOJI_ID:
+                        entity.setCustomEmojiId(decoder.readString());
+                        break;
+                    default:
+                        readExtrasOrSkip(decoder, key, entity);
+                }
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Writes the fields of the value outside of the schema as JSON, then ends the object
+     */
+    private void writeExtras(Encoder encoder, Object value) throws IOException {
+        if (!hasExtras(value)) {
+            encoder.writeVarLong(END);
+            return;
+        }
+        encoder.scratch.reset();
+        extrasWriter.writeValue(encoder.scratch, value);
+        // Empty object, every field is in the schema
+        if (encoder.scratch.size() > 2) {
+            encoder.writeVarLong(EXTRAS);
+            encoder.writeVarLong(encoder.scratch.size());
+            encoder.writeBytes(encoder.scratch.toByteArray());
+        }
+        encoder.writeVarLong(END);
+    }
+
+    /**
+     * Checks the properties outside of the schema for a value, much cheaper than writing them to find none
+     */
+    private boolean hasExtras(Object value) throws IOException {
+        BeanPropertyWriter[] properties = extraProperties.computeIfAbsent(value.getClass(), this::findExtraProperties);
+        if (properties == UNKNOWN_PROPERTIES) {
+            return true;
+        }
+        try {
+            for (BeanPropertyWriter property : properties) {
+                if (property.get(value) != null) {
+                    return true;
+                }
+            }
+        } catch (Exception e) {
+            throw new JsonMappingException(null, "Unable to read property of " + value.getClass().getName(), e);
+        }
+        return false;
+    }
+
+    private BeanPropertyWriter[] findExtraProperties(Class<?> type) {
+        try {
+            JsonSerializer<Object> serializer = extrasMapper.getSerializerProviderInstance().findValueSerializer(type);
+            Set<String> schemaFields = getSchemaFields(type);
+            List<BeanPropertyWriter> properties = new ArrayList<>();
+            for (Iterator<PropertyWriter> iterator = serializer.properties(); iterator.hasNext(); ) {
+                PropertyWriter property = iterator.next();
+                if (!(property instanceof BeanPropertyWriter)) {
+                    return UNKNOWN_PROPERTIES;
+                }
+                if (!schemaFields.contains(property.getName())) {
+                    properties.add((BeanPropertyWriter) property);
+                }
+            }
+            return properties.toArray(new BeanPropertyWriter[0]);
+        } catch (JsonMappingException e) {
+            return UNKNOWN_PROPERTIES;
+        }
+    }
+
+    private void readExtrasOrSkip(Decoder decoder, int key, Object value) throws IOException {
+        if (key == EXTRAS) {
+            int length = decoder.readSize();
+            extrasMapper.readerForUpdating(value).readValue(decoder.bytes, decoder.position, length);
+            decoder.position += length;
+        } else {
+            decoder.skip(key & WIRE_TYPE_MASK);
+        }
+    }
+
+    private static Set<String> getSchemaFields(Class<?> type) {
+        for (Class<?> schemaType = type; schemaType != Object.class; schemaType = schemaType.getSuperclass()) {
+            Set<String> fields = SCHEMA_FIELDS.get(schemaType);
+            if (fields != null) {
+                return fields;
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    private static Set<String> fields(String... names) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(names)));
+    }
+
+    @JsonFilter(EXTRAS_FILTER)
+    private abstract static class ExtrasMixIn {
+    }
+
+    /**
+     * Leaves out the fields of the schema from the object being encoded, objects nested in the extras are kept whole
+     */
+    private static class ExtrasFilter extends SimpleBeanPropertyFilter {
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (gen.getOutputContext().getParent().inRoot() && getSchemaFields(pojo.getClass()).contains(writer.getName())) {
+                return;
+            }
+            writer.serializeAsField(pojo, gen, provider);
+        }
+    }
+
+    private static class Encoder {
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        void writeByte(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            if (size + bytes.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes.length));
+            }
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeInt(int key, Integer value) {
+            if (value != null) {
+                writeVarLong(key);
+                writeVarLong((value << 1 ^ value >> 31) & 0xFFFFFFFFL);
+            }
+        }
+
+        void writeLong(int key, Long value) {
+            if (value != null) {
+                writeVarLong(key);
+                writeVarLong(value << 1 ^ value >> 63);
+            }
+        }
+
+        void writeBoolean(int key, Boolean value) {
+            if (value != null) {
+                writeVarLong(key);
+                writeByte(value ? 1 : 0);
+            }
+        }
+
+        /**
+         * Writes a reference to the string table, or the string itself followed by its length
+         */
+        void writeString(int key, String value) {
+            if (value == null) {
+                return;
+            }
+            writeVarLong(key);
+            Integer reference = strings.get(value);
+            if (reference != null) {
+                writeVarLong((long) reference << 1 | 1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong((long) bytes.length << 1);
+            writeBytes(bytes);
+            if (bytes.length <= MAX_TABLE_STRING_LENGTH) {
+                strings.put(value, strings.size());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static class Decoder {
+        private final List<String> strings = new ArrayList<>();
+        private final byte[] bytes;
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new EOFException("Encoded update is truncated");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        int readKey() throws IOException {
+            return (int) readVarLong();
+        }
+
+        int readSize() throws IOException {
+            long size = readVarLong();
+            // Every element or byte takes at least one byte
+            if (size < 0 || size > bytes.length - position) {
+                throw new IOException("Malformed size " + size);
+            }
+            return (int) size;
+        }
+
+        Integer readInt() throws IOException {
+            int value = (int) readVarLong();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        Long readLong() throws IOException {
+            long value = readVarLong();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        Boolean readBoolean() throws IOException {
+            return readVarLong() != 0;
+        }
+
+        String readString() throws IOException {
+            long header = readVarLong();
+            if ((header & 1) == 1) {
+                long reference = header >>> 1;
+                if (reference >= strings.size()) {
+                    throw new IOException("Unknown string reference " + reference);
+                }
+                return strings.get((int) reference);
+            }
+            long length = header >>> 1;
+            if (length > bytes.length - position) {
+                throw new EOFException("Encoded update is truncated");
+            }
+            String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            if (length <= MAX_TABLE_STRING_LENGTH) {
+                strings.add(value);
+            }
+            return value;
+        }
+
+        /**
+         * Skips a field written by a newer schema, still reading its strings to keep the string table in sync
+         */
+        void skip(int wireType) throws IOException {
+            switch (wireType) {
+                case VARINT:
+                    readVarLong();
+                    break;
+                case STRING:
+                    readString();
+                    break;
+                case BYTES:
+                    position += readSize();
+                    break;
+                case OBJECT:
+                    for (int key = readKey(); key != END; key = readKey()) {
+                        skip(key & WIRE_TYPE_MASK);
+                    }
+                    break;
+                case LIST:
+                    for (int i = readSize(); i > 0; i--) {
+                        skip(OBJECT);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown wire type " + wireType);
+            }
+        }
+    }
+}
@@ -30,7 +30,7 @@ import java.util.List;
 @AllArgsConstructor
 public class InputSticker implements BotApiObject, Validable {
 
-    private static final String STICKER_FIELD = "sticker";
+    public static final String STICKER_FIELD = "sticker";
     private static final String EMOJI_LIST_FIELD = "emoji_list";
     private static final String MASK_POSITION_FIELD = "mask_position";
     private static final String KEYWORDS_FIELD = "keywords";
@@ -17,7 +17,6 @@
 
 package org.telegram.telegrambots.meta.exceptions;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.telegram.telegrambots.meta.api.objects.ApiResponse;
@@ -32,7 +31,6 @@ import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
 public class TelegramApiRequestException extends TelegramApiException {
     private static final Logger log = LoggerFactory.getLogger(TelegramApiRequestException.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final String ERRORDESCRIPTIONFIELD = "description";
     private static final String ERRORCODEFIELD = "error_code";
     private static final String PARAMETERSFIELD = "parameters";
@@ -1,5 +1,7 @@
 package org.telegram.telegrambots.meta.generics;
 
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+
 /**
  * @author Ruben Bermudez
  * @version 1.0
@@ -7,4 +9,11 @@ package org.telegram.telegrambots.meta.generics;
  */
 public interface BotOptions {
     String getBaseUrl();
+
+    /**
+     * @return Registry providing the object mapper used to talk to the Bot API
+     */
+    default ObjectMapperRegistry getObjectMapperRegistry() {
+        return ObjectMapperRegistry.getDefault();
+    }
 }
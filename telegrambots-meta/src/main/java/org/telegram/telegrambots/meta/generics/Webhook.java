@@ -10,6 +10,16 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 public interface Webhook {
     void startServer() throws TelegramApiException;
     void registerWebhook(WebhookBot callback);
+
+    /**
+     * Register a bot whose requests must contain the given secret token
+     * in the "X-Telegram-Bot-Api-Secret-Token" header
+     * @param callback Bot to register
+     * @param secretToken Secret token set in the webhook, null to accept any request
+     */
+    default void registerWebhook(WebhookBot callback, String secretToken) {
+        registerWebhook(callback);
+    }
     void setInternalUrl(String internalUrl);
     void setKeyStore(String keyStore, String keyStorePassword) throws TelegramApiException;
 }
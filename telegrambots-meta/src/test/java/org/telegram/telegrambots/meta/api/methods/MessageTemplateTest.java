@@ -0,0 +1,114 @@
+package org.telegram.telegrambots.meta.api.methods;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.api.objects.EntityType;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.MessageEntity;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessageTemplateTest {
+    @Test
+    void bodyIsTheMethodSentToTheChat() throws Exception {
+        MessageTemplate<Message> template = MessageTemplate.of(sendMessage("Hello everyone"));
+
+        assertEquals(json(sendMessage("-100987", "Hello everyone")),
+                new String(template.body("-100987"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void placeholdersAreReplacedAndEscaped() throws Exception {
+        MessageTemplate<Message> template = MessageTemplate.of(sendMessage("Hello {name}, {name} has {count} messages"),
+                "name", "count");
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "\"Zoë\"");
+        values.put("count", "3");
+
+        assertEquals(json(sendMessage("42", "Hello &quot;Zoë&quot;, &quot;Zoë&quot; has 3 messages")),
+                new String(template.body("42", values), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void valuesAreEscapedForTheParseMode() throws Exception {
+        String value = "<a & b> *c_d* [e](f) `g` 1.5!";
+
+        assertEquals("<b>Hi</b> &lt;a &amp; b&gt; *c_d* [e](f) `g` 1.5!", text(ParseMode.HTML, "<b>Hi</b> {value}", value));
+        assertEquals("*Hi* <a & b> \\*c\\_d\\* \\[e](f) \\`g\\` 1.5!", text(ParseMode.MARKDOWN, "*Hi* {value}", value));
+        assertEquals("*Hi* <a & b\\> \\*c\\_d\\* \\[e\\]\\(f\\) \\`g\\` 1\\.5\\!",
+                text(ParseMode.MARKDOWNV2, "*Hi* {value}", value));
+        assertEquals("Hi " + value, text(null, "Hi {value}", value));
+    }
+
+    @Test
+    void entitiesCantBeCombinedWithPlaceholders() throws Exception {
+        SendMessage withEntities = SendMessage.builder()
+                .chatId("1")
+                .text("Hello {name}")
+                .entities(Collections.singletonList(new MessageEntity(EntityType.BOLD, 0, 5)))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(withEntities, "name"));
+        assertEquals(json(SendMessage.builder().chatId("2").text("Hello {name}").entities(Collections.singletonList(new MessageEntity(EntityType.BOLD, 0, 5))).build()),
+                new String(MessageTemplate.of(withEntities).body("2"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void missingValuesAreRejected() throws Exception {
+        MessageTemplate<Message> template = MessageTemplate.of(sendMessage("Hello {name}"), "name");
+
+        assertThrows(IllegalArgumentException.class, () -> template.body("42"));
+        assertThrows(IllegalArgumentException.class, () -> template.body("", Collections.singletonMap("name", "Zoë")));
+    }
+
+    @Test
+    void invalidTemplatesAreRejected() {
+        assertThrows(TelegramApiValidationException.class, () -> MessageTemplate.of(sendMessage("")));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(sendMessage("Hello"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(sendMessage("Hello \uE000")));
+    }
+
+    @Test
+    void otherMethodsWithChatIdCanBeTemplates() throws Exception {
+        MessageTemplate<Boolean> template = MessageTemplate.of(DeleteMessage.builder().chatId("1").messageId(7).build());
+
+        assertEquals(json(DeleteMessage.builder().chatId("2").messageId(7).build()),
+                new String(template.body("2"), StandardCharsets.UTF_8));
+    }
+
+    private static String text(String parseMode, String text, String value) throws Exception {
+        SendMessage sendMessage = SendMessage.builder().chatId("1").text(text).parseMode(parseMode).build();
+        byte[] body = MessageTemplate.of(sendMessage, "value").body("2", Collections.singletonMap("value", value));
+        return ObjectMapperRegistry.getDefault().getObjectMapper().readValue(body, SendMessage.class).getText();
+    }
+
+    private static SendMessage sendMessage(String text) {
+        return sendMessage("1", text);
+    }
+
+    private static SendMessage sendMessage(String chatId, String text) {
+        return SendMessage.builder()
+                .chatId(chatId)
+                .text(text)
+                .parseMode("HTML")
+                .replyMarkup(InlineKeyboardMarkup.builder()
+                        .keyboardRow(Collections.singletonList(InlineKeyboardButton.builder().text("Yes").callbackData("yes").build()))
+                        .build())
+                .build();
+    }
+
+    private static String json(BotApiMethod<?> method) throws Exception {
+        return ObjectMapperRegistry.getDefault().getWriter(method.getClass()).writeValueAsString(method);
+    }
+}
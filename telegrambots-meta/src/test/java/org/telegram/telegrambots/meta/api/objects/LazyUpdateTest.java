@@ -0,0 +1,95 @@
+package org.telegram.telegrambots.meta.api.objects;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyUpdateTest {
+    private static final String MESSAGE_UPDATE = "{\"update_id\":10,\"message\":{\"message_id\":5,\"date\":1," +
+            "\"from\":{\"id\":7,\"is_bot\":false,\"first_name\":\"a\"},\"chat\":{\"id\":-100,\"type\":\"group\"}," +
+            "\"entities\":[{\"type\":\"bot_command\",\"offset\":0,\"length\":6}],\"text\":\"/start\"}}";
+    private static final String CALLBACK_UPDATE = "{\"update_id\":11,\"callback_query\":{\"id\":\"1\"," +
+            "\"from\":{\"id\":8,\"is_bot\":false,\"first_name\":\"b\"}," +
+            "\"message\":{\"message_id\":6,\"date\":1,\"chat\":{\"id\":9,\"type\":\"private\"},\"text\":\"menu\"},\"data\":\"a\"}}";
+
+    @Test
+    public void testIndexDoesNotBindUpdate() throws Exception {
+        LazyUpdate update = LazyUpdate.parse(bytes(MESSAGE_UPDATE));
+
+        assertEquals(10, update.getUpdateId());
+        assertEquals("message", update.getPayloadField());
+        assertEquals(UpdateType.MESSAGE, update.getType());
+        assertTrue(update.hasMessage());
+        assertFalse(update.hasCallbackQuery());
+        assertEquals(-100L, update.getChatId());
+        assertEquals(7L, update.getFromId());
+        assertEquals("/start", update.getIndexedText());
+        assertFalse(update.isMaterialized());
+    }
+
+    @Test
+    public void testCallbackQueryChatIsReadFromItsMessage() throws Exception {
+        LazyUpdate update = LazyUpdate.parse(bytes(CALLBACK_UPDATE));
+
+        assertTrue(update.hasCallbackQuery());
+        assertEquals(UpdateType.CALLBACK_QUERY, update.getType());
+        assertEquals(9L, update.getChatId());
+        assertEquals(8L, update.getFromId());
+        assertNull(update.getIndexedText());
+        assertFalse(update.isMaterialized());
+    }
+
+    @Test
+    public void testGettersBindWholeUpdate() throws Exception {
+        LazyUpdate update = LazyUpdate.parse(bytes(MESSAGE_UPDATE));
+
+        assertEquals("/start", update.getMessage().getText());
+        assertTrue(update.isMaterialized());
+        assertTrue(update.getMessage().isCommand());
+
+        Update eager = ObjectMapperRegistry.getDefault().getUpdateReader().readValue(MESSAGE_UPDATE);
+        assertEquals(eager, update);
+        assertEquals(UpdateType.MESSAGE, eager.getType());
+        assertEquals(update.getChatId(), eager.getChatId());
+        assertEquals(update.getFromId(), eager.getFromId());
+        assertEquals(eager.hashCode(), update.hashCode());
+    }
+
+    @Test
+    public void testParseList() throws Exception {
+        String response = "{\"ok\":true,\"result\":[" + MESSAGE_UPDATE + "," + CALLBACK_UPDATE + "]}";
+
+        List<LazyUpdate> updates = LazyUpdate.parseList(bytes(response));
+
+        assertEquals(2, updates.size());
+        assertEquals(10, updates.get(0).getUpdateId());
+        assertEquals(MESSAGE_UPDATE, new String(updates.get(0).getJson(), StandardCharsets.UTF_8));
+        assertEquals(11, updates.get(1).getUpdateId());
+        assertEquals("a", updates.get(1).getCallbackQuery().getData());
+        assertEquals(9L, updates.get(1).getChatId());
+        assertEquals(8L, updates.get(1).getFromId());
+    }
+
+    @Test
+    public void testParseListError() {
+        String response = "{\"ok\":false,\"error_code\":409,\"description\":\"Conflict\"}";
+
+        TelegramApiRequestException exception = assertThrows(TelegramApiRequestException.class,
+                () -> LazyUpdate.parseList(bytes(response)));
+        assertEquals(409, exception.getErrorCode());
+        assertEquals("Conflict", exception.getApiResponse());
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
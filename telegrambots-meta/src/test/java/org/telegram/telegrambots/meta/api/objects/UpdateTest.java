@@ -0,0 +1,58 @@
+package org.telegram.telegrambots.meta.api.objects;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.polls.Poll;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UpdateTest {
+    private static final String CALLBACK_UPDATE = "{\"update_id\":11,\"callback_query\":{\"id\":\"1\"," +
+            "\"from\":{\"id\":8,\"is_bot\":false,\"first_name\":\"b\"},\"data\":\"a\"}}";
+
+    @Test
+    public void testTypeIsSetWhenDeserialized() throws Exception {
+        Update update = ObjectMapperRegistry.getDefault().getUpdateReader().readValue(CALLBACK_UPDATE);
+
+        assertEquals(UpdateType.CALLBACK_QUERY, update.getType());
+    }
+
+    @Test
+    public void testTypeFollowsThePayload() {
+        Update update = new Update();
+        assertEquals(UpdateType.UNKNOWN, update.getType());
+
+        update.setPoll(new Poll());
+        assertEquals(UpdateType.POLL, update.getType());
+
+        // Removing another payload keeps the type
+        update.setMessage(null);
+        assertEquals(UpdateType.POLL, update.getType());
+
+        update.setPoll(null);
+        update.setChannelPost(new Message());
+        assertEquals(UpdateType.CHANNEL_POST, update.getType());
+    }
+
+    @Test
+    public void testTypeOfConstructedUpdate() {
+        Update update = new Update(1, null, null, null, null, new Message(), null, null, null, null, null, null, null,
+                null, null);
+
+        assertEquals(UpdateType.EDITED_MESSAGE, update.getType());
+    }
+
+    @Test
+    public void testTypeIsLookedForWhenUnknown() {
+        Update update = new Update() {
+            @Override
+            public UpdateType getType() {
+                return null;
+            }
+        };
+        update.setInlineQuery(new InlineQuery());
+
+        assertEquals(UpdateType.INLINE_QUERY, UpdateType.of(update));
+    }
+}
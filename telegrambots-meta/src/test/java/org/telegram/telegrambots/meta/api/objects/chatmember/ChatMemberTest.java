@@ -1,10 +1,13 @@
 package org.telegram.telegrambots.meta.api.objects.chatmember;
 
 import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatAdministrators;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.GetChatMember;
 import org.telegram.telegrambots.meta.api.objects.User;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -190,6 +193,26 @@ public class ChatMemberTest {
         assertEquals(100, chatMemberRestricted.getUntilDate());
     }
 
+    @Test
+    public void testDeserializationChatAdministrators() throws TelegramApiRequestException {
+        String text = "{\"ok\": true, \"result\": [" +
+                "{\"status\": \"creator\", \"is_anonymous\": false, \"custom_title\": \"Boss\", " +
+                "\"user\": {\"id\": 123456, \"first_name\": \"FirstName\", \"last_name\": \"LastName\", " +
+                "\"username\": \"UserName\", \"language_code\": \"en\"}}," +
+                "{\"user\": {\"id\": 123456, \"first_name\": \"FirstName\", \"last_name\": \"LastName\", " +
+                "\"username\": \"UserName\", \"language_code\": \"en\"}, \"status\": \"administrator\", " +
+                "\"can_be_edited\": true, \"can_manage_chat\": true, \"unknown_field\": {\"nested\": [1, 2]}}" +
+                "]}";
+        List<ChatMember> administrators = new GetChatAdministrators().deserializeResponse(text);
+        assertEquals(2, administrators.size());
+        ChatMemberOwner owner = (ChatMemberOwner) administrators.get(0);
+        assertEquals("Boss", owner.getCustomTitle());
+        assertEquals(getUser(), owner.getUser());
+        ChatMemberAdministrator administrator = (ChatMemberAdministrator) administrators.get(1);
+        assertEquals(getUser(), administrator.getUser());
+        assertEquals(true, administrator.getCanBeEdited());
+        assertEquals(true, administrator.getCanManageChat());
+    }
 
     private User getUser() {
         User user = new User();
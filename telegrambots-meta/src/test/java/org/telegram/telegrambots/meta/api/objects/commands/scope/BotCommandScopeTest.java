@@ -1,5 +1,6 @@
 package org.telegram.telegrambots.meta.api.objects.commands.scope;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
 
@@ -117,4 +118,11 @@ public class BotCommandScopeTest {
         Throwable thrown = assertThrows(TelegramApiValidationException.class, botCommandScope::validate);
         assertEquals("UserId parameter can't be empty", thrown.getMessage());
     }
+
+    @Test
+    public void testBotCommandScopeDeserialization() throws Exception {
+        BotCommandScope botCommandScope = new ObjectMapper().readValue("{\"chat_id\":\"12345\",\"type\":\"chat\"}", BotCommandScope.class);
+        assertEquals(BotCommandScopeChat.class, botCommandScope.getClass());
+        assertEquals("12345", ((BotCommandScopeChat) botCommandScope).getChatId());
+    }
 }
@@ -0,0 +1,91 @@
+package org.telegram.telegrambots.meta.api.objects.replykeyboard;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.LoginUrl;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InlineKeyboardMarkupTest {
+    @Test
+    public void testFrozenKeyboardIsNotValidatedAgain() throws TelegramApiValidationException {
+        InlineKeyboardButton button = InlineKeyboardButton.builder().text("Button").callbackData("data").build();
+        InlineKeyboardMarkup markup = InlineKeyboardMarkup.builder().keyboardRow(Collections.singletonList(button)).build();
+
+        assertTrue(markup.freeze().isFrozen());
+        assertDoesNotThrow(markup::validate);
+    }
+
+    @Test
+    public void testFrozenKeyboardHoldsCopiesOfTheButtons() throws TelegramApiValidationException {
+        InlineKeyboardButton button = InlineKeyboardButton.builder()
+                .text("Button")
+                .loginUrl(LoginUrl.builder().url("https://example.com").build())
+                .build();
+        InlineKeyboardMarkup markup = InlineKeyboardMarkup.builder().keyboardRow(Collections.singletonList(button)).build();
+        InlineKeyboardButton copy = markup.freeze().getKeyboard().get(0).get(0);
+
+        button.setText("");
+        button.getLoginUrl().setUrl("");
+
+        assertNotSame(button, copy);
+        assertEquals("Button", copy.getText());
+        assertEquals("https://example.com", copy.getLoginUrl().getUrl());
+        assertDoesNotThrow(markup::validate);
+    }
+
+    @Test
+    public void testFrozenKeyboardRowsAreUnmodifiable() throws TelegramApiValidationException {
+        List<InlineKeyboardButton> row = new ArrayList<>();
+        row.add(InlineKeyboardButton.builder().text("Button").callbackData("data").build());
+        InlineKeyboardMarkup markup = new InlineKeyboardMarkup(Collections.singletonList(row)).freeze();
+
+        assertThrows(UnsupportedOperationException.class, () -> markup.getKeyboard().get(0).add(row.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> markup.getKeyboard().add(row));
+    }
+
+    @Test
+    public void testReplacedKeyboardIsValidated() throws TelegramApiValidationException {
+        InlineKeyboardMarkup markup = InlineKeyboardMarkup.builder()
+                .keyboardRow(Collections.singletonList(InlineKeyboardButton.builder().text("Button").callbackData("data").build()))
+                .build()
+                .freeze();
+
+        markup.setKeyboard(Collections.singletonList(Collections.singletonList(InlineKeyboardButton.builder().text("").build())));
+
+        assertFalse(markup.isFrozen());
+        assertThrows(TelegramApiValidationException.class, markup::validate);
+    }
+
+    @Test
+    public void testInvalidKeyboardIsNotFrozen() {
+        InlineKeyboardMarkup markup = InlineKeyboardMarkup.builder()
+                .keyboardRow(Collections.singletonList(InlineKeyboardButton.builder().text("").build()))
+                .build();
+
+        assertThrows(TelegramApiValidationException.class, markup::freeze);
+        assertFalse(markup.isFrozen());
+    }
+
+    @Test
+    public void testFrozenKeyboardIsSerializedAsBefore() throws Exception {
+        InlineKeyboardMarkup markup = InlineKeyboardMarkup.builder()
+                .keyboardRow(Collections.singletonList(InlineKeyboardButton.builder().text("Button").callbackData("data").build()))
+                .build();
+        String json = ObjectMapperRegistry.getDefault().getWriter().writeValueAsString(markup);
+
+        assertEquals(json, ObjectMapperRegistry.getDefault().getWriter().writeValueAsString(markup.freeze()));
+        assertEquals(markup, ObjectMapperRegistry.getDefault().getObjectMapper().readValue(json, InlineKeyboardMarkup.class));
+    }
+}
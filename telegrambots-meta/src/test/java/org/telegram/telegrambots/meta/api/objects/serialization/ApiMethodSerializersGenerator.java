@@ -0,0 +1,244 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates {@link ApiMethodSerializers} from the bean properties Jackson resolves for every {@link BotApiMethod}.
+ *
+ * Run it from the telegrambots-meta directory after adding or changing an api method:
+ * <pre>
+ * java -cp target/classes:target/test-classes:... org.telegram.telegrambots.meta.api.objects.serialization.ApiMethodSerializersGenerator
+ * </pre>
+ * {@link ApiMethodSerializersTest} fails while the generated file is out of date.
+ */
+public final class ApiMethodSerializersGenerator {
+    static final Path OUTPUT = Paths.get("src/main/java/org/telegram/telegrambots/meta/api/objects/serialization/ApiMethodSerializers.java");
+
+    private static final String METHODS_PACKAGE = "org.telegram.telegrambots.meta.api.methods";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<String> imports = new TreeSet<>();
+    private final StringBuilder registrations = new StringBuilder();
+    private final StringBuilder serializers = new StringBuilder();
+
+    private ApiMethodSerializersGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Files.write(OUTPUT, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String generate() throws IOException, URISyntaxException, ClassNotFoundException {
+        ApiMethodSerializersGenerator generator = new ApiMethodSerializersGenerator();
+        List<Class<?>> apiMethods = findApiMethods();
+        for (Class<?> type : apiMethods) {
+            generator.addSerializer(type, isNameShared(type, apiMethods));
+        }
+        return generator.toSource();
+    }
+
+    static List<Class<?>> findApiMethods() throws IOException, URISyntaxException, ClassNotFoundException {
+        Path root = Paths.get(BotApiMethod.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path methods = root.resolve(METHODS_PACKAGE.replace('.', File.separatorChar));
+        List<String> classNames;
+        try (Stream<Path> files = Files.walk(methods)) {
+            classNames = files
+                    .map(path -> root.relativize(path).toString())
+                    .filter(name -> name.endsWith(".class") && !name.contains("$"))
+                    .map(name -> name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        List<Class<?>> apiMethods = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> type = Class.forName(className);
+            if (BotApiMethod.class.isAssignableFrom(type) && Modifier.isPublic(type.getModifiers())
+                    && !Modifier.isAbstract(type.getModifiers())) {
+                apiMethods.add(type);
+            }
+        }
+        return apiMethods;
+    }
+
+    private static boolean isNameShared(Class<?> type, List<Class<?>> apiMethods) {
+        return apiMethods.stream().anyMatch(other -> other != type && other.getSimpleName().equals(type.getSimpleName()));
+    }
+
+    /**
+     * Adds the serializer of a type, unless Jackson would serialize it with something else than plain getters
+     * @param nameShared True if another api method has the same simple name, so it can't be imported
+     */
+    private void addSerializer(Class<?> type, boolean nameShared) throws IOException {
+        JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+        if (serializer.getClass() != BeanSerializer.class) {
+            return;
+        }
+        List<BeanPropertyWriter> properties = new ArrayList<>();
+        for (Iterator<PropertyWriter> iterator = serializer.properties(); iterator.hasNext(); ) {
+            PropertyWriter property = iterator.next();
+            if (!(property instanceof BeanPropertyWriter) || !isPlainGetter((BeanPropertyWriter) property)) {
+                return;
+            }
+            properties.add((BeanPropertyWriter) property);
+        }
+
+        String typeName;
+        String serializerName;
+        if (nameShared) {
+            // Prefixed with the package, e.g. InvoicesSendInvoiceSerializer
+            String packageName = type.getPackage().getName();
+            String lastPackage = packageName.substring(packageName.lastIndexOf('.') + 1);
+            typeName = type.getName();
+            serializerName = Character.toUpperCase(lastPackage.charAt(0)) + lastPackage.substring(1) + type.getSimpleName() + "Serializer";
+        } else {
+            imports.add(type.getName());
+            typeName = type.getSimpleName();
+            serializerName = type.getSimpleName() + "Serializer";
+        }
+        registrations.append("        serializers.put(").append(typeName).append(".class, new ")
+                .append(serializerName).append("());\n");
+
+        serializers.append("\n    private static final class ").append(serializerName).append(" extends StdSerializer<")
+                .append(typeName).append("> {\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n")
+                .append("        private ").append(serializerName).append("() {\n")
+                .append("            super(").append(typeName).append(".class);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void serialize(").append(typeName)
+                .append(" value, JsonGenerator gen, SerializerProvider provider) throws IOException {\n")
+                .append("            gen.writeStartObject(value);\n");
+        for (BeanPropertyWriter property : properties) {
+            addProperty(property);
+        }
+        serializers.append("            gen.writeEndObject();\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private static boolean isPlainGetter(BeanPropertyWriter property) {
+        AnnotatedMember member = property.getMember();
+        return member instanceof AnnotatedMethod
+                && Modifier.isPublic(((AnnotatedMethod) member).getAnnotated().getModifiers())
+                && Modifier.isPublic(member.getDeclaringClass().getModifiers())
+                && property.getAnnotation(JsonSerialize.class) == null
+                && property.getViews() == null;
+    }
+
+    private void addProperty(BeanPropertyWriter property) {
+        Class<?> rawType = property.getMember().getRawType();
+        String getter = property.getMember().getName();
+        String name = property.getName();
+        if (rawType.isPrimitive()) {
+            serializers.append("            gen.").append(writeMethod(rawType)).append("(\"").append(name)
+                    .append("\", value.").append(getter).append("());\n");
+            return;
+        }
+
+        String writeMethod = writeMethod(rawType);
+        String localType = writeMethod == null ? "Object" : rawType.getSimpleName();
+        String local = "value" + Character.toUpperCase(name.charAt(0)) + toCamelCase(name.substring(1));
+        serializers.append("            ").append(localType).append(" ").append(local).append(" = value.")
+                .append(getter).append("();\n")
+                .append("            if (").append(local).append(" != null) {\n");
+        if (writeMethod == null) {
+            serializers.append("                gen.writeFieldName(\"").append(name).append("\");\n")
+                    .append("                provider.defaultSerializeValue(").append(local).append(", gen);\n");
+        } else {
+            serializers.append("                gen.").append(writeMethod).append("(\"").append(name).append("\", ")
+                    .append(local).append(");\n");
+        }
+        if (property.willSuppressNulls()) {
+            serializers.append("            }\n");
+        } else {
+            serializers.append("            } else {\n")
+                    .append("                gen.writeNullField(\"").append(name).append("\");\n")
+                    .append("            }\n");
+        }
+    }
+
+    /**
+     * @return Method of the generator writing the type, null for types serialized by Jackson
+     */
+    private static String writeMethod(Class<?> type) {
+        if (type == String.class) {
+            return "writeStringField";
+        } else if (type == Boolean.class || type == boolean.class) {
+            return "writeBooleanField";
+        } else if (type == Integer.class || type == int.class || type == Long.class || type == long.class
+                || type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return "writeNumberField";
+        }
+        return null;
+    }
+
+    private static String toCamelCase(String name) {
+        StringBuilder camelCase = new StringBuilder();
+        boolean upper = false;
+        for (char c : name.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                camelCase.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return camelCase.toString();
+    }
+
+    private String toSource() {
+        StringBuilder source = new StringBuilder();
+        source.append("package org.telegram.telegrambots.meta.api.objects.serialization;\n\n")
+                .append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+                .append("import com.fasterxml.jackson.databind.JsonSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.SerializerProvider;\n")
+                .append("import com.fasterxml.jackson.databind.ser.std.StdSerializer;\n");
+        for (String type : imports) {
+            source.append("import ").append(type).append(";\n");
+        }
+        source.append("\n")
+                .append("import java.io.IOException;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Streaming serializers of the api methods, calling their getters directly instead of through reflection.\n")
+                .append(" *\n")
+                .append(" * Generated by ApiMethodSerializersGenerator from the properties Jackson resolves for each method, do not edit.\n")
+                .append(" * Methods whose properties need anything else than their getters are left to Jackson.\n")
+                .append(" */\n")
+                // Getters of deprecated properties are still called
+                .append("@SuppressWarnings(\"deprecation\")\n")
+                .append("final class ApiMethodSerializers {\n")
+                .append("    private ApiMethodSerializers() {\n")
+                .append("    }\n\n")
+                .append("    static void register(Map<Class<?>, JsonSerializer<?>> serializers) {\n")
+                .append(registrations)
+                .append("    }\n")
+                .append(serializers)
+                .append("}\n");
+        return source.toString();
+    }
+}
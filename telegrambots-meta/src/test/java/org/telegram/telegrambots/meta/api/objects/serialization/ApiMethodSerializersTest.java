@@ -0,0 +1,169 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.methods.commands.SetMyCommands;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.EntityType;
+import org.telegram.telegrambots.meta.api.objects.MessageEntity;
+import org.telegram.telegrambots.meta.api.objects.commands.BotCommand;
+import org.telegram.telegrambots.meta.api.objects.commands.scope.BotCommandScopeChat;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.InputTextMessageContent;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResultArticle;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiMethodSerializersTest {
+    private final ObjectMapper jackson = new ObjectMapper();
+    private final ObjectMapper generated = ObjectMapperRegistry.withModules().getObjectMapper();
+
+    @Test
+    public void testGeneratedSerializersAreUpToDate() throws Exception {
+        String expected = ApiMethodSerializersGenerator.generate();
+        String actual = new String(Files.readAllBytes(ApiMethodSerializersGenerator.OUTPUT), StandardCharsets.UTF_8);
+        assertEquals(expected, actual, "Run ApiMethodSerializersGenerator to update the generated serializers");
+    }
+
+    @Test
+    public void testScalarPropertiesMatchJackson() throws Exception {
+        List<Class<?>> apiMethods = ApiMethodSerializersGenerator.findApiMethods();
+        int covered = 0;
+        for (Class<?> type : apiMethods) {
+            if (!ApiMethodSerializersModule.hasSerializer(type)) {
+                continue;
+            }
+            covered++;
+            Object empty = newInstance(type);
+            assertEquals(jackson.writeValueAsString(empty), generated.writeValueAsString(empty), type.getName());
+            Object filled = fillScalars(newInstance(type));
+            assertEquals(jackson.writeValueAsString(filled), generated.writeValueAsString(filled), type.getName());
+        }
+        assertTrue(covered > apiMethods.size() / 2, "Most api methods should be generated");
+    }
+
+    @Test
+    public void testNestedObjectsMatchJackson() throws Exception {
+        SendMessage sendMessage = SendMessage.builder()
+                .chatId("1")
+                .text("Hello *world*")
+                .parseMode("MarkdownV2")
+                .replyToMessageId(3)
+                .entities(Collections.singletonList(new MessageEntity(EntityType.BOLD, 6, 7)))
+                .replyMarkup(InlineKeyboardMarkup.builder()
+                        .keyboardRow(Collections.singletonList(InlineKeyboardButton.builder().text("a").callbackData("b").build()))
+                        .build())
+                .build();
+        assertSameJson(sendMessage);
+
+        AnswerInlineQuery answerInlineQuery = AnswerInlineQuery.builder()
+                .inlineQueryId("1")
+                .result(InlineQueryResultArticle.builder()
+                        .id("2")
+                        .title("Title")
+                        .inputMessageContent(InputTextMessageContent.builder().messageText("text").build())
+                        .build())
+                .cacheTime(0)
+                .build();
+        assertSameJson(answerInlineQuery);
+
+        SetMyCommands setMyCommands = SetMyCommands.builder()
+                .command(new BotCommand("start", "Start"))
+                .scope(new BotCommandScopeChat("1"))
+                .languageCode("en")
+                .build();
+        assertSameJson(setMyCommands);
+    }
+
+    @Test
+    public void testGeneratedSerializersAreUsedWithDefaultSettings() throws Exception {
+        assertTrue(isGenerated(generated, SendMessage.class));
+    }
+
+    @Test
+    public void testSettingsOfTheMapperApply() throws Exception {
+        SendMessage sendMessage = SendMessage.builder().chatId("1").text("Hello").disableNotification(true).build();
+        SimpleModule settings = new SimpleModule() {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.setNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+                context.configOverride(SendMessage.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, null));
+            }
+        };
+        ObjectMapper configured = ObjectMapperRegistry.withModules(settings).getObjectMapper();
+        ObjectMapper configuredJackson = new ObjectMapper().registerModule(settings);
+
+        assertFalse(isGenerated(configured, SendMessage.class));
+        assertEquals(configuredJackson.writeValueAsString(sendMessage), configured.writeValueAsString(sendMessage));
+
+        ObjectMapper nonNull = ObjectMapperRegistry.withModules().getObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        assertFalse(isGenerated(nonNull, SendMessage.class));
+        assertEquals(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL).writeValueAsString(sendMessage),
+                nonNull.writeValueAsString(sendMessage));
+    }
+
+    private static boolean isGenerated(ObjectMapper mapper, Class<?> type) throws Exception {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getEnclosingClass()
+                == ApiMethodSerializers.class;
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertTrue(ApiMethodSerializersModule.hasSerializer(value.getClass()));
+        assertEquals(jackson.writeValueAsString(value), generated.writeValueAsString(value));
+    }
+
+    private static Object newInstance(Class<?> type) throws ReflectiveOperationException {
+        return type.getConstructor().newInstance();
+    }
+
+    /**
+     * Sets every field of a scalar type through reflection, objects are left to the nested objects test
+     */
+    private static Object fillScalars(Object value) throws IllegalAccessException {
+        for (Class<?> type = value.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                Object sample = sample(field.getType());
+                if (sample != null) {
+                    field.setAccessible(true);
+                    field.set(value, sample);
+                }
+            }
+        }
+        return value;
+    }
+
+    private static Object sample(Class<?> type) {
+        if (type == String.class) {
+            return "text \"quoted\" ✓";
+        } else if (type == Integer.class || type == int.class) {
+            return 42;
+        } else if (type == Long.class || type == long.class) {
+            return -1001234567890L;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return true;
+        } else if (type == Double.class || type == double.class) {
+            return 12.5;
+        } else if (type == Float.class || type == float.class) {
+            return 0.25f;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class InterningModuleTest {
+    private static final String UPDATE = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"date\":1," +
+            "\"from\":{\"id\":%d,\"is_bot\":false,\"first_name\":\"%s\"},\"chat\":{\"id\":-100,\"type\":\"group\"},\"text\":\"a\"}}";
+
+    @Test
+    public void testEqualUsersAndChatsAreShared() throws Exception {
+        ObjectMapperRegistry registry = ObjectMapperRegistry.withModules(new InterningModule(16));
+
+        Update first = registry.getUpdateReader().readValue(String.format(UPDATE, 1, 1, 7, "a"));
+        Update second = registry.getUpdateReader().readValue(String.format(UPDATE, 2, 2, 7, "a"));
+        Update renamed = registry.getUpdateReader().readValue(String.format(UPDATE, 3, 3, 7, "b"));
+
+        assertSame(first.getMessage().getFrom(), second.getMessage().getFrom());
+        assertSame(first.getMessage().getChat(), second.getMessage().getChat());
+        assertNotSame(first.getMessage().getFrom(), renamed.getMessage().getFrom());
+        assertEquals("b", renamed.getMessage().getFrom().getFirstName());
+        assertSame(first.getMessage().getChat(), renamed.getMessage().getChat());
+    }
+
+    @Test
+    public void testUsersInsideListsAreShared() throws Exception {
+        ObjectMapperRegistry registry = ObjectMapperRegistry.withModules(new InterningModule(16));
+        String user = "{\"id\":7,\"is_bot\":false,\"first_name\":\"a\"}";
+        String message = "{\"message_id\":1,\"date\":1,\"chat\":{\"id\":-100,\"type\":\"group\"}," +
+                "\"from\":" + user + ",\"new_chat_members\":[" + user + "]}";
+
+        Update update = registry.getUpdateReader().readValue("{\"update_id\":1,\"message\":" + message + "}");
+
+        List<?> members = update.getMessage().getNewChatMembers();
+        assertSame(update.getMessage().getFrom(), members.get(0));
+    }
+
+    @Test
+    public void testCapacityIsRoundedToPowerOfTwo() {
+        assertEquals(16, new InternCache<>(10).getCapacity());
+        assertEquals(1, new InternCache<>(1).getCapacity());
+    }
+}
@@ -0,0 +1,47 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObjectMapperRegistryTest {
+    @Test
+    public void testReadersAndWritersAreReused() throws Exception {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(new ObjectMapper());
+
+        assertSame(registry.getResponseReader(Message.class), registry.getResponseReader(Message.class));
+        assertSame(registry.getWriter(SendMessage.class), registry.getWriter(SendMessage.class));
+
+        ApiResponse<Message> response = registry.getResponseReader(Message.class)
+                .readValue("{\"ok\":true,\"result\":{\"message_id\":5,\"date\":1,\"chat\":{\"id\":1,\"type\":\"private\"}}}");
+        assertTrue(response.getOk());
+        assertEquals(5, response.getResult().getMessageId());
+
+        Update update = registry.getUpdateReader().readValue("{\"update_id\":10}");
+        assertEquals(10, update.getUpdateId());
+
+        assertEquals("{\"chat_id\":\"1\",\"text\":\"a\",\"method\":\"sendmessage\"}",
+                registry.getWriter(SendMessage.class).writeValueAsString(SendMessage.builder().chatId("1").text("a").build()));
+    }
+
+    @Test
+    public void testRegisterModulesDropsResolvedReaders() {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(new ObjectMapper());
+        Object reader = registry.getResponseReader(Message.class);
+        Object updateReader = registry.getUpdateReader();
+
+        registry.registerModules(new SimpleModule("test"));
+
+        assertNotSame(reader, registry.getResponseReader(Message.class));
+        assertNotSame(updateReader, registry.getUpdateReader());
+    }
+}
@@ -0,0 +1,126 @@
+package org.telegram.telegrambots.meta.api.objects.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.LazyUpdate;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UpdateCodecTest {
+    private static final String MESSAGE_UPDATE = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"date\":1604154223," +
+            "\"from\":{\"id\":1234567,\"is_bot\":false,\"first_name\":\"MyFirstName\",\"username\":\"MyUsername\",\"language_code\":\"en\"}," +
+            "\"chat\":{\"id\":-1001556359722,\"title\":\"test group\",\"type\":\"supergroup\"},\"text\":\"/start hi 😀 @name\"," +
+            "\"entities\":[{\"offset\":0,\"length\":6,\"type\":\"bot_command\"},{\"offset\":13,\"length\":5,\"type\":\"text_mention\"," +
+            "\"user\":{\"id\":7,\"is_bot\":false,\"first_name\":\"Name\"}}]}}";
+    private static final String GAME_UPDATE = "{\"update_id\":79995148,\"message\":{\"message_id\":94," +
+            "\"from\":{\"id\":12345678,\"is_bot\":false,\"first_name\":\"MyFirstName\",\"is_premium\":true,\"can_join_groups\":true}," +
+            "\"chat\":{\"id\":12345678,\"first_name\":\"MyFirstName\",\"type\":\"private\",\"bio\":\"Bio\"},\"date\":1604154326," +
+            "\"game\":{\"title\":\"Brick Stacker\",\"description\":\"Stack\",\"photo\":[{\"file_id\":\"FILEID\",\"file_unique_id\":\"FILEID\",\"width\":320,\"height\":180}]}," +
+            "\"reply_markup\":{\"inline_keyboard\":[[{\"text\":\"Play\",\"callback_game\":{}}]]}," +
+            "\"via_bot\":{\"id\":280713127,\"is_bot\":true,\"first_name\":\"Gamee\",\"username\":\"gamee\"}," +
+            "\"new_chat_members\":[{\"id\":123455678,\"is_bot\":true,\"first_name\":\"Testing\",\"username\":\"TestingBot\"}]}}";
+    private static final String CALLBACK_UPDATE = "{\"update_id\":11,\"callback_query\":{\"id\":\"1\"," +
+            "\"from\":{\"id\":8,\"is_bot\":false,\"first_name\":\"b\"}," +
+            "\"message\":{\"message_id\":6,\"date\":1,\"chat\":{\"id\":9,\"type\":\"private\"},\"text\":\"menu\"},\"data\":\"a\"}}";
+
+    private final UpdateCodec codec = new UpdateCodec();
+
+    @Test
+    public void testUpdateRoundTrip() throws Exception {
+        String json;
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("Update.json")) {
+            json = new String(readAll(stream), StandardCharsets.UTF_8);
+        }
+        Update update = read(json);
+
+        Update decoded = codec.decode(codec.encode(update));
+
+        assertEquals(update, decoded);
+        assertEquals(update.getMessage().getReplyToMessage(), decoded.getMessage().getReplyToMessage());
+    }
+
+    @Test
+    public void testFieldsOutsideOfTheSchemaRoundTrip() throws Exception {
+        for (String json : Arrays.asList(String.format(MESSAGE_UPDATE, 1, 1), GAME_UPDATE, CALLBACK_UPDATE)) {
+            Update update = read(json);
+
+            Update decoded = codec.decode(codec.encode(update));
+
+            assertEquals(update, decoded, json);
+            assertEquals(read(ObjectMapperRegistry.getDefault().getWriter().writeValueAsString(decoded)), decoded);
+        }
+    }
+
+    @Test
+    public void testEntitiesKeepTheirText() throws Exception {
+        Update decoded = codec.decode(codec.encode(read(String.format(MESSAGE_UPDATE, 1, 1))));
+
+        assertEquals("/start", decoded.getMessage().getEntities().get(0).getText());
+        assertEquals("@name", decoded.getMessage().getEntities().get(1).getText());
+        assertEquals(7L, decoded.getMessage().getEntities().get(1).getUser().getId());
+    }
+
+    @Test
+    public void testBatchSharesStringTable() throws Exception {
+        List<Update> updates = new ArrayList<>();
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            String update = String.format(MESSAGE_UPDATE, 1000 + i, i);
+            updates.add(read(update));
+            json.append(update);
+        }
+
+        byte[] batch = codec.encodeAll(updates);
+
+        assertEquals(updates, codec.decodeAll(batch));
+        assertTrue(batch.length * 4 < json.length(), "Batch of " + batch.length + " bytes");
+        assertTrue(batch.length < codec.encode(updates.get(0)).length * updates.size() / 2);
+    }
+
+    @Test
+    public void testLazyUpdatesAreEncoded() throws Exception {
+        String json = String.format(MESSAGE_UPDATE, 3, 3);
+        LazyUpdate update = LazyUpdate.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(read(json), codec.decode(codec.encode(update)));
+    }
+
+    @Test
+    public void testNewerFormatVersionIsRejected() {
+        byte[] bytes = {(byte) 0xB7, (byte) (UpdateCodec.FORMAT_VERSION + 1), 0};
+
+        IOException exception = assertThrows(IOException.class, () -> codec.decode(bytes));
+        assertTrue(exception.getMessage().contains("version"));
+    }
+
+    @Test
+    public void testTruncatedInputIsRejected() throws Exception {
+        byte[] bytes = codec.encode(read(String.format(MESSAGE_UPDATE, 1, 1)));
+
+        assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(bytes, bytes.length / 2)));
+        assertThrows(IOException.class, () -> codec.decode("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Update read(String json) throws IOException {
+        return ObjectMapperRegistry.getDefault().getUpdateReader().readValue(json);
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        byte[] buffer = new byte[4096];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -28,7 +28,11 @@ import org.telegram.telegrambots.meta.api.objects.commands.BotCommand;
 import org.telegram.telegrambots.meta.api.objects.inlinequery.ChosenInlineQuery;
 import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -437,6 +441,46 @@ class TestDeserialization {
         assertNotNull(update.getCallbackQuery().getMessage().getReplyMarkup());
     }
 
+    @Test
+    void TestEntitiesTextWithSurrogatePairs() throws Exception {
+        // Offsets and lengths are in UTF-16 code units, each emoji takes two of them
+        Message message = mapper.readValue("{\"message_id\":1,\"date\":1,\"chat\":{\"id\":1,\"type\":\"private\"}," +
+                "\"text\":\"\\ud83d\\ude00 #tag \\ud83d\\ude00 #other\"," +
+                "\"entities\":[{\"type\":\"hashtag\",\"offset\":3,\"length\":4}," +
+                "{\"type\":\"hashtag\",\"offset\":11,\"length\":6},{\"type\":\"bold\",\"offset\":0,\"length\":2}," +
+                "{\"type\":\"italic\",\"offset\":15,\"length\":10}]}", Message.class);
+
+        List<MessageEntity> entities = message.getEntities();
+        assertEquals("#tag", entities.get(0).getText());
+        assertEquals("#other", entities.get(1).getText());
+        assertEquals("😀", entities.get(2).getText());
+        assertEquals("er", entities.get(3).getText());
+
+        List<CharSequence> hashtags = message.getEntitySlices(EntityType.HASHTAG);
+        assertEquals(2, hashtags.size());
+        assertEquals("#tag", hashtags.get(0).toString());
+        assertEquals("#other", hashtags.get(1).toString());
+        assertTrue(message.getCaptionEntitySlices(EntityType.HASHTAG).isEmpty());
+    }
+
+    @Test
+    void TestEntitiesKeepTheirTextButNotTheMessageText() throws Exception {
+        Message message = mapper.readValue("{\"message_id\":1,\"date\":1,\"chat\":{\"id\":1,\"type\":\"private\"}," +
+                "\"text\":\"Hello #tag\",\"entities\":[{\"type\":\"hashtag\",\"offset\":6,\"length\":4}]}", Message.class);
+        MessageEntity entity = message.getEntities().get(0);
+
+        assertFalse(mapper.writeValueAsString(entity).contains("Hello"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(entity);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            MessageEntity copy = (MessageEntity) input.readObject();
+            assertEquals("#tag", copy.getText());
+            assertEquals("#tag", copy.getTextSlice().toString());
+        }
+    }
+
     @Test
     void TestResponseWithoutErrorDeserialization() throws IOException {
         ApiResponse<ArrayList<Update>> result = mapper.readValue(TelegramBotsHelper.GetResponseWithoutError(), new TypeReference<ApiResponse<ArrayList<Update>>>(){});
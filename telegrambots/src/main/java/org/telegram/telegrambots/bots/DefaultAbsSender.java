@@ -2,11 +2,13 @@ package org.telegram.telegrambots.bots;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
@@ -14,14 +16,32 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 import org.telegram.telegrambots.facilities.TelegramHttpClientBuilder;
 import org.telegram.telegrambots.facilities.filedownloader.TelegramFileDownloader;
+import org.telegram.telegrambots.facilities.filepipeline.FilePipeline;
+import org.telegram.telegrambots.facilities.filepipeline.StreamTransformer;
+import org.telegram.telegrambots.meta.api.methods.AnswerCallbackQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerPreCheckoutQuery;
+import org.telegram.telegrambots.meta.api.methods.AnswerShippingQuery;
 import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.ForwardMessage;
+import org.telegram.telegrambots.meta.api.methods.MessageTemplate;
+import org.telegram.telegrambots.meta.api.methods.StopMessageLiveLocation;
 import org.telegram.telegrambots.meta.api.methods.groupadministration.SetChatPhoto;
+import org.telegram.telegrambots.meta.api.methods.pinnedmessages.PinChatMessage;
+import org.telegram.telegrambots.meta.api.methods.pinnedmessages.UnpinChatMessage;
 import org.telegram.telegrambots.meta.api.methods.send.SendAnimation;
 import org.telegram.telegrambots.meta.api.methods.send.SendAudio;
+import org.telegram.telegrambots.meta.api.methods.send.SendChatAction;
+import org.telegram.telegrambots.meta.api.methods.send.SendContact;
+import org.telegram.telegrambots.meta.api.methods.send.SendDice;
 import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
+import org.telegram.telegrambots.meta.api.methods.send.SendGame;
+import org.telegram.telegrambots.meta.api.methods.send.SendLocation;
 import org.telegram.telegrambots.meta.api.methods.send.SendMediaGroup;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.methods.send.SendPhoto;
 import org.telegram.telegrambots.meta.api.methods.send.SendSticker;
+import org.telegram.telegrambots.meta.api.methods.send.SendVenue;
 import org.telegram.telegrambots.meta.api.methods.send.SendVideo;
 import org.telegram.telegrambots.meta.api.methods.send.SendVideoNote;
 import org.telegram.telegrambots.meta.api.methods.send.SendVoice;
@@ -29,7 +49,12 @@ import org.telegram.telegrambots.meta.api.methods.stickers.AddStickerToSet;
 import org.telegram.telegrambots.meta.api.methods.stickers.CreateNewStickerSet;
 import org.telegram.telegrambots.meta.api.methods.stickers.SetStickerSetThumb;
 import org.telegram.telegrambots.meta.api.methods.stickers.UploadStickerFile;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageCaption;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageLiveLocation;
 import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageReplyMarkup;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
 import org.telegram.telegrambots.meta.api.objects.File;
 import org.telegram.telegrambots.meta.api.objects.InputFile;
 import org.telegram.telegrambots.meta.api.objects.Message;
@@ -50,9 +75,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -68,14 +101,29 @@ import static org.telegram.telegrambots.Constants.SOCKET_TIMEOUT;
 @Slf4j
 public abstract class DefaultAbsSender extends AbsSender {
     private static final ContentType TEXT_PLAIN_CONTENT_TYPE = ContentType.create("text/plain", StandardCharsets.UTF_8);
+    // Thumbnail field of every media type
+    private static final String THUMBNAIL_FIELD = InputMediaVideo.THUMBNAIL_FIELD;
+    /**
+     * Methods that can be sent in a webhook response: replies to the update whose result callers can ignore.
+     * Subclasses are not included, they may be used for their result
+     */
+    private static final Set<Class<?>> WEBHOOK_RESPONSE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            SendMessage.class, SendChatAction.class, SendContact.class, SendDice.class, SendGame.class,
+            SendLocation.class, SendVenue.class, ForwardMessage.class,
+            EditMessageText.class, EditMessageCaption.class, EditMessageReplyMarkup.class,
+            EditMessageLiveLocation.class, StopMessageLiveLocation.class, DeleteMessage.class,
+            AnswerCallbackQuery.class, AnswerInlineQuery.class, AnswerPreCheckoutQuery.class, AnswerShippingQuery.class,
+            PinChatMessage.class, UnpinChatMessage.class)));
 
     protected final ExecutorService exe;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
     private final DefaultBotOptions options;
-    private final CloseableHttpClient httpClient;
+    private final Object lazyInitLock = new Object();
+    private volatile CloseableHttpClient httpClient;
     private final RequestConfig requestConfig;
-    private final TelegramFileDownloader telegramFileDownloader;
+    private volatile TelegramFileDownloader telegramFileDownloader;
     private final String botToken;
+    private final ThreadLocal<WebhookResponse> webhookResponse = new ThreadLocal<>();
 
     /**
      * If this is used getBotToken has to be overridden in order to return the bot token!
@@ -92,9 +140,8 @@ public abstract class DefaultAbsSender extends AbsSender {
 
         this.exe = Executors.newFixedThreadPool(options.getMaxThreads());
         this.options = options;
+        this.objectMapper = options.getObjectMapperRegistry().getObjectMapper();
 
-        httpClient = TelegramHttpClientBuilder.build(options);
-        this.telegramFileDownloader = new TelegramFileDownloader(httpClient, this::getBotToken);
         configureHttpContext();
 
         final RequestConfig configFromOptions = options.getRequestConfig();
@@ -129,35 +176,61 @@ public abstract class DefaultAbsSender extends AbsSender {
     // Send Requests
 
     public final java.io.File downloadFile(String filePath) throws TelegramApiException {
-        return telegramFileDownloader.downloadFile(filePath);
+        return getFileDownloader().downloadFile(filePath);
     }
 
     public final java.io.File downloadFile(File file) throws TelegramApiException {
-        return telegramFileDownloader.downloadFile(file);
+        return getFileDownloader().downloadFile(file);
     }
 
     public final java.io.File downloadFile(File file, java.io.File outputFile) throws TelegramApiException {
-        return telegramFileDownloader.downloadFile(file, outputFile);
+        return getFileDownloader().downloadFile(file, outputFile);
     }
 
     public final java.io.File downloadFile(String filePath, java.io.File outputFile) throws TelegramApiException {
-        return telegramFileDownloader.downloadFile(filePath, outputFile);
+        return getFileDownloader().downloadFile(filePath, outputFile);
     }
 
     public final void downloadFileAsync(String filePath, DownloadFileCallback<String> callback) throws TelegramApiException {
-        telegramFileDownloader.downloadFileAsync(filePath, callback);
+        getFileDownloader().downloadFileAsync(filePath, callback);
     }
 
     public final void downloadFileAsync(File file, DownloadFileCallback<File> callback) throws TelegramApiException {
-        telegramFileDownloader.downloadFileAsync(file, callback);
+        getFileDownloader().downloadFileAsync(file, callback);
     }
 
     public final InputStream downloadFileAsStream(String filePath) throws TelegramApiException {
-        return telegramFileDownloader.downloadFileAsStream(filePath);
+        return getFileDownloader().downloadFileAsStream(filePath);
     }
 
     public final InputStream downloadFileAsStream(File file) throws TelegramApiException {
-        return telegramFileDownloader.downloadFileAsStream(file);
+        return getFileDownloader().downloadFileAsStream(file);
+    }
+
+    public final Path getLocalFilePath(File file) {
+        return getFileDownloader().getLocalFilePath(file);
+    }
+
+    public final FileChannel openFileChannel(File file) throws TelegramApiException {
+        return getFileDownloader().openFileChannel(file);
+    }
+
+    public final MappedByteBuffer mapFile(File file) throws TelegramApiException {
+        return getFileDownloader().mapFile(file);
+    }
+
+    /**
+     * Streams a file from Telegram servers into an input file ready to be uploaded, without temporary files
+     */
+    public final InputFile pipeFile(File file, String fileName) throws TelegramApiException {
+        return FilePipeline.pipe(getFileDownloader().downloadFileAsStream(file), fileName);
+    }
+
+    /**
+     * Streams a file from Telegram servers into an input file ready to be uploaded, transforming its content on the fly
+     */
+    public final InputFile pipeFile(File file, String fileName, StreamTransformer transformer) throws TelegramApiException {
+        return FilePipeline.pipe(getFileDownloader().downloadFileAsStream(file), fileName, transformer);
     }
 
     // Specific Send Requests
@@ -212,13 +285,13 @@ public abstract class DefaultAbsSender extends AbsSender {
 
             if (sendDocument.getThumbnail() != null) {
                 addInputFile(builder, sendDocument.getThumbnail(), SendDocument.THUMBNAIL_FIELD, false);
-                builder.addTextBody(SendDocument.THUMBNAIL_FIELD, sendDocument.getThumbnail().getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+                builder.addTextBody(SendDocument.THUMBNAIL_FIELD, getAttachName(sendDocument.getThumbnail()), TEXT_PLAIN_CONTENT_TYPE);
             }
 
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendDocument.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendDocument.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send document", e);
         }
@@ -272,7 +345,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendPhoto.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendPhoto.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send photo", e);
         }
@@ -328,7 +401,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             }
             if (sendVideo.getThumbnail() != null) {
                 addInputFile(builder, sendVideo.getThumbnail(), SendVideo.THUMBNAIL_FIELD, false);
-                builder.addTextBody(SendVideo.THUMBNAIL_FIELD, sendVideo.getThumbnail().getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+                builder.addTextBody(SendVideo.THUMBNAIL_FIELD, getAttachName(sendVideo.getThumbnail()), TEXT_PLAIN_CONTENT_TYPE);
             }
             if (sendVideo.getAllowSendingWithoutReply() != null) {
                 builder.addTextBody(SendVideo.ALLOWSENDINGWITHOUTREPLY_FIELD, sendVideo.getAllowSendingWithoutReply().toString(), TEXT_PLAIN_CONTENT_TYPE);
@@ -343,7 +416,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendVideo.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendVideo.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send video", e);
         }
@@ -387,7 +460,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             }
             if (sendVideoNote.getThumbnail() != null) {
                 addInputFile(builder, sendVideoNote.getThumbnail(), SendVideoNote.THUMBNAIL_FIELD, false);
-                builder.addTextBody(SendVideoNote.THUMBNAIL_FIELD, sendVideoNote.getThumbnail().getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+                builder.addTextBody(SendVideoNote.THUMBNAIL_FIELD, getAttachName(sendVideoNote.getThumbnail()), TEXT_PLAIN_CONTENT_TYPE);
             }
             if (sendVideoNote.getAllowSendingWithoutReply() != null) {
                 builder.addTextBody(SendVideoNote.ALLOWSENDINGWITHOUTREPLY_FIELD, sendVideoNote.getAllowSendingWithoutReply().toString(), TEXT_PLAIN_CONTENT_TYPE);
@@ -396,7 +469,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             httppost.setEntity(multipart);
 
 
-            return sendVideoNote.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendVideoNote.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send video note", e);
         }
@@ -441,7 +514,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendSticker.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendSticker.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send sticker", e);
         }
@@ -495,7 +568,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             }
             if (sendAudio.getThumbnail() != null) {
                 addInputFile(builder, sendAudio.getThumbnail(), SendAudio.THUMBNAIL_FIELD, false);
-                builder.addTextBody(SendAudio.THUMBNAIL_FIELD, sendAudio.getThumbnail().getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+                builder.addTextBody(SendAudio.THUMBNAIL_FIELD, getAttachName(sendAudio.getThumbnail()), TEXT_PLAIN_CONTENT_TYPE);
             }
             if (sendAudio.getAllowSendingWithoutReply() != null) {
                 builder.addTextBody(SendAudio.ALLOWSENDINGWITHOUTREPLY_FIELD, sendAudio.getAllowSendingWithoutReply().toString(), TEXT_PLAIN_CONTENT_TYPE);
@@ -511,7 +584,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             httppost.setEntity(multipart);
 
 
-            return sendAudio.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendAudio.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send audio", e);
         }
@@ -570,7 +643,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendVoice.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendVoice.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to send voice", e);
         }
@@ -598,7 +671,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return setChatPhoto.deserializeResponse(sendHttpPostRequest(httppost));
+            return setChatPhoto.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to set chat photo", e);
         }
@@ -640,7 +713,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendMediaGroup.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendMediaGroup.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to set chat photo", e);
         }
@@ -679,7 +752,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return addStickerToSet.deserializeResponse(sendHttpPostRequest(httppost));
+            return addStickerToSet.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to add sticker to set", e);
         }
@@ -703,7 +776,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return setStickerSetThumb.deserializeResponse(sendHttpPostRequest(httppost));
+            return setStickerSetThumb.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to set sticker set thumb", e);
         }
@@ -747,7 +820,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return createNewStickerSet.deserializeResponse(sendHttpPostRequest(httppost));
+            return createNewStickerSet.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to create new sticker set", e);
         }
@@ -769,7 +842,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return uploadStickerFile.deserializeResponse(sendHttpPostRequest(httppost));
+            return uploadStickerFile.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to upload new sticker file", e);
         }
@@ -801,7 +874,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return editMessageMedia.deserializeResponse(sendHttpPostRequest(httppost));
+            return editMessageMedia.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to edit message media", e);
         }
@@ -843,7 +916,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             }
             if (sendAnimation.getThumbnail() != null) {
                 addInputFile(builder, sendAnimation.getThumbnail(), SendAnimation.THUMBNAIL_FIELD, false);
-                builder.addTextBody(SendAnimation.THUMBNAIL_FIELD, sendAnimation.getThumbnail().getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+                builder.addTextBody(SendAnimation.THUMBNAIL_FIELD, getAttachName(sendAnimation.getThumbnail()), TEXT_PLAIN_CONTENT_TYPE);
             }
 
             if (sendAnimation.getCaption() != null) {
@@ -867,7 +940,7 @@ public abstract class DefaultAbsSender extends AbsSender {
             HttpEntity multipart = builder.build();
             httppost.setEntity(multipart);
 
-            return sendAnimation.deserializeResponse(sendHttpPostRequest(httppost));
+            return sendAnimation.deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to edit message media", e);
         }
@@ -1071,18 +1144,53 @@ public abstract class DefaultAbsSender extends AbsSender {
     }
 
 
+    /**
+     * Runs the handler of a webhook update. If {@link DefaultBotOptions#isWebhookResponseReplies()} is enabled,
+     * the first eligible method executed by the handler in this thread is not sent but returned, so it can be
+     * answered in the webhook response saving a request. Execution of that method returns null.
+     *
+     * If the handler executes any other method afterwards, the deferred one is sent first to keep the order.
+     *
+     * @param handler Code handling the update
+     * @return Method to answer in the webhook response, null if none
+     */
+    protected final BotApiMethod<?> collectWebhookResponse(Runnable handler) {
+        if (!options.isWebhookResponseReplies() || webhookResponse.get() != null) {
+            handler.run();
+            return null;
+        }
+        WebhookResponse response = new WebhookResponse();
+        webhookResponse.set(response);
+        try {
+            handler.run();
+        } finally {
+            webhookResponse.remove();
+        }
+        return response.deferred;
+    }
+
     // Simplified methods
 
     @Override
     protected final <T extends Serializable, Method extends BotApiMethod<T>, Callback extends SentCallback<T>> void sendApiMethodAsync(Method method, Callback callback) {
+        try {
+            if (deferToWebhookResponse(method, true)) {
+                callback.onResult(method, null);
+                return;
+            }
+        } catch (TelegramApiValidationException e) {
+            callback.onException(method, e);
+            return;
+        }
+        flushWebhookResponse();
         //noinspection Convert2Lambda
         exe.submit(new Runnable() {
             @Override
             public void run() {
                 try {
-                    String responseContent = sendMethodRequest(method);
+                    String responseContent = sendMethodRequest(method, true);
                     try {
-                        callback.onResult(method, method.deserializeResponse(responseContent));
+                        callback.onResult(method, method.deserializeResponse(responseContent, options.getObjectMapperRegistry()));
                     } catch (TelegramApiRequestException e) {
                         callback.onError(method, e);
                     }
@@ -1096,11 +1204,106 @@ public abstract class DefaultAbsSender extends AbsSender {
 
     @Override
     protected <T extends Serializable, Method extends BotApiMethod<T>> CompletableFuture<T> sendApiMethodAsync(Method method) {
+        return sendApiMethodAsync(method, true);
+    }
+
+    @Override
+    protected final <T extends Serializable, Method extends BotApiMethod<T>> T sendApiMethod(Method method) throws TelegramApiException {
+        return sendApiMethod(method, true);
+    }
+
+    /**
+     * Executes a method without validating it again, for bulk sends of methods that were validated once beforehand,
+     * e.g. the same message sent to many chats. Telegram is then the one rejecting an invalid method.
+     * @param method Method to execute, already validated
+     * @return Result of the method, or null if it was kept for the webhook response
+     */
+    public <T extends Serializable, Method extends BotApiMethod<T>> T executeValidated(Method method) throws TelegramApiException {
+        if (method == null) {
+            throw new TelegramApiException("Parameter method can not be null");
+        }
+        return sendApiMethod(method, false);
+    }
+
+    /**
+     * Asynchronous version of {@link #executeValidated(BotApiMethod)}
+     */
+    public <T extends Serializable, Method extends BotApiMethod<T>> CompletableFuture<T> executeValidatedAsync(Method method) throws TelegramApiException {
+        if (method == null) {
+            throw new TelegramApiException("Parameter method can not be null");
+        }
+        return sendApiMethodAsync(method, false);
+    }
+
+    /**
+     * Sends the method of a template to a chat, splicing the request body from the template instead of serializing
+     * the method again. The method was validated when the template was created.
+     * @param template Template of the method to send
+     * @param chatId Chat to send it to
+     * @return Result of the method
+     */
+    public <T extends Serializable> T execute(MessageTemplate<T> template, String chatId) throws TelegramApiException {
+        return execute(template, chatId, Collections.emptyMap());
+    }
+
+    /**
+     * @param template Template of the method to send
+     * @param chatId Chat to send it to
+     * @param values Value of each placeholder of the template for this chat
+     * @return Result of the method
+     * @see #execute(MessageTemplate, String)
+     */
+    public <T extends Serializable> T execute(MessageTemplate<T> template, String chatId, Map<String, String> values) throws TelegramApiException {
+        HttpPost httppost = templateRequest(template, chatId, values);
+        try {
+            return template.getMethod().deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry());
+        } catch (IOException e) {
+            throw new TelegramApiException("Unable to execute " + template.getMethod().getMethod() + " method", e);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #execute(MessageTemplate, String)}
+     */
+    public <T extends Serializable> CompletableFuture<T> executeAsync(MessageTemplate<T> template, String chatId) throws TelegramApiException {
+        return executeAsync(template, chatId, Collections.emptyMap());
+    }
+
+    /**
+     * Asynchronous version of {@link #execute(MessageTemplate, String, Map)}
+     */
+    public <T extends Serializable> CompletableFuture<T> executeAsync(MessageTemplate<T> template, String chatId, Map<String, String> values) throws TelegramApiException {
+        HttpPost httppost = templateRequest(template, chatId, values);
+        flushWebhookResponse();
+        CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        exe.submit(() -> {
+            try {
+                completableFuture.complete(template.getMethod().deserializeResponse(sendHttpPostRequest(httppost), options.getObjectMapperRegistry()));
+            } catch (IOException | TelegramApiRequestException e) {
+                completableFuture.completeExceptionally(e);
+            }
+        });
+        return completableFuture;
+    }
+
+    // Private methods
+
+    private <T extends Serializable, Method extends BotApiMethod<T>> CompletableFuture<T> sendApiMethodAsync(Method method, boolean validate) {
         CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        try {
+            if (deferToWebhookResponse(method, validate)) {
+                completableFuture.complete(null);
+                return completableFuture;
+            }
+        } catch (TelegramApiValidationException e) {
+            completableFuture.completeExceptionally(e);
+            return completableFuture;
+        }
+        flushWebhookResponse();
         exe.submit(() -> {
             try {
-                String responseContent = sendMethodRequest(method);
-                completableFuture.complete(method.deserializeResponse(responseContent));
+                String responseContent = sendMethodRequest(method, validate);
+                completableFuture.complete(method.deserializeResponse(responseContent, options.getObjectMapperRegistry()));
             } catch (IOException | TelegramApiValidationException | TelegramApiRequestException e) {
                 completableFuture.completeExceptionally(e);
             }
@@ -1108,17 +1311,54 @@ public abstract class DefaultAbsSender extends AbsSender {
         return completableFuture;
     }
 
-    @Override
-    protected final <T extends Serializable, Method extends BotApiMethod<T>> T sendApiMethod(Method method) throws TelegramApiException {
+    private <T extends Serializable, Method extends BotApiMethod<T>> T sendApiMethod(Method method, boolean validate) throws TelegramApiException {
+        if (deferToWebhookResponse(method, validate)) {
+            return null;
+        }
         try {
-            String responseContent = sendMethodRequest(method);
-            return method.deserializeResponse(responseContent);
+            String responseContent = sendMethodRequest(method, validate);
+            return method.deserializeResponse(responseContent, options.getObjectMapperRegistry());
         } catch (IOException e) {
             throw new TelegramApiException("Unable to execute " + method.getMethod() + " method", e);
         }
     }
 
-    // Private methods
+    /**
+     * Builds the HTTP client on first use, so bots that never call the API (e.g. serverless ones answering
+     * in the webhook response) don't pay for it on startup
+     */
+    private CloseableHttpClient getHttpClient() {
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (lazyInitLock) {
+                client = httpClient;
+                if (client == null) {
+                    client = TelegramHttpClientBuilder.build(options);
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private TelegramFileDownloader getFileDownloader() {
+        TelegramFileDownloader downloader = telegramFileDownloader;
+        if (downloader == null) {
+            synchronized (lazyInitLock) {
+                downloader = telegramFileDownloader;
+                if (downloader == null) {
+                    // Own client, so a piped download never holds a connection its upload is waiting for
+                    downloader = new TelegramFileDownloader(TelegramHttpClientBuilder.build(options), this::getBotToken,
+                            options.getFileCache());
+                    downloader.setMaxResumeAttempts(options.getDownloadResumeAttempts());
+                    downloader.setParallelRanges(options.getDownloadParallelRanges(), options.getDownloadParallelRangesThreshold());
+                    downloader.setLocalFiles(options.isLocalBotApiServer());
+                    telegramFileDownloader = downloader;
+                }
+            }
+        }
+        return downloader;
+    }
 
     private void configureHttpContext() {
 
@@ -1136,21 +1376,78 @@ public abstract class DefaultAbsSender extends AbsSender {
 
     }
 
-    private <T extends Serializable, Method extends BotApiMethod<T>> String sendMethodRequest(Method method) throws TelegramApiValidationException, IOException {
-        method.validate();
+    private <T extends Serializable, Method extends BotApiMethod<T>> String sendMethodRequest(Method method, boolean validate) throws TelegramApiValidationException, IOException {
+        if (validate) {
+            method.validate();
+        }
         String url = getBaseUrl() + method.getMethod();
         HttpPost httppost = configuredHttpPost(url);
         httppost.addHeader("charset", StandardCharsets.UTF_8.name());
-        httppost.setEntity(new StringEntity(objectMapper.writeValueAsString(method), ContentType.APPLICATION_JSON));
+        httppost.setEntity(new StringEntity(options.getObjectMapperRegistry().getWriter(method.getClass()).writeValueAsString(method), ContentType.APPLICATION_JSON));
         return sendHttpPostRequest(httppost);
     }
 
+    private HttpPost templateRequest(MessageTemplate<?> template, String chatId, Map<String, String> values) throws TelegramApiException {
+        if (template == null) {
+            throw new TelegramApiException("Parameter template can not be null");
+        }
+        byte[] body;
+        try {
+            body = template.body(chatId, values);
+        } catch (IllegalArgumentException e) {
+            throw new TelegramApiValidationException(e.getMessage(), template.getMethod());
+        }
+        HttpPost httppost = configuredHttpPost(getBaseUrl() + template.getMethod().getMethod());
+        httppost.addHeader("charset", StandardCharsets.UTF_8.name());
+        httppost.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return httppost;
+    }
+
     private String sendHttpPostRequest(HttpPost httppost) throws IOException {
-        try (CloseableHttpResponse response = httpClient.execute(httppost, options.getHttpContext())) {
+        flushWebhookResponse();
+        try (CloseableHttpResponse response = getHttpClient().execute(httppost, options.getHttpContext())) {
             return EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
         }
     }
 
+    /**
+     * @return True if the method was kept to be sent in the webhook response of the update being handled
+     */
+    private boolean deferToWebhookResponse(BotApiMethod<?> method, boolean validate) throws TelegramApiValidationException {
+        WebhookResponse response = webhookResponse.get();
+        if (response == null || response.closed || response.deferred != null || !isWebhookResponseEligible(method)) {
+            return false;
+        }
+        if (validate) {
+            method.validate();
+        }
+        response.deferred = method;
+        return true;
+    }
+
+    /**
+     * Sends the deferred method, if any, before another request of the same update
+     */
+    private void flushWebhookResponse() {
+        WebhookResponse response = webhookResponse.get();
+        if (response == null || response.deferred == null) {
+            return;
+        }
+        BotApiMethod<?> deferred = response.deferred;
+        response.deferred = null;
+        response.closed = true;
+        try {
+            // Validated when it was deferred
+            sendApiMethod(deferred, false);
+        } catch (TelegramApiException e) {
+            log.error("Unable to send deferred {} method", deferred.getMethod(), e);
+        }
+    }
+
+    private static boolean isWebhookResponseEligible(BotApiMethod<?> method) {
+        return WEBHOOK_RESPONSE_METHODS.contains(method.getClass());
+    }
+
     private HttpPost configuredHttpPost(String url) {
         HttpPost httppost = new HttpPost(url);
         httppost.setConfig(requestConfig);
@@ -1158,7 +1455,7 @@ public abstract class DefaultAbsSender extends AbsSender {
     }
 
     private void addInputData(MultipartEntityBuilder builder, InputMedia media, String mediaField, boolean addField) throws JsonProcessingException {
-        if (media.isNewMedia()) {
+        if (media.isNewMedia() && !isLocalUpload(media)) {
             if (media.getNewMediaFile() != null) {
                 builder.addBinaryBody(media.getMediaName(), media.getNewMediaFile(), ContentType.APPLICATION_OCTET_STREAM, media.getMediaName());
             } else if (media.getNewMediaStream() != null) {
@@ -1166,51 +1463,38 @@ public abstract class DefaultAbsSender extends AbsSender {
             }
         }
 
-        if (media instanceof InputMediaAudio) {
-            InputMediaAudio audio = (InputMediaAudio) media;
-            if (audio.getThumbnail() != null) {
-                addInputFile(builder, audio.getThumbnail(), InputMediaAudio.THUMBNAIL_FIELD, false);
-            }
-        } else if (media instanceof InputMediaDocument) {
-            InputMediaDocument document = (InputMediaDocument) media;
-            if (document.getThumbnail() != null) {
-                addInputFile(builder, document.getThumbnail(), InputMediaDocument.THUMBNAIL_FIELD, false);
-            }
-        } else if (media instanceof InputMediaVideo) {
-            InputMediaVideo video = (InputMediaVideo) media;
-            if (video.getThumbnail() != null) {
-                addInputFile(builder, video.getThumbnail(), InputMediaVideo.THUMBNAIL_FIELD, false);
-            }
-        } else if (media instanceof InputMediaAnimation) {
-            InputMediaAnimation animation = (InputMediaAnimation) media;
-            if (animation.getThumbnail() != null) {
-                addInputFile(builder, animation.getThumbnail(), InputMediaAnimation.THUMBNAIL_FIELD, false);
-            }
+        InputFile thumbnail = getThumbnail(media);
+        if (thumbnail != null) {
+            addInputFile(builder, thumbnail, null, false);
         }
 
         if (addField) {
-            builder.addTextBody(mediaField, objectMapper.writeValueAsString(media), TEXT_PLAIN_CONTENT_TYPE);
+            builder.addTextBody(mediaField, objectMapper.writeValueAsString(withLocalFileReferences(media)), TEXT_PLAIN_CONTENT_TYPE);
         }
     }
 
     private void addInputData(MultipartEntityBuilder builder, List<InputMedia> media, String mediaField) throws JsonProcessingException {
+        List<Object> mediaValues = new ArrayList<>(media.size());
         for (InputMedia inputMedia : media) {
             addInputData(builder, inputMedia, null, false);
+            mediaValues.add(withLocalFileReferences(inputMedia));
         }
 
-        builder.addTextBody(mediaField, objectMapper.writeValueAsString(media), TEXT_PLAIN_CONTENT_TYPE);
+        builder.addTextBody(mediaField, objectMapper.writeValueAsString(mediaValues), TEXT_PLAIN_CONTENT_TYPE);
     }
 
     private void addStickers(MultipartEntityBuilder builder, List<InputSticker> stickers, String stickersField) throws JsonProcessingException {
+        List<Object> stickerValues = new ArrayList<>(stickers.size());
         for (InputSticker sticker : stickers) {
             addInputFile(builder, sticker.getSticker(), null, false);
+            stickerValues.add(withLocalFileReference(sticker, InputSticker.STICKER_FIELD, sticker.getSticker()));
         }
 
-        builder.addTextBody(stickersField, objectMapper.writeValueAsString(stickers), TEXT_PLAIN_CONTENT_TYPE);
+        builder.addTextBody(stickersField, objectMapper.writeValueAsString(stickerValues), TEXT_PLAIN_CONTENT_TYPE);
     }
 
     private void addInputFile(MultipartEntityBuilder builder, InputFile file, String fileField, boolean addField) {
-        if (file.isNew()) {
+        if (file.isNew() && !isLocalUpload(file)) {
             if (file.getNewMediaFile() != null) {
                 builder.addBinaryBody(file.getMediaName(), file.getNewMediaFile(), ContentType.APPLICATION_OCTET_STREAM, file.getMediaName());
             } else if (file.getNewMediaStream() != null) {
@@ -1219,13 +1503,84 @@ public abstract class DefaultAbsSender extends AbsSender {
         }
 
         if (addField) {
-            builder.addTextBody(fileField, file.getAttachName(), TEXT_PLAIN_CONTENT_TYPE);
+            builder.addTextBody(fileField, getAttachName(file), TEXT_PLAIN_CONTENT_TYPE);
         }
     }
 
+    private static InputFile getThumbnail(InputMedia media) {
+        if (media instanceof InputMediaAudio) {
+            return ((InputMediaAudio) media).getThumbnail();
+        } else if (media instanceof InputMediaDocument) {
+            return ((InputMediaDocument) media).getThumbnail();
+        } else if (media instanceof InputMediaVideo) {
+            return ((InputMediaVideo) media).getThumbnail();
+        } else if (media instanceof InputMediaAnimation) {
+            return ((InputMediaAnimation) media).getThumbnail();
+        }
+        return null;
+    }
+
+    /**
+     * Self-hosted Bot API servers running with --local read files directly from the disk when
+     * referenced with a file:// URI, so there is no need to upload their content
+     */
+    private boolean isLocalUpload(InputFile file) {
+        return options.isLocalBotApiServer() && file.isNew() && file.getNewMediaFile() != null;
+    }
+
+    private boolean isLocalUpload(InputMedia media) {
+        return options.isLocalBotApiServer() && media.isNewMedia() && media.getNewMediaFile() != null;
+    }
+
+    private String getAttachName(InputFile file) {
+        return isLocalUpload(file) ? getLocalFileUri(file.getNewMediaFile()) : file.getAttachName();
+    }
+
+    /**
+     * @return Absolute file:// URI of the file, with its path percent-encoded
+     */
+    private static String getLocalFileUri(java.io.File file) {
+        return file.toPath().toAbsolutePath().toUri().toString();
+    }
+
+    /**
+     * Replaces the attach:// references of the files sent as local files by their file:// URI. Only the fields
+     * referencing the files are replaced, so a caption with the same text is kept as is.
+     * @return The media itself, or its json tree with the replaced references
+     */
+    private Object withLocalFileReferences(InputMedia media) {
+        InputFile thumbnail = getThumbnail(media);
+        boolean localThumbnail = thumbnail != null && isLocalUpload(thumbnail);
+        if (!isLocalUpload(media) && !localThumbnail) {
+            return media;
+        }
+        ObjectNode node = objectMapper.valueToTree(media);
+        if (isLocalUpload(media)) {
+            node.put(InputMedia.MEDIA_FIELD, getLocalFileUri(media.getNewMediaFile()));
+        }
+        if (localThumbnail) {
+            node.put(THUMBNAIL_FIELD, getLocalFileUri(thumbnail.getNewMediaFile()));
+        }
+        return node;
+    }
+
+    private Object withLocalFileReference(Object value, String field, InputFile file) {
+        if (!isLocalUpload(file)) {
+            return value;
+        }
+        ObjectNode node = objectMapper.valueToTree(value);
+        node.put(field, getLocalFileUri(file.getNewMediaFile()));
+        return node;
+    }
+
     private void assertParamNotNull(Object param, String paramName) throws TelegramApiException {
         if (param == null) {
             throw new TelegramApiException("Parameter " + paramName + " can not be null");
         }
     }
+
+    private static final class WebhookResponse {
+        private BotApiMethod<?> deferred;
+        private boolean closed;
+    }
 }
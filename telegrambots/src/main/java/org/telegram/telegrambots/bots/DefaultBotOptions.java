@@ -3,7 +3,10 @@ package org.telegram.telegrambots.bots;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.protocol.HttpContext;
+import org.telegram.telegrambots.facilities.filedownloader.TelegramFileCache;
+import org.telegram.telegrambots.facilities.filedownloader.TelegramFileDownloader;
 import org.telegram.telegrambots.meta.ApiConstants;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.meta.generics.BotOptions;
 import org.telegram.telegrambots.meta.generics.BackOff;
 
@@ -31,6 +34,14 @@ public class DefaultBotOptions implements BotOptions {
     private int proxyPort;
     private int getUpdatesTimeout;
     private int getUpdatesLimit;
+    private TelegramFileCache fileCache;
+    private int downloadResumeAttempts;
+    private int downloadParallelRanges;
+    private long downloadParallelRangesThreshold;
+    private boolean localBotApiServer;
+    private boolean webhookResponseReplies;
+    private ObjectMapperRegistry objectMapperRegistry;
+    private boolean lazyUpdates;
 
     public enum ProxyType {
         NO_PROXY,
@@ -46,6 +57,10 @@ public class DefaultBotOptions implements BotOptions {
         proxyType = ProxyType.NO_PROXY;
         getUpdatesTimeout = ApiConstants.GETUPDATES_TIMEOUT;
         getUpdatesLimit = 100;
+        downloadResumeAttempts = TelegramFileDownloader.DEFAULT_MAX_RESUME_ATTEMPTS;
+        downloadParallelRanges = 1;
+        downloadParallelRangesThreshold = TelegramFileDownloader.DEFAULT_PARALLEL_RANGES_THRESHOLD;
+        objectMapperRegistry = ObjectMapperRegistry.getDefault();
     }
 
     @Override
@@ -152,4 +167,107 @@ public class DefaultBotOptions implements BotOptions {
     public void setGetUpdatesLimit(int getUpdatesLimit) {
         this.getUpdatesLimit = getUpdatesLimit;
     }
+
+    public TelegramFileCache getFileCache() {
+        return fileCache;
+    }
+
+    /**
+     * @param fileCache Cache used to avoid downloading the same file several times
+     * @implSpec Default implementation doesn't cache downloaded files
+     */
+    public void setFileCache(TelegramFileCache fileCache) {
+        this.fileCache = fileCache;
+    }
+
+    public int getDownloadResumeAttempts() {
+        return downloadResumeAttempts;
+    }
+
+    /**
+     * @param downloadResumeAttempts Times an interrupted file download is resumed from the last received byte
+     * @implSpec Default implementation resumes up to 3 times
+     */
+    public void setDownloadResumeAttempts(int downloadResumeAttempts) {
+        this.downloadResumeAttempts = downloadResumeAttempts;
+    }
+
+    public int getDownloadParallelRanges() {
+        return downloadParallelRanges;
+    }
+
+    /**
+     * @param downloadParallelRanges Number of parallel ranges used to download big files, at least 1
+     * @implSpec Default implementation downloads every file as a single stream
+     */
+    public void setDownloadParallelRanges(int downloadParallelRanges) {
+        this.downloadParallelRanges = downloadParallelRanges;
+    }
+
+    public long getDownloadParallelRangesThreshold() {
+        return downloadParallelRangesThreshold;
+    }
+
+    /**
+     * @param downloadParallelRangesThreshold Minimum size in bytes of a file to download it in parallel ranges, at least 1
+     * @implSpec Default implementation uses 20 MB
+     */
+    public void setDownloadParallelRangesThreshold(long downloadParallelRangesThreshold) {
+        this.downloadParallelRangesThreshold = downloadParallelRangesThreshold;
+    }
+
+    public boolean isLocalBotApiServer() {
+        return localBotApiServer;
+    }
+
+    /**
+     * @param localBotApiServer True if baseUrl points to a self-hosted Bot API server started with --local
+     *                          that shares its file system with the bot. New files are then uploaded as paths
+     *                          and the absolute paths of downloaded files are read from the disk
+     * @implSpec Default implementation uploads the content of every new file and downloads every file
+     */
+    public void setLocalBotApiServer(boolean localBotApiServer) {
+        this.localBotApiServer = localBotApiServer;
+    }
+
+    public boolean isWebhookResponseReplies() {
+        return webhookResponseReplies;
+    }
+
+    /**
+     * @param webhookResponseReplies True to send the first method executed while handling a webhook update
+     *                               in the webhook response instead of a separate request, if it is a reply
+     *                               like SendMessage or AnswerCallbackQuery. Such calls return null because
+     *                               Telegram doesn't report the result of those methods
+     * @implSpec Default implementation sends every method in its own request
+     */
+    public void setWebhookResponseReplies(boolean webhookResponseReplies) {
+        this.webhookResponseReplies = webhookResponseReplies;
+    }
+
+    @Override
+    public ObjectMapperRegistry getObjectMapperRegistry() {
+        return objectMapperRegistry;
+    }
+
+    /**
+     * @param objectMapperRegistry Registry used to serialize requests and parse updates, set it before creating the bot
+     * @implSpec Default implementation uses {@link ObjectMapperRegistry#getDefault()}
+     */
+    public void setObjectMapperRegistry(ObjectMapperRegistry objectMapperRegistry) {
+        this.objectMapperRegistry = objectMapperRegistry;
+    }
+
+    public boolean isLazyUpdates() {
+        return lazyUpdates;
+    }
+
+    /**
+     * @param lazyUpdates True to receive {@link org.telegram.telegrambots.meta.api.objects.LazyUpdate}s from getUpdates,
+     *                    which are only bound when their payload is accessed
+     * @implSpec Default implementation binds every update when it is received
+     */
+    public void setLazyUpdates(boolean lazyUpdates) {
+        this.lazyUpdates = lazyUpdates;
+    }
 }
@@ -21,13 +21,19 @@ import java.util.concurrent.TimeUnit;
  * Created by bvn13 on 17.04.2018.
  */
 public class TelegramHttpClientBuilder {
+    /**
+     * Maximum number of connections of a client, all of them can go to the same route as every request of a bot
+     * is sent to the same server
+     */
+    private static final int MAX_CONNECTIONS = 100;
 
     public static CloseableHttpClient build(DefaultBotOptions options) {
         HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
                 .setSSLHostnameVerifier(new NoopHostnameVerifier())
                 .setConnectionManager(createConnectionManager(options))
                 .setConnectionTimeToLive(70, TimeUnit.SECONDS)
-                .setMaxConnTotal(100);
+                .setMaxConnTotal(MAX_CONNECTIONS)
+                .setMaxConnPerRoute(MAX_CONNECTIONS);
         return httpClientBuilder.build();
     }
 
@@ -40,16 +46,24 @@ public class TelegramHttpClientBuilder {
                 registry = RegistryBuilder.<ConnectionSocketFactory> create()
                         .register("http", new HttpConnectionSocketFactory())
                         .register("https", new HttpSSLConnectionSocketFactory(SSLContexts.createSystemDefault())).build();
-                return new PoolingHttpClientConnectionManager(registry);
+                return createPoolingConnectionManager(registry);
             case SOCKS4:
             case SOCKS5:
                 registry = RegistryBuilder.<ConnectionSocketFactory> create()
                         .register("http", new SocksConnectionSocketFactory())
                         .register("https", new SocksSSLConnectionSocketFactory(SSLContexts.createSystemDefault()))
                         .build();
-                return new PoolingHttpClientConnectionManager(registry);
+                return createPoolingConnectionManager(registry);
         }
         return null;
     }
 
+    private static HttpClientConnectionManager createPoolingConnectionManager(Registry<ConnectionSocketFactory> registry) {
+        // The limits of the builder only apply to the connection manager it creates itself
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+        return connectionManager;
+    }
+
 }
@@ -0,0 +1,252 @@
+package org.telegram.telegrambots.facilities.filedownloader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Size bounded on-disk LRU cache of downloaded files, keyed by their <code>file_unique_id</code>.
+ *
+ * The index lives in memory and is rebuilt from the cache directory on creation, so files downloaded
+ * by a previous run are reused. Concurrent requests for the same file share a single download.
+ *
+ * Files returned by this cache are owned by it and must not be modified or deleted by the caller.
+ */
+@Slf4j
+public class TelegramFileCache {
+    private static final String PART_SUFFIX = ".part";
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Path directory;
+    private final long maxSize;
+    /**
+     * Access ordered index, eldest entry is the least recently used one
+     */
+    private final LinkedHashMap<String, CachedFile> index = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<java.io.File>> inFlight = new ConcurrentHashMap<>();
+    private long currentSize;
+
+    /**
+     * @param directory Directory where the cached files are stored, it is created if it doesn't exist
+     * @param maxSize Maximum total size in bytes of the cached files
+     */
+    public TelegramFileCache(java.io.File directory, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.directory = Files.createDirectories(directory.toPath());
+        this.maxSize = maxSize;
+        loadIndex();
+    }
+
+    public java.io.File getDirectory() {
+        return directory.toFile();
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getCurrentSize() {
+        return currentSize;
+    }
+
+    public synchronized int getEntriesCount() {
+        return index.size();
+    }
+
+    /**
+     * Looks up a file in the cache, marking it as recently used
+     * @param fileUniqueId Unique id of the file
+     * @return Cached file or null if it is not in the cache
+     */
+    public java.io.File get(String fileUniqueId) {
+        CachedFile cachedFile;
+        synchronized (this) {
+            cachedFile = index.get(fileUniqueId);
+            if (cachedFile == null) {
+                return null;
+            }
+            if (!cachedFile.file.exists()) {
+                index.remove(fileUniqueId);
+                currentSize -= cachedFile.size;
+                return null;
+            }
+        }
+        // Keep the on-disk order close to the in-memory one so it survives restarts
+        //noinspection ResultOfMethodCallIgnored
+        cachedFile.file.setLastModified(System.currentTimeMillis());
+        return cachedFile.file;
+    }
+
+    /**
+     * Returns the cached file or downloads it if missing. Only one download is performed for concurrent
+     * requests of the same file, the rest of them wait for its result.
+     * @param fileUniqueId Unique id of the file
+     * @param loader Function that downloads the file to the given temporary file
+     * @return Future completed with the cached file
+     */
+    public CompletableFuture<java.io.File> getOrLoad(String fileUniqueId,
+                                                     Function<java.io.File, CompletableFuture<java.io.File>> loader) {
+        String fileName = toFileName(fileUniqueId);
+        java.io.File cached = get(fileUniqueId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<java.io.File> promise = new CompletableFuture<>();
+        CompletableFuture<java.io.File> existing = inFlight.putIfAbsent(fileUniqueId, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Another download may have finished between the lookup and the registration
+        cached = get(fileUniqueId);
+        if (cached != null) {
+            inFlight.remove(fileUniqueId, promise);
+            promise.complete(cached);
+            return promise;
+        }
+
+        final java.io.File tempFile;
+        try {
+            tempFile = Files.createTempFile(directory, fileName, PART_SUFFIX).toFile();
+        } catch (IOException e) {
+            inFlight.remove(fileUniqueId, promise);
+            promise.completeExceptionally(new DownloadFileException("Error creating cache file", e));
+            return promise;
+        }
+
+        CompletableFuture<java.io.File> download;
+        try {
+            download = loader.apply(tempFile);
+        } catch (RuntimeException e) {
+            download = new CompletableFuture<>();
+            download.completeExceptionally(e);
+        }
+
+        download.whenComplete((file, throwable) -> {
+            try {
+                if (throwable != null) {
+                    deleteQuietly(tempFile);
+                    promise.completeExceptionally(throwable);
+                } else {
+                    promise.complete(put(fileUniqueId, file));
+                }
+            } catch (IOException | RuntimeException e) {
+                deleteQuietly(tempFile);
+                promise.completeExceptionally(new DownloadFileException("Error storing cached file", e));
+            } finally {
+                inFlight.remove(fileUniqueId, promise);
+            }
+        });
+        return promise;
+    }
+
+    /**
+     * Removes a file from the cache
+     * @param fileUniqueId Unique id of the file
+     */
+    public void invalidate(String fileUniqueId) {
+        CachedFile removed;
+        synchronized (this) {
+            removed = index.remove(fileUniqueId);
+            if (removed != null) {
+                currentSize -= removed.size;
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file);
+        }
+    }
+
+    private java.io.File put(String fileUniqueId, java.io.File downloaded) throws IOException {
+        Path target = directory.resolve(toFileName(fileUniqueId));
+        try {
+            Files.move(downloaded.toPath(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(downloaded.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        CachedFile cachedFile = new CachedFile(target.toFile(), Files.size(target));
+        synchronized (this) {
+            CachedFile previous = index.put(fileUniqueId, cachedFile);
+            if (previous != null) {
+                currentSize -= previous.size;
+            }
+            currentSize += cachedFile.size;
+            evict();
+        }
+        return cachedFile.file;
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits its size, always keeping the newest one
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, CachedFile>> iterator = index.entrySet().iterator();
+        while (currentSize > maxSize && index.size() > 1 && iterator.hasNext()) {
+            CachedFile eldest = iterator.next().getValue();
+            iterator.remove();
+            currentSize -= eldest.size;
+            deleteQuietly(eldest.file);
+        }
+    }
+
+    private void loadIndex() {
+        java.io.File[] files = directory.toFile().listFiles(java.io.File::isFile);
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(java.io.File::lastModified));
+        synchronized (this) {
+            for (java.io.File file : files) {
+                if (file.getName().endsWith(PART_SUFFIX)) {
+                    // Leftover of an interrupted download
+                    deleteQuietly(file);
+                } else if (SAFE_FILE_NAME.matcher(file.getName()).matches()) {
+                    index.put(file.getName(), new CachedFile(file, file.length()));
+                    currentSize += file.length();
+                }
+            }
+            evict();
+        }
+    }
+
+    private static String toFileName(String fileUniqueId) {
+        if (fileUniqueId == null || !SAFE_FILE_NAME.matcher(fileUniqueId).matches()) {
+            throw new IllegalArgumentException("Invalid file unique id: " + fileUniqueId);
+        }
+        return fileUniqueId;
+    }
+
+    private static void deleteQuietly(java.io.File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("Unable to delete cached file {}", file, e);
+        }
+    }
+
+    private static final class CachedFile {
+        private final java.io.File file;
+        private final long size;
+
+        private CachedFile(java.io.File file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.telegram.telegrambots.facilities.filedownloader;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
@@ -8,34 +10,111 @@ import org.telegram.telegrambots.meta.api.objects.File;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.updateshandlers.DownloadFileCallback;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
-import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
+import static org.apache.commons.io.FileUtils.copyFile;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpStatus.SC_PARTIAL_CONTENT;
 
 /**
  * Wraps the file downloading code into one class.
  * @author Chase22
  * @version 1.0
  */
+@Slf4j
 public class TelegramFileDownloader {
+    public static final int DEFAULT_MAX_RESUME_ATTEMPTS = 3;
+    public static final long DEFAULT_PARALLEL_RANGES_THRESHOLD = 20L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final HttpClient httpClient;
     //TODO Replace with concrete token once deprecations are removed
     private final Supplier<String> botTokenSupplier;
+    private final TelegramFileCache fileCache;
+    private int maxResumeAttempts = DEFAULT_MAX_RESUME_ATTEMPTS;
+    private int parallelRanges = 1;
+    private long parallelRangesThreshold = DEFAULT_PARALLEL_RANGES_THRESHOLD;
+    private boolean localFiles;
 
     public TelegramFileDownloader(final Supplier<String> botTokenSupplier) {
         this.botTokenSupplier = botTokenSupplier;
+        this.fileCache = null;
         httpClient = HttpClients.createDefault();
     }
 
     public TelegramFileDownloader(final HttpClient httpClient, final Supplier<String> botTokenSupplier) {
+        this(httpClient, botTokenSupplier, null);
+    }
+
+    /**
+     * @param fileCache Cache used for downloads of {@link File} objects with a unique id, null to disable it.
+     *                  Files returned from the cache are shared and must not be modified or deleted.
+     */
+    public TelegramFileDownloader(final HttpClient httpClient, final Supplier<String> botTokenSupplier,
+                                  final TelegramFileCache fileCache) {
         this.httpClient = httpClient;
         this.botTokenSupplier = botTokenSupplier;
+        this.fileCache = fileCache;
+    }
+
+    /**
+     * @param maxResumeAttempts Number of times an interrupted download is resumed from the last received byte
+     */
+    public void setMaxResumeAttempts(int maxResumeAttempts) {
+        this.maxResumeAttempts = maxResumeAttempts;
+    }
+
+    /**
+     * Downloads files of known size in several ranges in parallel. Only used when the server supports range requests,
+     * otherwise the file is downloaded as a single stream.
+     * @param parallelRanges Number of ranges to split the file in, 1 to disable parallel downloads
+     * @param parallelRangesThreshold Minimum file size in bytes to download it in parallel ranges, at least 1
+     * @throws IllegalArgumentException If the number of ranges or the threshold is lower than 1
+     */
+    public void setParallelRanges(int parallelRanges, long parallelRangesThreshold) {
+        if (parallelRanges < 1) {
+            throw new IllegalArgumentException("Number of parallel ranges must be at least 1");
+        }
+        if (parallelRangesThreshold < 1) {
+            throw new IllegalArgumentException("Parallel ranges threshold must be at least 1 byte");
+        }
+        this.parallelRanges = parallelRanges;
+        this.parallelRangesThreshold = parallelRangesThreshold;
+    }
+
+    /**
+     * @param localFiles True if the files are served by a self-hosted Bot API server started with <code>--local</code>
+     *                   that shares its file system with the bot, so that absolute file paths are read from the disk.
+     *                   Otherwise every file is downloaded, whatever its path.
+     */
+    public void setLocalFiles(boolean localFiles) {
+        this.localFiles = localFiles;
     }
 
     public final java.io.File downloadFile(String filePath) throws TelegramApiException {
@@ -44,6 +123,12 @@ public class TelegramFileDownloader {
     }
 
     public final java.io.File downloadFile(File file) throws TelegramApiException {
+        if (file != null && getLocalFilePath(file) != null) {
+            return downloadFile(file, getTempFile(file.getFileId()));
+        }
+        if (isCacheable(file)) {
+            return getResult(getCachedFileDownloadFuture(file));
+        }
         return downloadFile(file, getTempFile(file.getFileId()));
     }
 
@@ -51,19 +136,40 @@ public class TelegramFileDownloader {
         if (file == null) {
             throw new TelegramApiException("Parameter file can not be null");
         }
+        Path localPath = getLocalFilePath(file);
+        if (localPath != null) {
+            return getResult(getLocalFileCopyFuture(localPath, outputFile));
+        }
+        if (isCacheable(file)) {
+            java.io.File cachedFile = getResult(getCachedFileDownloadFuture(file));
+            try {
+                copyFile(cachedFile, outputFile);
+                return outputFile;
+            } catch (IOException e) {
+                throw new TelegramApiException("Error writing downloaded file", e);
+            }
+        }
         String url = file.getFileUrl(botTokenSupplier.get());
-        return downloadToFile(url, outputFile);
+        return downloadToFile(url, outputFile, file.getFileSize());
     }
 
     public final java.io.File downloadFile(String filePath, java.io.File outputFile) throws TelegramApiException {
         if (filePath == null || filePath.isEmpty()) {
             throw new TelegramApiException("Parameter file can not be null or empty");
         }
+        Path localPath = toLocalPath(filePath);
+        if (localPath != null) {
+            return getResult(getLocalFileCopyFuture(localPath, outputFile));
+        }
         String url = File.getFileUrl(botTokenSupplier.get(), filePath);
-        return downloadToFile(url, outputFile);
+        return downloadToFile(url, outputFile, null);
     }
 
     public final InputStream downloadFileAsStream(String filePath) throws TelegramApiException {
+        Path localPath = toLocalPath(filePath);
+        if (localPath != null) {
+            return openLocalFileStream(localPath);
+        }
         try {
             return getFileDownloadStreamFuture(File.getFileUrl(botTokenSupplier.get(), filePath)).get();
         } catch (InterruptedException e) {
@@ -74,6 +180,17 @@ public class TelegramFileDownloader {
     }
 
     public final InputStream downloadFileAsStream(File file) throws TelegramApiException {
+        Path localPath = getLocalFilePath(file);
+        if (localPath != null) {
+            return openLocalFileStream(localPath);
+        }
+        if (isCacheable(file)) {
+            try {
+                return new FileInputStream(getResult(getCachedFileDownloadFuture(file)));
+            } catch (IOException e) {
+                throw new TelegramApiException("Error downloading file", e);
+            }
+        }
         try {
             return getFileDownloadStreamFuture(file.getFileUrl(botTokenSupplier.get())).get();
         } catch (InterruptedException e) {
@@ -90,10 +207,17 @@ public class TelegramFileDownloader {
         if (callback == null) {
             throw new TelegramApiException("Parameter callback can not be null");
         }
-        String url = File.getFileUrl(botTokenSupplier.get(), filePath);
         String tempFileName = Long.toString(System.currentTimeMillis());
+        Path localPath = toLocalPath(filePath);
+        CompletableFuture<java.io.File> downloadFuture;
+        if (localPath != null) {
+            downloadFuture = getLocalFileCopyFuture(localPath, getTempFile(tempFileName));
+        } else {
+            String url = File.getFileUrl(botTokenSupplier.get(), filePath);
+            downloadFuture = getFileDownloadFuture(url, getTempFile(tempFileName), null);
+        }
 
-        getFileDownloadFuture(url, getTempFile(tempFileName))
+        downloadFuture
                 .thenAccept(output -> callback.onResult(filePath, output))
                 .exceptionally(throwable -> {
                     // Unwrap java.util.concurrent.CompletionException
@@ -113,10 +237,19 @@ public class TelegramFileDownloader {
         if (callback == null) {
             throw new TelegramApiException("Parameter callback can not be null");
         }
-        String url = file.getFileUrl(botTokenSupplier.get());
-        String tempFileName = file.getFileId();
+        CompletableFuture<java.io.File> downloadFuture;
+        Path localPath = getLocalFilePath(file);
+        if (localPath != null) {
+            downloadFuture = getLocalFileCopyFuture(localPath, getTempFile(file.getFileId()));
+        } else if (isCacheable(file)) {
+            downloadFuture = getCachedFileDownloadFuture(file);
+        } else {
+            String url = file.getFileUrl(botTokenSupplier.get());
+            String tempFileName = file.getFileId();
+            downloadFuture = getFileDownloadFuture(url, getTempFile(tempFileName), file.getFileSize());
+        }
 
-        getFileDownloadFuture(url, getTempFile(tempFileName))
+        downloadFuture
                 .thenAccept(output -> callback.onResult(file, output))
                 .exceptionally(throwable -> {
                     callback.onException(file, new TelegramApiException("Error downloading file", throwable));
@@ -125,6 +258,56 @@ public class TelegramFileDownloader {
 
     }
 
+    /**
+     * Self-hosted Bot API servers started with <code>--local</code> return the absolute path of the file
+     * in their file system instead of a download path. When that path is readable from this process, the
+     * file can be accessed directly without downloading it. Only done once enabled with {@link #setLocalFiles(boolean)}.
+     * @param file File returned by a GetFile request
+     * @return Path of the file in the local file system or null if it must be downloaded
+     */
+    public final Path getLocalFilePath(File file) {
+        return file == null ? null : toLocalPath(file.getFilePath());
+    }
+
+    /**
+     * Opens a read only channel to the file content. Local files are opened directly, the rest of them are downloaded
+     * first to the cache if configured or to a temporary file that is deleted when the channel is closed.
+     * @param file File returned by a GetFile request
+     * @return Channel to read the file
+     */
+    public final FileChannel openFileChannel(File file) throws TelegramApiException {
+        if (file == null) {
+            throw new TelegramApiException("Parameter file can not be null");
+        }
+        try {
+            Path localPath = getLocalFilePath(file);
+            if (localPath != null) {
+                return FileChannel.open(localPath, READ);
+            }
+            if (isCacheable(file)) {
+                return FileChannel.open(getResult(getCachedFileDownloadFuture(file)).toPath(), READ);
+            }
+            java.io.File tempFile = downloadFile(file, getTempFile(file.getFileId()));
+            return FileChannel.open(tempFile.toPath(), READ, DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new TelegramApiException("Error opening file", e);
+        }
+    }
+
+    /**
+     * Maps the file content into memory, avoiding any copy for local files of self-hosted Bot API servers
+     * @param file File returned by a GetFile request
+     * @return Read only buffer with the file content
+     * @see #openFileChannel(File)
+     */
+    public final MappedByteBuffer mapFile(File file) throws TelegramApiException {
+        try (FileChannel channel = openFileChannel(file)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new TelegramApiException("Error mapping file", e);
+        }
+    }
+
     private java.io.File getTempFile(String tempFileName) throws TelegramApiException {
         try {
             return java.io.File.createTempFile(tempFileName, ".tmp");
@@ -133,9 +316,13 @@ public class TelegramFileDownloader {
         }
     }
 
-    private java.io.File downloadToFile(String url, java.io.File output) throws TelegramApiException {
+    private java.io.File downloadToFile(String url, java.io.File output, Long expectedSize) throws TelegramApiException {
+        return getResult(getFileDownloadFuture(url, output, expectedSize));
+    }
+
+    private java.io.File getResult(CompletableFuture<java.io.File> downloadFuture) throws TelegramApiException {
         try {
-            return getFileDownloadFuture(url, output).get();
+            return downloadFuture.get();
         } catch (InterruptedException e) {
             throw new TelegramApiException("File Download got interrupted", e);
         } catch (ExecutionException e) {
@@ -143,17 +330,240 @@ public class TelegramFileDownloader {
         }
     }
 
-    private CompletableFuture<java.io.File> getFileDownloadFuture(String url, java.io.File output) {
-        return getFileDownloadStreamFuture(url).thenApply(stream -> {
+    private Path toLocalPath(String filePath) {
+        if (!localFiles || filePath == null || filePath.isEmpty()) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(filePath);
+            return path.isAbsolute() && Files.isRegularFile(path) && Files.isReadable(path) ? path : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private InputStream openLocalFileStream(Path localPath) throws TelegramApiException {
+        try {
+            return Files.newInputStream(localPath);
+        } catch (IOException e) {
+            throw new TelegramApiException("Error reading local file", e);
+        }
+    }
+
+    private CompletableFuture<java.io.File> getLocalFileCopyFuture(Path localPath, java.io.File output) {
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                copyInputStreamToFile(stream, output);
+                Files.copy(localPath, output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                return output;
+            } catch (IOException e) {
+                throw new DownloadFileException("Error copying local file", e);
+            }
+        });
+    }
+
+    private boolean isCacheable(File file) {
+        return fileCache != null && file != null && file.getFileUniqueId() != null;
+    }
+
+    private CompletableFuture<java.io.File> getCachedFileDownloadFuture(File file) {
+        String url = file.getFileUrl(botTokenSupplier.get());
+        return fileCache.getOrLoad(file.getFileUniqueId(), output -> getFileDownloadFuture(url, output, file.getFileSize()));
+    }
+
+    private CompletableFuture<java.io.File> getFileDownloadFuture(String url, java.io.File output, Long expectedSize) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (FileChannel channel = FileChannel.open(output.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+                if (parallelRanges > 1 && expectedSize != null && expectedSize > 0 && expectedSize >= parallelRangesThreshold) {
+                    downloadRanges(url, channel, expectedSize);
+                } else {
+                    downloadRange(url, channel, 0, -1, false, null);
+                }
                 return output;
+            } catch (TelegramApiException e) {
+                throw new DownloadFileException("Error downloading file", e);
             } catch (IOException e) {
                 throw new DownloadFileException("Error writing downloaded file", e);
             }
         });
     }
 
+    /**
+     * Splits the file in ranges downloaded in parallel and written to their position of the file.
+     * Falls back to a single stream if the server doesn't support range requests.
+     */
+    private void downloadRanges(String url, FileChannel channel, long size) throws IOException, TelegramApiException {
+        // Preallocate the file so every range can be written at its position
+        channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+
+        long rangeSize = (size + parallelRanges - 1) / parallelRanges;
+        int rangeCount = (int) ((size + rangeSize - 1) / rangeSize);
+        ExecutorService executor = Executors.newFixedThreadPool(rangeCount, runnable -> {
+            Thread thread = new Thread(runnable, "file-download-range");
+            thread.setDaemon(true);
+            return thread;
+        });
+        RangeRequests requests = new RangeRequests();
+        boolean rangesSupported = true;
+        Throwable failure = null;
+        try {
+            CompletionService<Boolean> ranges = new ExecutorCompletionService<>(executor);
+            for (long start = 0; start < size; start += rangeSize) {
+                final long rangeStart = start;
+                final long rangeEnd = Math.min(start + rangeSize, size) - 1;
+                ranges.submit(() -> downloadRange(url, channel, rangeStart, rangeEnd, true, requests));
+            }
+            // Every range is waited for, so that none of them writes to the channel once it is closed
+            for (int i = 0; i < rangeCount; i++) {
+                try {
+                    rangesSupported &= takeUninterruptibly(ranges, requests).get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                        requests.cancel();
+                    }
+                } catch (InterruptedException e) {
+                    // The range is already done, get doesn't wait for it
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure instanceof TelegramApiException) {
+            throw (TelegramApiException) failure;
+        } else if (failure != null) {
+            throw new IOException("Error downloading file range", failure);
+        }
+
+        if (!rangesSupported) {
+            log.debug("Server doesn't support range requests, downloading {} as a single stream", url);
+            channel.truncate(0);
+            downloadRange(url, channel, 0, -1, false, null);
+        }
+    }
+
+    /**
+     * Downloads a range of the file into its position of the channel, resuming from the last written byte
+     * if the connection drops.
+     * @param start First byte to download
+     * @param end Last byte to download (inclusive) or -1 to download until the end of the file
+     * @param rangeRequired If true, stop when the server ignores the range and sends the whole file
+     * @return False if the range was required but the server sent the whole file
+     */
+    private boolean downloadRange(String url, FileChannel channel, long start, long end, boolean rangeRequired,
+                                  RangeRequests requests) throws IOException, TelegramApiException {
+        long position = start;
+        int failedAttempts = 0;
+        while (true) {
+            HttpGet request = new HttpGet(url);
+            boolean ranged = position > 0 || end >= 0;
+            if (ranged) {
+                request.addHeader(HttpHeaders.RANGE, "bytes=" + position + "-" + (end >= 0 ? Long.toString(end) : ""));
+            }
+            if (requests != null && !requests.add(request)) {
+                throw new IOException("Download of " + url + " was cancelled");
+            }
+            try {
+                HttpResponse response = httpClient.execute(request);
+                final int statusCode = response.getStatusLine().getStatusCode();
+                if (ranged && statusCode == SC_OK) {
+                    if (rangeRequired) {
+                        request.abort();
+                        return false;
+                    }
+                    // The server ignored the range, start over from the beginning
+                    channel.truncate(0);
+                    position = 0;
+                } else if (statusCode != SC_OK && !(ranged && statusCode == SC_PARTIAL_CONTENT)) {
+                    request.abort();
+                    throw new TelegramApiException("Unexpected Status code while downloading file. Expected 200 got " + statusCode);
+                }
+
+                try (InputStream stream = response.getEntity().getContent()) {
+                    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                    int read;
+                    while ((read = stream.read(buffer.array())) != -1) {
+                        buffer.clear();
+                        buffer.limit(read);
+                        while (buffer.hasRemaining()) {
+                            position += channel.write(buffer, position);
+                        }
+                    }
+                }
+                if (end >= 0 && position <= end) {
+                    throw new IOException("Premature end of range, got " + (position - start) + " bytes");
+                }
+                return true;
+            } catch (IOException e) {
+                if (++failedAttempts > maxResumeAttempts || (requests != null && requests.isCancelled())) {
+                    throw e;
+                }
+                log.debug("Download of {} interrupted at byte {}, resuming: {}", url, position, e.toString());
+            } finally {
+                if (requests != null) {
+                    requests.remove(request);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the next range to complete, cancelling the other ones if the thread is interrupted
+     */
+    private static Future<Boolean> takeUninterruptibly(CompletionService<Boolean> ranges, RangeRequests requests) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return ranges.take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    requests.cancel();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Requests in flight of the ranges of a download, aborted all together once a range failed
+     */
+    private static final class RangeRequests {
+        private final Set<HttpGet> requests = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
+
+        /**
+         * @return False if the download was cancelled, so the request must not be sent
+         */
+        private boolean add(HttpGet request) {
+            requests.add(request);
+            if (cancelled) {
+                requests.remove(request);
+                return false;
+            }
+            return true;
+        }
+
+        private void remove(HttpGet request) {
+            requests.remove(request);
+        }
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            for (HttpGet request : requests) {
+                request.abort();
+            }
+        }
+    }
+
     private CompletableFuture<InputStream> getFileDownloadStreamFuture(final String url) {
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -0,0 +1,149 @@
+package org.telegram.telegrambots.facilities.filepipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Fixed size buffer connecting a writer and a reader running in different threads.
+ *
+ * Unlike {@link java.io.PipedInputStream}, a failure of the writer is rethrown to the reader instead of
+ * looking like a regular end of stream, so a broken transformation never produces a truncated upload.
+ */
+class BoundedPipe {
+    private final byte[] buffer;
+    private int readPosition;
+    private int count;
+    private boolean writerClosed;
+    private boolean readerClosed;
+    private Throwable writerFailure;
+
+    private final InputStream inputStream = new PipeInputStream();
+    private final OutputStream outputStream = new PipeOutputStream();
+
+    BoundedPipe(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pipe size must be positive");
+        }
+        this.buffer = new byte[size];
+    }
+
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Closes the writing side, making the reader fail with the given cause once the buffer is drained
+     */
+    synchronized void fail(Throwable cause) {
+        writerFailure = cause;
+        writerClosed = true;
+        notifyAll();
+    }
+
+    private synchronized int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (count == 0) {
+            if (readerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            if (writerClosed) {
+                if (writerFailure != null) {
+                    throw new IOException("Error transforming file", writerFailure);
+                }
+                return -1;
+            }
+            awaitChange();
+        }
+        int read = Math.min(length, Math.min(count, buffer.length - readPosition));
+        System.arraycopy(buffer, readPosition, bytes, offset, read);
+        readPosition = (readPosition + read) % buffer.length;
+        count -= read;
+        notifyAll();
+        return read;
+    }
+
+    private synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            while (count == buffer.length && !readerClosed) {
+                awaitChange();
+            }
+            if (readerClosed) {
+                throw new IOException("Pipe closed by reader");
+            }
+            if (writerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            int writePosition = (readPosition + count) % buffer.length;
+            int written = Math.min(length, Math.min(buffer.length - count, buffer.length - writePosition));
+            System.arraycopy(bytes, offset, buffer, writePosition, written);
+            count += written;
+            offset += written;
+            length -= written;
+            notifyAll();
+        }
+    }
+
+    private void awaitChange() throws IOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Pipe interrupted", e);
+        }
+    }
+
+    private class PipeInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            return BoundedPipe.this.read(bytes, offset, length);
+        }
+
+        @Override
+        public int available() {
+            synchronized (BoundedPipe.this) {
+                return count;
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (BoundedPipe.this) {
+                readerClosed = true;
+                BoundedPipe.this.notifyAll();
+            }
+        }
+    }
+
+    private class PipeOutputStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            BoundedPipe.this.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() {
+            synchronized (BoundedPipe.this) {
+                writerClosed = true;
+                BoundedPipe.this.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.telegram.telegrambots.facilities.filepipeline;
+
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+
+/**
+ * Connects the stream of a downloaded file to the multipart body of an upload, so media can be re-sent
+ * without being stored in temporary files.
+ *
+ * When a {@link StreamTransformer} is used, it runs in its own thread writing to a bounded buffer that
+ * is read by the upload, keeping memory usage constant regardless of the file size. The transformation only
+ * starts when the upload reads the file, an input file closed without being read just closes the source.
+ *
+ * The returned {@link InputFile} can only be sent once.
+ */
+public final class FilePipeline {
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private FilePipeline() {
+    }
+
+    /**
+     * @param source Stream of the downloaded file, i.e. from TelegramFileDownloader#downloadFileAsStream
+     * @param fileName Name of the uploaded file
+     * @return Input file streaming the source as it is
+     */
+    public static InputFile pipe(InputStream source, String fileName) {
+        return new InputFile(source, fileName);
+    }
+
+    /**
+     * @param source Stream of the downloaded file, i.e. from TelegramFileDownloader#downloadFileAsStream
+     * @param fileName Name of the uploaded file
+     * @param transformer Transformation applied to the content before uploading it
+     * @return Input file streaming the transformed content
+     */
+    public static InputFile pipe(InputStream source, String fileName, StreamTransformer transformer) {
+        return pipe(source, fileName, transformer, DEFAULT_BUFFER_SIZE, FilePipeline::startDaemonThread);
+    }
+
+    /**
+     * @param source Stream of the downloaded file, i.e. from TelegramFileDownloader#downloadFileAsStream
+     * @param fileName Name of the uploaded file
+     * @param transformer Transformation applied to the content before uploading it
+     * @param bufferSize Size in bytes of the buffer between the transformation and the upload
+     * @param executor Executor running the transformation. It must not be the one sending the upload
+     *                 if it can run out of threads, as both sides wait for each other.
+     * @return Input file streaming the transformed content
+     */
+    public static InputFile pipe(InputStream source, String fileName, StreamTransformer transformer,
+                                 int bufferSize, Executor executor) {
+        BoundedPipe pipe = new BoundedPipe(bufferSize);
+        return new InputFile(new LazyPipeInputStream(pipe, source,
+                () -> executor.execute(() -> transform(source, pipe, transformer))), fileName);
+    }
+
+    private static void transform(InputStream source, BoundedPipe pipe, StreamTransformer transformer) {
+        try (InputStream input = source) {
+            OutputStream output = pipe.getOutputStream();
+            transformer.transform(input, output);
+            // Only a successful transformation ends the stream, failures must reach the upload
+            output.close();
+        } catch (Throwable e) {
+            // Rethrown by the reader of the pipe, which would otherwise wait forever for the end of the stream
+            pipe.fail(e);
+        }
+    }
+
+    private static void startDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "telegram-file-pipeline");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reading side of the pipe, starting the transformation on the first read
+     */
+    private static final class LazyPipeInputStream extends InputStream {
+        private final BoundedPipe pipe;
+        private final InputStream pipeInput;
+        private final InputStream source;
+        private final Runnable transformation;
+        private boolean started;
+
+        private LazyPipeInputStream(BoundedPipe pipe, InputStream source, Runnable transformation) {
+            this.pipe = pipe;
+            this.pipeInput = pipe.getInputStream();
+            this.source = source;
+            this.transformation = transformation;
+        }
+
+        @Override
+        public int read() throws IOException {
+            start();
+            return pipeInput.read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            start();
+            return pipeInput.read(bytes, offset, length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return pipeInput.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            boolean closeSource;
+            synchronized (this) {
+                closeSource = !started;
+                started = true;
+            }
+            pipeInput.close();
+            if (closeSource) {
+                // The transformation never ran, nothing else closes the source
+                source.close();
+            }
+        }
+
+        private void start() {
+            synchronized (this) {
+                if (started) {
+                    return;
+                }
+                started = true;
+            }
+            try {
+                transformation.run();
+            } catch (RuntimeException e) {
+                // The executor rejected the transformation
+                pipe.fail(e);
+                try {
+                    source.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.telegram.telegrambots.facilities.filepipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Transformation applied to a file while it flows from a download to an upload,
+ * i.e. watermarking an image or transcoding a video.
+ */
+@FunctionalInterface
+public interface StreamTransformer {
+    /**
+     * Reads the original content from input and writes the transformed one to output.
+     * Both streams are closed by the pipeline once this method returns.
+     */
+    void transform(InputStream input, OutputStream output) throws IOException;
+}
@@ -0,0 +1,122 @@
+package org.telegram.telegrambots.updatesreceivers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.generics.WebhookBot;
+
+import java.io.Serializable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes webhook updates in a bounded pool of workers so the webhook request can be acknowledged
+ * before the update is handled.
+ *
+ * Updates of the same chat are always handled by the same worker, keeping their order. When the queue
+ * of a worker is full, the update is rejected so the webhook can ask Telegram to deliver it again later.
+ *
+ * As the HTTP response is already sent, methods returned by the bot are executed through the bot itself
+ * when it is an {@link AbsSender}.
+ */
+@Slf4j
+public class AsyncWebhookDispatcher {
+    private final ThreadPoolExecutor[] workers;
+
+    /**
+     * @param threads Number of workers handling updates
+     * @param queueCapacity Maximum number of pending updates per worker
+     */
+    public AsyncWebhookDispatcher(int threads, int queueCapacity) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Threads and queue capacity must be positive");
+        }
+        workers = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            final String threadName = "webhook-worker-" + i;
+            workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Queues an update to be handled by the bot
+     * @return False if the update was rejected because the queue is full or the dispatcher is shut down
+     */
+    public boolean dispatch(WebhookBot bot, Update update) {
+        ThreadPoolExecutor worker = workers[Math.floorMod(Long.hashCode(getOrderingKey(update)), workers.length)];
+        try {
+            worker.execute(() -> handleUpdate(bot, update));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Webhook queue full, rejecting update {}", update.getUpdateId());
+            return false;
+        }
+    }
+
+    /**
+     * @return Number of updates waiting to be handled
+     */
+    public int getPendingUpdates() {
+        int pending = 0;
+        for (ThreadPoolExecutor worker : workers) {
+            pending += worker.getQueue().size();
+        }
+        return pending;
+    }
+
+    /**
+     * Stops accepting updates and waits for the pending ones to be handled
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor worker : workers) {
+            worker.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void handleUpdate(WebhookBot bot, Update update) {
+        try {
+            BotApiMethod<?> response = bot.onWebhookUpdateReceived(update);
+            if (response != null) {
+                if (bot instanceof AbsSender) {
+                    execute((AbsSender) bot, response);
+                } else {
+                    log.warn("Discarding response {} of bot {}, it can't execute methods", response.getMethod(), bot.getBotPath());
+                }
+            }
+        } catch (TelegramApiException | RuntimeException e) {
+            log.error("Error handling webhook update {}", update.getUpdateId(), e);
+        }
+    }
+
+    private static <T extends Serializable> void execute(AbsSender sender, BotApiMethod<T> method) throws TelegramApiException {
+        sender.execute(method);
+    }
+
+    /**
+     * Updates of the same chat share the key, updates without chat are ordered by user
+     */
+    private static long getOrderingKey(Update update) {
+        Long chatId = update.getChatId();
+        if (chatId != null) {
+            return chatId;
+        }
+        Long fromId = update.getFromId();
+        if (fromId != null) {
+            return fromId;
+        }
+        return update.getUpdateId() == null ? 0 : update.getUpdateId();
+    }
+}
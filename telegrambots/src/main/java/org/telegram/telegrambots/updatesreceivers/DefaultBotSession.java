@@ -1,6 +1,5 @@
 package org.telegram.telegrambots.updatesreceivers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
@@ -13,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.facilities.TelegramHttpClientBuilder;
 import org.telegram.telegrambots.meta.api.methods.updates.GetUpdates;
+import org.telegram.telegrambots.meta.api.objects.LazyUpdate;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 import org.telegram.telegrambots.meta.generics.*;
@@ -45,7 +45,6 @@ public class DefaultBotSession implements BotSession {
     private AtomicBoolean running = new AtomicBoolean(false);
 
     private final ConcurrentLinkedDeque<Update> receivedUpdates = new ConcurrentLinkedDeque<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private ReaderThread readerThread;
     private HandlerThread handlerThread;
@@ -244,18 +243,20 @@ public class DefaultBotSession implements BotSession {
             HttpPost httpPost = new HttpPost(url);
             httpPost.addHeader("charset", StandardCharsets.UTF_8.name());
             httpPost.setConfig(requestConfig);
-            httpPost.setEntity(new StringEntity(objectMapper.writeValueAsString(request), ContentType.APPLICATION_JSON));
+            httpPost.setEntity(new StringEntity(options.getObjectMapperRegistry().getWriter(GetUpdates.class).writeValueAsString(request), ContentType.APPLICATION_JSON));
 
             try (CloseableHttpResponse response = httpclient.execute(httpPost, options.getHttpContext())) {
-                String responseContent = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+                byte[] responseContent = EntityUtils.toByteArray(response.getEntity());
 
                 if (response.getStatusLine().getStatusCode() >= 500) {
-                    log.warn(responseContent);
+                    log.warn(new String(responseContent, StandardCharsets.UTF_8));
                     synchronized (lock) {
                         lock.wait(500);
                     }
                 } else {
-                    List<Update> updates = request.deserializeResponse(responseContent);
+                    List<Update> updates = options.isLazyUpdates()
+                            ? new ArrayList<>(LazyUpdate.parseList(responseContent, options.getObjectMapperRegistry()))
+                            : request.deserializeResponse(new String(responseContent, StandardCharsets.UTF_8), options.getObjectMapperRegistry());
                     backOff.reset();
                     return updates;
                 }
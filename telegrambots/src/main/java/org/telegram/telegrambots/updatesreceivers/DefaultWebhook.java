@@ -1,15 +1,18 @@
 package org.telegram.telegrambots.updatesreceivers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.generics.Webhook;
 import org.telegram.telegrambots.meta.generics.WebhookBot;
 
+import javax.ws.rs.ext.ContextResolver;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -25,9 +28,18 @@ public class DefaultWebhook implements Webhook {
     private String internalUrl;
 
     private final RestApi restApi;
+    private final ObjectMapperRegistry objectMapperRegistry;
 
     public DefaultWebhook() {
+        this(ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * @param objectMapperRegistry Registry used to read updates and write responses
+     */
+    public DefaultWebhook(ObjectMapperRegistry objectMapperRegistry) {
         this.restApi = new RestApi();
+        this.objectMapperRegistry = objectMapperRegistry;
     }
 
     public void setInternalUrl(String internalUrl) {
@@ -40,14 +52,36 @@ public class DefaultWebhook implements Webhook {
         validateServerKeystoreFile(keyStore);
     }
 
+    /**
+     * Acknowledges updates as soon as they are received and handles them in the given dispatcher
+     * @param asyncDispatcher Dispatcher handling the updates, null to handle them before answering
+     */
+    public void setAsyncDispatcher(AsyncWebhookDispatcher asyncDispatcher) {
+        restApi.setAsyncDispatcher(asyncDispatcher);
+    }
+
     public void registerWebhook(WebhookBot callback) {
         restApi.registerCallback(callback);
     }
 
+    @Override
+    public void registerWebhook(WebhookBot callback, String secretToken) {
+        restApi.registerCallback(callback, secretToken);
+    }
+
+    /**
+     * @return Secret tokens and request counters of the registered bots
+     */
+    public WebhookSecretTokens getSecretTokens() {
+        return restApi.getSecretTokens();
+    }
+
     public void startServer() throws TelegramApiException {
         ResourceConfig rc = new ResourceConfig();
         rc.register(restApi);
+        rc.register(new WebhookSecretTokenFilter(restApi.getSecretTokens()));
         rc.register(JacksonFeature.class);
+        rc.register(new ObjectMapperResolver(objectMapperRegistry.getObjectMapper()));
         rc.register(DefaultExceptionMapper.class);
 
         final HttpServer grizzlyServer;
@@ -81,4 +115,20 @@ public class DefaultWebhook implements Webhook {
             throw new TelegramApiException("Can't find or access server keystore file.");
         }
     }
+
+    /**
+     * Hands the object mapper of the registry to the Jackson provider of Jersey
+     */
+    private static final class ObjectMapperResolver implements ContextResolver<ObjectMapper> {
+        private final ObjectMapper objectMapper;
+
+        private ObjectMapperResolver(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public ObjectMapper getContext(Class<?> type) {
+            return objectMapper;
+        }
+    }
 }
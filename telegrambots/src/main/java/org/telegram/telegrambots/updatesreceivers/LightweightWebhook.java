@@ -0,0 +1,308 @@
+package org.telegram.telegrambots.updatesreceivers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.Constants;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.objects.LazyUpdate;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+import org.telegram.telegrambots.meta.generics.Webhook;
+import org.telegram.telegrambots.meta.generics.WebhookBot;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Webhook running on the HTTP server bundled with the JDK instead of Grizzly and Jersey.
+ *
+ * It only serves the webhook callbacks, looking up the bot directly from the request path, which makes it
+ * start faster and use less memory than {@link DefaultWebhook}. Connections are kept alive and request bodies
+ * are read into buffers reused by each worker thread.
+ *
+ * TLS is configured from the same keystore options as {@link DefaultWebhook}.
+ */
+@Slf4j
+public class LightweightWebhook implements Webhook {
+    private static final String CALLBACK_PATH = "/" + Constants.WEBHOOK_URL_PATH + "/";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_BODY_SIZE = 16 * 1024 * 1024;
+    private static final int NO_BODY = -1;
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    private final ConcurrentHashMap<String, WebhookBot> callbacks = new ConcurrentHashMap<>();
+    private final WebhookSecretTokens secretTokens = new WebhookSecretTokens();
+    private final ObjectMapperRegistry objectMapperRegistry;
+    private final ObjectReader updateReader;
+    private final ObjectWriter responseWriter;
+    private final int threads;
+    private String keystoreServerFile;
+    private String keystoreServerPwd;
+    private String internalUrl;
+    private volatile AsyncWebhookDispatcher asyncDispatcher;
+    private volatile boolean lazyUpdates;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public LightweightWebhook() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param threads Number of threads handling requests
+     */
+    public LightweightWebhook(int threads) {
+        this(threads, ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * @param threads Number of threads handling requests
+     * @param objectMapperRegistry Registry used to read updates and write responses
+     */
+    public LightweightWebhook(int threads, ObjectMapperRegistry objectMapperRegistry) {
+        this.objectMapperRegistry = objectMapperRegistry;
+        this.updateReader = objectMapperRegistry.getUpdateReader();
+        this.responseWriter = objectMapperRegistry.getWriter();
+        this.threads = threads;
+    }
+
+    @Override
+    public void setInternalUrl(String internalUrl) {
+        this.internalUrl = internalUrl;
+    }
+
+    @Override
+    public void setKeyStore(String keyStore, String keyStorePassword) throws TelegramApiException {
+        this.keystoreServerFile = keyStore;
+        this.keystoreServerPwd = keyStorePassword;
+        validateServerKeystoreFile(keyStore);
+    }
+
+    /**
+     * Acknowledges updates as soon as they are received and handles them in the given dispatcher
+     * @param asyncDispatcher Dispatcher handling the updates, null to handle them before answering
+     */
+    public void setAsyncDispatcher(AsyncWebhookDispatcher asyncDispatcher) {
+        this.asyncDispatcher = asyncDispatcher;
+    }
+
+    /**
+     * @param lazyUpdates True to pass {@link LazyUpdate}s to the bots, which are only bound when their payload
+     *                    is accessed
+     */
+    public void setLazyUpdates(boolean lazyUpdates) {
+        this.lazyUpdates = lazyUpdates;
+    }
+
+    @Override
+    public void registerWebhook(WebhookBot callback) {
+        registerWebhook(callback, null);
+    }
+
+    @Override
+    public void registerWebhook(WebhookBot callback, String secretToken) {
+        if (callbacks.putIfAbsent(callback.getBotPath(), callback) == null) {
+            secretTokens.register(callback.getBotPath(), secretToken);
+        }
+    }
+
+    /**
+     * @return Secret tokens and request counters of the registered bots
+     */
+    public WebhookSecretTokens getSecretTokens() {
+        return secretTokens;
+    }
+
+    @Override
+    public void startServer() throws TelegramApiException {
+        URI uri = URI.create(internalUrl);
+        InetSocketAddress address = uri.getHost() == null ? new InetSocketAddress(uri.getPort())
+                : new InetSocketAddress(uri.getHost(), uri.getPort());
+        try {
+            if (keystoreServerFile != null && keystoreServerPwd != null) {
+                HttpsServer httpsServer = HttpsServer.create(address, 0);
+                httpsServer.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+                server = httpsServer;
+            } else {
+                server = HttpServer.create(address, 0);
+            }
+        } catch (IOException e) {
+            throw new TelegramApiException("Error starting webhook server", e);
+        }
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(CALLBACK_PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * @return Port the server is listening to, useful when started on port 0
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String botPath = exchange.getRequestURI().getRawPath().substring(CALLBACK_PATH.length());
+            WebhookBot bot = callbacks.get(botPath);
+            String method = exchange.getRequestMethod();
+            if ("POST".equals(method)) {
+                // Checked before reading the body so forged requests are cheap to reject
+                String secretToken = exchange.getRequestHeaders().getFirst(WebhookSecretTokens.SECRET_TOKEN_HEADER);
+                if (!secretTokens.isAuthorized(botPath, secretToken)) {
+                    sendEmpty(exchange, bot == null ? 404 : 403);
+                } else {
+                    handleUpdate(exchange, bot);
+                }
+            } else if ("GET".equals(method)) {
+                String message = bot == null ? "Callback not found for " + botPath : "Hi there " + botPath + "!";
+                send(exchange, 200, message.getBytes(StandardCharsets.UTF_8));
+            } else {
+                sendEmpty(exchange, 405);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid webhook request: {}", e.getOriginalMessage());
+            sendErrorIfPossible(exchange, 400);
+        } catch (IOException | RuntimeException e) {
+            log.error("Exception caught: ", e);
+            sendErrorIfPossible(exchange, 500);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleUpdate(HttpExchange exchange, WebhookBot bot) throws IOException {
+        Update update = readUpdate(exchange);
+        if (update == null) {
+            sendEmpty(exchange, 413);
+            return;
+        }
+
+        AsyncWebhookDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            if (dispatcher.dispatch(bot, update)) {
+                sendEmpty(exchange, 200);
+            } else {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendEmpty(exchange, 429);
+            }
+            return;
+        }
+
+        BotApiMethod<?> response = bot.onWebhookUpdateReceived(update);
+        if (response == null) {
+            sendEmpty(exchange, 200);
+            return;
+        }
+        try {
+            response.validate();
+        } catch (TelegramApiValidationException e) {
+            log.error(e.getLocalizedMessage(), e);
+            sendEmpty(exchange, 500);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        send(exchange, 200, responseWriter.writeValueAsBytes(response));
+    }
+
+    /**
+     * Reads the body in the buffer of the current thread, growing it if needed
+     * @return Parsed update or null if the body is too big
+     */
+    private Update readUpdate(HttpExchange exchange) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        int length = 0;
+        try (InputStream body = exchange.getRequestBody()) {
+            int read;
+            while ((read = body.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    if (buffer.length >= MAX_BODY_SIZE) {
+                        return null;
+                    }
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    BUFFERS.set(buffer);
+                }
+            }
+        }
+        if (lazyUpdates) {
+            // The buffer is reused by the next request
+            return LazyUpdate.parse(Arrays.copyOf(buffer, length), objectMapperRegistry);
+        }
+        return updateReader.readValue(buffer, 0, length);
+    }
+
+    private static void sendErrorIfPossible(HttpExchange exchange, int status) throws IOException {
+        // The status can't be changed once the response headers are sent
+        if (exchange.getResponseCode() == -1) {
+            sendEmpty(exchange, status);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, NO_BODY);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private SSLContext createSslContext() throws TelegramApiException {
+        try (InputStream keystoreStream = new FileInputStream(keystoreServerFile)) {
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(keystoreStream, keystoreServerPwd.toCharArray());
+            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, keystoreServerPwd.toCharArray());
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+            return sslContext;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new TelegramApiException("Error loading server keystore", e);
+        }
+    }
+
+    private static void validateServerKeystoreFile(String keyStore) throws TelegramApiException {
+        File file = new File(keyStore);
+        if (!file.exists() || !file.canRead()) {
+            throw new TelegramApiException("Can't find or access server keystore file.");
+        }
+    }
+}
@@ -25,14 +25,43 @@ import java.util.concurrent.ConcurrentHashMap;
 @Path(Constants.WEBHOOK_URL_PATH)
 @Slf4j
 public class RestApi {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final ConcurrentHashMap<String, WebhookBot> callbacks = new ConcurrentHashMap<>();
+    private final WebhookSecretTokens secretTokens = new WebhookSecretTokens();
+    private volatile AsyncWebhookDispatcher asyncDispatcher;
 
     public RestApi() {
     }
 
+    /**
+     * @param asyncDispatcher Dispatcher used to handle updates after acknowledging them, null to handle them
+     *                        before answering the webhook request
+     */
+    public void setAsyncDispatcher(AsyncWebhookDispatcher asyncDispatcher) {
+        this.asyncDispatcher = asyncDispatcher;
+    }
+
+    /**
+     * @return Secret tokens checked by {@link WebhookSecretTokenFilter} before the updates are read
+     */
+    public WebhookSecretTokens getSecretTokens() {
+        return secretTokens;
+    }
+
     public void registerCallback(WebhookBot callback) {
+        registerCallback(callback, null);
+    }
+
+    /**
+     * @param callback Bot to register
+     * @param secretToken Secret token expected in the requests of this bot, null to accept any request
+     */
+    public void registerCallback(WebhookBot callback, String secretToken) {
         if (!callbacks.containsKey(callback.getBotPath())) {
             callbacks.put(callback.getBotPath(), callback);
+            secretTokens.register(callback.getBotPath(), secretToken);
         }
     }
 
@@ -42,6 +71,14 @@ public class RestApi {
     @Produces(MediaType.APPLICATION_JSON)
     public Response updateReceived(@PathParam("botPath") String botPath, Update update) {
         if (callbacks.containsKey(botPath)) {
+            AsyncWebhookDispatcher dispatcher = asyncDispatcher;
+            if (dispatcher != null) {
+                if (dispatcher.dispatch(callbacks.get(botPath), update)) {
+                    return Response.ok().build();
+                }
+                // Telegram delivers the update again later
+                return Response.status(TOO_MANY_REQUESTS).header("Retry-After", RETRY_AFTER_SECONDS).build();
+            }
             try {
                 BotApiMethod<?> response = callbacks.get(botPath).onWebhookUpdateReceived(update);
                 if (response != null) {
@@ -1,20 +1,166 @@
 package org.telegram.telegrambots.updatesreceivers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.meta.api.methods.AnswerCallbackQuery;
 import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.api.objects.LazyUpdate;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
 import org.telegram.telegrambots.meta.generics.Webhook;
 import org.telegram.telegrambots.meta.generics.WebhookBot;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Webhook without server, for bots running on serverless platforms that receive the requests themselves.
+ *
+ * It starts no threads and reads the updates with the registry it is given, {@link ObjectMapperRegistry#getDefault()}
+ * unless another one is. Call {@link #prewarm()} (or {@link #prewarm(ObjectMapperRegistry)} with that registry)
+ * while the function is initialized (or snapshotted, with CRaC or SnapStart) so the first update doesn't pay
+ * for building the deserializers of the whole {@link Update} graph. Write the responses with
+ * {@link #writeResponseBody(BotApiMethod)} so they are serialized with the same registry.
+ */
 @Slf4j
 public class ServerlessWebhook implements Webhook {
+    private static final byte[] EMPTY_RESPONSE = new byte[0];
+    /**
+     * Update touching the most common objects, parsing it builds their deserializers
+     */
+    private static final String PREWARM_UPDATE = "{\"update_id\":1,\"message\":{\"message_id\":1,\"date\":1," +
+            "\"chat\":{\"id\":1,\"type\":\"private\"},\"from\":{\"id\":1,\"is_bot\":false,\"first_name\":\"a\"}," +
+            "\"text\":\"/start\",\"entities\":[{\"type\":\"bot_command\",\"offset\":0,\"length\":6}]," +
+            "\"reply_to_message\":{\"message_id\":0,\"date\":1,\"chat\":{\"id\":1,\"type\":\"private\"}}}," +
+            "\"callback_query\":{\"id\":\"1\",\"from\":{\"id\":1,\"is_bot\":false,\"first_name\":\"a\"},\"data\":\"a\"}," +
+            "\"inline_query\":{\"id\":\"1\",\"from\":{\"id\":1,\"is_bot\":false,\"first_name\":\"a\"},\"query\":\"a\",\"offset\":\"\"}}";
+    private static volatile boolean prewarmed;
 
     private final ConcurrentHashMap<String, WebhookBot> callbacks = new ConcurrentHashMap<>();
+    private final WebhookSecretTokens secretTokens = new WebhookSecretTokens();
+    private final ObjectMapperRegistry objectMapperRegistry;
+    private volatile boolean lazyUpdates;
+
+    public ServerlessWebhook() {
+        this(ObjectMapperRegistry.getDefault());
+    }
+
+    /**
+     * @param objectMapperRegistry Registry used to read updates
+     */
+    public ServerlessWebhook(ObjectMapperRegistry objectMapperRegistry) {
+        this.objectMapperRegistry = objectMapperRegistry;
+    }
+
+    /**
+     * Checks the "X-Telegram-Bot-Api-Secret-Token" header of a request, call it before parsing the body
+     * @param botPath Path of the request
+     * @param secretToken Value of the header, null if missing
+     * @return True if the bot exists and the token matches the one it was registered with
+     */
+    public boolean isAuthorized(String botPath, String secretToken) {
+        return secretTokens.isAuthorized(botPath, secretToken);
+    }
+
+    /**
+     * @return Secret tokens and request counters of the registered bots
+     */
+    public WebhookSecretTokens getSecretTokens() {
+        return secretTokens;
+    }
+
+    /**
+     * @param lazyUpdates True to pass {@link LazyUpdate}s to the bots when handling raw bodies
+     */
+    public void setLazyUpdates(boolean lazyUpdates) {
+        this.lazyUpdates = lazyUpdates;
+    }
+
+    /**
+     * Builds the Jackson deserializers of the updates and the serializers of the most common responses.
+     * Safe to call several times, only the first call does the work.
+     */
+    public static void prewarm() {
+        if (prewarmed) {
+            return;
+        }
+        prewarm(ObjectMapperRegistry.getDefault());
+        prewarmed = true;
+    }
+
+    /**
+     * Builds the Jackson deserializers of the updates and the serializers of the most common responses of a registry
+     * other than the default one
+     * @param registry Registry the webhook is created with
+     */
+    public static void prewarm(ObjectMapperRegistry registry) {
+        try {
+            registry.getUpdateReader().readValue(PREWARM_UPDATE.getBytes(StandardCharsets.UTF_8));
+            ObjectWriter writer = registry.getWriter();
+            writer.writeValueAsBytes(SendMessage.builder().chatId("1").text("a").build());
+            writer.writeValueAsBytes(EditMessageText.builder().chatId("1").messageId(1).text("a").build());
+            writer.writeValueAsBytes(AnswerCallbackQuery.builder().callbackQueryId("1").build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serializes a response with the default registry to write it as the body of the webhook response
+     * @param response Response of {@link #updateReceived}, may be null
+     * @return JSON of the response, empty if it is null
+     * @see #writeResponseBody(BotApiMethod) to serialize it with the registry of the webhook
+     */
+    public static byte[] writeResponse(BotApiMethod<?> response) throws JsonProcessingException {
+        return writeResponse(ObjectMapperRegistry.getDefault(), response);
+    }
+
+    /**
+     * Serializes a response with the registry of this webhook to write it as the body of the webhook response
+     * @param response Response of {@link #updateReceived}, may be null
+     * @return JSON of the response, empty if it is null
+     */
+    public byte[] writeResponseBody(BotApiMethod<?> response) throws JsonProcessingException {
+        return writeResponse(objectMapperRegistry, response);
+    }
+
+    private static byte[] writeResponse(ObjectMapperRegistry registry, BotApiMethod<?> response) throws JsonProcessingException {
+        return response == null ? EMPTY_RESPONSE : registry.getWriter().writeValueAsBytes(response);
+    }
+
+    /**
+     * Handles the raw body of a webhook request, checking the secret token before parsing it
+     * @param botPath Path of the request
+     * @param secretToken Value of the "X-Telegram-Bot-Api-Secret-Token" header, null if missing
+     * @param body Body of the request
+     * @throws NoSuchElementException If no bot is registered with the path, the body is not parsed
+     * @throws SecurityException If the secret token doesn't match the one the bot was registered with
+     * @throws IOException If the body is not a valid update
+     */
+    public BotApiMethod<?> updateReceived(String botPath, String secretToken, byte[] body) throws IOException, TelegramApiValidationException {
+        checkRequest(botPath, secretToken);
+        Update update = lazyUpdates ? LazyUpdate.parse(body, objectMapperRegistry)
+                : objectMapperRegistry.getUpdateReader().readValue(body);
+        return updateReceived(botPath, update);
+    }
+
+    /**
+     * Handles an update after checking the secret token of the request
+     * @throws NoSuchElementException If no bot is registered with the path
+     * @throws SecurityException If the secret token doesn't match the one the bot was registered with
+     */
+    public BotApiMethod<?> updateReceived(String botPath, String secretToken, Update update) throws TelegramApiValidationException {
+        checkRequest(botPath, secretToken);
+        return updateReceived(botPath, update);
+    }
 
     public BotApiMethod<?> updateReceived(String botPath, Update update) throws TelegramApiValidationException {
         if (callbacks.containsKey(botPath)) {
@@ -33,6 +179,20 @@ public class ServerlessWebhook implements Webhook {
         }
     }
 
+    /**
+     * Rejects the requests to unknown paths and with a wrong secret token, counting them, before their body is parsed
+     */
+    private void checkRequest(String botPath, String secretToken) {
+        if (botPath == null || !callbacks.containsKey(botPath)) {
+            // Counts the request to an unknown path
+            secretTokens.isAuthorized(botPath, secretToken);
+            throw new NoSuchElementException(String.format("Callback '%s' not exist", botPath));
+        }
+        if (!secretTokens.isAuthorized(botPath, secretToken)) {
+            throw new SecurityException(String.format("Invalid secret token for callback '%s'", botPath));
+        }
+    }
+
     @Override
     public void startServer() throws TelegramApiException {
         // Do nothing, because there is no abstraction for webhook without server
@@ -40,7 +200,14 @@ public class ServerlessWebhook implements Webhook {
 
     @Override
     public void registerWebhook(WebhookBot callback) {
-        callbacks.putIfAbsent(callback.getBotPath(), callback);
+        registerWebhook(callback, null);
+    }
+
+    @Override
+    public void registerWebhook(WebhookBot callback, String secretToken) {
+        if (callbacks.putIfAbsent(callback.getBotPath(), callback) == null) {
+            secretTokens.register(callback.getBotPath(), secretToken);
+        }
     }
 
     @Override
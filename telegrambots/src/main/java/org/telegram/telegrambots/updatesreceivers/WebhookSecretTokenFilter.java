@@ -0,0 +1,30 @@
+package org.telegram.telegrambots.updatesreceivers;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Response;
+
+/**
+ * Rejects webhook updates without the expected secret token. Filters run before the entity is read,
+ * so rejected requests are never deserialized.
+ */
+public class WebhookSecretTokenFilter implements ContainerRequestFilter {
+    private final WebhookSecretTokens secretTokens;
+
+    public WebhookSecretTokenFilter(WebhookSecretTokens secretTokens) {
+        this.secretTokens = secretTokens;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!HttpMethod.POST.equals(requestContext.getMethod())) {
+            return;
+        }
+        String botPath = requestContext.getUriInfo().getPathParameters().getFirst("botPath");
+        if (!secretTokens.isAuthorized(botPath, requestContext.getHeaderString(WebhookSecretTokens.SECRET_TOKEN_HEADER))) {
+            Response.Status status = secretTokens.isRegistered(botPath) ? Response.Status.FORBIDDEN : Response.Status.NOT_FOUND;
+            requestContext.abortWith(Response.status(status).build());
+        }
+    }
+}
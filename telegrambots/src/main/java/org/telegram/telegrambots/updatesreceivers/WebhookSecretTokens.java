@@ -0,0 +1,92 @@
+package org.telegram.telegrambots.updatesreceivers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Secret tokens of the registered webhook paths, checked against the "X-Telegram-Bot-Api-Secret-Token"
+ * header before the request body is read.
+ *
+ * Keeps per path counters of accepted and rejected requests. Requests to unknown paths are counted together
+ * so that scanners can't grow the counters map.
+ */
+public class WebhookSecretTokens {
+    public static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private static final byte[] NO_TOKEN = new byte[0];
+
+    private final ConcurrentHashMap<String, PathEntry> paths = new ConcurrentHashMap<>();
+    private final LongAdder unknownPathRequests = new LongAdder();
+
+    /**
+     * @param botPath Path of the bot
+     * @param secretToken Expected secret token, null to accept every request to this path
+     *
+     * @apiNote Like the callbacks, the first registration of a path wins
+     */
+    public void register(String botPath, String secretToken) {
+        byte[] token = secretToken == null ? null : secretToken.getBytes(StandardCharsets.UTF_8);
+        paths.putIfAbsent(botPath, new PathEntry(token));
+    }
+
+    /**
+     * Checks the secret token of a request, counting it as accepted or rejected
+     * @param botPath Path of the request
+     * @param secretToken Value of the secret token header, null if missing
+     * @return True if the path is registered and the token matches the expected one
+     */
+    public boolean isAuthorized(String botPath, String secretToken) {
+        PathEntry entry = botPath == null ? null : paths.get(botPath);
+        if (entry == null) {
+            unknownPathRequests.increment();
+            return false;
+        }
+        if (entry.token == null || matches(entry.token, secretToken)) {
+            entry.accepted.increment();
+            return true;
+        }
+        entry.rejected.increment();
+        return false;
+    }
+
+    /**
+     * @return True if a bot is registered with the given path
+     */
+    public boolean isRegistered(String botPath) {
+        return paths.containsKey(botPath);
+    }
+
+    public long getAcceptedRequests(String botPath) {
+        PathEntry entry = paths.get(botPath);
+        return entry == null ? 0 : entry.accepted.sum();
+    }
+
+    public long getRejectedRequests(String botPath) {
+        PathEntry entry = paths.get(botPath);
+        return entry == null ? 0 : entry.rejected.sum();
+    }
+
+    public long getUnknownPathRequests() {
+        return unknownPathRequests.sum();
+    }
+
+    /**
+     * Compares in constant time for tokens of the same length
+     */
+    private static boolean matches(byte[] expected, String received) {
+        byte[] actual = received == null ? NO_TOKEN : received.getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private static final class PathEntry {
+        private final byte[] token;
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private PathEntry(byte[] token) {
+            this.token = token;
+        }
+    }
+}
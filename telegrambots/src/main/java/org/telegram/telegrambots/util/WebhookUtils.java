@@ -1,7 +1,6 @@
 package org.telegram.telegrambots.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.config.RequestConfig;
@@ -29,7 +28,6 @@ import static org.telegram.telegrambots.Constants.SOCKET_TIMEOUT;
 
 public final class WebhookUtils {
   private static final ContentType TEXT_PLAIN_CONTENT_TYPE = ContentType.create("text/plain", StandardCharsets.UTF_8);
-  private static final ObjectMapper objectMapper = new ObjectMapper();
 
   private WebhookUtils() {
 
@@ -67,7 +65,7 @@ public final class WebhookUtils {
         builder.addTextBody(SetWebhook.MAXCONNECTIONS_FIELD, setWebhook.getMaxConnections().toString(), TEXT_PLAIN_CONTENT_TYPE);
       }
       if (setWebhook.getAllowedUpdates() != null) {
-        builder.addTextBody(SetWebhook.ALLOWEDUPDATES_FIELD, objectMapper.writeValueAsString(setWebhook.getAllowedUpdates()), TEXT_PLAIN_CONTENT_TYPE);
+        builder.addTextBody(SetWebhook.ALLOWEDUPDATES_FIELD, botOptions.getObjectMapperRegistry().getObjectMapper().writeValueAsString(setWebhook.getAllowedUpdates()), TEXT_PLAIN_CONTENT_TYPE);
       }
       if (setWebhook.getIpAddress() != null) {
         builder.addTextBody(SetWebhook.IPADDRESS_FIELD, setWebhook.getIpAddress(), TEXT_PLAIN_CONTENT_TYPE);
@@ -91,7 +89,7 @@ public final class WebhookUtils {
       httppost.setEntity(multipart);
       try (CloseableHttpResponse response = httpclient.execute(httppost, botOptions.getHttpContext())) {
         String responseContent = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-        Boolean result = setWebhook.deserializeResponse(responseContent);
+        Boolean result = setWebhook.deserializeResponse(responseContent, botOptions.getObjectMapperRegistry());
         if (!result) {
           throw new TelegramApiRequestException("Error setting webhook:" + responseContent);
         }
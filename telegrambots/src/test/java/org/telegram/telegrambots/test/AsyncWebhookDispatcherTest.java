@@ -0,0 +1,88 @@
+package org.telegram.telegrambots.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.test.Fakes.FakeWebhook;
+import org.telegram.telegrambots.updatesreceivers.AsyncWebhookDispatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncWebhookDispatcherTest {
+    private AsyncWebhookDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testUpdatesOfTheSameChatKeepTheirOrder() throws InterruptedException {
+        dispatcher = new AsyncWebhookDispatcher(4, 100);
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        FakeWebhook bot = new FakeWebhook() {
+            @Override
+            public BotApiMethod onWebhookUpdateReceived(Update update) {
+                handled.add(update.getUpdateId());
+                return null;
+            }
+        };
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+            assertTrue(dispatcher.dispatch(bot, getUpdate(i, 42L)));
+        }
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+
+        assertEquals(expected, handled);
+    }
+
+    @Test
+    void testUpdatesAreRejectedWhenQueueIsFull() throws InterruptedException {
+        dispatcher = new AsyncWebhookDispatcher(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeWebhook bot = new FakeWebhook() {
+            @Override
+            public BotApiMethod onWebhookUpdateReceived(Update update) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+        };
+
+        assertTrue(dispatcher.dispatch(bot, getUpdate(1, 1L)));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        assertTrue(dispatcher.dispatch(bot, getUpdate(2, 1L)));
+        assertFalse(dispatcher.dispatch(bot, getUpdate(3, 1L)));
+        assertEquals(1, dispatcher.getPendingUpdates());
+        release.countDown();
+    }
+
+    private static Update getUpdate(int updateId, Long chatId) {
+        Chat chat = new Chat();
+        chat.setId(chatId);
+        Message message = new Message();
+        message.setChat(chat);
+        Update update = new Update();
+        update.setUpdateId(updateId);
+        update.setMessage(message);
+        return update;
+    }
+}
@@ -0,0 +1,83 @@
+package org.telegram.telegrambots.test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
+import org.telegram.telegrambots.meta.generics.LongPollingBot;
+import org.telegram.telegrambots.test.Fakes.FakeLongPollingBot;
+import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.argThat;
+
+class DefaultBotSessionRegistryTest {
+    private static final String UPDATES = "{\"ok\":true,\"result\":[{\"update_id\":1,\"message\":{\"message_id\":1,"
+            + "\"date\":1,\"chat\":{\"id\":42,\"type\":\"private\"},\"from\":{\"id\":42,\"is_bot\":false,"
+            + "\"first_name\":\"Test\"},\"text\":\"Hello\"}}]}";
+    private static final String NO_UPDATES = "{\"ok\":true,\"result\":[]}";
+
+    private final AtomicBoolean delivered = new AtomicBoolean();
+
+    private HttpServer botApi;
+    private DefaultBotSession session;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        botApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        botApi.createContext("/", exchange -> {
+            // The update is delivered once, as by a server that got its offset
+            byte[] body = (delivered.getAndSet(true) ? NO_UPDATES : UPDATES).getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        botApi.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (session != null && session.isRunning()) {
+            session.stop();
+        }
+        botApi.stop(0);
+    }
+
+    @Test
+    void updatesAreReadWithTheRegistryOfTheOptions() {
+        // Reads every user as the same one, which only a module of the registry can do
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(User.class, new StdDeserializer<User>(User.class) {
+            @Override
+            public User deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                parser.skipChildren();
+                return new User(7L, "Module", false);
+            }
+        });
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl("http://127.0.0.1:" + botApi.getAddress().getPort() + "/bot");
+        options.setObjectMapperRegistry(ObjectMapperRegistry.withModules(module));
+        LongPollingBot bot = Mockito.spy(new FakeLongPollingBot());
+        session = new DefaultBotSession();
+        session.setCallback(bot);
+        session.setOptions(options);
+        session.start();
+
+        Mockito.verify(bot, Mockito.timeout(5000)).onUpdateReceived(
+                argThat(update -> update.getMessage().getFrom().getId() == 7L));
+    }
+}
@@ -0,0 +1,74 @@
+package org.telegram.telegrambots.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.bots.DefaultAbsSender;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecuteValidatedTest {
+    private static final String REQUEST =
+            "/botTOKEN/deleteMessage {\"chat_id\":\"\",\"message_id\":1,\"method\":\"deleteMessage\"}";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer botApi;
+    private DefaultAbsSender bot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        botApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        botApi.createContext("/", exchange -> {
+            requests.add(exchange.getRequestURI().getPath() + " " + IOUtils.toString(exchange.getRequestBody(), UTF_8));
+            byte[] body = "{\"ok\":true,\"result\":true}".getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        botApi.start();
+
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl("http://127.0.0.1:" + botApi.getAddress().getPort() + "/bot");
+        bot = new DefaultAbsSender(options, "TOKEN") {
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        botApi.stop(0);
+    }
+
+    @Test
+    void validatedMethodsAreNotValidatedAgain() throws TelegramApiException {
+        DeleteMessage invalid = DeleteMessage.builder().chatId("").messageId(1).build();
+
+        assertThrows(TelegramApiValidationException.class, () -> bot.execute(invalid));
+        assertTrue(bot.executeValidated(invalid));
+        assertEquals(asList(REQUEST), requests);
+    }
+
+    @Test
+    void validatedMethodsAreNotValidatedAgainAsynchronously() throws Exception {
+        DeleteMessage invalid = DeleteMessage.builder().chatId("").messageId(1).build();
+
+        assertTrue(bot.executeValidatedAsync(invalid).get());
+        assertEquals(asList(REQUEST), requests);
+    }
+}
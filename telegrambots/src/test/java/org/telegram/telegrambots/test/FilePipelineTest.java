@@ -0,0 +1,183 @@
+package org.telegram.telegrambots.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.facilities.TelegramHttpClientBuilder;
+import org.telegram.telegrambots.facilities.filepipeline.FilePipeline;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilePipelineTest {
+
+    @Test
+    void testTransformedContentIsStreamed() throws IOException {
+        byte[] content = new byte[1024 * 1024];
+        Arrays.fill(content, (byte) 'a');
+
+        InputFile inputFile = FilePipeline.pipe(new ByteArrayInputStream(content), "file.txt", (input, output) -> {
+            int read;
+            byte[] buffer = new byte[1000];
+            while ((read = input.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    buffer[i] = (byte) Character.toUpperCase(buffer[i]);
+                }
+                output.write(buffer, 0, read);
+            }
+        }, 4096, runnable -> new Thread(runnable).start());
+
+        assertTrue(inputFile.isNew());
+        assertEquals("file.txt", inputFile.getMediaName());
+        byte[] expected = new byte[content.length];
+        Arrays.fill(expected, (byte) 'A');
+        assertArrayEquals(expected, IOUtils.toByteArray(inputFile.getNewMediaStream()));
+    }
+
+    @Test
+    void testTransformationErrorIsPropagated() {
+        InputFile inputFile = FilePipeline.pipe(new ByteArrayInputStream("Some File Content".getBytes(UTF_8)), "file.txt",
+                (input, output) -> {
+                    output.write(input.read());
+                    throw new IOException("Broken transformation");
+                });
+
+        InputStream stream = inputFile.getNewMediaStream();
+        IOException exception = assertThrows(IOException.class, () -> IOUtils.toByteArray(stream));
+        assertEquals("Broken transformation", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testTransformationErrorOtherThanExceptionIsPropagated() {
+        InputFile inputFile = FilePipeline.pipe(new ByteArrayInputStream("Some File Content".getBytes(UTF_8)), "file.txt",
+                (input, output) -> {
+                    throw new NoClassDefFoundError("Missing codec");
+                });
+
+        InputStream stream = inputFile.getNewMediaStream();
+        IOException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(IOException.class, () -> IOUtils.toByteArray(stream)));
+        assertEquals("Missing codec", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testTwoConcurrentPipesDoNotStarveForConnections() throws Exception {
+        CountDownLatch downloadsReleased = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService handlers = Executors.newCachedThreadPool();
+        server.setExecutor(handlers);
+        server.createContext("/", exchange -> {
+            try {
+                if ("GET".equals(exchange.getRequestMethod())) {
+                    // A download still streaming its file while the upload is sent
+                    exchange.sendResponseHeaders(200, 0);
+                    exchange.getResponseBody().write("Some File Content".getBytes(UTF_8));
+                    exchange.getResponseBody().flush();
+                    downloadsReleased.await();
+                } else {
+                    IOUtils.toByteArray(exchange.getRequestBody());
+                    byte[] response = "{\"ok\":true,\"result\":true}".getBytes(UTF_8);
+                    exchange.sendResponseHeaders(200, response.length);
+                    exchange.getResponseBody().write(response);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/file";
+        ExecutorService uploads = Executors.newFixedThreadPool(2);
+        try (CloseableHttpClient client = TelegramHttpClientBuilder.build(new DefaultBotOptions())) {
+            List<CloseableHttpResponse> downloads = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                downloads.add(client.execute(new HttpGet(url)));
+            }
+
+            List<Future<Integer>> uploaded = new ArrayList<>();
+            for (CloseableHttpResponse download : downloads) {
+                uploaded.add(uploads.submit(() -> {
+                    HttpPost upload = new HttpPost(url);
+                    upload.setEntity(new StringEntity("Some File Content", UTF_8));
+                    try (CloseableHttpResponse response = client.execute(upload)) {
+                        return response.getStatusLine().getStatusCode();
+                    }
+                }));
+            }
+            for (Future<Integer> status : uploaded) {
+                assertEquals(200, status.get(10, TimeUnit.SECONDS));
+            }
+
+            downloadsReleased.countDown();
+            for (CloseableHttpResponse download : downloads) {
+                download.close();
+            }
+        } finally {
+            downloadsReleased.countDown();
+            uploads.shutdownNow();
+            server.stop(0);
+            handlers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTransformationStartsOnFirstRead() throws IOException {
+        List<Runnable> transformations = new CopyOnWriteArrayList<>();
+        InputFile inputFile = FilePipeline.pipe(new ByteArrayInputStream("Some File Content".getBytes(UTF_8)), "file.txt",
+                IOUtils::copy, 4096, runnable -> {
+                    transformations.add(runnable);
+                    new Thread(runnable).start();
+                });
+        assertTrue(transformations.isEmpty());
+
+        assertEquals("Some File Content", IOUtils.toString(inputFile.getNewMediaStream(), UTF_8));
+        assertEquals(1, transformations.size());
+    }
+
+    @Test
+    void testUnreadFileClosesItsSource() throws IOException {
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        InputStream source = new ByteArrayInputStream("Some File Content".getBytes(UTF_8)) {
+            @Override
+            public void close() {
+                sourceClosed.set(true);
+            }
+        };
+        List<Runnable> transformations = new CopyOnWriteArrayList<>();
+        InputFile inputFile = FilePipeline.pipe(source, "file.txt", IOUtils::copy, 4096, transformations::add);
+
+        inputFile.getNewMediaStream().close();
+
+        assertTrue(sourceClosed.get());
+        assertTrue(transformations.isEmpty());
+    }
+}
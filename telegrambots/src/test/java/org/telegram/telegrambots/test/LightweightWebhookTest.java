@@ -0,0 +1,100 @@
+package org.telegram.telegrambots.test;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.test.Fakes.FakeWebhook;
+import org.telegram.telegrambots.updatesreceivers.LightweightWebhook;
+import org.telegram.telegrambots.updatesreceivers.WebhookSecretTokens;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LightweightWebhookTest {
+    private final FakeWebhook webhookBot = new FakeWebhook();
+    private LightweightWebhook webhook;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        webhook = new LightweightWebhook(2);
+        webhook.setInternalUrl("http://127.0.0.1:0");
+        webhook.startServer();
+        webhook.registerWebhook(webhookBot);
+    }
+
+    @AfterEach
+    void tearDown() {
+        webhook.stopServer();
+    }
+
+    @Test
+    void testResponseMethodIsReturned() throws IOException {
+        webhookBot.setReturnValue(BotApiMethodHelperFactory.getSendMessage());
+
+        HttpURLConnection connection = post("callback/testbot", "{\"update_id\": 10}");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("{\"chat_id\":\"@test\",\"text\":\"Hithere\",\"parse_mode\":\"html\",\"reply_to_message_id\":12,\"reply_markup\":{\"force_reply\":true},\"method\":\"sendmessage\"}",
+                IOUtils.toString(connection.getInputStream(), UTF_8));
+    }
+
+    @Test
+    void testEmptyResponse() throws IOException {
+        webhookBot.setReturnValue(null);
+
+        assertEquals(200, post("callback/testbot", "{\"update_id\": 10}").getResponseCode());
+    }
+
+    @Test
+    void testUnknownBotPath() throws IOException {
+        assertEquals(404, post("callback/otherbot", "{\"update_id\": 10}").getResponseCode());
+    }
+
+    @Test
+    void testInvalidBody() throws IOException {
+        assertEquals(400, post("callback/testbot", "not json").getResponseCode());
+    }
+
+    @Test
+    void testSecretTokenIsCheckedBeforeParsing() throws Exception {
+        LightweightWebhook securedWebhook = new LightweightWebhook(1);
+        securedWebhook.setInternalUrl("http://127.0.0.1:0");
+        securedWebhook.startServer();
+        securedWebhook.registerWebhook(webhookBot, "secret");
+        try {
+            String url = "http://127.0.0.1:" + securedWebhook.getPort() + "/callback/testbot";
+            assertEquals(403, post(url, "not json", null).getResponseCode());
+            assertEquals(403, post(url, "{\"update_id\": 10}", "wrong").getResponseCode());
+            assertEquals(200, post(url, "{\"update_id\": 10}", "secret").getResponseCode());
+
+            assertEquals(1, securedWebhook.getSecretTokens().getAcceptedRequests("testbot"));
+            assertEquals(2, securedWebhook.getSecretTokens().getRejectedRequests("testbot"));
+        } finally {
+            securedWebhook.stopServer();
+        }
+    }
+
+    private HttpURLConnection post(String path, String body) throws IOException {
+        return post("http://127.0.0.1:" + webhook.getPort() + "/" + path, body, null);
+    }
+
+    private static HttpURLConnection post(String url, String body, String secretToken) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        if (secretToken != null) {
+            connection.setRequestProperty(WebhookSecretTokens.SECRET_TOKEN_HEADER, secretToken);
+        }
+        connection.setDoOutput(true);
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body.getBytes(UTF_8));
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,108 @@
+package org.telegram.telegrambots.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.bots.DefaultAbsSender;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.methods.send.SendDocument;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageMedia;
+import org.telegram.telegrambots.meta.api.objects.InputFile;
+import org.telegram.telegrambots.meta.api.objects.media.InputMediaDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalBotApiUploadTest {
+    private static final String MESSAGE_RESPONSE =
+            "{\"ok\":true,\"result\":{\"message_id\":1,\"date\":0,\"chat\":{\"id\":1,\"type\":\"private\"}}}";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer botApi;
+    private DefaultAbsSender bot;
+    private File document;
+    private File thumbnail;
+
+    @BeforeEach
+    void setUp(@TempDir Path serverDir) throws IOException {
+        botApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        botApi.createContext("/", exchange -> {
+            requests.add(IOUtils.toString(exchange.getRequestBody(), UTF_8));
+            byte[] body = MESSAGE_RESPONSE.getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        botApi.start();
+
+        Path directory = Files.createDirectory(serverDir.resolve("my files #1"));
+        document = Files.write(directory.resolve("report 100%.pdf"), "Document content".getBytes(UTF_8)).toFile();
+        thumbnail = Files.write(directory.resolve("thumbnail [small].jpg"), "Thumbnail content".getBytes(UTF_8)).toFile();
+
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl("http://127.0.0.1:" + botApi.getAddress().getPort() + "/bot");
+        options.setLocalBotApiServer(true);
+        bot = new DefaultAbsSender(options, "TOKEN") {
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        botApi.stop(0);
+    }
+
+    @Test
+    void filesAreSentAsUris() throws Exception {
+        bot.execute(SendDocument.builder()
+                .chatId("1")
+                .document(new InputFile(document))
+                .thumbnail(new InputFile(thumbnail))
+                .build());
+
+        assertEquals(1, requests.size());
+        String body = requests.get(0);
+        assertTrue(body.contains(document.toURI().getRawPath()));
+        assertTrue(body.contains(thumbnail.toURI().getRawPath()));
+        assertTrue(body.contains("file:///"));
+        assertFalse(body.contains("Document content"));
+        assertFalse(body.contains("Thumbnail content"));
+    }
+
+    @Test
+    void mediaAndThumbnailsAreSentAsUris() throws Exception {
+        InputMediaDocument media = new InputMediaDocument();
+        media.setMedia(document, "report.pdf");
+        media.setThumbnail(new InputFile(thumbnail, "thumbnail.jpg"));
+        // Same text as the reference to the document, which must not be replaced
+        media.setCaption("attach://report.pdf");
+
+        bot.execute(EditMessageMedia.builder()
+                .chatId("1")
+                .messageId(1)
+                .media(media)
+                .build());
+
+        assertEquals(1, requests.size());
+        String body = requests.get(0);
+        assertTrue(body.contains("\"media\":\"" + document.toPath().toUri()));
+        assertTrue(body.contains("\"thumbnail\":\"" + thumbnail.toPath().toUri()));
+        assertTrue(body.contains("\"caption\":\"attach://report.pdf\""));
+        assertFalse(body.contains("Document content"));
+        assertFalse(body.contains("Thumbnail content"));
+    }
+}
@@ -0,0 +1,77 @@
+package org.telegram.telegrambots.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.bots.DefaultAbsSender;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.methods.MessageTemplate;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiValidationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageTemplateTest {
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer botApi;
+    private DefaultAbsSender bot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        botApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        botApi.createContext("/", exchange -> {
+            requests.add(exchange.getRequestURI().getPath() + " " + IOUtils.toString(exchange.getRequestBody(), UTF_8));
+            byte[] body = "{\"ok\":true,\"result\":true}".getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        botApi.start();
+
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl("http://127.0.0.1:" + botApi.getAddress().getPort() + "/bot");
+        bot = new DefaultAbsSender(options, "TOKEN") {
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        botApi.stop(0);
+    }
+
+    @Test
+    void templatesAreSentToEachChat() throws Exception {
+        MessageTemplate<Boolean> template = MessageTemplate.of(DeleteMessage.builder().chatId("1").messageId(1).build());
+
+        assertTrue(bot.execute(template, "2"));
+        assertTrue(bot.executeAsync(template, "3").get());
+        assertTrue(bot.executeAsync(template, "4", emptyMap()).get());
+        assertEquals(asList("/botTOKEN/deleteMessage {\"chat_id\":\"2\",\"message_id\":1,\"method\":\"deleteMessage\"}",
+                "/botTOKEN/deleteMessage {\"chat_id\":\"3\",\"message_id\":1,\"method\":\"deleteMessage\"}",
+                "/botTOKEN/deleteMessage {\"chat_id\":\"4\",\"message_id\":1,\"method\":\"deleteMessage\"}"), requests);
+    }
+
+    @Test
+    void emptyChatIdsAreRejected() throws Exception {
+        MessageTemplate<Boolean> template = MessageTemplate.of(DeleteMessage.builder().chatId("1").messageId(1).build());
+
+        assertThrows(TelegramApiValidationException.class, () -> bot.execute(template, ""));
+        assertThrows(TelegramApiValidationException.class, () -> bot.executeAsync(template, ""));
+        assertEquals(emptyList(), requests);
+    }
+}
@@ -2,17 +2,29 @@ package org.telegram.telegrambots.test;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.serialization.InterningModule;
+import org.telegram.telegrambots.meta.api.objects.serialization.ObjectMapperRegistry;
 import org.telegram.telegrambots.test.Fakes.FakeWebhook;
 import org.telegram.telegrambots.updatesreceivers.ServerlessWebhook;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -277,6 +289,84 @@ public class ServerlessWebhookTest {
                 "\"suggested_tip_amounts\":[10,50,75],\"method\":\"sendinvoice\"}", map(result));
     }
 
+    @Test
+    public void TestSecretToken() throws Exception {
+        ServerlessWebhook securedWebhook = new ServerlessWebhook();
+        securedWebhook.registerWebhook(webhookBot, "secret");
+        webhookBot.setReturnValue(BotApiMethodHelperFactory.getSendMessage());
+
+        assertFalse(securedWebhook.isAuthorized(webhookBot.getBotPath(), null));
+        assertFalse(securedWebhook.isAuthorized(webhookBot.getBotPath(), "secreT"));
+        assertFalse(securedWebhook.isAuthorized("unknown", "secret"));
+        assertTrue(securedWebhook.isAuthorized(webhookBot.getBotPath(), "secret"));
+        assertThrows(SecurityException.class, () -> securedWebhook.updateReceived(webhookBot.getBotPath(), "wrong", getUpdate()));
+        assertNotNull(securedWebhook.updateReceived(webhookBot.getBotPath(), "secret", getUpdate()));
+
+        assertEquals(2, securedWebhook.getSecretTokens().getAcceptedRequests(webhookBot.getBotPath()));
+        assertEquals(3, securedWebhook.getSecretTokens().getRejectedRequests(webhookBot.getBotPath()));
+        assertEquals(1, securedWebhook.getSecretTokens().getUnknownPathRequests());
+    }
+
+    @Test
+    public void TestUnknownPathIsRejectedBeforeParsing() {
+        byte[] invalidBody = "not an update".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(NoSuchElementException.class, () -> serverlessWebhook.updateReceived("unknown", null, invalidBody));
+        assertThrows(NoSuchElementException.class, () -> serverlessWebhook.updateReceived("unknown", "secret", getUpdate()));
+
+        assertEquals(2, serverlessWebhook.getSecretTokens().getUnknownPathRequests());
+    }
+
+    @Test
+    public void TestRawUpdate() throws Exception {
+        ServerlessWebhook.prewarm();
+        ServerlessWebhook securedWebhook = new ServerlessWebhook();
+        securedWebhook.registerWebhook(webhookBot, "secret");
+        webhookBot.setReturnValue(BotApiMethodHelperFactory.getSendMessage());
+        byte[] body = "{\"update_id\": 10}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(SecurityException.class, () -> securedWebhook.updateReceived(webhookBot.getBotPath(), null, body));
+        BotApiMethod<?> result = securedWebhook.updateReceived(webhookBot.getBotPath(), "secret", body);
+
+        assertEquals(map(result), new String(ServerlessWebhook.writeResponse(result), StandardCharsets.UTF_8));
+        assertEquals(0, ServerlessWebhook.writeResponse(null).length);
+    }
+
+    @Test
+    public void TestResponsesAreWrittenWithTheRegistry() throws Exception {
+        ServerlessWebhook indentingWebhook = new ServerlessWebhook(
+                new ObjectMapperRegistry(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)));
+        BotApiMethod<?> response = BotApiMethodHelperFactory.getSendMessage();
+
+        assertTrue(new String(indentingWebhook.writeResponseBody(response), StandardCharsets.UTF_8).contains("\n"));
+        assertFalse(new String(serverlessWebhook.writeResponseBody(response), StandardCharsets.UTF_8).contains("\n"));
+        assertEquals(0, indentingWebhook.writeResponseBody(null).length);
+    }
+
+    @Test
+    public void TestRawUpdatesAreReadWithTheRegistry() throws Exception {
+        List<Update> updates = new ArrayList<>();
+        FakeWebhook recordingBot = new FakeWebhook() {
+            @Override
+            public BotApiMethod onWebhookUpdateReceived(Update update) {
+                updates.add(update);
+                return null;
+            }
+        };
+        ServerlessWebhook internedWebhook = new ServerlessWebhook(ObjectMapperRegistry.withModules(new InterningModule(16)));
+        internedWebhook.registerWebhook(recordingBot);
+        String update = "{\"update_id\":%d,\"message\":{\"message_id\":%d,\"date\":1,\"chat\":{\"id\":42," +
+                "\"type\":\"private\"},\"from\":{\"id\":42,\"is_bot\":false,\"first_name\":\"Test\"},\"text\":\"Hi\"}}";
+
+        internedWebhook.updateReceived(recordingBot.getBotPath(), null, String.format(update, 1, 1).getBytes(StandardCharsets.UTF_8));
+        internedWebhook.setLazyUpdates(true);
+        internedWebhook.updateReceived(recordingBot.getBotPath(), null, String.format(update, 2, 2).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, updates.size());
+        assertSame(updates.get(0).getMessage().getFrom(), updates.get(1).getMessage().getFrom());
+        assertSame(updates.get(0).getMessage().getChat(), updates.get(1).getMessage().getChat());
+    }
+
     private Update getUpdate() {
         ObjectMapper mapper = new ObjectMapper();
         try {
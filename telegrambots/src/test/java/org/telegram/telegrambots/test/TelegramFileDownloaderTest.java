@@ -1,25 +1,42 @@
 package org.telegram.telegrambots.test;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicStatusLine;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.telegram.telegrambots.facilities.filedownloader.TelegramFileCache;
 import org.telegram.telegrambots.facilities.filedownloader.TelegramFileDownloader;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.updateshandlers.DownloadFileCallback;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static java.nio.charset.Charset.defaultCharset;
@@ -29,8 +46,13 @@ import static org.apache.http.HttpVersion.HTTP_1_1;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -112,4 +134,207 @@ class TelegramFileDownloaderTest {
         assertEquals(e.getCause().getCause().getMessage(), "Unexpected Status code while downloading file. Expected 200 got 500");
     }
 
+    @Test
+    void testInterruptedDownloadIsResumed() throws TelegramApiException, IOException {
+        byte[] content = "Some File Content that is interrupted".getBytes(defaultCharset());
+        AtomicInteger requests = new AtomicInteger();
+        when(httpClientMock.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            HttpUriRequest request = invocation.getArgument(0);
+            boolean firstRequest = requests.getAndIncrement() == 0;
+            return rangeResponse(content, request, true, firstRequest ? 10 : -1);
+        });
+
+        File returnFile = telegramFileDownloader.downloadFile("someFilePath");
+
+        assertEquals(2, requests.get());
+        assertEquals("Some File Content that is interrupted", readFileToString(returnFile, defaultCharset()));
+    }
+
+    @Test
+    void testParallelRangesDownload() throws TelegramApiException, IOException {
+        byte[] content = "Some File Content downloaded in several ranges".getBytes(defaultCharset());
+        List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+        when(httpClientMock.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            HttpUriRequest request = invocation.getArgument(0);
+            ranges.add(request.getFirstHeader(HttpHeaders.RANGE).getValue());
+            return rangeResponse(content, request, true, -1);
+        });
+        telegramFileDownloader.setParallelRanges(4, 10);
+
+        File returnFile = telegramFileDownloader.downloadFile(
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", null, (long) content.length, "someFilePath"));
+
+        assertEquals(4, ranges.size());
+        assertTrue(ranges.contains("bytes=36-45"));
+        assertEquals("Some File Content downloaded in several ranges", readFileToString(returnFile, defaultCharset()));
+    }
+
+    @Test
+    void testParallelRangesFallbackWithoutRangeSupport() throws TelegramApiException, IOException {
+        byte[] content = "Some File Content from a server without ranges".getBytes(defaultCharset());
+        when(httpClientMock.execute(any(HttpUriRequest.class)))
+                .thenAnswer(invocation -> rangeResponse(content, invocation.getArgument(0), false, -1));
+        telegramFileDownloader.setParallelRanges(4, 10);
+
+        File returnFile = telegramFileDownloader.downloadFile(
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", null, (long) content.length, "someFilePath"));
+
+        assertEquals("Some File Content from a server without ranges", readFileToString(returnFile, defaultCharset()));
+    }
+
+    @Test
+    void testParallelRangesRejectInvalidSettings() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> telegramFileDownloader.setParallelRanges(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> telegramFileDownloader.setParallelRanges(4, 0));
+    }
+
+    @Test
+    void testEmptyFileIsNotDownloadedInRanges() throws TelegramApiException, IOException {
+        List<HttpUriRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        when(httpClientMock.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return rangeResponse(new byte[0], invocation.getArgument(0), true, -1);
+        });
+        telegramFileDownloader.setParallelRanges(4, 1);
+
+        File returnFile = telegramFileDownloader.downloadFile(
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", null, 0L, "someFilePath"));
+
+        assertEquals(1, requests.size());
+        assertNull(requests.get(0).getFirstHeader(HttpHeaders.RANGE));
+        assertEquals("", readFileToString(returnFile, defaultCharset()));
+    }
+
+    @Test
+    void testFailedRangeCancelsTheOtherRanges() throws IOException {
+        byte[] content = "Some File Content downloaded in several ranges".getBytes(defaultCharset());
+        List<HttpGet> requests = Collections.synchronizedList(new ArrayList<>());
+        when(httpClientMock.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            HttpGet request = invocation.getArgument(0);
+            if (request.getFirstHeader(HttpHeaders.RANGE).getValue().startsWith("bytes=0-")) {
+                return new BasicHttpResponse(new BasicStatusLine(HTTP_1_1, 500, "emptyString"));
+            }
+            requests.add(request);
+            BasicHttpResponse response = new BasicHttpResponse(new BasicStatusLine(HTTP_1_1, 206, "emptyString"));
+            // Never ending range, until its request is aborted
+            response.setEntity(new InputStreamEntity(new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    while (!request.isAborted()) {
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                    }
+                    throw new IOException("Request aborted");
+                }
+            }));
+            return response;
+        });
+        telegramFileDownloader.setParallelRanges(4, 10);
+
+        Assertions.assertThrows(TelegramApiException.class, () -> telegramFileDownloader.downloadFile(
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", null, (long) content.length, "someFilePath")));
+
+        for (HttpGet request : requests) {
+            assertTrue(request.isAborted());
+        }
+    }
+
+    @Test
+    void testLocalFilesAreNotDownloaded(@TempDir Path serverDir) throws TelegramApiException, IOException {
+        Path localFile = serverDir.resolve("file_1.jpg");
+        Files.write(localFile, "Some Local Content".getBytes(defaultCharset()));
+        org.telegram.telegrambots.meta.api.objects.File file = new org.telegram.telegrambots.meta.api.objects.File(
+                "fileId", "uniqueId", 18L, localFile.toAbsolutePath().toString());
+        telegramFileDownloader.setLocalFiles(true);
+
+        assertEquals(localFile.toAbsolutePath(), telegramFileDownloader.getLocalFilePath(file));
+        assertEquals("Some Local Content", readFileToString(telegramFileDownloader.downloadFile(file), defaultCharset()));
+        assertEquals("Some Local Content", IOUtils.toString(telegramFileDownloader.downloadFileAsStream(file), defaultCharset()));
+        assertEquals("Some Local Content", defaultCharset().decode(telegramFileDownloader.mapFile(file)).toString());
+        verify(httpClientMock, never()).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    void testAbsolutePathsAreDownloadedWithoutLocalServer(@TempDir Path hostDir) throws TelegramApiException, IOException {
+        Path hostFile = hostDir.resolve("secret.txt");
+        Files.write(hostFile, "Some Host Content".getBytes(defaultCharset()));
+        String filePath = hostFile.toAbsolutePath().toString();
+        ArgumentCaptor<HttpUriRequest> requests = ArgumentCaptor.forClass(HttpUriRequest.class);
+
+        assertNull(telegramFileDownloader.getLocalFilePath(
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", "uniqueId", 17L, filePath)));
+        assertEquals("Some File Content", IOUtils.toString(telegramFileDownloader.downloadFileAsStream(filePath), defaultCharset()));
+        verify(httpClientMock).execute(requests.capture());
+        assertTrue(requests.getValue().getURI().toString().startsWith("https://api.telegram.org/file/botsomeToken/"));
+    }
+
+    @Test
+    void testCachedDownloadIsOnlyFetchedOnce(@TempDir Path cacheDir) throws TelegramApiException, IOException {
+        TelegramFileCache fileCache = new TelegramFileCache(cacheDir.toFile(), 1024);
+        telegramFileDownloader = new TelegramFileDownloader(httpClientMock, tokenSupplierMock, fileCache);
+        org.telegram.telegrambots.meta.api.objects.File file =
+                new org.telegram.telegrambots.meta.api.objects.File("fileId", "uniqueId", 17L, "someFilePath");
+
+        File first = telegramFileDownloader.downloadFile(file);
+        File second = telegramFileDownloader.downloadFile(file);
+
+        assertEquals(first, second);
+        assertEquals("Some File Content", readFileToString(second, defaultCharset()));
+        assertEquals(1, fileCache.getEntriesCount());
+        verify(httpClientMock, times(1)).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    void testCacheEvictsLeastRecentlyUsedFiles(@TempDir Path cacheDir) throws TelegramApiException, IOException {
+        when(httpEntityMock.getContent()).thenAnswer(invocation -> toInputStream("Some File Content", defaultCharset()));
+        TelegramFileCache fileCache = new TelegramFileCache(cacheDir.toFile(), 40);
+        telegramFileDownloader = new TelegramFileDownloader(httpClientMock, tokenSupplierMock, fileCache);
+
+        telegramFileDownloader.downloadFile(new org.telegram.telegrambots.meta.api.objects.File("id1", "unique1", 17L, "path1"));
+        telegramFileDownloader.downloadFile(new org.telegram.telegrambots.meta.api.objects.File("id2", "unique2", 17L, "path2"));
+        assertNotNull(fileCache.get("unique1"));
+        telegramFileDownloader.downloadFile(new org.telegram.telegrambots.meta.api.objects.File("id3", "unique3", 17L, "path3"));
+
+        assertEquals(2, fileCache.getEntriesCount());
+        assertEquals(34, fileCache.getCurrentSize());
+        assertNotNull(fileCache.get("unique1"));
+        assertNull(fileCache.get("unique2"));
+        assertNotNull(fileCache.get("unique3"));
+        assertEquals(2, new TelegramFileCache(cacheDir.toFile(), 40).getEntriesCount());
+    }
+
+
+    /**
+     * Fakes a server response for the requested range
+     * @param failAfter Number of bytes sent before the connection drops, -1 to send everything
+     */
+    private static HttpResponse rangeResponse(byte[] content, HttpUriRequest request, boolean supportsRanges, int failAfter) {
+        int start = 0;
+        int end = content.length - 1;
+        int status = 200;
+        Header range = request.getFirstHeader(HttpHeaders.RANGE);
+        if (supportsRanges && range != null) {
+            String[] bounds = range.getValue().substring("bytes=".length()).split("-", -1);
+            start = Integer.parseInt(bounds[0]);
+            if (!bounds[1].isEmpty()) {
+                end = Integer.parseInt(bounds[1]);
+            }
+            status = 206;
+        }
+        InputStream stream = new ByteArrayInputStream(content, start, end - start + 1);
+        if (failAfter >= 0) {
+            stream = new SequenceInputStream(new ByteArrayInputStream(content, start, failAfter), new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Connection reset");
+                }
+            });
+        }
+        BasicHttpResponse response = new BasicHttpResponse(new BasicStatusLine(HTTP_1_1, status, "emptyString"));
+        response.setEntity(new InputStreamEntity(stream));
+        return response;
+    }
 }
@@ -0,0 +1,136 @@
+package org.telegram.telegrambots.test;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.bots.TelegramWebhookBot;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.DeleteMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WebhookResponseRepliesTest {
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer botApi;
+    private ReplyingBot bot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        botApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        botApi.createContext("/", exchange -> {
+            requests.add(exchange.getRequestURI().getPath() + " " + IOUtils.toString(exchange.getRequestBody(), UTF_8));
+            byte[] body = "{\"ok\":true,\"result\":true}".getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        botApi.start();
+
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl("http://127.0.0.1:" + botApi.getAddress().getPort() + "/bot");
+        options.setWebhookResponseReplies(true);
+        bot = new ReplyingBot(options);
+    }
+
+    @AfterEach
+    void tearDown() {
+        botApi.stop(0);
+    }
+
+    @Test
+    void firstMethodIsAnsweredInTheResponse() {
+        DeleteMessage reply = deleteMessage(1);
+        bot.methods = asList(reply);
+
+        BotApiMethod<?> response = bot.onWebhookUpdateReceived(new Update());
+
+        assertSame(reply, response);
+        assertNull(bot.results.get(0));
+        assertEquals(emptyList(), requests);
+    }
+
+    @Test
+    void deferredMethodIsSentBeforeTheNextOne() {
+        bot.methods = asList(deleteMessage(1), deleteMessage(2));
+
+        BotApiMethod<?> response = bot.onWebhookUpdateReceived(new Update());
+
+        assertNull(response);
+        assertEquals(asList("/botTOKEN/deleteMessage {\"chat_id\":\"1\",\"message_id\":1,\"method\":\"deleteMessage\"}",
+                "/botTOKEN/deleteMessage {\"chat_id\":\"1\",\"message_id\":2,\"method\":\"deleteMessage\"}"), requests);
+        assertEquals(true, bot.results.get(1));
+    }
+
+    @Test
+    void otherMethodsAreSentInTheirOwnRequest() {
+        bot.methods = asList(new DeleteWebhook());
+
+        assertNull(bot.onWebhookUpdateReceived(new Update()));
+        assertEquals(true, bot.results.get(0));
+        assertEquals(asList("/botTOKEN/deleteWebhook {\"method\":\"deleteWebhook\"}"), requests);
+    }
+
+    @Test
+    void methodsAreSentWhenDisabled() {
+        bot.getOptions().setWebhookResponseReplies(false);
+        bot.methods = asList(deleteMessage(1));
+
+        assertNull(bot.onWebhookUpdateReceived(new Update()));
+        assertEquals(asList("/botTOKEN/deleteMessage {\"chat_id\":\"1\",\"message_id\":1,\"method\":\"deleteMessage\"}"), requests);
+    }
+
+    private static DeleteMessage deleteMessage(int messageId) {
+        return DeleteMessage.builder().chatId("1").messageId(messageId).build();
+    }
+
+    private static class ReplyingBot extends TelegramWebhookBot {
+        private final List<Serializable> results = new CopyOnWriteArrayList<>();
+        private List<BotApiMethod<?>> methods = emptyList();
+
+        private ReplyingBot(DefaultBotOptions options) {
+            super(options, "TOKEN");
+        }
+
+        @Override
+        public BotApiMethod<?> onWebhookUpdateReceived(Update update) {
+            return collectWebhookResponse(() -> {
+                for (BotApiMethod<?> method : methods) {
+                    try {
+                        results.add(execute(method));
+                    } catch (TelegramApiException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public String getBotUsername() {
+            return "testbot";
+        }
+
+        @Override
+        public String getBotPath() {
+            return "testbot";
+        }
+    }
+}